@@ -17,17 +17,20 @@
 package io.fd.hc2vpp.acl.util;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.base.Optional;
+import io.fd.hc2vpp.common.translate.util.MappingContextIndexes;
 import io.fd.honeycomb.translate.MappingContext;
-import io.fd.honeycomb.translate.util.RWUtils;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collector;
+import java.util.Map;
+import java.util.Set;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.VppAclContextAugmentation;
@@ -50,16 +53,12 @@ import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 @ThreadSafe
 public final class AclContextManagerImpl implements AclContextManager {
 
-    private static final Collector<AclMapping, ?, AclMapping> SINGLE_ITEM_ACL_COLLECTOR =
-        RWUtils.singleItemCollector();
-
-    private static final Collector<AceMapping, ?, AceMapping> SINGLE_ITEM_ACE_COLLECTOR =
-        RWUtils.singleItemCollector();
-
     private final InstanceIdentifier<VppAclContext> ctxIid;
 
     private final String artificialNamePrefix;
 
+    private final MappingContextIndexes<AclNameIndex> indexes = new MappingContextIndexes<>(this::loadIndex);
+
     public AclContextManagerImpl(@Nonnull final String artificialNamePrefix, @Nonnull final String aclContextName) {
         this.artificialNamePrefix = requireNonNull(artificialNamePrefix, "artificialNamePrefix should not be null");
         requireNonNull(aclContextName, "aclContextName should not be null");
@@ -81,6 +80,11 @@ public final class AclContextManagerImpl implements AclContextManager {
         }
         aclMapping.setAceMapping(mappings);
         ctx.put(mappingIid, aclMapping.build());
+
+        final AclNameIndex index = indexes.getIfPresent(ctx);
+        if (index != null) {
+            index.putAcl(id, name, new AceNames(mappings));
+        }
     }
 
     @Override
@@ -98,22 +102,23 @@ public final class AclContextManagerImpl implements AclContextManager {
 
     @Override
     public synchronized String getAclName(final int id, @Nonnull final MappingContext ctx) {
-        if (!containsAclName(id, ctx)) {
-            final String artificialName = getArtificialAclName(id);
-            addAcl(id, artificialName, Collections.emptyList(), ctx);
+        String name = indexes.get(ctx).aclNames.get(id);
+        if (name != null && !isAclMapped(name, id, ctx)) {
+            // mapping was removed or modified bypassing this manager, index needs to be reloaded
+            name = indexes.reload(ctx).aclNames.get(id);
+        }
+        if (name != null) {
+            return name;
         }
 
-        final Optional<VppAclContext> read = ctx.read(ctxIid);
-        checkState(read.isPresent(), "VppAclContext for index: %s is not present. But should be", id);
-
-        return read.get().getAclMapping().stream()
-            .filter(t -> t.getIndex().equals(id))
-            .collect(SINGLE_ITEM_ACL_COLLECTOR).getName();
+        final String artificialName = getArtificialAclName(id);
+        addAcl(id, artificialName, Collections.emptyList(), ctx);
+        return artificialName;
     }
 
-    private boolean containsAclName(final int id, @Nonnull final MappingContext mappingContext) {
-        final Optional<VppAclContext> read = mappingContext.read(ctxIid);
-        return read.isPresent() && read.get().getAclMapping().stream().anyMatch(t -> t.getIndex().equals(id));
+    private boolean isAclMapped(final String name, final int id, @Nonnull final MappingContext ctx) {
+        final Optional<AclMapping> read = ctx.read(getAclIid(name));
+        return read.isPresent() && read.get().getIndex() == id;
     }
 
     private String getArtificialAclName(final int index) {
@@ -123,44 +128,154 @@ public final class AclContextManagerImpl implements AclContextManager {
     @Override
     public synchronized void removeAcl(@Nonnull final String name, @Nonnull final MappingContext ctx) {
         ctx.delete(getAclIid(name));
+
+        final AclNameIndex index = indexes.getIfPresent(ctx);
+        if (index != null) {
+            index.removeAcl(name);
+        }
     }
 
     @Override
     public synchronized String getAceName(@Nonnull final String aclName, final int aceIndex,
                                           @Nonnull final MappingContext ctx) {
-        if (!containsAceName(aclName, aceIndex, ctx)) {
+        final AclNameIndex index = indexes.get(ctx);
+        AceNames aces = index.aceNames.get(aclName);
+        if (aces != null) {
+            final String aceName = aces.getName(aceIndex);
+            if (aceName == null) {
+                return addArtificialAce(aclName, aceIndex, aces, ctx);
+            } else if (isAceMapped(aclName, aceName, aceIndex, ctx)) {
+                return aceName;
+            }
+        }
+
+        // ACE mappings were not read yet, or were modified bypassing this manager
+        aces = readAces(aclName, ctx);
+        if (aces == null) {
+            // ACL mapping is not present, so ACE mappings can not be indexed
+            index.aceNames.remove(aclName);
             final String artificialName = getArtificialAceName(aceIndex);
             addAce(aclName, aceIndex, artificialName, ctx);
+            return artificialName;
         }
+        index.aceNames.put(aclName, aces);
 
-        final Optional<AclMapping> read = ctx.read(getAclIid(aclName));
-        checkState(read.isPresent(), "AclMapping for name: %s is not present. But should be", aclName);
+        final String storedName = aces.getName(aceIndex);
+        return storedName != null
+            ? storedName
+            : addArtificialAce(aclName, aceIndex, aces, ctx);
+    }
 
-        return read.get().getAceMapping().stream()
-            .filter(t -> t.getIndex().equals(aceIndex))
-            .collect(SINGLE_ITEM_ACE_COLLECTOR).getName();
+    private String addArtificialAce(@Nonnull final String aclName, final int aceIndex, @Nonnull final AceNames aces,
+                                    @Nonnull final MappingContext ctx) {
+        final String artificialName = getArtificialAceName(aceIndex);
+        addAce(aclName, aceIndex, artificialName, ctx);
+        aces.names.put(aceIndex, artificialName);
+        return artificialName;
+    }
+
+    private boolean isAceMapped(@Nonnull final String aclName, @Nonnull final String aceName, final int aceIndex,
+                                @Nonnull final MappingContext ctx) {
+        final Optional<AceMapping> read = ctx.read(getAceIid(aclName, aceName));
+        return read.isPresent() && read.get().getIndex() == aceIndex;
     }
 
-    private boolean containsAceName(@Nonnull final String aclName, final int id, @Nonnull final MappingContext ctx) {
+    @Nullable
+    private AceNames readAces(@Nonnull final String aclName, @Nonnull final MappingContext ctx) {
         final Optional<AclMapping> read = ctx.read(getAclIid(aclName));
-        return read.isPresent() && read.get().getAceMapping().stream().anyMatch(t -> t.getIndex().equals(id));
+        return read.isPresent()
+            ? new AceNames(read.get().getAceMapping())
+            : null;
     }
 
     private String getArtificialAceName(final int index) {
         return artificialNamePrefix + "rule" + index;
     }
 
+    /**
+     * Reads all ACL mappings and indexes them for subsequent lookups within the same mapping context. ACE mappings
+     * are indexed lazily per ACL.
+     */
+    private AclNameIndex loadIndex(@Nonnull final MappingContext ctx) {
+        final Optional<VppAclContext> read = ctx.read(ctxIid);
+        final AclNameIndex index = new AclNameIndex();
+        if (read.isPresent() && read.get().getAclMapping() != null) {
+            read.get().getAclMapping().forEach(mapping -> index.loadAcl(mapping.getIndex(), mapping.getName()));
+        }
+        return index;
+    }
+
     private KeyedInstanceIdentifier<AclMapping, AclMappingKey> getAclIid(@Nonnull final String name) {
         return ctxIid.child(AclMapping.class, new AclMappingKey(name));
     }
 
+    private KeyedInstanceIdentifier<AceMapping, AceMappingKey> getAceIid(@Nonnull final String aclName,
+                                                                         @Nonnull final String aceName) {
+        return getAclIid(aclName).child(AceMapping.class, new AceMappingKey(aceName));
+    }
+
     private void addAce(@Nonnull final String aclName, final int aceIndex, @Nonnull final String aceName,
                         @Nonnull final MappingContext ctx) {
         final AceMappingBuilder aceMapping = new AceMappingBuilder();
         aceMapping.setIndex(aceIndex);
         aceMapping.setName(aceName);
-        final KeyedInstanceIdentifier<AceMapping, AceMappingKey> iid =
-            getAclIid(aclName).child(AceMapping.class, new AceMappingKey(aceName));
-        ctx.put(iid, aceMapping.build());
+        ctx.put(getAceIid(aclName, aceName), aceMapping.build());
+    }
+
+    /**
+     * ACL index to name view of ACL mappings stored in single mapping context, together with ACE index to name views
+     * of ACLs that were already looked up.
+     */
+    private static final class AclNameIndex {
+        private final Map<Integer, String> aclNames = new HashMap<>();
+        private final Map<String, Integer> aclIndexes = new HashMap<>();
+        private final Map<String, AceNames> aceNames = new HashMap<>();
+
+        private void loadAcl(final int id, final String name) {
+            aclNames.putIfAbsent(id, name);
+            aclIndexes.put(name, id);
+        }
+
+        private void putAcl(final int id, final String name, final AceNames aces) {
+            removeAcl(name);
+            loadAcl(id, name);
+            aceNames.put(name, aces);
+        }
+
+        private void removeAcl(final String name) {
+            final Integer id = aclIndexes.remove(name);
+            if (id != null) {
+                aclNames.remove(id, name);
+            }
+            aceNames.remove(name);
+        }
+    }
+
+    /**
+     * ACE index to name view of ACE mappings of single ACL.
+     */
+    private static final class AceNames {
+        private final Map<Integer, String> names = new HashMap<>();
+        private final Set<Integer> duplicates = new HashSet<>();
+
+        private AceNames(final List<AceMapping> aceMappings) {
+            if (aceMappings != null) {
+                aceMappings.forEach(mapping -> {
+                    if (names.putIfAbsent(mapping.getIndex(), mapping.getName()) != null) {
+                        duplicates.add(mapping.getIndex());
+                    }
+                });
+            }
+        }
+
+        /**
+         * @throws IllegalStateException if multiple ACE mappings are defined with provided index
+         */
+        private String getName(final int aceIndex) {
+            if (duplicates.contains(aceIndex)) {
+                throw new IllegalStateException("Multiple ACE mappings defined with index=" + aceIndex);
+            }
+            return names.get(aceIndex);
+        }
     }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import com.google.common.base.Optional;
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.VppAclContextAugmentation;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.VppAclMappings;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.VppAclContext;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.VppAclContextBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.VppAclContextKey;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.AclMapping;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.AclMappingBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.AclMappingKey;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.acl.mapping.AceMapping;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.acl.mapping.AceMappingBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.acl.mapping.AceMappingKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
+
+public class AclContextManagerImplTest {
+
+    private static final String CTX_NAME = "acl-context";
+    private static final String ACL_NAME_1 = "acl-1";
+    private static final String ACL_NAME_2 = "acl-2";
+    private static final String ACE_NAME_1 = "ace-1";
+    private static final String ACE_NAME_2 = "ace-2";
+
+    private static final InstanceIdentifier<VppAclContext> CTX_IID = InstanceIdentifier.create(Contexts.class)
+        .augmentation(VppAclContextAugmentation.class).child(VppAclMappings.class)
+        .child(VppAclContext.class, new VppAclContextKey(CTX_NAME));
+
+    @Mock
+    private MappingContext mappingContext;
+
+    private AclContextManagerImpl aclContext;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        aclContext = new AclContextManagerImpl("acl-", CTX_NAME);
+
+        final AclMapping acl1 = new AclMappingBuilder().setName(ACL_NAME_1).setIndex(1)
+            .setAceMapping(Arrays.asList(
+                new AceMappingBuilder().setName(ACE_NAME_1).setIndex(0).build(),
+                new AceMappingBuilder().setName(ACE_NAME_2).setIndex(1).build()))
+            .build();
+        final AclMapping acl2 = new AclMappingBuilder().setName(ACL_NAME_2).setIndex(2)
+            .setAceMapping(Collections.emptyList()).build();
+
+        when(mappingContext.read(any())).thenReturn(Optional.absent());
+        when(mappingContext.read(CTX_IID))
+            .thenReturn(Optional.of(new VppAclContextBuilder().setAclMapping(Arrays.asList(acl1, acl2)).build()));
+        when(mappingContext.read(aclIid(ACL_NAME_1))).thenReturn(Optional.of(acl1));
+        when(mappingContext.read(aclIid(ACL_NAME_2))).thenReturn(Optional.of(acl2));
+        when(mappingContext.read(aceIid(ACL_NAME_1, ACE_NAME_1))).thenReturn(Optional.of(acl1.getAceMapping().get(0)));
+        when(mappingContext.read(aceIid(ACL_NAME_1, ACE_NAME_2))).thenReturn(Optional.of(acl1.getAceMapping().get(1)));
+    }
+
+    @Test
+    public void testGetAclName() {
+        assertEquals(ACL_NAME_1, aclContext.getAclName(1, mappingContext));
+        assertEquals(ACL_NAME_2, aclContext.getAclName(2, mappingContext));
+        assertEquals(ACL_NAME_1, aclContext.getAclName(1, mappingContext));
+        verify(mappingContext, times(1)).read(CTX_IID);
+    }
+
+    @Test
+    public void testGetAclNameArtificial() {
+        assertEquals("acl-3", aclContext.getAclName(3, mappingContext));
+        verify(mappingContext).put(aclIid("acl-3"), new AclMappingBuilder().setName("acl-3").setIndex(3)
+            .setAceMapping(Collections.emptyList()).build());
+    }
+
+    @Test
+    public void testGetUnmappedAclNamesReadContextOnce() {
+        for (int id = 3; id < 103; ++id) {
+            assertEquals("acl-" + id, aclContext.getAclName(id, mappingContext));
+        }
+        verify(mappingContext, times(1)).read(CTX_IID);
+    }
+
+    @Test
+    public void testGetAclNameAfterRemove() {
+        assertEquals(ACL_NAME_2, aclContext.getAclName(2, mappingContext));
+        aclContext.removeAcl(ACL_NAME_2, mappingContext);
+        verify(mappingContext).delete(aclIid(ACL_NAME_2));
+        when(mappingContext.read(CTX_IID)).thenReturn(Optional.of(new VppAclContextBuilder()
+            .setAclMapping(Collections.singletonList(new AclMappingBuilder().setName(ACL_NAME_1).setIndex(1).build()))
+            .build()));
+
+        assertEquals("acl-2", aclContext.getAclName(2, mappingContext));
+        verify(mappingContext).put(aclIid("acl-2"), new AclMappingBuilder().setName("acl-2").setIndex(2)
+            .setAceMapping(Collections.emptyList()).build());
+    }
+
+    @Test
+    public void testGetAclNameAddedExternally() {
+        assertEquals("acl-3", aclContext.getAclName(3, mappingContext));
+
+        // acl-3 mapping replaced bypassing the context manager
+        final AclMapping acl3 = new AclMappingBuilder().setName("acl-x").setIndex(3).build();
+        when(mappingContext.read(CTX_IID))
+            .thenReturn(Optional.of(new VppAclContextBuilder().setAclMapping(Collections.singletonList(acl3)).build()));
+        when(mappingContext.read(aclIid("acl-x"))).thenReturn(Optional.of(acl3));
+
+        assertEquals("acl-x", aclContext.getAclName(3, mappingContext));
+        verify(mappingContext, times(2)).read(CTX_IID);
+    }
+
+    @Test
+    public void testGetAceName() {
+        assertEquals(ACE_NAME_1, aclContext.getAceName(ACL_NAME_1, 0, mappingContext));
+        assertEquals(ACE_NAME_2, aclContext.getAceName(ACL_NAME_1, 1, mappingContext));
+        verify(mappingContext, times(1)).read(aclIid(ACL_NAME_1));
+    }
+
+    @Test
+    public void testGetAceNameArtificial() {
+        assertEquals("acl-rule0", aclContext.getAceName(ACL_NAME_2, 0, mappingContext));
+        verify(mappingContext).put(aceIid(ACL_NAME_2, "acl-rule0"),
+            new AceMappingBuilder().setName("acl-rule0").setIndex(0).build());
+    }
+
+    @Test
+    public void testGetUnmappedAceNamesReadAclOnce() {
+        for (int aceIndex = 0; aceIndex < 100; ++aceIndex) {
+            assertEquals("acl-rule" + aceIndex, aclContext.getAceName(ACL_NAME_2, aceIndex, mappingContext));
+        }
+        verify(mappingContext, times(1)).read(aclIid(ACL_NAME_2));
+        verify(mappingContext, times(1)).read(CTX_IID);
+    }
+
+    @Test
+    public void testGetAceNameMissingAcl() {
+        assertEquals("acl-rule0", aclContext.getAceName("missing-acl", 0, mappingContext));
+        verify(mappingContext).put(aceIid("missing-acl", "acl-rule0"),
+            new AceMappingBuilder().setName("acl-rule0").setIndex(0).build());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGetAceNameDuplicateIndex() {
+        final AclMapping acl = new AclMappingBuilder().setName("acl-dup").setIndex(3)
+            .setAceMapping(Arrays.asList(
+                new AceMappingBuilder().setName(ACE_NAME_1).setIndex(0).build(),
+                new AceMappingBuilder().setName(ACE_NAME_2).setIndex(0).build()))
+            .build();
+        when(mappingContext.read(aclIid("acl-dup"))).thenReturn(Optional.of(acl));
+
+        aclContext.getAceName("acl-dup", 0, mappingContext);
+    }
+
+    private static KeyedInstanceIdentifier<AclMapping, AclMappingKey> aclIid(final String aclName) {
+        return CTX_IID.child(AclMapping.class, new AclMappingKey(aclName));
+    }
+
+    private static KeyedInstanceIdentifier<AceMapping, AceMappingKey> aceIid(final String aclName,
+                                                                             final String aceName) {
+        return aclIid(aclName).child(AceMapping.class, new AceMappingKey(aceName));
+    }
+}
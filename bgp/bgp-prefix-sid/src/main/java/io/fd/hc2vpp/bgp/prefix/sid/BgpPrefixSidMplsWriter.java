@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.honeycomb.translate.bgp.RouteWriter;
 import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.jvpp.core.dto.IpAddDelRoute;
 import io.fd.jvpp.core.dto.MplsRouteAddDel;
 import io.fd.jvpp.core.future.FutureJVppCore;
 import javax.annotation.Nonnull;
@@ -103,8 +104,33 @@ final class BgpPrefixSidMplsWriter
                        @Nonnull final LabeledUnicastRoute routeBefore,
                        @Nonnull final LabeledUnicastRoute routeAfter)
         throws WriteFailedException.UpdateFailedException {
-        throw new WriteFailedException.UpdateFailedException(id, routeBefore, routeAfter,
-            new UnsupportedOperationException("Operation not supported"));
+        LOG.debug("Updating id={}, before={}, after={}", id, routeBefore, routeAfter);
+        // Entries are replaced in place (non-multipath add swaps path of existing entry), new entries are added
+        // before stale ones are removed, so the prefix is reachable during the whole update.
+        final MplsRouteAddDel mplsBefore = mplsRouteAddDelFor(routeBefore, true, LOG);
+        final MplsRouteAddDel mplsAfter = mplsRouteAddDelFor(routeAfter, true, LOG);
+        if (!mplsAfter.equals(mplsBefore)) {
+            // 1) non-eos and eos VPP MPLS FIB entries for the (possibly new) derived label
+            getReplyForUpdate(vppApi.mplsRouteAddDel(mplsAfter).toCompletableFuture(), id, routeBefore, routeAfter);
+            mplsAfter.mrEos = 1;
+            getReplyForUpdate(vppApi.mplsRouteAddDel(mplsAfter).toCompletableFuture(), id, routeBefore, routeAfter);
+        }
+
+        // 2) VPP IP FIB entry, its key (prefix) is part of the route key, so it is always replaced in place
+        final IpAddDelRoute ipAfter = ipAddDelRouteFor(routeAfter, true);
+        if (!ipAfter.equals(ipAddDelRouteFor(routeBefore, true))) {
+            getReplyForUpdate(vppApi.ipAddDelRoute(ipAfter).toCompletableFuture(), id, routeBefore, routeAfter);
+        }
+
+        // 3) local label derived from BGP Prefix SID changed, remove entries for the old one
+        if (mplsBefore.mrLabel != mplsAfter.mrLabel) {
+            mplsBefore.mrIsAdd = 0;
+            getReplyForUpdate(vppApi.mplsRouteAddDel(mplsBefore).toCompletableFuture(), id, routeBefore, routeAfter);
+            mplsBefore.mrEos = 1;
+            getReplyForUpdate(vppApi.mplsRouteAddDel(mplsBefore).toCompletableFuture(), id, routeBefore, routeAfter);
+        }
+
+        LOG.debug("VPP FIB updated successfully (updated id={}).", id);
     }
 
     // TODO(HC2VPP-268): add test which checks if ID is serializable
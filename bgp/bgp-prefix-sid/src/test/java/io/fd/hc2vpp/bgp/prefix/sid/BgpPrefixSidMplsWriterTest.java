@@ -19,7 +19,7 @@ package io.fd.hc2vpp.bgp.prefix.sid;
 import static io.fd.hc2vpp.bgp.prefix.sid.BgpPrefixSidMplsWriter.MPLS_LABEL_INVALID;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -90,12 +90,15 @@ public class BgpPrefixSidMplsWriterTest implements FutureProducer, ByteDataTrans
     }
 
     private static LabeledUnicastRoute route(final PathId pathId, final String routeKey) {
-        final Ipv4Address nextHopAddress = new Ipv4AddressNoZone("5.6.7.8");
+        return route(pathId, routeKey, new Ipv4AddressNoZone("5.6.7.8"), 102L);
+    }
 
+    private static LabeledUnicastRoute route(final PathId pathId, final String routeKey,
+                                             final Ipv4Address nextHopAddress, final long labelIndex) {
         final BgpPrefixSid bgpPrefixSid = new BgpPrefixSidBuilder()
             .setBgpPrefixSidTlvs(
                 Lists.newArrayList(
-                    labelIndexTlv(102L),
+                    labelIndexTlv(labelIndex),
                     originatorSrgbTlv(16000, 800)
                 ))
             .build();
@@ -170,11 +173,37 @@ public class BgpPrefixSidMplsWriterTest implements FutureProducer, ByteDataTrans
         verify(vppApi).ipAddDelRoute(getRequest(false));
     }
 
-    @Test(expected = WriteFailedException.UpdateFailedException.class)
-    public void testUpdate() throws WriteFailedException.UpdateFailedException {
+    @Test
+    public void testUpdateNextHop() throws WriteFailedException.UpdateFailedException {
+        final String routeKey = "route-key";
+        final PathId pathId = new PathId(123L);
+        writer.update(id(pathId, routeKey), route(pathId, routeKey, new Ipv4AddressNoZone("5.6.7.9"), 102L),
+            route(pathId, routeKey));
+
+        // entries are replaced in place, nothing is removed
+        verify(vppApi, times(2)).mplsRouteAddDel(any());
+        verify(vppApi, atLeastOnce()).mplsRouteAddDel(getRequest(true, true));
+        verify(vppApi).ipAddDelRoute(getRequest(true));
+    }
+
+    @Test
+    public void testUpdateLabelIndex() throws WriteFailedException.UpdateFailedException {
+        final String routeKey = "route-key";
+        final PathId pathId = new PathId(123L);
+        writer.update(id(pathId, routeKey), route(pathId, routeKey),
+            route(pathId, routeKey, new Ipv4AddressNoZone("5.6.7.8"), 103L));
+
+        // entries for new local label are added, then entries for the old one are removed
+        verify(vppApi, times(4)).mplsRouteAddDel(any());
+        verify(vppApi, atLeastOnce()).mplsRouteAddDel(getRequest(false, true));
+        verify(vppApi, never()).ipAddDelRoute(any());
+    }
+
+    @Test
+    public void testUpdateNotChanged() throws WriteFailedException.UpdateFailedException {
         final String routeKey = "route-key";
         final PathId pathId = new PathId(123L);
-        writer.update(id(pathId, routeKey), mock(LabeledUnicastRoute.class), mock(LabeledUnicastRoute.class));
+        writer.update(id(pathId, routeKey), route(pathId, routeKey), route(pathId, routeKey));
         verifyZeroInteractions(vppApi);
     }
 
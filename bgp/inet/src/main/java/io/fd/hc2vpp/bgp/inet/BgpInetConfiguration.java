@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.bgp.inet;
+
+import net.jmob.guice.conf.core.BindConfig;
+import net.jmob.guice.conf.core.InjectConfig;
+import net.jmob.guice.conf.core.Syntax;
+
+@BindConfig(value = "bgp-inet", syntax = Syntax.JSON)
+public class BgpInetConfiguration {
+
+    /**
+     * Whether Loc-RIB changes should be programmed to VPP FIB asynchronously, coalescing pending changes per prefix
+     */
+    @InjectConfig("route-programming-queue-enabled")
+    private boolean routeProgrammingQueueEnabled;
+
+    /**
+     * Max number of queued prefixes taken by single drain of the programming queue
+     */
+    @InjectConfig("route-programming-batch-size")
+    private int routeProgrammingBatchSize;
+
+    /**
+     * Max number of route requests sent to VPP and not replied yet
+     */
+    @InjectConfig("route-programming-in-flight-window")
+    private int routeProgrammingInFlightWindow;
+
+    public boolean isRouteProgrammingQueueEnabled() {
+        return routeProgrammingQueueEnabled;
+    }
+
+    public int getRouteProgrammingBatchSize() {
+        return routeProgrammingBatchSize;
+    }
+
+    public int getRouteProgrammingInFlightWindow() {
+        return routeProgrammingInFlightWindow;
+    }
+}
@@ -17,18 +17,41 @@
 package io.fd.hc2vpp.bgp.inet;
 
 import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.MXBeanRegistration;
+import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.honeycomb.translate.bgp.RibWriter;
 import io.fd.honeycomb.translate.bgp.RouteWriterFactory;
 import io.fd.jvpp.core.future.FutureJVppCore;
 import javax.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 final class InetRouteWriterFactory implements RouteWriterFactory {
+    private static final Logger LOG = LoggerFactory.getLogger(InetRouteWriterFactory.class);
+
     @Inject
     private FutureJVppCore vppApi;
 
+    @Inject
+    private BgpInetConfiguration configuration;
+
+    @Inject
+    private ShutdownHandler shutdownHandler;
+
     @Override
     public void init(@Nonnull final RibWriter registry) {
-        registry.register(new Ipv4Writer(vppApi));
-        registry.register(new Ipv6Writer(vppApi));
+        RouteProgrammingQueue programmingQueue = null;
+        if (configuration.isRouteProgrammingQueueEnabled()) {
+            LOG.info("Routes will be programmed asynchronously (batch size {}, in-flight window {})",
+                configuration.getRouteProgrammingBatchSize(), configuration.getRouteProgrammingInFlightWindow());
+            programmingQueue = new RouteProgrammingQueue(vppApi, configuration.getRouteProgrammingBatchSize(),
+                configuration.getRouteProgrammingInFlightWindow());
+            // Stop the drain thread on shutdown
+            shutdownHandler.register("bgp-route-programming-queue", programmingQueue);
+            shutdownHandler.register("bgp-route-programming-queue-stats", MXBeanRegistration
+                .register(programmingQueue, RouteProgrammingQueueMXBean.class, "RouteProgrammingQueue"));
+        }
+        registry.register(new Ipv4Writer(vppApi, programmingQueue));
+        registry.register(new Ipv6Writer(vppApi, programmingQueue));
     }
 }
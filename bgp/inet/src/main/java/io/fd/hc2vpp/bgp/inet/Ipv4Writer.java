@@ -23,9 +23,15 @@ import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.honeycomb.translate.bgp.RouteWriter;
 import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.jvpp.VppBaseCallException;
 import io.fd.jvpp.core.dto.IpAddDelRoute;
 import io.fd.jvpp.core.future.FutureJVppCore;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.inet.rev180329.ipv4.routes.Ipv4Routes;
@@ -50,18 +56,44 @@ final class Ipv4Writer implements RouteWriter<Ipv4Route>, Ipv4Translator, JvppRe
         .child(Ipv4Route.class);
 
     private final FutureJVppCore vppApi;
+    private final RouteProgrammingQueue programmingQueue;
+    private final RoutePaths<Ipv4Route> paths =
+        new RoutePaths<>(route -> request(route, true), Ipv4Route::getAttributes);
 
     Ipv4Writer(@Nonnull final FutureJVppCore vppApi) {
+        this(vppApi, null);
+    }
+
+    /**
+     * @param programmingQueue if present, routes are programmed asynchronously by the queue
+     */
+    Ipv4Writer(@Nonnull final FutureJVppCore vppApi, @Nullable final RouteProgrammingQueue programmingQueue) {
         this.vppApi = checkNotNull(vppApi, "vppApi should not be null");
+        this.programmingQueue = programmingQueue;
     }
 
     @Override
     public void create(@Nonnull final InstanceIdentifier<Ipv4Route> id,
                        @Nonnull final Ipv4Route route)
         throws WriteFailedException.CreateFailedException {
-        final IpAddDelRoute request = request(route, true);
-        LOG.debug("Translating id={}, route={} to {}", id, route, request);
-        getReplyForCreate(vppApi.ipAddDelRoute(request).toCompletableFuture(), id, route);
+        synchronized (paths) {
+            final RoutePaths<Ipv4Route>.Change change = paths.change(prefix(route), id, route);
+            if (enqueue(id, change)) {
+                return;
+            }
+            final List<IpAddDelRoute> requests = change.requests();
+            for (int i = 0; i < requests.size(); i++) {
+                final IpAddDelRoute request = requests.get(i);
+                LOG.debug("Translating id={}, route={} to {}", id, route, request);
+                try {
+                    getReplyForCreate(vppApi.ipAddDelRoute(request).toCompletableFuture(), id, route);
+                } catch (WriteFailedException.CreateFailedException e) {
+                    rollback(id, change.getPrefix(), requests, i, e);
+                    throw e;
+                }
+            }
+            paths.commit(change);
+        }
         LOG.debug("VPP FIB updated successfully (added id={}).", id);
     }
 
@@ -69,8 +101,24 @@ final class Ipv4Writer implements RouteWriter<Ipv4Route>, Ipv4Translator, JvppRe
     public void delete(@Nonnull final InstanceIdentifier<Ipv4Route> id,
                        @Nonnull final Ipv4Route route)
         throws WriteFailedException.DeleteFailedException {
-        LOG.debug("Removing id={}, route={}", id, route);
-        getReplyForDelete(vppApi.ipAddDelRoute(request(route, false)).toCompletableFuture(), id);
+        synchronized (paths) {
+            final RoutePaths<Ipv4Route>.Change change = paths.removal(prefix(route), id, route);
+            if (enqueue(id, change)) {
+                return;
+            }
+            final List<IpAddDelRoute> requests = change.requests();
+            for (int i = 0; i < requests.size(); i++) {
+                final IpAddDelRoute request = requests.get(i);
+                LOG.debug("Removing id={}, route={} by {}", id, route, request);
+                try {
+                    getReplyForDelete(vppApi.ipAddDelRoute(request).toCompletableFuture(), id);
+                } catch (WriteFailedException.DeleteFailedException e) {
+                    rollback(id, change.getPrefix(), requests, i, e);
+                    throw e;
+                }
+            }
+            paths.commit(change);
+        }
         LOG.debug("VPP FIB updated successfully (removed id={}).", id);
     }
 
@@ -79,13 +127,77 @@ final class Ipv4Writer implements RouteWriter<Ipv4Route>, Ipv4Translator, JvppRe
                        @Nonnull final Ipv4Route routeBefore,
                        @Nonnull final Ipv4Route routeAfter)
         throws WriteFailedException.UpdateFailedException {
-        throw new WriteFailedException.UpdateFailedException(id, routeBefore, routeAfter,
-            new UnsupportedOperationException("Operation not supported"));
+        // Prefix is part of the route key, so only the path of the route can change.
+        synchronized (paths) {
+            final RoutePaths<Ipv4Route>.Change change = paths.change(prefix(routeAfter), id, routeAfter);
+            if (enqueue(id, change)) {
+                return;
+            }
+            final List<IpAddDelRoute> requests = change.requests();
+            if (requests.isEmpty()) {
+                LOG.debug("Paths of route id={} did not change, VPP FIB not updated.", id);
+            }
+            for (int i = 0; i < requests.size(); i++) {
+                final IpAddDelRoute request = requests.get(i);
+                LOG.debug("Translating id={}, route={} to {}", id, routeAfter, request);
+                try {
+                    getReplyForUpdate(vppApi.ipAddDelRoute(request).toCompletableFuture(), id, routeBefore,
+                        routeAfter);
+                } catch (WriteFailedException.UpdateFailedException e) {
+                    rollback(id, change.getPrefix(), requests, i, e);
+                    throw e;
+                }
+            }
+            paths.commit(change);
+        }
+        LOG.debug("VPP FIB updated successfully (updated id={}).", id);
     }
 
-    private IpAddDelRoute request(final Ipv4Route route, boolean isAdd) {
-        // TODO(HC2VPP-177): add support for request.nextHopWeight for multiple path case
+    /**
+     * Restores path set of the prefix before the change, if some of the change requests were already applied.
+     * The change is not committed, so its routes are not considered programmed.
+     *
+     * @param requests    requests of the change
+     * @param failedIndex index of the failed request
+     * @param failure     failure of the request, rollback failures are added to it as suppressed
+     */
+    @GuardedBy("paths")
+    private void rollback(final InstanceIdentifier<Ipv4Route> id, final IpPrefix prefix,
+                          final List<IpAddDelRoute> requests, final int failedIndex,
+                          final WriteFailedException failure) {
+        if (failedIndex == 0) {
+            return;
+        }
+        LOG.warn("Change of id={} was applied partially, restoring previous paths of {}", id, prefix);
+        for (IpAddDelRoute request : RoutePaths.resync(paths.paths(prefix), requests.get(failedIndex))) {
+            try {
+                getReply(vppApi.ipAddDelRoute(request).toCompletableFuture());
+            } catch (VppBaseCallException | TimeoutException e) {
+                LOG.error("Unable to restore previous paths of {} by {}, VPP FIB is inconsistent", prefix, request, e);
+                failure.addSuppressed(e);
+                return;
+            }
+        }
+    }
 
+    @GuardedBy("paths")
+    private boolean enqueue(final InstanceIdentifier<Ipv4Route> id, final RoutePaths<Ipv4Route>.Change change) {
+        if (programmingQueue == null) {
+            return false;
+        }
+        LOG.debug("Queueing change of id={}, paths {} -> {}", id, change.getBefore(), change.getAfter());
+        // queue programs the change later, but following changes of the prefix build on it
+        paths.commit(change);
+        final IpPrefix prefix = change.getPrefix();
+        programmingQueue.enqueue(prefix, change.getBefore(), change.getAfter(), () -> paths.paths(prefix));
+        return true;
+    }
+
+    private static IpPrefix prefix(final Ipv4Route route) {
+        return new IpPrefix(route.getPrefix());
+    }
+
+    private IpAddDelRoute request(final Ipv4Route route, boolean isAdd) {
         final CNextHop cNextHop = route.getAttributes().getCNextHop();
         checkArgument(cNextHop instanceof Ipv4NextHopCase, "only ipv4 next hop is supported, but was %s (route = %s)",
             cNextHop, route);
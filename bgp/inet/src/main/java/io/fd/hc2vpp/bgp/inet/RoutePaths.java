@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.bgp.inet;
+
+import io.fd.jvpp.core.dto.IpAddDelRoute;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.message.rev180329.path.attributes.Attributes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.message.rev180329.path.attributes.attributes.ExtendedCommunities;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.types.rev180329.extended.community.extended.community.LinkBandwidthCase;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Keeps Loc-RIB routes programmed to VPP FIB, grouped by prefix. With BGP add-paths, Loc-RIB can contain several
+ * routes of the same prefix (with different path ids). VPP has single FIB entry per prefix, so each of the routes
+ * is programmed as one weighted path of the entry.
+ * <p/>
+ * Path weights are derived from link bandwidth extended community of the routes (unequal-cost multipath).
+ * If any of the routes does not carry link bandwidth, all paths get the same weight (equal-cost multipath).
+ *
+ * @param <R> route type
+ */
+@ThreadSafe
+final class RoutePaths<R extends DataObject> {
+
+    /**
+     * Weight of the path with highest link bandwidth. VPP weight is u8, weights of other paths are scaled down,
+     * but never below 1.
+     */
+    static final int MAX_WEIGHT = 100;
+
+    private final Function<R, IpAddDelRoute> pathFactory;
+    private final Function<R, Attributes> attributes;
+
+    // prefix -> route id -> route, in order of arrival
+    @GuardedBy("this")
+    private final Map<IpPrefix, Map<InstanceIdentifier<R>, R>> routes = new HashMap<>();
+
+    /**
+     * @param pathFactory creates add request of single path of the route
+     * @param attributes  provides attributes of the route
+     */
+    RoutePaths(@Nonnull final Function<R, IpAddDelRoute> pathFactory,
+               @Nonnull final Function<R, Attributes> attributes) {
+        this.pathFactory = pathFactory;
+        this.attributes = attributes;
+    }
+
+    /**
+     * Computes change of prefix path set caused by change of one of its routes. The change is not applied until
+     * {@link #commit(Change)} is called.
+     *
+     * @param prefix prefix of the route
+     * @param id     route identifier
+     * @param route  route after the change, null if the route was removed
+     */
+    synchronized Change change(@Nonnull final IpPrefix prefix, @Nonnull final InstanceIdentifier<R> id,
+                               @Nullable final R route) {
+        final Map<InstanceIdentifier<R>, R> before = routes.getOrDefault(prefix, Collections.emptyMap());
+        final Map<InstanceIdentifier<R>, R> after = new LinkedHashMap<>(before);
+        if (route != null) {
+            after.put(id, route);
+        } else {
+            after.remove(id);
+        }
+        return new Change(prefix, after, pathSet(before.values()), pathSet(after.values()));
+    }
+
+    /**
+     * Computes change of prefix path set caused by removal of one of its routes, see {@link #change}. If no routes of
+     * the prefix are known (e.g. the route was programmed by previous instance of the writer), path of the removed
+     * route is considered programmed, so that the change removes the FIB entry.
+     *
+     * @param prefix prefix of the route
+     * @param id     route identifier
+     * @param route  removed route
+     */
+    synchronized Change removal(@Nonnull final IpPrefix prefix, @Nonnull final InstanceIdentifier<R> id,
+                                @Nonnull final R route) {
+        final Change change = change(prefix, id, null);
+        if (change.before.isEmpty()) {
+            change.before.add(pathFactory.apply(route));
+        }
+        return change;
+    }
+
+    /**
+     * Stores routes of the prefix after the change, so that following changes of the prefix are computed against it.
+     */
+    synchronized void commit(@Nonnull final Change change) {
+        if (change.routes.isEmpty()) {
+            routes.remove(change.prefix);
+        } else {
+            routes.put(change.prefix, change.routes);
+        }
+    }
+
+    /**
+     * @return add requests of current paths of the prefix (as of last commit), empty if the prefix has no routes
+     */
+    synchronized List<IpAddDelRoute> paths(@Nonnull final IpPrefix prefix) {
+        return pathSet(routes.getOrDefault(prefix, Collections.emptyMap()).values());
+    }
+
+    /**
+     * Creates weighted add requests for all paths of the prefix. Routes sharing the same next hop result in single
+     * path.
+     */
+    private List<IpAddDelRoute> pathSet(final Collection<R> prefixRoutes) {
+        final Map<IpAddDelRoute, Float> bandwidths = new LinkedHashMap<>();
+        for (R route : prefixRoutes) {
+            bandwidths.merge(pathFactory.apply(route), linkBandwidth(attributes.apply(route)), Math::max);
+        }
+        final float maxBandwidth = bandwidths.values().stream().reduce(0f, Math::max);
+        final boolean unequalCost = bandwidths.size() > 1 && maxBandwidth > 0
+            && bandwidths.values().stream().allMatch(bandwidth -> bandwidth > 0);
+        final List<IpAddDelRoute> paths = new ArrayList<>(bandwidths.size());
+        bandwidths.forEach((path, bandwidth) -> {
+            if (unequalCost) {
+                path.nextHopWeight = (byte) Math.max(1, Math.round(MAX_WEIGHT * bandwidth / maxBandwidth));
+            }
+            // weight of equal-cost paths is left unset, VPP uses 1 in such case
+            paths.add(path);
+        });
+        return paths;
+    }
+
+    /**
+     * @return bandwidth from the first link bandwidth extended community in bytes per second, 0 if not present
+     */
+    private static float linkBandwidth(@Nullable final Attributes attributes) {
+        if (attributes == null || attributes.getExtendedCommunities() == null) {
+            return 0;
+        }
+        for (ExtendedCommunities community : attributes.getExtendedCommunities()) {
+            if (community.getExtendedCommunity() instanceof LinkBandwidthCase) {
+                final byte[] bandwidth = ((LinkBandwidthCase) community.getExtendedCommunity())
+                    .getLinkBandwidthExtendedCommunity().getBandwidth().getValue();
+                return ByteBuffer.wrap(bandwidth).getFloat();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Computes requests that bring FIB entry from one path set to another.
+     * <p/>
+     * Single remaining path is programmed by non-multipath add, which replaces all paths of the entry at once.
+     * Otherwise new paths are added before stale ones are removed, so the prefix stays reachable during the update.
+     * Path with changed weight is handled as new path, since VPP compares paths including their weights.
+     *
+     * @param before add requests of paths programmed in VPP, consumed by the method
+     * @param after  add requests of paths that should be programmed, consumed by the method
+     * @return requests to be sent in given order
+     */
+    static List<IpAddDelRoute> diff(@Nonnull final List<IpAddDelRoute> before,
+                                    @Nonnull final List<IpAddDelRoute> after) {
+        if (after.size() == 1) {
+            return after.equals(before)
+                ? Collections.emptyList()
+                : after;
+        }
+        if (after.isEmpty() && before.size() == 1) {
+            // removal of the last path removes the FIB entry
+            before.get(0).isAdd = 0;
+            return before;
+        }
+        final List<IpAddDelRoute> added = new ArrayList<>(after);
+        added.removeAll(before);
+        final List<IpAddDelRoute> removed = new ArrayList<>(before);
+        removed.removeAll(after);
+        added.forEach(path -> path.isMultipath = 1);
+        removed.forEach(path -> {
+            path.isAdd = 0;
+            path.isMultipath = 1;
+        });
+        final List<IpAddDelRoute> requests = new ArrayList<>(added);
+        requests.addAll(removed);
+        return requests;
+    }
+
+    /**
+     * Computes requests that bring FIB entry to given path set, regardless of paths programmed in VPP (e.g. after
+     * some of requests of previous change failed).
+     * <p/>
+     * First path is programmed by non-multipath add, which replaces all paths of the entry at once, remaining paths
+     * are added. Empty path set is programmed by non-multipath delete, which removes the FIB entry.
+     *
+     * @param paths   add requests of paths that should be programmed, consumed by the method
+     * @param anyPath request with destination of the FIB entry, used to remove the entry if paths are empty,
+     *               consumed by the method
+     * @return requests to be sent in given order
+     */
+    static List<IpAddDelRoute> resync(@Nonnull final List<IpAddDelRoute> paths, @Nonnull final IpAddDelRoute anyPath) {
+        if (paths.isEmpty()) {
+            anyPath.isAdd = 0;
+            anyPath.isMultipath = 0;
+            return Collections.singletonList(anyPath);
+        }
+        paths.forEach(path -> path.isMultipath = 1);
+        paths.get(0).isMultipath = 0;
+        return paths;
+    }
+
+    /**
+     * Change of path set of single prefix.
+     */
+    final class Change {
+        private final IpPrefix prefix;
+        private final Map<InstanceIdentifier<R>, R> routes;
+        private final List<IpAddDelRoute> before;
+        private final List<IpAddDelRoute> after;
+
+        private Change(final IpPrefix prefix, final Map<InstanceIdentifier<R>, R> routes,
+                       final List<IpAddDelRoute> before, final List<IpAddDelRoute> after) {
+            this.prefix = prefix;
+            this.routes = routes;
+            this.before = before;
+            this.after = after;
+        }
+
+        IpPrefix getPrefix() {
+            return prefix;
+        }
+
+        /**
+         * Add requests of paths programmed in VPP before the change.
+         */
+        List<IpAddDelRoute> getBefore() {
+            return before;
+        }
+
+        /**
+         * Add requests of paths that should be programmed in VPP after the change.
+         */
+        List<IpAddDelRoute> getAfter() {
+            return after;
+        }
+
+        /**
+         * @return requests that apply the change to VPP FIB, see {@link #diff(List, List)}. Can be called once only,
+         * since path requests of the change are reused.
+         */
+        List<IpAddDelRoute> requests() {
+            return diff(before, after);
+        }
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.bgp.inet;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.fd.jvpp.core.dto.IpAddDelRoute;
+import io.fd.jvpp.core.future.FutureJVppCore;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Programs Loc-RIB changes to VPP FIB asynchronously. Changes of a prefix that is already queued are merged into
+ * the queued change, so only the final path set of the prefix is sent to VPP (e.g. route added and withdrawn before
+ * it was programmed results in no request at all).
+ * <p/>
+ * Queued prefixes are drained by dedicated thread in batches. Requests are sent without waiting for replies,
+ * but number of requests waiting for reply is bounded by in-flight window.
+ * <p/>
+ * Writers using the queue never get VPP errors. If any request of a prefix fails, paths programmed in VPP are no
+ * longer known, so the prefix is queued again for resync, which programs its current path set regardless of VPP
+ * state (see {@link RoutePaths#resync(List, IpAddDelRoute)}). Resync is attempted {@value #MAX_RESYNC_ATTEMPTS}
+ * times at most, then the prefix is left as it is until its next change.
+ */
+@ThreadSafe
+final class RouteProgrammingQueue implements RouteProgrammingQueueMXBean, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RouteProgrammingQueue.class);
+
+    static final int MAX_RESYNC_ATTEMPTS = 3;
+
+    private final FutureJVppCore vppApi;
+    private final int batchSize;
+    private final Semaphore inFlightPermits;
+    private final Thread drainThread;
+
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong programmed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong resynced = new AtomicLong();
+
+    // prefix -> pending change, in order of first arrival
+    @GuardedBy("this")
+    private final Map<IpPrefix, PendingPrefix> pending = new LinkedHashMap<>();
+    @GuardedBy("this")
+    private int inFlight;
+    @GuardedBy("this")
+    private boolean closed;
+
+    // start of current convergence, i.e. time when the queue stopped being idle, 0 when idle
+    @GuardedBy("this")
+    private long convergenceStartNanos;
+    @GuardedBy("this")
+    private long convergencePrefixes;
+    @GuardedBy("this")
+    private long lastConvergenceTimeNanos;
+    @GuardedBy("this")
+    private long lastConvergencePrefixes;
+
+    /**
+     * Creates queue and starts its drain thread.
+     *
+     * @param vppApi         jVpp api used to program routes
+     * @param batchSize      max number of prefixes taken from the queue at once
+     * @param inFlightWindow max number of requests waiting for VPP reply
+     */
+    RouteProgrammingQueue(@Nonnull final FutureJVppCore vppApi, final int batchSize, final int inFlightWindow) {
+        checkArgument(batchSize > 0, "Batch size should be positive, but was %s", batchSize);
+        checkArgument(inFlightWindow > 0, "In-flight window should be positive, but was %s", inFlightWindow);
+        this.vppApi = vppApi;
+        this.batchSize = batchSize;
+        this.inFlightPermits = new Semaphore(inFlightWindow);
+        drainThread = new Thread(this::drain, "bgp-route-programming-queue");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    /**
+     * Queues change of path set of a prefix. Never blocks.
+     *
+     * @param prefix       prefix of the changed route, changes of the same prefix are coalesced
+     * @param before       add requests of prefix paths before the change, empty if the prefix was not present
+     * @param after        add requests of prefix paths after the change, empty if the prefix was removed
+     * @param currentPaths provides add requests of current prefix paths, used to resync the prefix if programming
+     *                     fails
+     */
+    synchronized void enqueue(@Nonnull final IpPrefix prefix, @Nonnull final List<IpAddDelRoute> before,
+                              @Nonnull final List<IpAddDelRoute> after,
+                              @Nonnull final Supplier<List<IpAddDelRoute>> currentPaths) {
+        if (closed) {
+            LOG.warn("Route programming queue is closed, ignoring change of {}", prefix);
+            return;
+        }
+        final PendingPrefix queued = pending.get(prefix);
+        if (queued != null) {
+            // paths programmed in VPP are not affected by the queued change, keep them
+            queued.after = after;
+            coalesced.incrementAndGet();
+            return;
+        }
+        put(prefix, new PendingPrefix(prefix, before, after, currentPaths));
+    }
+
+    /**
+     * Queues prefix for resync after some of its requests failed. Its queued change, if any, is resynced instead.
+     */
+    private void resync(final PendingPrefix failedPrefix, final IpAddDelRoute failedRequest) {
+        if (failedPrefix.attempts >= MAX_RESYNC_ATTEMPTS) {
+            LOG.error("Unable to program {} after {} resync attempts, prefix is left unsynchronized until it changes",
+                failedPrefix.prefix, failedPrefix.attempts);
+            return;
+        }
+        // read outside of the queue lock, writers hold their paths lock while queueing
+        final List<IpAddDelRoute> currentPaths = failedPrefix.currentPaths.get();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            resynced.incrementAndGet();
+            PendingPrefix queued = pending.get(failedPrefix.prefix);
+            if (queued == null) {
+                queued = new PendingPrefix(failedPrefix.prefix, Collections.emptyList(), currentPaths,
+                    failedPrefix.currentPaths);
+                put(failedPrefix.prefix, queued);
+            }
+            queued.failedRequest = failedRequest;
+            queued.attempts = failedPrefix.attempts + 1;
+            LOG.debug("Prefix {} queued for resync (attempt {})", failedPrefix.prefix, queued.attempts);
+        }
+    }
+
+    @GuardedBy("this")
+    private void put(final IpPrefix prefix, final PendingPrefix change) {
+        if (isIdle()) {
+            convergenceStartNanos = System.nanoTime();
+            convergencePrefixes = 0;
+        }
+        pending.put(prefix, change);
+        if (pending.size() == 1) {
+            notifyAll();
+        }
+    }
+
+    private void drain() {
+        try {
+            List<PendingPrefix> batch;
+            while ((batch = take()) != null) {
+                for (PendingPrefix prefix : batch) {
+                    final List<IpAddDelRoute> requests = prefix.failedRequest != null
+                        ? RoutePaths.resync(prefix.after, prefix.failedRequest)
+                        : RoutePaths.diff(prefix.before, prefix.after);
+                    if (requests.isEmpty()) {
+                        completed(false);
+                        continue;
+                    }
+                    // prefix is completed when replies to all its requests arrive
+                    final InFlightPrefix inFlightPrefix = new InFlightPrefix(prefix, requests.size());
+                    for (IpAddDelRoute request : requests) {
+                        inFlightPermits.acquire();
+                        send(request, inFlightPrefix);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOG.debug("Route programming queue closed");
+    }
+
+    private void send(final IpAddDelRoute request, final InFlightPrefix prefix) {
+        LOG.trace("Sending {}", request);
+        try {
+            vppApi.ipAddDelRoute(request).toCompletableFuture().whenComplete((reply, error) -> {
+                inFlightPermits.release();
+                if (error != null) {
+                    LOG.warn("Failed to program route {}", request, error);
+                    replied(prefix, request);
+                } else {
+                    programmed.incrementAndGet();
+                    replied(prefix, null);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlightPermits.release();
+            LOG.warn("Failed to send route request {}", request, e);
+            replied(prefix, request);
+        }
+    }
+
+    private void replied(final InFlightPrefix prefix, @Nullable final IpAddDelRoute failedRequest) {
+        if (failedRequest != null) {
+            failed.incrementAndGet();
+            prefix.failedRequest.compareAndSet(null, failedRequest);
+        }
+        if (prefix.remaining.decrementAndGet() == 0) {
+            final IpAddDelRoute firstFailed = prefix.failedRequest.get();
+            // resync is queued before completion, so that the queue does not converge in between
+            if (firstFailed != null) {
+                resync(prefix.change, firstFailed);
+            }
+            completed(true);
+        }
+    }
+
+    /**
+     * Waits for queued prefixes and takes up to batch size of them.
+     *
+     * @return queued prefixes, or null if queue was closed
+     */
+    private synchronized List<PendingPrefix> take() throws InterruptedException {
+        while (pending.isEmpty() && !closed) {
+            wait();
+        }
+        if (closed) {
+            return null;
+        }
+        final List<PendingPrefix> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        final Iterator<PendingPrefix> iterator = pending.values().iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        inFlight += batch.size();
+        LOG.trace("Taken {} prefixes, {} prefixes still queued", batch.size(), pending.size());
+        return batch;
+    }
+
+    private synchronized void completed(final boolean sent) {
+        inFlight--;
+        if (sent) {
+            convergencePrefixes++;
+        }
+        if (isIdle() && convergenceStartNanos != 0) {
+            lastConvergenceTimeNanos = System.nanoTime() - convergenceStartNanos;
+            lastConvergencePrefixes = convergencePrefixes;
+            convergenceStartNanos = 0;
+            LOG.info("VPP FIB converged, {} prefixes programmed in {} ms ({} prefixes/s)", lastConvergencePrefixes,
+                TimeUnit.NANOSECONDS.toMillis(lastConvergenceTimeNanos),
+                lastConvergencePrefixes * TimeUnit.SECONDS.toNanos(1) / Math.max(lastConvergenceTimeNanos, 1));
+        }
+    }
+
+    @GuardedBy("this")
+    private boolean isIdle() {
+        return pending.isEmpty() && inFlight == 0;
+    }
+
+    @Override
+    public synchronized int getQueueDepth() {
+        return pending.size();
+    }
+
+    @Override
+    public synchronized int getInFlightCount() {
+        return inFlight;
+    }
+
+    @Override
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    @Override
+    public long getProgrammedCount() {
+        return programmed.get();
+    }
+
+    @Override
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    @Override
+    public long getResyncCount() {
+        return resynced.get();
+    }
+
+    @Override
+    public synchronized long getLastConvergenceTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastConvergenceTimeNanos);
+    }
+
+    @Override
+    public synchronized long getLastConvergencePrefixCount() {
+        return lastConvergencePrefixes;
+    }
+
+    /**
+     * Stops the drain thread. Queued changes that were not sent yet are discarded, replies to requests already sent
+     * are not waited for.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            LOG.info("Closing route programming queue, discarding {} queued prefixes, {} prefixes in flight",
+                pending.size(), inFlight);
+            pending.clear();
+            notifyAll();
+        }
+        // drain thread can wait for in-flight permits, that are not released if VPP stops replying
+        drainThread.interrupt();
+    }
+
+    /**
+     * Change of path set of single prefix that was not programmed yet.
+     */
+    private static final class PendingPrefix {
+        private final IpPrefix prefix;
+        // paths programmed in VPP
+        private final List<IpAddDelRoute> before;
+        // paths that should be programmed
+        private List<IpAddDelRoute> after;
+        private final Supplier<List<IpAddDelRoute>> currentPaths;
+        // failed request of previous change of the prefix, present if the prefix should be resynced
+        private IpAddDelRoute failedRequest;
+        private int attempts;
+
+        private PendingPrefix(final IpPrefix prefix, final List<IpAddDelRoute> before,
+                              final List<IpAddDelRoute> after, final Supplier<List<IpAddDelRoute>> currentPaths) {
+            this.prefix = prefix;
+            this.before = before;
+            this.after = after;
+            this.currentPaths = currentPaths;
+        }
+    }
+
+    /**
+     * Prefix with requests waiting for VPP reply.
+     */
+    private static final class InFlightPrefix {
+        private final PendingPrefix change;
+        private final AtomicInteger remaining;
+        private final AtomicReference<IpAddDelRoute> failedRequest = new AtomicReference<>();
+
+        private InFlightPrefix(final PendingPrefix change, final int requests) {
+            this.change = change;
+            this.remaining = new AtomicInteger(requests);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.bgp.inet;
+
+/**
+ * Statistics of queue programming Loc-RIB changes to VPP FIB. Exposed via JMX as
+ * {@code io.fd.hc2vpp:type=RouteProgrammingQueue} if the queue is enabled.
+ */
+public interface RouteProgrammingQueueMXBean {
+
+    /**
+     * Number of prefixes with queued changes.
+     */
+    int getQueueDepth();
+
+    /**
+     * Number of prefixes taken from the queue, that were not programmed yet.
+     */
+    int getInFlightCount();
+
+    /**
+     * Number of changes merged into already queued change of the same prefix.
+     */
+    long getCoalescedCount();
+
+    /**
+     * Number of requests successfully processed by VPP.
+     */
+    long getProgrammedCount();
+
+    /**
+     * Number of requests rejected by VPP or failed to be sent.
+     */
+    long getFailedCount();
+
+    /**
+     * Number of prefixes queued for resync, because some of their requests failed.
+     */
+    long getResyncCount();
+
+    /**
+     * Time in milliseconds between the first change received by idle queue, and the moment all changes that followed
+     * were programmed. Zero if the queue did not converge yet.
+     */
+    long getLastConvergenceTimeMillis();
+
+    /**
+     * Number of prefixes programmed during last convergence.
+     */
+    long getLastConvergencePrefixCount();
+}
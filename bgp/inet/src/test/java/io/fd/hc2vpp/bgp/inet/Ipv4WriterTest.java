@@ -17,8 +17,12 @@
 package io.fd.hc2vpp.bgp.inet;
 
 import static io.fd.hc2vpp.bgp.inet.RouteRequestProducer.MPLS_LABEL_INVALID;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -29,8 +33,11 @@ import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.jvpp.core.dto.IpAddDelRoute;
 import io.fd.jvpp.core.dto.IpAddDelRouteReply;
 import io.fd.jvpp.core.future.FutureJVppCore;
+import java.nio.ByteBuffer;
+import java.util.Collections;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4AddressNoZone;
@@ -41,6 +48,8 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.inet
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.inet.rev180329.ipv4.routes.ipv4.routes.Ipv4RouteKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.message.rev180329.PathId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.message.rev180329.path.attributes.AttributesBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.message.rev180329.path.attributes.attributes.ExtendedCommunities;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.message.rev180329.path.attributes.attributes.ExtendedCommunitiesBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.rib.rev180329.BgpRib;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.rib.rev180329.RibId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.rib.rev180329.bgp.rib.Rib;
@@ -50,9 +59,12 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.rib.
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.rib.rev180329.rib.TablesKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.types.rev180329.Ipv4AddressFamily;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.types.rev180329.UnicastSubsequentAddressFamily;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.types.rev180329.extended.community.extended.community.LinkBandwidthCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.types.rev180329.extended.community.extended.community.link.bandwidth._case.LinkBandwidthExtendedCommunityBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.types.rev180329.next.hop.c.next.hop.Ipv4NextHopCase;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.types.rev180329.next.hop.c.next.hop.Ipv4NextHopCaseBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.bgp.types.rev180329.next.hop.c.next.hop.ipv4.next.hop._case.Ipv4NextHopBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.network.concepts.rev131125.Bandwidth;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class Ipv4WriterTest implements FutureProducer, ByteDataTranslator {
@@ -60,6 +72,10 @@ public class Ipv4WriterTest implements FutureProducer, ByteDataTranslator {
         .child(Rib.class, new RibKey(new RibId("test-rib"))).child(LocRib.class)
         .child(Tables.class, new TablesKey(Ipv4AddressFamily.class, UnicastSubsequentAddressFamily.class));
 
+    private static final PathId PATH_1 = new PathId(1L);
+    private static final PathId PATH_2 = new PathId(2L);
+    private static final PathId PATH_3 = new PathId(3L);
+
     @Mock
     private FutureJVppCore vppApi;
     private Ipv4Writer writer;
@@ -115,13 +131,185 @@ public class Ipv4WriterTest implements FutureProducer, ByteDataTranslator {
         verifyRequest(false);
     }
 
-    @Test(expected = WriteFailedException.UpdateFailedException.class)
-    public void testUpdate() throws WriteFailedException.UpdateFailedException {
-        final Ipv4Prefix destination = new Ipv4Prefix("10.1.0.1/28");
+    @Test
+    public void testDeleteLastPath() throws WriteFailedException {
+        final Ipv4Prefix destination = new Ipv4Prefix("1.2.3.4/24");
+        final PathId pathId = new PathId(456L);
+        final Ipv4Address nextHopAddress = new Ipv4AddressNoZone("5.6.7.8");
+
+        writer.create(id(destination, pathId), route(destination, pathId, nextHopAddress));
+        writer.delete(
+            id(destination, pathId),
+            route(destination, pathId, nextHopAddress)
+        );
+        // removal of the only path removes the route
+        verifyRequest(false);
+    }
+
+    @Test
+    public void testUpdate() throws WriteFailedException {
+        final Ipv4Prefix destination = new Ipv4Prefix("1.2.3.4/24");
+        final PathId pathId = new PathId(456L);
+
+        writer.create(id(destination, pathId), route(destination, pathId, new Ipv4AddressNoZone("5.6.7.9")));
+        clearInvocations(vppApi);
+        writer.update(
+            id(destination, pathId),
+            route(destination, pathId, new Ipv4AddressNoZone("5.6.7.9")),
+            route(destination, pathId, new Ipv4AddressNoZone("5.6.7.8"))
+        );
+        // path replaced by single add, route is not removed
+        verifyRequest(true);
+        verify(vppApi).ipAddDelRoute(any());
+    }
+
+    @Test
+    public void testUpdateSameNextHop() throws WriteFailedException {
+        final Ipv4Prefix destination = new Ipv4Prefix("1.2.3.4/24");
         final PathId pathId = new PathId(456L);
+        final Ipv4Address nextHopAddress = new Ipv4AddressNoZone("5.6.7.8");
+
+        writer.create(id(destination, pathId), route(destination, pathId, nextHopAddress));
+        clearInvocations(vppApi);
+        writer.update(
+            id(destination, pathId),
+            route(destination, pathId, nextHopAddress),
+            route(destination, pathId, nextHopAddress)
+        );
+        verify(vppApi, never()).ipAddDelRoute(any());
+    }
+
+    @Test
+    public void testCreateSecondPath() throws WriteFailedException {
+        final Ipv4Prefix destination = new Ipv4Prefix("1.2.3.4/24");
+
+        writer.create(id(destination, PATH_1), route(destination, PATH_1, new Ipv4AddressNoZone("5.6.7.8")));
+        writer.create(id(destination, PATH_2), route(destination, PATH_2, new Ipv4AddressNoZone("5.6.7.9")));
+
+        // first path creates the route, second one is added to it
+        final InOrder inOrder = inOrder(vppApi);
+        inOrder.verify(vppApi).ipAddDelRoute(path(8, true, false, 0));
+        inOrder.verify(vppApi).ipAddDelRoute(path(9, true, true, 0));
+    }
+
+    @Test
+    public void testDeleteOneOfTwoPaths() throws WriteFailedException {
+        final Ipv4Prefix destination = new Ipv4Prefix("1.2.3.4/24");
+        writer.create(id(destination, PATH_1), route(destination, PATH_1, new Ipv4AddressNoZone("5.6.7.8")));
+        writer.create(id(destination, PATH_2), route(destination, PATH_2, new Ipv4AddressNoZone("5.6.7.9")));
+        clearInvocations(vppApi);
+
+        writer.delete(id(destination, PATH_2), route(destination, PATH_2, new Ipv4AddressNoZone("5.6.7.9")));
+
+        // remaining path replaces whole path set
+        verify(vppApi).ipAddDelRoute(path(8, true, false, 0));
+        verify(vppApi).ipAddDelRoute(any());
+    }
+
+    @Test
+    public void testDeleteOneOfThreePaths() throws WriteFailedException {
+        final Ipv4Prefix destination = new Ipv4Prefix("1.2.3.4/24");
+        writer.create(id(destination, PATH_1), route(destination, PATH_1, new Ipv4AddressNoZone("5.6.7.8")));
+        writer.create(id(destination, PATH_2), route(destination, PATH_2, new Ipv4AddressNoZone("5.6.7.9")));
+        writer.create(id(destination, PATH_3), route(destination, PATH_3, new Ipv4AddressNoZone("5.6.7.10")));
+        clearInvocations(vppApi);
+
+        writer.delete(id(destination, PATH_3), route(destination, PATH_3, new Ipv4AddressNoZone("5.6.7.10")));
+
+        verify(vppApi).ipAddDelRoute(path(10, false, true, 0));
+        verify(vppApi).ipAddDelRoute(any());
+    }
+
+    @Test
+    public void testUnequalCostPaths() throws WriteFailedException {
+        final Ipv4Prefix destination = new Ipv4Prefix("1.2.3.4/24");
+        writer.create(id(destination, PATH_1),
+            route(destination, PATH_1, new Ipv4AddressNoZone("5.6.7.8"), 1_000_000_000f));
+        clearInvocations(vppApi);
+
+        writer.create(id(destination, PATH_2),
+            route(destination, PATH_2, new Ipv4AddressNoZone("5.6.7.9"), 500_000_000f));
+
+        // weights follow link bandwidth, weighted paths are added before unweighted one is removed
+        final InOrder inOrder = inOrder(vppApi);
+        inOrder.verify(vppApi).ipAddDelRoute(path(8, true, true, RoutePaths.MAX_WEIGHT));
+        inOrder.verify(vppApi).ipAddDelRoute(path(9, true, true, RoutePaths.MAX_WEIGHT / 2));
+        inOrder.verify(vppApi).ipAddDelRoute(path(8, false, true, 0));
+        verify(vppApi, times(3)).ipAddDelRoute(any());
+    }
+
+    @Test
+    public void testEqualCostPathsWithoutBandwidth() throws WriteFailedException {
+        final Ipv4Prefix destination = new Ipv4Prefix("1.2.3.4/24");
+        writer.create(id(destination, PATH_1),
+            route(destination, PATH_1, new Ipv4AddressNoZone("5.6.7.8"), 1_000_000_000f));
+        clearInvocations(vppApi);
 
-        // update is not supported
-        writer.update(id(destination, pathId), mock(Ipv4Route.class), mock(Ipv4Route.class));
+        writer.create(id(destination, PATH_2), route(destination, PATH_2, new Ipv4AddressNoZone("5.6.7.9")));
+
+        // second path does not carry link bandwidth, so paths are not weighted
+        verify(vppApi).ipAddDelRoute(path(9, true, true, 0));
+        verify(vppApi).ipAddDelRoute(any());
+    }
+
+    @Test
+    public void testSecondRequestFailed() throws WriteFailedException {
+        final Ipv4Prefix destination = new Ipv4Prefix("1.2.3.4/24");
+        writer.create(id(destination, PATH_1),
+            route(destination, PATH_1, new Ipv4AddressNoZone("5.6.7.8"), 1_000_000_000f));
+        clearInvocations(vppApi);
+        when(vppApi.ipAddDelRoute(path(9, true, true, RoutePaths.MAX_WEIGHT / 2))).thenReturn(failedFuture());
+
+        try {
+            writer.create(id(destination, PATH_2),
+                route(destination, PATH_2, new Ipv4AddressNoZone("5.6.7.9"), 500_000_000f));
+            fail("WriteFailedException.CreateFailedException was expected");
+        } catch (WriteFailedException.CreateFailedException e) {
+            // applied weighted path is replaced by path of the only committed route
+            final InOrder inOrder = inOrder(vppApi);
+            inOrder.verify(vppApi).ipAddDelRoute(path(8, true, true, RoutePaths.MAX_WEIGHT));
+            inOrder.verify(vppApi).ipAddDelRoute(path(9, true, true, RoutePaths.MAX_WEIGHT / 2));
+            inOrder.verify(vppApi).ipAddDelRoute(path(8, true, false, 0));
+            verify(vppApi, times(3)).ipAddDelRoute(any());
+        }
+
+        // failed change was not committed
+        clearInvocations(vppApi);
+        writer.delete(id(destination, PATH_1),
+            route(destination, PATH_1, new Ipv4AddressNoZone("5.6.7.8"), 1_000_000_000f));
+        verify(vppApi).ipAddDelRoute(path(8, false, false, 0));
+        verify(vppApi).ipAddDelRoute(any());
+    }
+
+    private static Ipv4Route route(final Ipv4Prefix destination, final PathId pathId,
+                                   final Ipv4Address nextHopAddress, final float bandwidth) {
+        final ExtendedCommunities linkBandwidth = new ExtendedCommunitiesBuilder()
+            .setExtendedCommunity(new LinkBandwidthCaseBuilder()
+                .setLinkBandwidthExtendedCommunity(new LinkBandwidthExtendedCommunityBuilder()
+                    .setBandwidth(new Bandwidth(ByteBuffer.allocate(4).putFloat(bandwidth).array()))
+                    .build())
+                .build())
+            .build();
+        final Ipv4Route route = route(destination, pathId, nextHopAddress);
+        return new Ipv4RouteBuilder(route)
+            .setAttributes(new AttributesBuilder(route.getAttributes())
+                .setExtendedCommunities(Collections.singletonList(linkBandwidth))
+                .build())
+            .build();
+    }
+
+    private static IpAddDelRoute path(final int nextHop, final boolean isAdd, final boolean isMultipath,
+                                      final int weight) {
+        final IpAddDelRoute request = new IpAddDelRoute();
+        request.isAdd = (byte) (isAdd ? 1 : 0);
+        request.isMultipath = (byte) (isMultipath ? 1 : 0);
+        request.nextHopWeight = (byte) weight;
+        request.nextHopSwIfIndex = -1;
+        request.nextHopViaLabel = MPLS_LABEL_INVALID;
+        request.nextHopAddress = new byte[] {5, 6, 7, (byte) nextHop};
+        request.dstAddress = new byte[] {1, 2, 3, 4};
+        request.dstAddressLength = 24;
+        return request;
     }
 
     private void verifyRequest(boolean isAdd) {
@@ -17,8 +17,12 @@
 package io.fd.hc2vpp.bgp.inet;
 
 import static io.fd.hc2vpp.bgp.inet.RouteRequestProducer.MPLS_LABEL_INVALID;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -31,6 +35,7 @@ import io.fd.jvpp.core.dto.IpAddDelRouteReply;
 import io.fd.jvpp.core.future.FutureJVppCore;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Address;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6AddressNoZone;
@@ -115,13 +120,98 @@ public class Ipv6WriterTest implements FutureProducer, ByteDataTranslator {
         verifyRequest(false);
     }
 
-    @Test(expected = WriteFailedException.UpdateFailedException.class)
-    public void testUpdate() throws WriteFailedException.UpdateFailedException {
+    @Test
+    public void testDeleteLastPath() throws WriteFailedException {
+        final Ipv6Prefix destination = new Ipv6Prefix("2001:db8:a0b:12f0:0:0:0:1/64");
+        final PathId pathId = new PathId(456L);
+        final Ipv6Address nextHopAddress = new Ipv6AddressNoZone("2001:db8:a0b:12f0:0:0:0:2");
+
+        writer.create(id(destination, pathId), route(destination, pathId, nextHopAddress));
+        writer.delete(
+            id(destination, pathId),
+            route(destination, pathId, nextHopAddress)
+        );
+        // removal of the only path removes the route
+        verifyRequest(false);
+    }
+
+    @Test
+    public void testUpdate() throws WriteFailedException {
         final Ipv6Prefix destination = new Ipv6Prefix("2001:db8:a0b:12f0:0:0:0:1/64");
         final PathId pathId = new PathId(456L);
 
-        // update is not supported
-        writer.update(id(destination, pathId), mock(Ipv6Route.class), mock(Ipv6Route.class));
+        writer.create(id(destination, pathId),
+            route(destination, pathId, new Ipv6AddressNoZone("2001:db8:a0b:12f0:0:0:0:3")));
+        clearInvocations(vppApi);
+        writer.update(
+            id(destination, pathId),
+            route(destination, pathId, new Ipv6AddressNoZone("2001:db8:a0b:12f0:0:0:0:3")),
+            route(destination, pathId, new Ipv6AddressNoZone("2001:db8:a0b:12f0:0:0:0:2"))
+        );
+        // path replaced by single add, route is not removed
+        verifyRequest(true);
+        verify(vppApi).ipAddDelRoute(any());
+    }
+
+    @Test
+    public void testUpdateSameNextHop() throws WriteFailedException {
+        final Ipv6Prefix destination = new Ipv6Prefix("2001:db8:a0b:12f0:0:0:0:1/64");
+        final PathId pathId = new PathId(456L);
+        final Ipv6Address nextHopAddress = new Ipv6AddressNoZone("2001:db8:a0b:12f0:0:0:0:2");
+
+        writer.create(id(destination, pathId), route(destination, pathId, nextHopAddress));
+        clearInvocations(vppApi);
+        writer.update(
+            id(destination, pathId),
+            route(destination, pathId, nextHopAddress),
+            route(destination, pathId, nextHopAddress)
+        );
+        verify(vppApi, never()).ipAddDelRoute(any());
+    }
+
+    @Test
+    public void testSecondRequestFailed() throws WriteFailedException {
+        final Ipv6Prefix destination = new Ipv6Prefix("2001:db8:a0b:12f0:0:0:0:1/64");
+        final PathId pathId1 = new PathId(1L);
+        final PathId pathId2 = new PathId(2L);
+        writer.create(id(destination, pathId1),
+            route(destination, pathId1, new Ipv6AddressNoZone("2001:db8:a0b:12f0:0:0:0:2")));
+        writer.create(id(destination, pathId2),
+            route(destination, pathId2, new Ipv6AddressNoZone("2001:db8:a0b:12f0:0:0:0:3")));
+        clearInvocations(vppApi);
+        when(vppApi.ipAddDelRoute(path(3, false, true))).thenReturn(failedFuture());
+
+        try {
+            writer.update(id(destination, pathId2),
+                route(destination, pathId2, new Ipv6AddressNoZone("2001:db8:a0b:12f0:0:0:0:3")),
+                route(destination, pathId2, new Ipv6AddressNoZone("2001:db8:a0b:12f0:0:0:0:4")));
+            fail("WriteFailedException.UpdateFailedException was expected");
+        } catch (WriteFailedException.UpdateFailedException e) {
+            // new path was added before removal of the stale one failed, so previous path set is restored
+            final InOrder inOrder = inOrder(vppApi);
+            inOrder.verify(vppApi).ipAddDelRoute(path(4, true, true));
+            inOrder.verify(vppApi).ipAddDelRoute(path(3, false, true));
+            inOrder.verify(vppApi).ipAddDelRoute(path(2, true, false));
+            inOrder.verify(vppApi).ipAddDelRoute(path(3, true, true));
+            verify(vppApi, times(4)).ipAddDelRoute(any());
+        }
+    }
+
+    private static IpAddDelRoute path(final int nextHop, final boolean isAdd, final boolean isMultipath) {
+        final IpAddDelRoute request = new IpAddDelRoute();
+        request.isAdd = (byte) (isAdd ? 1 : 0);
+        request.isMultipath = (byte) (isMultipath ? 1 : 0);
+        request.isIpv6 = 1;
+        request.nextHopSwIfIndex = -1;
+        request.nextHopViaLabel = MPLS_LABEL_INVALID;
+        request.nextHopAddress = new byte[] {
+            0x20, 0x01, 0x0d, (byte) 0xb8, 0x0a, 0x0b, 0x12, (byte) 0xf0,
+            0, 0, 0, 0, 0, 0, 0, (byte) nextHop};
+        request.dstAddress = new byte[] {
+            0x20, 0x01, 0x0d, (byte) 0xb8, 0x0a, 0x0b, 0x12, (byte) 0xf0,
+            0, 0, 0, 0, 0, 0, 0, 1};
+        request.dstAddressLength = 64;
+        return request;
     }
 
     private void verifyRequest(boolean isAdd) {
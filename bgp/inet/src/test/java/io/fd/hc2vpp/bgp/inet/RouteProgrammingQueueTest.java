@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.bgp.inet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import io.fd.jvpp.VppCallbackException;
+import io.fd.jvpp.core.dto.IpAddDelRoute;
+import io.fd.jvpp.core.dto.IpAddDelRouteReply;
+import io.fd.jvpp.core.future.FutureJVppCore;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+
+public class RouteProgrammingQueueTest {
+
+    private static final IpPrefix BLOCKING_PREFIX = new IpPrefix(new Ipv4Prefix("10.0.100.0/24"));
+    private static final IpPrefix FIRST_PREFIX = new IpPrefix(new Ipv4Prefix("10.0.1.0/24"));
+    private static final IpPrefix SECOND_PREFIX = new IpPrefix(new Ipv4Prefix("10.0.2.0/24"));
+
+    @Mock
+    private FutureJVppCore vppApi;
+    private final BlockingQueue<IpAddDelRoute> sent = new LinkedBlockingQueue<>();
+    private final BlockingQueue<CompletableFuture<IpAddDelRouteReply>> replies = new LinkedBlockingQueue<>();
+    private RouteProgrammingQueue queue;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        when(vppApi.ipAddDelRoute(any())).thenAnswer(invocation -> {
+            final CompletableFuture<IpAddDelRouteReply> reply = new CompletableFuture<>();
+            sent.add(invocation.getArgument(0));
+            replies.add(reply);
+            return reply;
+        });
+        // single prefix at a time, so changes queued while a request is in flight are coalesced
+        queue = new RouteProgrammingQueue(vppApi, 1, 1);
+    }
+
+    @After
+    public void tearDown() {
+        queue.close();
+    }
+
+    @Test
+    public void testProgram() throws InterruptedException {
+        final IpAddDelRoute request = request(1);
+        queue.enqueue(FIRST_PREFIX, paths(), paths(1), () -> paths(1));
+
+        assertEquals(request, sent.poll(5, TimeUnit.SECONDS));
+        reply().complete(new IpAddDelRouteReply());
+        awaitIdle();
+        assertEquals(1, queue.getProgrammedCount());
+        assertEquals(1, queue.getLastConvergencePrefixCount());
+    }
+
+    @Test
+    public void testAddAndRemoveCoalesced() throws InterruptedException {
+        final CompletableFuture<IpAddDelRouteReply> blockingReply = block();
+
+        queue.enqueue(SECOND_PREFIX, paths(), paths(2), () -> paths(2));
+        queue.enqueue(SECOND_PREFIX, paths(2), paths(), () -> paths());
+        assertEquals(1, queue.getQueueDepth());
+
+        unblock(blockingReply);
+        awaitIdle();
+        // prefix was never programmed, so nothing is sent for it
+        assertNull(sent.poll());
+        assertEquals(1, queue.getCoalescedCount());
+        assertEquals(2, queue.getLastConvergencePrefixCount());
+    }
+
+    @Test
+    public void testUpdatesCoalesced() throws InterruptedException {
+        final CompletableFuture<IpAddDelRouteReply> blockingReply = block();
+
+        queue.enqueue(SECOND_PREFIX, paths(2), paths(3), () -> paths(3));
+        queue.enqueue(SECOND_PREFIX, paths(3), paths(4), () -> paths(4));
+
+        unblock(blockingReply);
+        assertEquals(request(4), sent.poll(5, TimeUnit.SECONDS));
+        reply().complete(new IpAddDelRouteReply());
+        awaitIdle();
+        assertNull(sent.poll());
+    }
+
+    @Test
+    public void testUpdateAndRemoveCoalesced() throws InterruptedException {
+        final CompletableFuture<IpAddDelRouteReply> blockingReply = block();
+
+        queue.enqueue(SECOND_PREFIX, paths(2), paths(3), () -> paths(3));
+        queue.enqueue(SECOND_PREFIX, paths(3), paths(), () -> paths());
+
+        unblock(blockingReply);
+        // prefix is removed as it is programmed in VPP
+        final IpAddDelRoute delete = request(2);
+        delete.isAdd = 0;
+        assertEquals(delete, sent.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testPathsAddedCoalesced() throws InterruptedException {
+        final CompletableFuture<IpAddDelRouteReply> blockingReply = block();
+
+        queue.enqueue(SECOND_PREFIX, paths(2), paths(2, 3), () -> paths(2, 3));
+        queue.enqueue(SECOND_PREFIX, paths(2, 3), paths(2, 3, 4), () -> paths(2, 3, 4));
+
+        unblock(blockingReply);
+        // only paths missing in VPP are added
+        final IpAddDelRoute thirdPath = request(3);
+        thirdPath.isMultipath = 1;
+        assertEquals(thirdPath, sent.poll(5, TimeUnit.SECONDS));
+        reply().complete(new IpAddDelRouteReply());
+        final IpAddDelRoute fourthPath = request(4);
+        fourthPath.isMultipath = 1;
+        assertEquals(fourthPath, sent.poll(5, TimeUnit.SECONDS));
+        reply().complete(new IpAddDelRouteReply());
+        awaitIdle();
+        assertNull(sent.poll());
+        // both requests belong to the same prefix
+        assertEquals(3, queue.getLastConvergencePrefixCount());
+    }
+
+    @Test
+    public void testFailure() throws InterruptedException {
+        queue.enqueue(FIRST_PREFIX, paths(1), paths(1, 2), () -> paths(1, 2));
+
+        final IpAddDelRoute secondPath = request(2);
+        secondPath.isMultipath = 1;
+        assertEquals(secondPath, sent.poll(5, TimeUnit.SECONDS));
+        reply().completeExceptionally(new VppCallbackException("ipAddDelRoute", "failed", 1, -1));
+
+        // current paths of the prefix are programmed regardless of VPP state
+        assertEquals(request(1), sent.poll(5, TimeUnit.SECONDS));
+        reply().complete(new IpAddDelRouteReply());
+        assertEquals(secondPath, sent.poll(5, TimeUnit.SECONDS));
+        reply().complete(new IpAddDelRouteReply());
+        awaitIdle();
+        assertEquals(1, queue.getFailedCount());
+        assertEquals(1, queue.getResyncCount());
+        assertEquals(2, queue.getProgrammedCount());
+    }
+
+    @Test
+    public void testRemovalFailure() throws InterruptedException {
+        queue.enqueue(FIRST_PREFIX, paths(1), paths(), () -> paths());
+
+        final IpAddDelRoute delete = request(1);
+        delete.isAdd = 0;
+        assertEquals(delete, sent.poll(5, TimeUnit.SECONDS));
+        reply().completeExceptionally(new VppCallbackException("ipAddDelRoute", "failed", 1, -1));
+
+        // prefix without paths is resynced by removal of the FIB entry
+        assertEquals(delete, sent.poll(5, TimeUnit.SECONDS));
+        reply().complete(new IpAddDelRouteReply());
+        awaitIdle();
+        assertEquals(1, queue.getResyncCount());
+    }
+
+    @Test
+    public void testResyncAttemptsLimited() throws InterruptedException {
+        queue.enqueue(FIRST_PREFIX, paths(), paths(1), () -> paths(1));
+
+        for (int attempt = 0; attempt <= RouteProgrammingQueue.MAX_RESYNC_ATTEMPTS; attempt++) {
+            assertEquals(request(1), sent.poll(5, TimeUnit.SECONDS));
+            reply().completeExceptionally(new VppCallbackException("ipAddDelRoute", "failed", 1, -1));
+        }
+        awaitIdle();
+        assertNull(sent.poll());
+        assertEquals(RouteProgrammingQueue.MAX_RESYNC_ATTEMPTS + 1, queue.getFailedCount());
+        assertEquals(RouteProgrammingQueue.MAX_RESYNC_ATTEMPTS, queue.getResyncCount());
+    }
+
+    @Test
+    public void testClose() throws InterruptedException {
+        final CompletableFuture<IpAddDelRouteReply> blockingReply = block();
+        queue.enqueue(SECOND_PREFIX, paths(), paths(2), () -> paths(2));
+
+        queue.close();
+        blockingReply.complete(new IpAddDelRouteReply());
+        // queued prefix is discarded
+        assertNull(sent.poll(500, TimeUnit.MILLISECONDS));
+        assertEquals(0, queue.getQueueDepth());
+    }
+
+    /**
+     * Leaves request of blocking prefix in flight and first prefix taken from the queue, waiting for in-flight window.
+     */
+    private CompletableFuture<IpAddDelRouteReply> block() throws InterruptedException {
+        queue.enqueue(BLOCKING_PREFIX, paths(), paths(100), () -> paths(100));
+        assertEquals(request(100), sent.poll(5, TimeUnit.SECONDS));
+        queue.enqueue(FIRST_PREFIX, paths(), paths(1), () -> paths(1));
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (queue.getQueueDepth() > 0 && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(0, queue.getQueueDepth());
+        return reply();
+    }
+
+    private void unblock(final CompletableFuture<IpAddDelRouteReply> blockingReply) throws InterruptedException {
+        blockingReply.complete(new IpAddDelRouteReply());
+        assertEquals(request(1), sent.poll(5, TimeUnit.SECONDS));
+        reply().complete(new IpAddDelRouteReply());
+    }
+
+    private CompletableFuture<IpAddDelRouteReply> reply() throws InterruptedException {
+        return replies.poll(5, TimeUnit.SECONDS);
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while ((queue.getQueueDepth() > 0 || queue.getInFlightCount() > 0) && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(0, queue.getQueueDepth());
+        assertEquals(0, queue.getInFlightCount());
+    }
+
+    private static IpAddDelRoute request(final int nextHop) {
+        final IpAddDelRoute request = new IpAddDelRoute();
+        request.isAdd = 1;
+        request.dstAddress = new byte[] {10, 0, 0, 0};
+        request.dstAddressLength = 24;
+        request.nextHopAddress = new byte[] {10, 0, 1, (byte) nextHop};
+        return request;
+    }
+
+    private static List<IpAddDelRoute> paths(final int... nextHops) {
+        return Arrays.stream(nextHops).mapToObj(RouteProgrammingQueueTest::request).collect(Collectors.toList());
+    }
+}
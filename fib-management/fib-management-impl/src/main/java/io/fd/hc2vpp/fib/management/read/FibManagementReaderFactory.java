@@ -51,12 +51,16 @@ public final class FibManagementReaderFactory implements ReaderFactory, JvppRepl
                 new FibTableCustomizer(ipv4DumpManager, ipv6DumpManager)));
     }
 
+    /**
+     * Dumped details are reduced to single details per table right after they are received, so that details of every
+     * route are not held in modification cache for the whole read transaction.
+     */
     private DumpCacheManager<IpFibDetailsReplyDump, Void> newIpv4RoutesDumpManager(
             @Nonnull final FutureJVppCore vppApi) {
         return new DumpCacheManager.DumpCacheManagerBuilder<IpFibDetailsReplyDump, Void>()
                 .withExecutor(
-                        (identifier, params) -> getReplyForRead(vppApi.ipFibDump(new IpFibDump()).toCompletableFuture(),
-                                identifier))
+                        (identifier, params) -> FibTableDumps.tablesOnly(
+                                getReplyForRead(vppApi.ipFibDump(new IpFibDump()).toCompletableFuture(), identifier)))
                 .acceptOnly(IpFibDetailsReplyDump.class)
                 .build();
     }
@@ -65,8 +69,8 @@ public final class FibManagementReaderFactory implements ReaderFactory, JvppRepl
             @Nonnull final FutureJVppCore vppApi) {
         return new DumpCacheManager.DumpCacheManagerBuilder<Ip6FibDetailsReplyDump, Void>()
                 .withExecutor(
-                        (identifier, params) -> getReplyForRead(
-                                vppApi.ip6FibDump(new Ip6FibDump()).toCompletableFuture(), identifier))
+                        (identifier, params) -> FibTableDumps.tablesOnly(
+                                getReplyForRead(vppApi.ip6FibDump(new Ip6FibDump()).toCompletableFuture(), identifier)))
                 .acceptOnly(Ip6FibDetailsReplyDump.class)
                 .build();
     }
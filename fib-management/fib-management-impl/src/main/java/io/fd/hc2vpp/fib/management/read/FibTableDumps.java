@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.fib.management.read;
+
+import io.fd.jvpp.core.dto.Ip6FibDetails;
+import io.fd.jvpp.core.dto.Ip6FibDetailsReplyDump;
+import io.fd.jvpp.core.dto.IpFibDetails;
+import io.fd.jvpp.core.dto.IpFibDetailsReplyDump;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import javax.annotation.Nonnull;
+
+/**
+ * Reduces fib dumps to single details per table. Fib table reads need just table id and name, so there is no need to
+ * keep details of every route in modification cache for whole read transaction.
+ */
+public final class FibTableDumps {
+
+    private FibTableDumps() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated.");
+    }
+
+    /**
+     * Returns dump containing first dumped details of every table.
+     */
+    @Nonnull
+    public static IpFibDetailsReplyDump tablesOnly(@Nonnull final IpFibDetailsReplyDump dump) {
+        final IpFibDetailsReplyDump reduced = new IpFibDetailsReplyDump();
+        reduced.ipFibDetails = firstPerTable(dump.ipFibDetails, details -> details.tableId);
+        return reduced;
+    }
+
+    /**
+     * Returns dump containing first dumped details of every table.
+     */
+    @Nonnull
+    public static Ip6FibDetailsReplyDump tablesOnly(@Nonnull final Ip6FibDetailsReplyDump dump) {
+        final Ip6FibDetailsReplyDump reduced = new Ip6FibDetailsReplyDump();
+        reduced.ip6FibDetails = firstPerTable(dump.ip6FibDetails, details -> details.tableId);
+        return reduced;
+    }
+
+    private static <D> List<D> firstPerTable(final List<D> details, final ToIntFunction<D> tableIdExtractor) {
+        if (details == null || details.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final Set<Integer> tables = new HashSet<>();
+        final List<D> reduced = new ArrayList<>();
+        for (final D detail : details) {
+            if (tables.add(tableIdExtractor.applyAsInt(detail))) {
+                reduced.add(detail);
+            }
+        }
+        return reduced;
+    }
+}
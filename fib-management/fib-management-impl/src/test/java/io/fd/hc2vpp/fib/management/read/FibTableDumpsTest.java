@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.fib.management.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import io.fd.jvpp.core.dto.Ip6FibDetails;
+import io.fd.jvpp.core.dto.Ip6FibDetailsReplyDump;
+import io.fd.jvpp.core.dto.IpFibDetails;
+import io.fd.jvpp.core.dto.IpFibDetailsReplyDump;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class FibTableDumpsTest {
+
+    @Test
+    public void testTablesOnlyIpv4() {
+        final IpFibDetailsReplyDump dump = new IpFibDetailsReplyDump();
+        dump.ipFibDetails = Arrays.asList(ipv4Details(0), ipv4Details(1), ipv4Details(0), ipv4Details(2),
+                ipv4Details(1));
+
+        final IpFibDetailsReplyDump reduced = FibTableDumps.tablesOnly(dump);
+        assertEquals(3, reduced.ipFibDetails.size());
+        assertSame(dump.ipFibDetails.get(0), reduced.ipFibDetails.get(0));
+        assertSame(dump.ipFibDetails.get(1), reduced.ipFibDetails.get(1));
+        assertSame(dump.ipFibDetails.get(3), reduced.ipFibDetails.get(2));
+    }
+
+    @Test
+    public void testTablesOnlyIpv6() {
+        final Ip6FibDetailsReplyDump dump = new Ip6FibDetailsReplyDump();
+        dump.ip6FibDetails = Arrays.asList(ipv6Details(3), ipv6Details(3), ipv6Details(4));
+
+        final Ip6FibDetailsReplyDump reduced = FibTableDumps.tablesOnly(dump);
+        assertEquals(2, reduced.ip6FibDetails.size());
+        assertSame(dump.ip6FibDetails.get(0), reduced.ip6FibDetails.get(0));
+        assertSame(dump.ip6FibDetails.get(2), reduced.ip6FibDetails.get(1));
+    }
+
+    @Test
+    public void testTablesOnlyEmpty() {
+        assertTrue(FibTableDumps.tablesOnly(new IpFibDetailsReplyDump()).ipFibDetails.isEmpty());
+        assertTrue(FibTableDumps.tablesOnly(new Ip6FibDetailsReplyDump()).ip6FibDetails.isEmpty());
+    }
+
+    private static IpFibDetails ipv4Details(final int tableId) {
+        final IpFibDetails details = new IpFibDetails();
+        details.tableId = tableId;
+        return details;
+    }
+
+    private static Ip6FibDetails ipv6Details(final int tableId) {
+        final Ip6FibDetails details = new Ip6FibDetails();
+        details.tableId = tableId;
+        return details;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.it.translate.benchmark.address;
+
+import com.google.common.net.InetAddresses;
+import io.fd.hc2vpp.common.translate.util.AddressTranslator;
+import io.fd.hc2vpp.common.translate.util.IpAddressCodec;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IetfInetUtil;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6AddressNoZone;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Prefix;
+
+/**
+ * Compares conversion of prefixCount IPv4/IPv6 prefixes between yang and VPP representation done by translate utils
+ * with the string splitting and InetAddress based conversion they used before.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IpAddressConversionBenchmark {
+    private static final AddressTranslator TRANSLATOR = AddressTranslator.INSTANCE;
+
+    @Param( {"1000000"})
+    private int prefixCount;
+
+    @Param( {"ipv4", "ipv6"})
+    private String family;
+
+    private boolean ipv6;
+    private IpPrefix[] prefixes;
+    private byte[][] addresses;
+    private byte[] lengths;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ipv6 = "ipv6".equals(family);
+        prefixes = new IpPrefix[prefixCount];
+        addresses = new byte[prefixCount][];
+        lengths = new byte[prefixCount];
+
+        final Random random = new Random(prefixCount);
+        for (int i = 0; i < prefixCount; i++) {
+            final byte[] address = new byte[ipv6 ? 16 : 4];
+            random.nextBytes(address);
+            if (ipv6) {
+                // typical routes have zero interface identifier, which makes them compressed
+                address[8 + random.nextInt(8)] = 0;
+                for (int b = 10; b < 16; b++) {
+                    address[b] = 0;
+                }
+            }
+            addresses[i] = address;
+            lengths[i] = (byte) random.nextInt(ipv6 ? 129 : 33);
+            prefixes[i] = ipv6
+                    ? new IpPrefix(IetfInetUtil.INSTANCE.ipv6PrefixFor(address, lengths[i]))
+                    : new IpPrefix(IetfInetUtil.INSTANCE.ipv4PrefixFor(address, lengths[i]));
+        }
+    }
+
+    @Benchmark
+    public void parseLegacy(final Blackhole blackhole) {
+        for (final IpPrefix prefix : prefixes) {
+            if (ipv6) {
+                blackhole.consume(legacyIpv6PrefixToArray(prefix.getIpv6Prefix()));
+                blackhole.consume(legacyExtractPrefix(prefix.getIpv6Prefix().getValue()));
+            } else {
+                blackhole.consume(legacyIpv4PrefixToArray(prefix.getIpv4Prefix()));
+                blackhole.consume(legacyExtractPrefix(prefix.getIpv4Prefix().getValue()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void parse(final Blackhole blackhole) {
+        for (final IpPrefix prefix : prefixes) {
+            blackhole.consume(TRANSLATOR.ipPrefixToArray(prefix));
+            blackhole.consume(TRANSLATOR.extractPrefix(prefix));
+        }
+    }
+
+    /**
+     * Parses into single caller-supplied buffer, so no garbage is produced per prefix.
+     */
+    @Benchmark
+    public void parseIntoBuffer(final Blackhole blackhole) {
+        final byte[] buffer = new byte[IpAddressCodec.IPV6_LENGTH];
+        for (final IpPrefix prefix : prefixes) {
+            final String value = ipv6
+                    ? prefix.getIpv6Prefix().getValue()
+                    : prefix.getIpv4Prefix().getValue();
+            final int end = IpAddressCodec.addressEnd(value);
+            blackhole.consume(ipv6
+                    ? IpAddressCodec.parseIpv6(value, 0, end, buffer, 0)
+                    : IpAddressCodec.parseIpv4(value, 0, end, buffer, 0));
+            blackhole.consume(IpAddressCodec.prefixLength(value));
+        }
+    }
+
+    @Benchmark
+    public void formatLegacy(final Blackhole blackhole) {
+        for (int i = 0; i < prefixCount; i++) {
+            blackhole.consume(ipv6
+                    ? IetfInetUtil.INSTANCE.ipv6PrefixFor(addresses[i], lengths[i])
+                    : IetfInetUtil.INSTANCE.ipv4PrefixFor(addresses[i], lengths[i]));
+        }
+    }
+
+    @Benchmark
+    public void format(final Blackhole blackhole) {
+        for (int i = 0; i < prefixCount; i++) {
+            blackhole.consume(ipv6
+                    ? TRANSLATOR.toIpv6Prefix(addresses[i], lengths[i])
+                    : TRANSLATOR.toIpv4Prefix(addresses[i], lengths[i]));
+        }
+    }
+
+    private static byte[] legacyIpv4PrefixToArray(final Ipv4Prefix ipv4Prefix) {
+        byte[] retval = new byte[4];
+        String[] address = ipv4Prefix.getValue().substring(0, ipv4Prefix.getValue().indexOf('/')).split("\\.");
+
+        for (int d = 0; d < 4; d++) {
+            retval[d] = (byte) (Short.parseShort(address[d]) & 0xff);
+        }
+        return retval;
+    }
+
+    private static byte[] legacyIpv6PrefixToArray(final Ipv6Prefix ipv6Prefix) {
+        final Ipv6AddressNoZone address = new Ipv6AddressNoZone(
+                new Ipv6Address(ipv6Prefix.getValue().substring(0, ipv6Prefix.getValue().indexOf('/'))));
+        return InetAddresses.forString(address.getValue()).getAddress();
+    }
+
+    private static byte legacyExtractPrefix(final String prefix) {
+        return Integer.valueOf(prefix.substring(prefix.indexOf('/') + 1)).byteValue();
+    }
+}
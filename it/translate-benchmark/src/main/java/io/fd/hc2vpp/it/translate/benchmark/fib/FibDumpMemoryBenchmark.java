@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.translate.benchmark.fib;
+
+import io.fd.hc2vpp.fib.management.read.FibTableDumps;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.jvpp.core.dto.IpFibDetails;
+import io.fd.jvpp.core.dto.IpFibDetailsReplyDump;
+import io.fd.jvpp.core.types.FibPath;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures peak heap used while fib dump is received and cached for read transaction, and heap retained by the cached
+ * dump, with and without reducing it right after it was received.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FibDumpMemoryBenchmark {
+    private static final String CACHE_KEY = "fib-dump";
+
+    @Param( {"100000", "1000000"})
+    private int routeCount;
+
+    @Param( {"1", "10"})
+    private int tableCount;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class RetainedHeap {
+        /**
+         * Peak heap used until cached dump was stored, relative to heap used before dump was received.
+         */
+        public long peakMegabytes;
+
+        /**
+         * Heap used after cached dump was stored, relative to heap used before dump was received.
+         */
+        public long retainedMegabytes;
+
+        private long baseline;
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            baseline = usedHeapAfterGc();
+            ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+        }
+
+        void record() {
+            peakMegabytes = (peakHeap() - baseline) / (1024 * 1024);
+            retainedMegabytes = (usedHeapAfterGc() - baseline) / (1024 * 1024);
+        }
+    }
+
+    @Benchmark
+    public ModificationCache cacheFullDump(final RetainedHeap heap) {
+        final ModificationCache cache = new ModificationCache();
+        cache.put(CACHE_KEY, receiveDump());
+        heap.record();
+        return cache;
+    }
+
+    @Benchmark
+    public ModificationCache cacheTablesOnly(final RetainedHeap heap) {
+        final ModificationCache cache = new ModificationCache();
+        cache.put(CACHE_KEY, FibTableDumps.tablesOnly(receiveDump()));
+        heap.record();
+        return cache;
+    }
+
+    /**
+     * Produces dump the way jvpp does, each details with single path.
+     */
+    private IpFibDetailsReplyDump receiveDump() {
+        final List<IpFibDetails> details = new ArrayList<>(routeCount);
+        for (int i = 0; i < routeCount; i++) {
+            final IpFibDetails detail = new IpFibDetails();
+            detail.tableId = i % tableCount;
+            detail.tableName = ("table-" + detail.tableId).getBytes();
+            detail.address = new byte[] {(byte) (i >> 24), (byte) (i >> 16), (byte) (i >> 8), (byte) i};
+            detail.addressLength = 32;
+
+            final FibPath path = new FibPath();
+            path.swIfIndex = 1;
+            path.weight = 1;
+            path.nextHop = new byte[] {10, 0, 0, 1};
+            detail.path = new FibPath[] {path};
+            details.add(detail);
+        }
+
+        final IpFibDetailsReplyDump dump = new IpFibDetailsReplyDump();
+        dump.ipFibDetails = details;
+        return dump;
+    }
+
+    /**
+     * Sum of peak usages of heap pools. Pools peak at different times, so it is upper bound of the actual peak.
+     */
+    private static long peakHeap() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+    }
+
+    private static long usedHeapAfterGc() {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        memory.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
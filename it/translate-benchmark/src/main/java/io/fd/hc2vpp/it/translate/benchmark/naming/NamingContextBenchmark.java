@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.translate.benchmark.naming;
+
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.it.translate.benchmark.util.InMemoryMappingContext;
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.NamingContextKey;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.Mappings;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.MappingsBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.mappings.Mapping;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NamingContextBenchmark {
+    private static final String CONTEXT_NAME = "interface-context";
+
+    @Param( {"100", "1000", "10000", "20000"})
+    private int mappingCount;
+
+    private NamingContext namingContext;
+    private InMemoryMappingContext.Storage storage;
+    private MappingContext mappingContext;
+    private int nextIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        storage = new InMemoryMappingContext.Storage()
+            .withContainer(InstanceIdentifier.create(Contexts.class)
+                    .child(org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.NamingContext.class,
+                        new NamingContextKey(CONTEXT_NAME))
+                    .child(Mappings.class),
+                (List<Mapping> list) -> new MappingsBuilder().setMapping(list).build());
+        namingContext = new NamingContext("interface-", CONTEXT_NAME);
+
+        final MappingContext populatingContext = new InMemoryMappingContext(storage);
+        for (int i = 0; i < mappingCount; i++) {
+            namingContext.addName(i, "interface-" + i, populatingContext);
+        }
+
+        // Index of the mapping context is built by the first lookup
+        mappingContext = new InMemoryMappingContext(storage);
+        namingContext.getName(0, mappingContext);
+    }
+
+    @Benchmark
+    public String testLookup() {
+        nextIndex = (nextIndex + 1) % mappingCount;
+        return namingContext.getName(nextIndex, mappingContext);
+    }
+
+    @Benchmark
+    public int testReadAll() {
+        // New mapping context per invocation, the same way each read transaction gets one
+        final MappingContext readContext = new InMemoryMappingContext(storage);
+        int found = 0;
+        for (int i = 0; i < mappingCount; i++) {
+            if (namingContext.containsName(i, readContext)) {
+                namingContext.getName(i, readContext);
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.translate.benchmark.srv6;
+
+import io.fd.hc2vpp.common.translate.util.AddressTranslator;
+import io.fd.hc2vpp.it.translate.benchmark.util.InMemoryMappingContext;
+import io.fd.hc2vpp.srv6.Srv6PolicyIIds;
+import io.fd.hc2vpp.srv6.read.policy.request.PolicyReadRequest;
+import io.fd.hc2vpp.srv6.util.CandidatePathContextManagerImpl;
+import io.fd.hc2vpp.srv6.util.PolicyContextManagerImpl;
+import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.jvpp.core.dto.SrPoliciesDetails;
+import io.fd.jvpp.core.dto.SrPoliciesDetailsReplyDump;
+import io.fd.jvpp.core.future.FutureJVppCore;
+import io.fd.jvpp.core.types.Srv6Sid;
+import io.fd.jvpp.core.types.Srv6SidList;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.yang.gen.v1.http.cisco.com.ns.yang.oc.srte.policy.rev170918.ProvisioningMethodConfig;
+import org.opendaylight.yang.gen.v1.http.cisco.com.ns.yang.oc.srte.policy.rev170918.policies.policies.Policy;
+import org.opendaylight.yang.gen.v1.http.cisco.com.ns.yang.oc.srte.policy.rev170918.policies.policies.PolicyBuilder;
+import org.opendaylight.yang.gen.v1.http.cisco.com.ns.yang.oc.srte.policy.rev170918.policies.policies.PolicyKey;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.Srv6PolicyContextAugmentation;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.srv6.candidate.path.context.attributes.Srv6CandidatePathMappings;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.srv6.candidate.path.context.attributes.Srv6CandidatePathMappingsBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.srv6.candidate.path.context.attributes.srv6.candidate.path.mappings.Srv6CandidatePathMapping;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.srv6.policy.context.attributes.Srv6PolicyMappings;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.srv6.policy.context.attributes.Srv6PolicyMappingsBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.srv6.policy.context.attributes.srv6.policy.mappings.Srv6PolicyMapping;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6AddressNoZone;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Measures read of policyCount SRv6 policies, the way operational read of segment routing policies does it: all keys
+ * are listed first and then each policy is read separately, all within single transaction.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PolicyReadBenchmark {
+
+    @Param( {"1000", "10000", "50000"})
+    private int policyCount;
+
+    private PolicyReadRequest readRequest;
+    private InMemoryMappingContext.Storage storage;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final InstanceIdentifier<Srv6PolicyContextAugmentation> policyContextIid =
+                InstanceIdentifier.create(Contexts.class).augmentation(Srv6PolicyContextAugmentation.class);
+        storage = new InMemoryMappingContext.Storage()
+                .withContainer(policyContextIid.child(Srv6PolicyMappings.class),
+                        (List<Srv6PolicyMapping> list) -> new Srv6PolicyMappingsBuilder()
+                                .setSrv6PolicyMapping(list).build())
+                .withContainer(policyContextIid.child(Srv6CandidatePathMappings.class),
+                        (List<Srv6CandidatePathMapping> list) -> new Srv6CandidatePathMappingsBuilder()
+                                .setSrv6CandidatePathMapping(list).build());
+
+        final PolicyContextManagerImpl policyContext = new PolicyContextManagerImpl();
+        final CandidatePathContextManagerImpl candidatePathContext = new CandidatePathContextManagerImpl();
+        final MappingContext populatingContext = new InMemoryMappingContext(storage);
+        final SrPoliciesDetailsReplyDump dump = new SrPoliciesDetailsReplyDump();
+        dump.srPoliciesDetails = new ArrayList<>(policyCount);
+        for (int i = 0; i < policyCount; i++) {
+            final SrPoliciesDetails details = policyDetails(i);
+            final Ipv6AddressNoZone bsid = AddressTranslator.INSTANCE.arrayToIpv6AddressNoZone(details.bsid.addr);
+            final Ipv6AddressNoZone endpoint = AddressTranslator.INSTANCE.arrayToIpv6AddressNoZone(address(0xe, i));
+            policyContext.addPolicy(bsid.getValue(), (long) i, endpoint, bsid, populatingContext);
+            candidatePathContext.addCandidatePath(bsid, bsid.getValue(), ProvisioningMethodConfig.class, 100L,
+                    (long) i, populatingContext);
+            dump.srPoliciesDetails.add(details);
+        }
+
+        readRequest = new PolicyReadRequest(stubJVpp(dump), policyContext, candidatePathContext);
+    }
+
+    @Benchmark
+    public int testReadAll() throws ReadFailedException {
+        // New modification cache and mapping context per invocation, the same way each read transaction gets them
+        final ReadContext ctx = readContext(new ModificationCache(), new InMemoryMappingContext(storage));
+        final List<PolicyKey> keys = readRequest.readAllKeys(Srv6PolicyIIds.SR_TE_PLS_POL, ctx);
+        for (PolicyKey key : keys) {
+            readRequest.readSpecific(Srv6PolicyIIds.SR_TE_PLS.child(Policy.class, key), ctx, new PolicyBuilder());
+        }
+        return keys.size();
+    }
+
+    private static SrPoliciesDetails policyDetails(final int i) {
+        final SrPoliciesDetails details = new SrPoliciesDetails();
+        details.bsid = new Srv6Sid();
+        details.bsid.addr = address(0xa, i);
+        final Srv6Sid segment = new Srv6Sid();
+        segment.addr = address(0xb, i);
+        final Srv6SidList sidList = new Srv6SidList();
+        sidList.numSids = 1;
+        sidList.sids = new Srv6Sid[] {segment};
+        details.numSidLists = 1;
+        details.sidLists = new Srv6SidList[] {sidList};
+        details.isEncap = 1;
+        return details;
+    }
+
+    private static byte[] address(final int prefix, final int i) {
+        final byte[] address = new byte[16];
+        address[1] = (byte) prefix;
+        address[12] = (byte) (i >> 24);
+        address[13] = (byte) (i >> 16);
+        address[14] = (byte) (i >> 8);
+        address[15] = (byte) i;
+        return address;
+    }
+
+    /**
+     * Stub of {@link FutureJVppCore} replying with prepared policy dump.
+     */
+    private static FutureJVppCore stubJVpp(final SrPoliciesDetailsReplyDump dump) {
+        return (FutureJVppCore) Proxy.newProxyInstance(FutureJVppCore.class.getClassLoader(),
+                new Class<?>[] {FutureJVppCore.class},
+                (proxy, method, args) -> {
+                    if ("srPoliciesDump".equals(method.getName())) {
+                        return CompletableFuture.completedFuture(dump);
+                    }
+                    throw new UnsupportedOperationException("Unexpected call of " + method);
+                });
+    }
+
+    private static ReadContext readContext(final ModificationCache modificationCache,
+                                           final MappingContext mappingContext) {
+        return new ReadContext() {
+            @Nonnull
+            @Override
+            public ModificationCache getModificationCache() {
+                return modificationCache;
+            }
+
+            @Nonnull
+            @Override
+            public MappingContext getMappingContext() {
+                return mappingContext;
+            }
+
+            @Override
+            public void close() {
+                // NOOP
+            }
+        };
+    }
+}
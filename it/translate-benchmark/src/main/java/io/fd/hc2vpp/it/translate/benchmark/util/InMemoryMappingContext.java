@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.translate.benchmark.util;
+
+import com.google.common.base.Optional;
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Simple {@link MappingContext} keeping data in memory. Supports reads of keyed list items and of containers
+ * registered in {@link Storage}. Multiple instances can share the same storage, which simulates mapping contexts
+ * of subsequent transactions.
+ */
+public final class InMemoryMappingContext implements MappingContext {
+
+    private final Storage storage;
+
+    public InMemoryMappingContext(@Nonnull final Storage storage) {
+        this.storage = storage;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends DataObject> Optional<T> read(@Nonnull final InstanceIdentifier<T> currentId) {
+        final Container container = storage.containers.get(currentId);
+        if (container != null) {
+            // Mimics real mapping context, which materializes the whole list for container reads
+            return container.items.isEmpty()
+                ? Optional.absent()
+                : Optional.of((T) container.builder.apply(new ArrayList<>(container.items.values())));
+        }
+        return Optional.fromNullable((T) storage.items.get(currentId));
+    }
+
+    @Override
+    public void delete(final InstanceIdentifier<?> path) {
+        storage.items.remove(path);
+        storage.containerOf(path).items.remove(path);
+    }
+
+    @Override
+    public <T extends DataObject> void merge(final InstanceIdentifier<T> path, final T data) {
+        put(path, data);
+    }
+
+    @Override
+    public <T extends DataObject> void put(final InstanceIdentifier<T> path, final T data) {
+        storage.items.put(path, data);
+        storage.containerOf(path).items.put(path, data);
+    }
+
+    @Override
+    public void close() {
+        // NOOP
+    }
+
+    /**
+     * Data shared by mapping context instances.
+     */
+    public static final class Storage {
+        private final Map<InstanceIdentifier<?>, DataObject> items = new HashMap<>();
+        private final Map<InstanceIdentifier<?>, Container> containers = new HashMap<>();
+
+        /**
+         * Registers container holding keyed list.
+         *
+         * @param id      identifier of the container
+         * @param builder creates container from the list items
+         * @return this storage
+         */
+        @SuppressWarnings("unchecked")
+        public <C extends DataObject, I extends DataObject> Storage withContainer(
+            @Nonnull final InstanceIdentifier<C> id, @Nonnull final Function<List<I>, C> builder) {
+            containers.put(id, new Container(list -> builder.apply((List<I>) list)));
+            return this;
+        }
+
+        private Container containerOf(final InstanceIdentifier<?> path) {
+            return containers.entrySet().stream()
+                .filter(entry -> entry.getKey().contains(path))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No container registered for " + path));
+        }
+    }
+
+    private static final class Container {
+        private final Function<List<? extends DataObject>, DataObject> builder;
+        private final Map<InstanceIdentifier<?>, DataObject> items = new LinkedHashMap<>();
+
+        private Container(final Function<List<? extends DataObject>, DataObject> builder) {
+            this.builder = builder;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.translate.benchmark.util;
+
+import io.fd.jvpp.core.future.FutureJVppCore;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * Stub of {@link FutureJVppCore} replying to every request after fixed latency, the way VPP connected over shared
+ * memory does. Replies are default instances of respective reply types.
+ */
+public final class StubFutureJVppCore {
+
+    private StubFutureJVppCore() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated.");
+    }
+
+    /**
+     * Creates stub completing replies using given executor.
+     *
+     * @param latencyMicros delay between request and its reply
+     * @param executor      executor completing replies
+     */
+    public static FutureJVppCore create(@Nonnegative final long latencyMicros,
+                                        @Nonnull final ScheduledExecutorService executor) {
+        return (FutureJVppCore) Proxy.newProxyInstance(FutureJVppCore.class.getClassLoader(),
+                new Class<?>[] {FutureJVppCore.class},
+                (proxy, method, args) -> {
+                    if (!CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+                        // close, send and other methods not related to VPP API
+                        return method.getReturnType().equals(int.class)
+                            ? 0
+                            : null;
+                    }
+                    final Object reply = replyClass(method.getGenericReturnType()).newInstance();
+                    final CompletableFuture<Object> future = new CompletableFuture<>();
+                    executor.schedule(() -> future.complete(reply), latencyMicros, TimeUnit.MICROSECONDS);
+                    return future;
+                });
+    }
+
+    private static Class<?> replyClass(final Type completionStageType) {
+        final Type replyType = ((ParameterizedType) completionStageType).getActualTypeArguments()[0];
+        return (Class<?>) replyType;
+    }
+}
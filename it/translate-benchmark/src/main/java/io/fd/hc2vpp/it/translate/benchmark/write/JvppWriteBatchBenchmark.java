@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.translate.benchmark.write;
+
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.JvppWriteBatch;
+import io.fd.hc2vpp.it.translate.benchmark.util.StubFutureJVppCore;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.jvpp.core.dto.IpAddDelRoute;
+import io.fd.jvpp.core.future.FutureJVppCore;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Measures time needed to write requestCount routes, waiting for reply of each request before sending next one,
+ * compared to pipelining requests using {@link JvppWriteBatch}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JvppWriteBatchBenchmark implements JvppReplyConsumer {
+    private static final InstanceIdentifier<Contexts> ID = InstanceIdentifier.create(Contexts.class);
+
+    @Param( {"10000"})
+    private int requestCount;
+
+    @Param( {"1", "16", "64", "256"})
+    private int window;
+
+    @Param( {"20"})
+    private long latencyMicros;
+
+    private ScheduledExecutorService executor;
+    private FutureJVppCore api;
+    private IpAddDelRoute request;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        api = StubFutureJVppCore.create(latencyMicros, executor);
+        request = new IpAddDelRoute();
+        request.isAdd = 1;
+        request.dstAddressLength = 24;
+        request.dstAddress = new byte[] {10, 0, 0, 0};
+        request.nextHopAddress = new byte[] {10, 0, 1, 1};
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void testSequential() throws WriteFailedException {
+        for (int i = 0; i < requestCount; i++) {
+            getReplyForWrite(api.ipAddDelRoute(request).toCompletableFuture(), ID);
+        }
+    }
+
+    @Benchmark
+    public void testBatch() throws WriteFailedException {
+        final JvppWriteBatch batch = new JvppWriteBatch(window);
+        for (int i = 0; i < requestCount; i++) {
+            batch.write(() -> api.ipAddDelRoute(request), ID);
+        }
+        batch.awaitAll();
+    }
+}
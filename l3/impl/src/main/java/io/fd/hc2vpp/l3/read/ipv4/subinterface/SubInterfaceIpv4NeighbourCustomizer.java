@@ -48,7 +48,7 @@ public class SubInterfaceIpv4NeighbourCustomizer extends IpNeighbourReader
                 .withExecutor(createNeighbourDumpExecutor(futureJVppCore))
                 // cached with parent interface scope
                 .withCacheKeyFactory(subInterfaceScopedCacheKeyFactory(IpNeighborDetailsReplyDump.class))
-                .build());
+                .build(), createNeighbourDumpExecutor(futureJVppCore));
     }
 
     @Override
@@ -80,7 +80,7 @@ public class SubInterfaceIpv4NeighbourCustomizer extends IpNeighbourReader
     @Override
     public List<NeighborKey> getAllIds(InstanceIdentifier<Neighbor> id, ReadContext context)
             throws ReadFailedException {
-        return getNeighborKeys(subInterfaceNeighboursDump(id, context), keyMapper());
+        return getNeighborKeys(subInterfaceNeighboursListDump(id, context), keyMapper());
     }
 
     @Override
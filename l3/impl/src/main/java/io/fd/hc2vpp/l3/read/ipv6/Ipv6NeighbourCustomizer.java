@@ -53,7 +53,7 @@ public class Ipv6NeighbourCustomizer extends IpNeighbourReader
                 .withExecutor(createNeighbourDumpExecutor(futureJVppCore))
                 // cached with parent interface scope
                 .withCacheKeyFactory(interfaceScopedCacheKeyFactory(IpNeighborDetailsReplyDump.class))
-                .build());
+                .build(), createNeighbourDumpExecutor(futureJVppCore));
     }
 
     @Override
@@ -87,7 +87,7 @@ public class Ipv6NeighbourCustomizer extends IpNeighbourReader
     @Override
     public List<NeighborKey> getAllIds(InstanceIdentifier<Neighbor> id, ReadContext context)
             throws ReadFailedException {
-        return getNeighborKeys(interfaceNeighboursDump(id, context), keyMapper());
+        return getNeighborKeys(interfaceNeighboursListDump(id, context), keyMapper());
     }
 
     @Override
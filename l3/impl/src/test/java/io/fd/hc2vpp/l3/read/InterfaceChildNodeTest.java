@@ -126,6 +126,20 @@ public interface InterfaceChildNodeTest extends NamingContextHelper, FutureProdu
     }
 
 
+    default IpNeighborDump dumpV4NeighborsAllIfaces() {
+        IpNeighborDump request = new IpNeighborDump();
+        request.swIfIndex = ~0;
+        request.isIpv6 = 0;
+        return request;
+    }
+
+    default IpNeighborDump dumpV6NeighborsAllIfaces() {
+        IpNeighborDump request = new IpNeighborDump();
+        request.swIfIndex = ~0;
+        request.isIpv6 = 1;
+        return request;
+    }
+
     default IpNeighborDump dumpV4NeighborIfaceOne() {
         IpNeighborDump request = new IpNeighborDump();
         request.swIfIndex = IFACE_ID;
@@ -167,6 +181,11 @@ public interface InterfaceChildNodeTest extends NamingContextHelper, FutureProdu
         return fullDump;
     }
 
+    default IpNeighborDetailsReplyDump neighborsOf(final int swIfIndex, final IpNeighborDetailsReplyDump reply) {
+        reply.ipNeighborDetails.forEach(detail -> detail.neighbor.swIfIndex = swIfIndex);
+        return reply;
+    }
+
     default IpNeighborDetailsReplyDump v6Neighbors() {
         IpNeighborDetailsReplyDump fullDump = new IpNeighborDetailsReplyDump();
         fullDump.ipNeighborDetails = Arrays.asList(
@@ -17,6 +17,9 @@
 package io.fd.hc2vpp.l3.read.ipv4;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import io.fd.hc2vpp.common.test.read.ListReaderCustomizerTest;
 import io.fd.hc2vpp.l3.read.InterfaceChildNodeTest;
@@ -53,6 +56,7 @@ public class Ipv4NeighbourCustomizerTest extends ListReaderCustomizerTest<Neighb
                 .child(Neighbor.class, new NeighborKey(IPV4_ONE_ADDRESS));
         defineMapping(mappingContext, IFACE_NAME, IFACE_ID, INTERFACE_CONTEXT_NAME);
         mockNeighborDump(api, dumpV4NeighborIfaceOne(), v4Neighbors());
+        mockNeighborDump(api, dumpV4NeighborsAllIfaces(), neighborsOf(IFACE_ID, v4Neighbors()));
     }
 
     @Test
@@ -70,6 +74,33 @@ public class Ipv4NeighbourCustomizerTest extends ListReaderCustomizerTest<Neighb
         assertEquals(MAC_ONE_ADDRESS, builder.getLinkLayerAddress());
     }
 
+    @Test
+    public void testNeighboursOfAllInterfacesDumpedOnce() throws ReadFailedException {
+        defineMapping(mappingContext, IFACE_2_NAME, IFACE_2_ID, INTERFACE_CONTEXT_NAME);
+        final InstanceIdentifier<Neighbor> iface2Id = InstanceIdentifier.create(InterfacesState.class)
+                .child(Interface.class, new InterfaceKey(IFACE_2_NAME))
+                .augmentation(Interface2.class)
+                .child(Ipv4.class)
+                .child(Neighbor.class, new NeighborKey(IPV4_ONE_ADDRESS));
+
+        assertEquals(2, getCustomizer().getAllIds(instanceIdentifier, ctx).size());
+        assertTrue(getCustomizer().getAllIds(iface2Id, ctx).isEmpty());
+        final NeighborBuilder builder = new NeighborBuilder();
+        getCustomizer().readCurrentAttributes(instanceIdentifier, builder, ctx);
+
+        assertEquals(IPV4_ONE_ADDRESS, builder.getIp());
+        verify(api).ipNeighborDump(dumpV4NeighborsAllIfaces());
+        verify(api, never()).ipNeighborDump(dumpV4NeighborIfaceOne());
+    }
+
+    @Test
+    public void readCurrentDumpsSingleInterface() throws ReadFailedException {
+        getCustomizer().readCurrentAttributes(instanceIdentifier, new NeighborBuilder(), ctx);
+
+        verify(api).ipNeighborDump(dumpV4NeighborIfaceOne());
+        verify(api, never()).ipNeighborDump(dumpV4NeighborsAllIfaces());
+    }
+
     @Override
     protected ReaderCustomizer<Neighbor, NeighborBuilder> initCustomizer() {
         return new Ipv4NeighbourCustomizer(api, INTERFACE_CONTEXT);
@@ -61,6 +61,7 @@ public class SubInterfaceIpv4NeighbourCustomizerTest extends ListReaderCustomize
         defineMapping(mappingContext, IFACE_NAME, IFACE_ID, INTERFACE_CONTEXT_NAME);
         defineMapping(mappingContext, SUB_IFACE_NAME, SUB_IFACE_ID, INTERFACE_CONTEXT_NAME);
         mockNeighborDump(api, dumpV4NeighborsSubIfaceOne(), v4Neighbors());
+        mockNeighborDump(api, dumpV4NeighborsAllIfaces(), neighborsOf(SUB_IFACE_ID, v4Neighbors()));
     }
 
     @Test
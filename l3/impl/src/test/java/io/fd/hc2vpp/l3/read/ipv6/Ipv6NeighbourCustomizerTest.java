@@ -54,6 +54,7 @@ public class Ipv6NeighbourCustomizerTest extends ListReaderCustomizerTest<Neighb
                 .child(Neighbor.class, new NeighborKey(IPV6_ONE_ADDRESS_COMPRESSED));
         defineMapping(mappingContext, IFACE_NAME, IFACE_ID, INTERFACE_CONTEXT_NAME);
         mockNeighborDump(api, dumpV6NeighborsIfaceOne(), v6Neighbors());
+        mockNeighborDump(api, dumpV6NeighborsAllIfaces(), neighborsOf(IFACE_ID, v6Neighbors()));
     }
 
     @Test
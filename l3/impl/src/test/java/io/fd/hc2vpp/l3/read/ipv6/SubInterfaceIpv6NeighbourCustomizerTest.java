@@ -60,6 +60,7 @@ public class SubInterfaceIpv6NeighbourCustomizerTest extends ListReaderCustomize
         defineMapping(mappingContext, IFACE_2_NAME, IFACE_2_ID, INTERFACE_CONTEXT_NAME);
         defineMapping(mappingContext, SUB_IFACE_2_NAME, SUB_IFACE_2_ID, INTERFACE_CONTEXT_NAME);
         mockNeighborDump(api, dumpV6NeighborsSubIfaceTwo(), v6Neighbors());
+        mockNeighborDump(api, dumpV6NeighborsAllIfaces(), neighborsOf(SUB_IFACE_2_ID, v6Neighbors()));
     }
 
     @Test
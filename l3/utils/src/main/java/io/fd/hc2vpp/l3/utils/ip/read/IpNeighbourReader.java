@@ -23,6 +23,7 @@ import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.v3po.util.SubInterfaceUtils;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
@@ -32,42 +33,148 @@ import io.fd.jvpp.core.dto.IpNeighborDetailsReplyDump;
 import io.fd.jvpp.core.dto.IpNeighborDump;
 import io.fd.jvpp.core.future.FutureJVppCore;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.vlan.rev180319.interfaces.state._interface.sub.interfaces.SubInterface;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.interfaces.state.Interface;
 import org.opendaylight.yangtools.yang.binding.Identifier;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Provides logic for reading ip neighbours
  */
 public abstract class IpNeighbourReader extends IpReader {
 
+    private static final Logger LOG = LoggerFactory.getLogger(IpNeighbourReader.class);
+
+    /**
+     * Interface index used in neighbour dump to request neighbours of all interfaces
+     */
+    private static final int ALL_INTERFACES = ~0;
+
     private final DumpCacheManager<IpNeighborDetailsReplyDump, IfaceDumpFilter> dumpCacheManager;
+    private final EntityDumpExecutor<IpNeighborDetailsReplyDump, IfaceDumpFilter> bulkDumpExecutor;
+
+    // neighbours grouped by interface must be cached, to be shared by all readers of the same address family
+    // and destroyed after transaction
+    private final String byInterfaceIndexKey;
 
     protected IpNeighbourReader(@Nonnull final NamingContext interfaceContext, boolean isIpv6,
                                 @Nonnull final DumpCacheManager<IpNeighborDetailsReplyDump, IfaceDumpFilter> dumpCacheManager) {
+        this(interfaceContext, isIpv6, dumpCacheManager, null);
+    }
+
+    /**
+     * @param bulkDumpExecutor if present, neighbours of all interfaces are dumped by single request on first read
+     *                         of neighbour list and all subsequent reads within transaction are served from that
+     *                         dump. Otherwise, neighbours are always dumped per interface
+     */
+    protected IpNeighbourReader(@Nonnull final NamingContext interfaceContext, boolean isIpv6,
+                                @Nonnull final DumpCacheManager<IpNeighborDetailsReplyDump, IfaceDumpFilter> dumpCacheManager,
+                                @Nullable final EntityDumpExecutor<IpNeighborDetailsReplyDump, IfaceDumpFilter> bulkDumpExecutor) {
         super(interfaceContext, isIpv6);
         this.dumpCacheManager = dumpCacheManager;
+        this.bulkDumpExecutor = bulkDumpExecutor;
+        this.byInterfaceIndexKey = IpNeighbourReader.class.getName() + (isIpv6
+                ? "_ipv6"
+                : "_ipv4") + "_byInterfaceIndex";
     }
 
+    /**
+     * Neighbours of interface, for read of single neighbour. Neighbours of all interfaces are used if they were
+     * already dumped within transaction, otherwise only neighbours of this interface are dumped.
+     */
     @Nonnull
     protected Optional<IpNeighborDetailsReplyDump> interfaceNeighboursDump(@Nonnull final InstanceIdentifier<?> id,
                                                                            @Nonnull final ReadContext context) throws ReadFailedException {
-        return dumpCacheManager.getDump(id, context.getModificationCache(), new IfaceDumpFilter(getInterfaceContext()
-                .getIndex(id.firstKeyOf(Interface.class).getName(), context.getMappingContext()), isIpv6()));
+        return neighboursDump(id, context, interfaceIndex(id, context), false);
+    }
+
+    /**
+     * Neighbours of interface, for read of neighbour list. Dumps neighbours of all interfaces if enabled.
+     */
+    @Nonnull
+    protected Optional<IpNeighborDetailsReplyDump> interfaceNeighboursListDump(@Nonnull final InstanceIdentifier<?> id,
+                                                                               @Nonnull final ReadContext context) throws ReadFailedException {
+        return neighboursDump(id, context, interfaceIndex(id, context), true);
     }
 
+    /**
+     * Neighbours of sub-interface, for read of single neighbour.
+     *
+     * @see #interfaceNeighboursDump(InstanceIdentifier, ReadContext)
+     */
     @Nonnull
     protected Optional<IpNeighborDetailsReplyDump> subInterfaceNeighboursDump(@Nonnull final InstanceIdentifier<?> id,
                                                                               @Nonnull final ReadContext context) throws ReadFailedException {
+        return neighboursDump(id, context, subInterfaceIndex(id, context), false);
+    }
+
+    /**
+     * Neighbours of sub-interface, for read of neighbour list.
+     *
+     * @see #interfaceNeighboursListDump(InstanceIdentifier, ReadContext)
+     */
+    @Nonnull
+    protected Optional<IpNeighborDetailsReplyDump> subInterfaceNeighboursListDump(@Nonnull final InstanceIdentifier<?> id,
+                                                                                  @Nonnull final ReadContext context) throws ReadFailedException {
+        return neighboursDump(id, context, subInterfaceIndex(id, context), true);
+    }
+
+    private int interfaceIndex(@Nonnull final InstanceIdentifier<?> id, @Nonnull final ReadContext context) {
+        return getInterfaceContext().getIndex(id.firstKeyOf(Interface.class).getName(), context.getMappingContext());
+    }
+
+    private int subInterfaceIndex(@Nonnull final InstanceIdentifier<?> id, @Nonnull final ReadContext context) {
         final String subInterfaceName = SubInterfaceUtils.getSubInterfaceName(id.firstKeyOf(Interface.class).getName(),
                 id.firstKeyOf(SubInterface.class).getIdentifier().intValue());
-        return dumpCacheManager.getDump(id, context.getModificationCache(), new IfaceDumpFilter(getInterfaceContext()
-                .getIndex(subInterfaceName, context.getMappingContext()), isIpv6()));
+        return getInterfaceContext().getIndex(subInterfaceName, context.getMappingContext());
+    }
+
+    private Optional<IpNeighborDetailsReplyDump> neighboursDump(@Nonnull final InstanceIdentifier<?> id,
+                                                                @Nonnull final ReadContext context,
+                                                                final int interfaceIndex,
+                                                                final boolean listRead) throws ReadFailedException {
+        final ModificationCache cache = context.getModificationCache();
+        @SuppressWarnings("unchecked")
+        Map<Integer, IpNeighborDetailsReplyDump> byInterfaceIndex =
+                (Map<Integer, IpNeighborDetailsReplyDump>) cache.get(byInterfaceIndexKey);
+
+        if (byInterfaceIndex == null && listRead && bulkDumpExecutor != null) {
+            byInterfaceIndex = dumpAllInterfaces(id);
+            cache.put(byInterfaceIndexKey, byInterfaceIndex);
+        }
+
+        if (byInterfaceIndex != null) {
+            final IpNeighborDetailsReplyDump neighbours = byInterfaceIndex.get(interfaceIndex);
+            return Optional.of(neighbours != null
+                    ? neighbours
+                    : new IpNeighborDetailsReplyDump());
+        }
+        return dumpCacheManager.getDump(id, cache, new IfaceDumpFilter(interfaceIndex, isIpv6()));
+    }
+
+    private Map<Integer, IpNeighborDetailsReplyDump> dumpAllInterfaces(@Nonnull final InstanceIdentifier<?> id)
+            throws ReadFailedException {
+        LOG.debug("Dumping neighbours of all interfaces[{}]", id);
+        final IpNeighborDetailsReplyDump reply =
+                bulkDumpExecutor.executeDump(id, new IfaceDumpFilter(ALL_INTERFACES, isIpv6()));
+
+        final Map<Integer, IpNeighborDetailsReplyDump> byInterfaceIndex = new HashMap<>();
+        if (reply != null && reply.ipNeighborDetails != null) {
+            for (final IpNeighborDetails detail : reply.ipNeighborDetails) {
+                byInterfaceIndex.computeIfAbsent(detail.neighbor.swIfIndex, index -> new IpNeighborDetailsReplyDump())
+                        .ipNeighborDetails.add(detail);
+            }
+        }
+        return byInterfaceIndex;
     }
 
     @Nonnull
@@ -20,9 +20,11 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.base.Optional;
+import io.fd.hc2vpp.common.translate.util.MappingContextIndexes;
 import io.fd.honeycomb.translate.MappingContext;
-import io.fd.honeycomb.translate.util.RWUtils;
-import java.util.stream.Collector;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.HashMap;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.adjacencies.identification.context.rev160801.AdjacenciesIdentificationCtxAugmentation;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.adjacencies.identification.context.rev160801.adjacencies.identification.context.attributes.AdjacenciesIdentificationContexts;
@@ -41,11 +43,11 @@ import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 
 public class AdjacenciesMappingContext {
 
-    private static final Collector<Mapping, ?, Mapping> SINGLE_ITEM_COLLECTOR = RWUtils.singleItemCollector();
-
     private final KeyedInstanceIdentifier<AdjacenciesIdentification, AdjacenciesIdentificationKey>
             namingContextIid;
 
+    private final MappingContextIndexes<AdjacencyIndex> indexes = new MappingContextIndexes<>(this::loadIndex);
+
     /**
      * Create new naming context
      *
@@ -71,13 +73,10 @@ public class AdjacenciesMappingContext {
             @Nonnull final String localEidId,
             @Nonnull final String remoteEidId,
             @Nonnull final MappingContext mappingContext) {
-
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
-        checkState(read.isPresent(), "No adjacencies mappings stored");
-
-        return read.get().getMapping().stream()
-                .filter(mapping -> isSame(pairForCombination(localEidId, remoteEidId), mapping))
-                .collect(SINGLE_ITEM_COLLECTOR).getId();
+        final String id = findId(localEidId, remoteEidId, mappingContext);
+        checkState(id != null, "No adjacency mapping stored for local eid %s and remote eid %s", localEidId,
+                remoteEidId);
+        return id;
     }
 
     private boolean isSame(final EidIdentificatorPair currentPair, final Mapping mapping) {
@@ -107,12 +106,36 @@ public class AdjacenciesMappingContext {
             @Nonnull final String localEidId,
             @Nonnull final String remoteEidId,
             @Nonnull final MappingContext mappingContext) {
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
+        return findId(localEidId, remoteEidId, mappingContext) != null;
+    }
+
+    private String findId(@Nonnull final String localEidId, @Nonnull final String remoteEidId,
+                          @Nonnull final MappingContext mappingContext) {
+        final Map.Entry<String, String> pair = new SimpleImmutableEntry<>(localEidId, remoteEidId);
+        final String id = indexes.get(mappingContext).idsByPair.get(pair);
+        if (id == null || isMapped(id, pairForCombination(localEidId, remoteEidId), mappingContext)) {
+            return id;
+        }
+        // mapping was removed or modified bypassing this context, index needs to be reloaded
+        return indexes.reload(mappingContext).idsByPair.get(pair);
+    }
+
+    private boolean isMapped(@Nonnull final String id, @Nonnull final EidIdentificatorPair pair,
+                             @Nonnull final MappingContext mappingContext) {
+        final Optional<Mapping> read = mappingContext.read(getMappingIid(id));
+        return read.isPresent() && isSame(pair, read.get());
+    }
 
-        return read.isPresent() &&
-                read.get().getMapping()
-                        .stream()
-                        .anyMatch(mapping -> isSame(pairForCombination(localEidId, remoteEidId), mapping));
+    /**
+     * Reads all mappings and indexes them by eid pair.
+     */
+    private AdjacencyIndex loadIndex(@Nonnull final MappingContext mappingContext) {
+        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
+        final AdjacencyIndex index = new AdjacencyIndex();
+        if (read.isPresent() && read.get().getMapping() != null) {
+            read.get().getMapping().forEach(mapping -> index.put(mapping.getId(), mapping.getEidIdentificatorPair()));
+        }
+        return index;
     }
 
     /**
@@ -130,8 +153,13 @@ public class AdjacenciesMappingContext {
             final MappingContext mappingContext) {
 
         final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(index);
-        mappingContext.put(mappingIid, new MappingBuilder().setId(index).setEidIdentificatorPair(
-                pairForCombination(localEidId, remoteEidId)).build());
+        final EidIdentificatorPair pair = pairForCombination(localEidId, remoteEidId);
+        mappingContext.put(mappingIid, new MappingBuilder().setId(index).setEidIdentificatorPair(pair).build());
+
+        final AdjacencyIndex adjacencyIndex = indexes.getIfPresent(mappingContext);
+        if (adjacencyIndex != null) {
+            adjacencyIndex.put(index, pair);
+        }
     }
 
     private KeyedInstanceIdentifier<Mapping, MappingKey> getMappingIid(final String index) {
@@ -147,6 +175,11 @@ public class AdjacenciesMappingContext {
      */
     public synchronized void removeForIndex(@Nonnull final String index, final MappingContext mappingContext) {
         mappingContext.delete(getMappingIid(index));
+
+        final AdjacencyIndex adjacencyIndex = indexes.getIfPresent(mappingContext);
+        if (adjacencyIndex != null) {
+            adjacencyIndex.remove(index);
+        }
     }
 
     /**
@@ -175,4 +208,27 @@ public class AdjacenciesMappingContext {
                                                         @Nonnull final MappingContext mappingContext) {
         return mappingContext.read(getMappingIid(index)).isPresent();
     }
+
+    /**
+     * Eid pair to adjacency id view of mappings stored in single mapping context.
+     */
+    private static final class AdjacencyIndex {
+        private final Map<Map.Entry<String, String>, String> idsByPair = new HashMap<>();
+        private final Map<String, Map.Entry<String, String>> pairsById = new HashMap<>();
+
+        private void put(final String id, final EidIdentificatorPair pair) {
+            remove(id);
+            final Map.Entry<String, String> key =
+                    new SimpleImmutableEntry<>(pair.getLocalEidId().getValue(), pair.getRemoteEidId().getValue());
+            idsByPair.putIfAbsent(key, id);
+            pairsById.put(id, key);
+        }
+
+        private void remove(final String id) {
+            final Map.Entry<String, String> key = pairsById.remove(id);
+            if (key != null) {
+                idsByPair.remove(key, id);
+            }
+        }
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.lisp.context.util;
+
+import static io.fd.hc2vpp.lisp.translate.read.dump.executor.params.MappingsDumpParams.EidType;
+
+import io.fd.hc2vpp.lisp.translate.util.EidTranslator;
+import java.util.Arrays;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.InstanceIdType;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.LispAddress;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv6;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv6Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Mac;
+
+/**
+ * Normalized form of eid address within virtual network. Addresses are equal if
+ * {@link EidTranslator#compareAddresses(Address, Address)} considers them same, prefix based addresses are normalized
+ * to address of their subnet.
+ */
+public final class EidKey {
+
+    private final EidType type;
+    private final byte[] address;
+    private final int prefixLength;
+    private final Long vni;
+
+    private EidKey(final EidType type, final byte[] address, final int prefixLength, @Nullable final Long vni) {
+        this.type = type;
+        this.address = address;
+        this.prefixLength = prefixLength;
+        this.vni = vni;
+    }
+
+    /**
+     * @return key of provided eid, or null if address of such type can't be mapped
+     */
+    @Nullable
+    public static EidKey of(@Nonnull final LispAddress eid, @Nonnull final EidTranslator translator) {
+        final InstanceIdType vni = eid.getVirtualNetworkId();
+        return of(eid.getAddress(), vni == null
+            ? null
+            : vni.getValue(), translator);
+    }
+
+    /**
+     * @return key of provided address within virtual network, or null if address of such type can't be mapped
+     */
+    @Nullable
+    public static EidKey of(@Nonnull final Address address, @Nullable final Long vni,
+                            @Nonnull final EidTranslator translator) {
+        if (address instanceof Ipv4 || address instanceof Ipv6 || address instanceof Mac) {
+            final EidType type = EidTranslator.resolveType(address);
+            return new EidKey(type, translator.resolveByteArray(type, address), -1, vni);
+        } else if (address instanceof Ipv4Prefix || address instanceof Ipv6Prefix) {
+            final EidType type = EidTranslator.resolveType(address);
+            final Address normalized = translator.normalizeIfPrefixBased(address);
+            final String prefix = address instanceof Ipv4Prefix
+                ? ((Ipv4Prefix) normalized).getIpv4Prefix().getValue()
+                : ((Ipv6Prefix) normalized).getIpv6Prefix().getValue();
+            return new EidKey(type, translator.resolveByteArray(type, normalized),
+                    Integer.parseInt(EidTranslator.getPrefixParts(prefix)[1]), vni);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final EidKey that = (EidKey) o;
+        return prefixLength == that.prefixLength && type == that.type && Objects.equals(vni, that.vni)
+                && Arrays.equals(address, that.address);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(type, prefixLength, vni) + Arrays.hashCode(address);
+    }
+
+    @Override
+    public String toString() {
+        return "EidKey{type=" + type + ", address=" + Arrays.toString(address) + ", prefixLength=" + prefixLength
+                + ", vni=" + vni + '}';
+    }
+}
@@ -19,11 +19,17 @@ package io.fd.hc2vpp.lisp.context.util;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.base.Optional;
+import io.fd.hc2vpp.common.translate.util.MappingContextIndexes;
 import io.fd.hc2vpp.lisp.translate.util.EidTranslator;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.util.RWUtils;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collector;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.eid.mapping.context.rev160801.Contexts;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.eid.mapping.context.rev160801.contexts.EidMappingContextKey;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.Mappings;
@@ -33,6 +39,7 @@ import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.eid.mapping.context.r
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.mapping.Eid;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.mapping.EidBuilder;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.MappingId;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.LispAddress;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 
@@ -41,12 +48,14 @@ import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
  */
 public class EidMappingContext implements EidTranslator {
 
-    private static final Collector<Mapping, ?, Mapping> SINGLE_ITEM_COLLECTOR = RWUtils.singleItemCollector();
+    private static final Collector<MappingId, ?, MappingId> SINGLE_ITEM_COLLECTOR = RWUtils.singleItemCollector();
 
     private final KeyedInstanceIdentifier<org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.eid.mapping.context.rev160801.contexts.EidMappingContext, EidMappingContextKey>
             namingContextIid;
     private final String artificialPrefix;
 
+    private final MappingContextIndexes<EidIndex> indexes = new MappingContextIndexes<>(this::loadIndex);
+
     /**
      * Create new naming context
      *
@@ -70,25 +79,16 @@ public class EidMappingContext implements EidTranslator {
     public synchronized MappingId getId(
             @Nonnull final org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.remote.mappings.remote.mapping.Eid remoteEid,
             @Nonnull final MappingContext mappingContext) {
-
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
         // create artificial mapping if no mapping present or does not contain key
-        // !read.isPresent() - no mappings are present,
-        // for example after restart and clean of persistence
-        // !containsId() - can happen with case described above after first mapping is
-        // created or if trying to find mapping for some eid that was created by vpp as
-        // byproduct of other call, or while trying to find mapping for default data
-        if (!read.isPresent() || !containsId(remoteEid, mappingContext)) {
+        // can happen after restart and clean of persistence, or if trying to find mapping for some eid
+        // that was created by vpp as byproduct of other call, or while trying to find mapping for default data
+        final MappingId id = findId(remoteEid, mappingContext);
+        if (id == null) {
             final MappingId artificialMappingId = getMappingId(remoteEid.toString(), artificialPrefix);
             addEid(artificialMappingId, remoteEid, mappingContext);
             return artificialMappingId;
         }
-
-        return read.get().getMapping()
-                .stream()
-                //cannot split to map + filtering,because its collecting mappings,not eid's
-                .filter(mapping -> compareEids(mapping.getEid(), remoteEid))
-                .collect(SINGLE_ITEM_COLLECTOR).getId();
+        return id;
     }
 
     private static MappingId getMappingId(final String eidValue, final String artificialPrefix) {
@@ -106,23 +106,14 @@ public class EidMappingContext implements EidTranslator {
     public synchronized MappingId getId(
             @Nonnull final org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.local.mappings.local.mapping.Eid eid,
             @Nonnull final MappingContext mappingContext) {
-
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
-        // create artificial mapping if no mapping present or does not contain key
-        // !read.isPresent() - no mappings are present,
-        // for example after restart and clean of persistence
-        // !containsId() - can happen with case described above after first mapping is
-        // created or if trying to find mapping for some eid that was created by vpp as
-        // byproduct of other call, or while trying to find mapping for default data
-        if (!read.isPresent() || !containsId(eid, mappingContext)) {
+        // same as for remote eid
+        final MappingId id = findId(eid, mappingContext);
+        if (id == null) {
             final MappingId artificialMappingId = getMappingId(eid.toString(), artificialPrefix);
             addEid(artificialMappingId, eid, mappingContext);
             return artificialMappingId;
         }
-
-        return read.get().getMapping().stream()
-                .filter(mapping -> compareEids(mapping.getEid(), eid))
-                .collect(SINGLE_ITEM_COLLECTOR).getId();
+        return id;
     }
 
     /**
@@ -135,12 +126,7 @@ public class EidMappingContext implements EidTranslator {
     public synchronized boolean containsId(
             @Nonnull final org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.local.mappings.local.mapping.Eid eid,
             @Nonnull final MappingContext mappingContext) {
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
-
-        return read.isPresent() &&
-                read.get().getMapping()
-                        .stream()
-                        .anyMatch(mapping -> compareEids(mapping.getEid(), eid));
+        return findId(eid, mappingContext) != null;
     }
 
     /**
@@ -153,14 +139,42 @@ public class EidMappingContext implements EidTranslator {
     public synchronized boolean containsId(
             @Nonnull final org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.remote.mappings.remote.mapping.Eid eid,
             @Nonnull final MappingContext mappingContext) {
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
+        return findId(eid, mappingContext) != null;
+    }
 
-        return read.isPresent() &&
-                read.get().getMapping()
-                        .stream()
-                        .anyMatch(mapping -> compareEids(mapping.getEid(), eid));
+    @Nullable
+    private MappingId findId(@Nonnull final LispAddress eid, @Nonnull final MappingContext mappingContext) {
+        final EidKey key = EidKey.of(eid, this);
+        if (key == null) {
+            // such eids are not considered same as any other
+            return null;
+        }
+
+        final MappingId id = indexes.get(mappingContext).find(key);
+        if (id == null || isMapped(id, key, mappingContext)) {
+            return id;
+        }
+        // mapping was removed or modified bypassing this context, index needs to be reloaded
+        return indexes.reload(mappingContext).find(key);
     }
 
+    private boolean isMapped(@Nonnull final MappingId id, @Nonnull final EidKey key,
+                             @Nonnull final MappingContext mappingContext) {
+        final Optional<Mapping> read = mappingContext.read(getMappingIid(id));
+        return read.isPresent() && key.equals(EidKey.of(read.get().getEid(), this));
+    }
+
+    /**
+     * Reads all mappings and indexes them by eid.
+     */
+    private EidIndex loadIndex(@Nonnull final MappingContext mappingContext) {
+        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
+        final EidIndex index = new EidIndex();
+        if (read.isPresent() && read.get().getMapping() != null) {
+            read.get().getMapping().forEach(mapping -> index.put(mapping.getId(), EidKey.of(mapping.getEid(), this)));
+        }
+        return index;
+    }
 
     /**
      * Add mapping to current context
@@ -174,8 +188,7 @@ public class EidMappingContext implements EidTranslator {
             @Nonnull final org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.local.mappings.local.mapping.Eid eid,
             final MappingContext mappingContext) {
 
-        final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(index);
-        mappingContext.put(mappingIid, new MappingBuilder().setId(index).setEid(copyEid(eid)).build());
+        putMapping(index, copyEid(eid), mappingContext);
     }
 
     /**
@@ -190,8 +203,16 @@ public class EidMappingContext implements EidTranslator {
             @Nonnull final org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.remote.mappings.remote.mapping.Eid eid,
             final MappingContext mappingContext) {
 
-        final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(index);
-        mappingContext.put(mappingIid, new MappingBuilder().setId(index).setEid(copyEid(eid)).build());
+        putMapping(index, copyEid(eid), mappingContext);
+    }
+
+    private void putMapping(final MappingId index, final Eid eid, final MappingContext mappingContext) {
+        mappingContext.put(getMappingIid(index), new MappingBuilder().setId(index).setEid(eid).build());
+
+        final EidIndex eidIndex = indexes.getIfPresent(mappingContext);
+        if (eidIndex != null) {
+            eidIndex.put(index, EidKey.of(eid, this));
+        }
     }
 
     private KeyedInstanceIdentifier<Mapping, MappingKey> getMappingIid(final MappingId index) {
@@ -218,6 +239,11 @@ public class EidMappingContext implements EidTranslator {
      */
     public synchronized void removeEid(@Nonnull final MappingId index, final MappingContext mappingContext) {
         mappingContext.delete(getMappingIid(index));
+
+        final EidIndex eidIndex = indexes.getIfPresent(mappingContext);
+        if (eidIndex != null) {
+            eidIndex.remove(index);
+        }
     }
 
     /**
@@ -245,4 +271,39 @@ public class EidMappingContext implements EidTranslator {
                                             @Nonnull final MappingContext mappingContext) {
         return mappingContext.read(getMappingIid(index)).isPresent();
     }
+
+    /**
+     * Eid to mapping id view of mappings stored in single mapping context.
+     */
+    private static final class EidIndex {
+        private final Map<EidKey, Set<MappingId>> idsByKey = new HashMap<>();
+        private final Map<MappingId, EidKey> keysById = new HashMap<>();
+
+        private void put(final MappingId id, @Nullable final EidKey key) {
+            remove(id);
+            if (key != null) {
+                idsByKey.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(id);
+                keysById.put(id, key);
+            }
+        }
+
+        private void remove(final MappingId id) {
+            final EidKey key = keysById.remove(id);
+            if (key != null) {
+                final Set<MappingId> ids = idsByKey.get(key);
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    idsByKey.remove(key);
+                }
+            }
+        }
+
+        @Nullable
+        private MappingId find(final EidKey key) {
+            final Set<MappingId> ids = idsByKey.get(key);
+            return ids == null
+                ? null
+                : ids.stream().collect(SINGLE_ITEM_COLLECTOR);
+        }
+    }
 }
@@ -28,6 +28,7 @@ import io.fd.hc2vpp.common.translate.util.AddressTranslator;
 import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.lisp.context.util.EidKey;
 import io.fd.hc2vpp.lisp.context.util.EidMappingContext;
 import io.fd.hc2vpp.lisp.translate.read.dump.executor.params.LocatorDumpParams;
 import io.fd.hc2vpp.lisp.translate.read.dump.executor.params.LocatorDumpParams.LocatorDumpParamsBuilder;
@@ -45,6 +46,7 @@ import io.fd.honeycomb.translate.spi.read.Initialized;
 import io.fd.honeycomb.translate.spi.read.InitializingListReaderCustomizer;
 import io.fd.honeycomb.translate.util.RWUtils;
 import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.StaticCacheKeyFactory;
 import io.fd.honeycomb.translate.util.read.cache.TypeAwareIdentifierCacheKeyFactory;
 import io.fd.jvpp.core.dto.OneEidTableDetails;
 import io.fd.jvpp.core.dto.OneEidTableDetailsReplyDump;
@@ -52,11 +54,16 @@ import io.fd.jvpp.core.dto.OneLocatorDetails;
 import io.fd.jvpp.core.dto.OneLocatorDetailsReplyDump;
 import io.fd.jvpp.core.future.FutureJVppCore;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.MapReplyAction;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.MappingId;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.RemoteMappings;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.RemoteMappingsBuilder;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.remote.mappings.RemoteMapping;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.remote.mappings.RemoteMappingBuilder;
@@ -83,7 +90,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Customizer for reading {@code RemoteMapping}.
+ * Customizer for reading {@code RemoteMapping}.<br>
+ * Remote mappings of all vni's are dumped once per transaction and partitioned by normalized eid for each
+ * remote mappings table, so reading of particular mapping does not require additional dump request.
  */
 public class RemoteMappingCustomizer extends FutureJVppCustomizer
         implements InitializingListReaderCustomizer<RemoteMapping, RemoteMappingKey, RemoteMappingBuilder>,
@@ -91,7 +100,11 @@ public class RemoteMappingCustomizer extends FutureJVppCustomizer
 
     private static final Logger LOG = LoggerFactory.getLogger(RemoteMappingCustomizer.class);
 
+    private static final String REMOTE_TABLE_CACHE_KEY = RemoteMappingCustomizer.class.getName() + "_remoteTable";
+    private static final String PARTITION_CACHE_KEY = RemoteMappingCustomizer.class.getName() + "_partition_";
+
     private final DumpCacheManager<OneEidTableDetailsReplyDump, MappingsDumpParams> dumpManager;
+    private final DumpCacheManager<OneEidTableDetailsReplyDump, MappingsDumpParams> remoteTableDumpManager;
     private final DumpCacheManager<OneLocatorDetailsReplyDump, LocatorDumpParams> locatorsDumpManager;
     private final NamingContext locatorSetContext;
     private final EidMappingContext remoteMappingContext;
@@ -109,6 +122,16 @@ public class RemoteMappingCustomizer extends FutureJVppCustomizer
                         .acceptOnly(OneEidTableDetailsReplyDump.class)
                         .build();
 
+        // dump of all remote mappings does not depend on vni or subtable, so it can be shared
+        // by customizers of both vrf and bridge domain subtables
+        this.remoteTableDumpManager =
+                new DumpCacheManager.DumpCacheManagerBuilder<OneEidTableDetailsReplyDump, MappingsDumpParams>()
+                        .withExecutor(createMappingDumpExecutor(futureJvpp))
+                        .acceptOnly(OneEidTableDetailsReplyDump.class)
+                        .withCacheKeyFactory(
+                                new StaticCacheKeyFactory(REMOTE_TABLE_CACHE_KEY, OneEidTableDetailsReplyDump.class))
+                        .build();
+
         // cache key needs to have locator set scope to not mix with cached data
         this.locatorsDumpManager =
                 new DumpCacheManager.DumpCacheManagerBuilder<OneLocatorDetailsReplyDump, LocatorDumpParams>()
@@ -147,34 +170,23 @@ public class RemoteMappingCustomizer extends FutureJVppCustomizer
         checkState(remoteMappingContext.containsEid(mappingId, ctx.getMappingContext()),
                 "No mapping stored for id %s", mappingId);
 
-        final long vni = id.firstKeyOf(VniTable.class).getVirtualNetworkIdentifier();
+        final int vni = id.firstKeyOf(VniTable.class).getVirtualNetworkIdentifier().intValue();
         final Eid eid = copyEid(remoteMappingContext.getEid(mappingId, ctx.getMappingContext()));
-        final MappingsDumpParams dumpParams = new MappingsDumpParamsBuilder()
-                .setVni((int) vni)
-                .setEidSet(QuantityType.SPECIFIC)
-                .setEidType(getEidType(eid))
-                .setEid(getEidAsByteArray(eid))
-                .setPrefixLength(getPrefixLength(eid))
-                .setFilter(FilterType.REMOTE)
-                .build();
+        final EidKey eidKey = EidKey.of(eid.getAddress(), (long) vni, this);
 
-        LOG.debug("Dumping data for LocalMappings(id={})", id);
-        final Optional<OneEidTableDetailsReplyDump> replyOptional =
-                dumpManager.getDump(id, ctx.getModificationCache(), dumpParams);
+        final OneEidTableDetails details;
+        if (eidKey != null) {
+            details = getRemoteTablePartition(id, vni, ctx.getModificationCache()).get(eidKey);
+        } else {
+            // eid types without normalized form are still resolved by vpp
+            details = dumpSpecificMapping(id, eid, vni, ctx.getModificationCache());
+        }
 
-        if (!replyOptional.isPresent() || replyOptional.get().oneEidTableDetails.isEmpty()) {
+        if (details == null) {
+            LOG.debug("No remote mapping found for id {}", id);
             return;
         }
 
-        LOG.debug("Valid dump loaded");
-
-        OneEidTableDetails details = replyOptional.get().oneEidTableDetails.stream()
-                .filter(subtableFilterForRemoteMappings(id))
-                .filter(a -> compareAddresses(eid.getAddress(),
-                        getArrayAsEidLocal(valueOf(a.eidType), a.eid, a.eidPrefixLen, a.vni).getAddress()))
-                .collect(
-                        RWUtils.singleItemCollector());
-
         builder.setEid(getArrayAsEidRemote(valueOf(details.eidType), details.eid, details.eidPrefixLen, details.vni));
         builder.withKey(new RemoteMappingKey(new MappingId(id.firstKeyOf(RemoteMapping.class).getId())));
         builder.setTtl(resolveTtl(details.ttl));
@@ -197,31 +209,94 @@ public class RemoteMappingCustomizer extends FutureJVppCustomizer
             return Collections.emptyList();
         }
 
-        //requesting all remote with specific vni
+        return dumpRemoteTable(id, context.getModificationCache())
+                .stream()
+                .filter(a -> a.vni == vni)
+                .filter(subtableFilterForRemoteMappings(id))
+                .map(detail ->
+                    getArrayAsEidRemote(valueOf(detail.eidType), detail.eid, detail.eidPrefixLen, detail.vni))
+                .map(remoteEid -> remoteMappingContext.getId(remoteEid, context.getMappingContext()))
+                .map(MappingId::new)
+                .map(RemoteMappingKey::new)
+                .collect(Collectors.toList());
+    }
+
+    private List<OneEidTableDetails> dumpRemoteTable(final InstanceIdentifier<RemoteMapping> id,
+                                                     final ModificationCache cache) throws ReadFailedException {
+        //requesting all remote mappings, filtering of vni is done on our side
         final MappingsDumpParams dumpParams = new MappingsDumpParamsBuilder()
                 .setEidSet(QuantityType.ALL)
                 .setFilter(FilterType.REMOTE)
                 .build();
 
-        LOG.debug("Dumping data for LocalMappings(id={})", id);
+        LOG.debug("Dumping data for RemoteMappings(id={})", id);
         final Optional<OneEidTableDetailsReplyDump> replyOptional =
-                dumpManager.getDump(id, context.getModificationCache(), dumpParams);
+                remoteTableDumpManager.getDump(id, cache, dumpParams);
 
-        if (!replyOptional.isPresent() || replyOptional.get().oneEidTableDetails.isEmpty()) {
+        if (!replyOptional.isPresent() || replyOptional.get().oneEidTableDetails == null) {
             return Collections.emptyList();
         }
+        return replyOptional.get().oneEidTableDetails;
+    }
 
-        return replyOptional.get()
-                .oneEidTableDetails
-                .stream()
-                .filter(a -> a.vni == vni)
+    /**
+     * Returns remote mappings of table that provided id belongs to, keyed by normalized eid. Partition is created
+     * on first access within transaction and stored in modification cache.
+     */
+    private Map<EidKey, OneEidTableDetails> getRemoteTablePartition(final InstanceIdentifier<RemoteMapping> id,
+                                                                    final int vni,
+                                                                    final ModificationCache cache)
+            throws ReadFailedException {
+        final String partitionKey = PARTITION_CACHE_KEY + id.firstIdentifierOf(RemoteMappings.class);
+
+        @SuppressWarnings("unchecked")
+        Map<EidKey, OneEidTableDetails> partition = (Map<EidKey, OneEidTableDetails>) cache.get(partitionKey);
+        if (partition != null) {
+            return partition;
+        }
+
+        partition = new HashMap<>();
+        final Predicate<OneEidTableDetails> subtableFilter = subtableFilterForRemoteMappings(id);
+        for (final OneEidTableDetails detail : dumpRemoteTable(id, cache)) {
+            if (detail.vni != vni || !subtableFilter.test(detail)) {
+                continue;
+            }
+            final EidKey key = EidKey.of(
+                    getArrayAsEidRemote(valueOf(detail.eidType), detail.eid, detail.eidPrefixLen, detail.vni)
+                            .getAddress(), (long) vni, this);
+            if (key != null && partition.putIfAbsent(key, detail) != null) {
+                LOG.warn("Duplicate remote mapping for {} in vni {}, using first one", key, vni);
+            }
+        }
+        cache.put(partitionKey, partition);
+        return partition;
+    }
+
+    @Nullable
+    private OneEidTableDetails dumpSpecificMapping(final InstanceIdentifier<RemoteMapping> id, final Eid eid,
+                                                   final int vni, final ModificationCache cache)
+            throws ReadFailedException {
+        final MappingsDumpParams dumpParams = new MappingsDumpParamsBuilder()
+                .setVni(vni)
+                .setEidSet(QuantityType.SPECIFIC)
+                .setEidType(getEidType(eid))
+                .setEid(getEidAsByteArray(eid))
+                .setPrefixLength(getPrefixLength(eid))
+                .setFilter(FilterType.REMOTE)
+                .build();
+
+        LOG.debug("Dumping data for RemoteMapping(id={})", id);
+        final Optional<OneEidTableDetailsReplyDump> replyOptional = dumpManager.getDump(id, cache, dumpParams);
+
+        if (!replyOptional.isPresent() || replyOptional.get().oneEidTableDetails.isEmpty()) {
+            return null;
+        }
+
+        return replyOptional.get().oneEidTableDetails.stream()
                 .filter(subtableFilterForRemoteMappings(id))
-                .map(detail ->
-                    getArrayAsEidRemote(valueOf(detail.eidType), detail.eid, detail.eidPrefixLen, detail.vni))
-                .map(remoteEid -> remoteMappingContext.getId(remoteEid, context.getMappingContext()))
-                .map(MappingId::new)
-                .map(RemoteMappingKey::new)
-                .collect(Collectors.toList());
+                .filter(a -> compareAddresses(eid.getAddress(),
+                        getArrayAsEidLocal(valueOf(a.eidType), a.eid, a.eidPrefixLen, a.vni).getAddress()))
+                .collect(RWUtils.singleItemCollector());
     }
 
     @Override
@@ -17,6 +17,7 @@
 package io.fd.hc2vpp.lisp.context.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -30,6 +31,7 @@ import io.fd.honeycomb.test.tools.annotations.InjectablesProcessor;
 import io.fd.honeycomb.test.tools.annotations.SchemaContextProvider;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.util.RWUtils;
+import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -44,6 +46,7 @@ import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.adjacencies.identific
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.adjacencies.identification.context.rev160801.adjacencies.identification.context.attributes.adjacencies.identification.contexts.AdjacenciesIdentification;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.adjacencies.identification.context.rev160801.adjacencies.identification.context.attributes.adjacencies.identification.contexts.AdjacenciesIdentificationKey;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.adjacencies.identification.context.rev160801.adjacencies.identification.context.attributes.adjacencies.identification.contexts.adjacencies.identification.Mappings;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.adjacencies.identification.context.rev160801.adjacencies.identification.context.attributes.adjacencies.identification.contexts.adjacencies.identification.MappingsBuilder;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.adjacencies.identification.context.rev160801.adjacencies.identification.context.attributes.adjacencies.identification.contexts.adjacencies.identification.mappings.Mapping;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.adjacencies.identification.context.rev160801.adjacencies.identification.context.attributes.adjacencies.identification.contexts.adjacencies.identification.mappings.MappingKey;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.adjacencies.identification.context.rev160801.adjacencies.identification.context.attributes.adjacencies.identification.contexts.adjacencies.identification.mappings.mapping.EidIdentificatorPair;
@@ -136,6 +139,37 @@ public class AdjacenciesMappingContextTest implements InjectablesProcessor {
         assertTrue(adjacenciesMappingContext.containsId(LOCAL_EID_ID_3, REMOTE_EID_ID_3, mappingContext));
     }
 
+    @Test
+    public void mappingsReadOnce() throws Exception {
+        assertEquals(PARENT_1,
+                adjacenciesMappingContext.getAdjacencyId(LOCAL_EID_ID_1, REMOTE_EID_ID_1, mappingContext));
+        assertEquals(PARENT_2,
+                adjacenciesMappingContext.getAdjacencyId(LOCAL_EID_ID_2, REMOTE_EID_ID_2, mappingContext));
+        verify(mappingContext, times(1)).read(adjacenciesMappingContextId.child(Mappings.class));
+    }
+
+    @Test
+    public void mappingsNotReloadedOnMiss() throws Exception {
+        assertEquals(PARENT_1,
+                adjacenciesMappingContext.getAdjacencyId(LOCAL_EID_ID_1, REMOTE_EID_ID_1, mappingContext));
+        // index is authoritative for the mapping context
+        assertFalse(adjacenciesMappingContext.containsId(LOCAL_EID_ID_1, REMOTE_EID_ID_2, mappingContext));
+        assertFalse(adjacenciesMappingContext.containsId(LOCAL_EID_ID_2, REMOTE_EID_ID_1, mappingContext));
+        verify(mappingContext, times(1)).read(adjacenciesMappingContextId.child(Mappings.class));
+    }
+
+    @Test
+    public void containsIdAfterRemove() throws Exception {
+        assertTrue(adjacenciesMappingContext.containsId(LOCAL_EID_ID_1, REMOTE_EID_ID_1, mappingContext));
+        adjacenciesMappingContext.removeForIndex(PARENT_1, mappingContext);
+        when(mappingContext.read(parentKey(PARENT_1))).thenReturn(Optional.absent());
+        when(mappingContext.read(adjacenciesMappingContextId.child(Mappings.class))).thenReturn(Optional.of(
+                new MappingsBuilder().setMapping(mappings.getMapping().stream()
+                        .filter(mapping -> !mapping.getId().equals(PARENT_1))
+                        .collect(Collectors.toList())).build()));
+        assertFalse(adjacenciesMappingContext.containsId(LOCAL_EID_ID_1, REMOTE_EID_ID_1, mappingContext));
+    }
+
     @Test
     public void addEidPair() throws Exception {
         adjacenciesMappingContext.addEidPair(PARENT_4, LOCAL_EID_ID_1, REMOTE_EID_ID_3, mappingContext);
@@ -18,18 +18,29 @@ package io.fd.hc2vpp.lisp.context.util;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import com.google.common.base.Optional;
 import io.fd.hc2vpp.lisp.util.EidMappingContextHelper;
 import io.fd.honeycomb.translate.MappingContext;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.Mappings;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.MappingId;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.local.mappings.local.mapping.Eid;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.local.mappings.local.mapping.EidBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.InstanceIdType;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4Builder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.lisp.address.types.rev151105.lisp.address.address.Ipv4Prefix;
@@ -128,6 +139,65 @@ public class EidMappingContextTest implements EidMappingContextHelper {
         assertEquals(mappingIdPrefixBased, eidMappingContext.getId(localPrefixBasedEidNormalized, mappingContext));
     }
 
+    @Test
+    public void testGetIdReadsMappingsOnce() {
+        clearInvocations(mappingContext);
+        assertEquals(mappingId, eidMappingContext.getId(localEid, mappingContext));
+        assertEquals(mappingId, eidMappingContext.getId(remoteEid, mappingContext));
+        assertEquals(mappingIdPrefixBased, eidMappingContext.getId(localPrefixBasedEid, mappingContext));
+        assertTrue(eidMappingContext.containsId(remoteEidPrefixBasedNormalized, mappingContext));
+        verify(mappingContext, times(1))
+                .read(mappingIid(mappingId, EID_MAPPING_CONTEXT_NAME).firstIdentifierOf(Mappings.class));
+    }
+
+    @Test
+    public void testUnmappedEidsReadMappingsOnce() {
+        clearInvocations(mappingContext);
+        // e.g. learned remote eids, that usually have no mapping
+        for (int i = 10; i < 20; i++) {
+            final Eid unmapped = new EidBuilder()
+                    .setAddress(new Ipv4Builder().setIpv4(new Ipv4Address("192.168.3." + i)).build()).build();
+            assertFalse(eidMappingContext.containsId(fromLocalToRemoteEid(unmapped), mappingContext));
+        }
+        verify(mappingContext, times(1))
+                .read(mappingIid(mappingId, EID_MAPPING_CONTEXT_NAME).firstIdentifierOf(Mappings.class));
+    }
+
+    @Test
+    public void testGetIdVirtualNetwork() {
+        final Eid vni1Eid = new EidBuilder(localEid).setVirtualNetworkId(new InstanceIdType(1L)).build();
+        final Eid vni2Eid = new EidBuilder(localEid).setVirtualNetworkId(new InstanceIdType(2L)).build();
+        final MappingContext vniMappingContext = mock(MappingContext.class);
+        final MappingId vni1MappingId = new MappingId("vni1");
+        final MappingId vni2MappingId = new MappingId("vni2");
+        defineEidMapping(vniMappingContext, fromLocalToMappingEid(vni1Eid), vni1MappingId, EID_MAPPING_CONTEXT_NAME);
+        defineEidMapping(vniMappingContext, fromLocalToMappingEid(vni2Eid), vni2MappingId, EID_MAPPING_CONTEXT_NAME);
+
+        assertEquals(vni1MappingId, eidMappingContext.getId(vni1Eid, vniMappingContext));
+        assertEquals(vni2MappingId, eidMappingContext.getId(vni2Eid, vniMappingContext));
+        assertFalse(eidMappingContext.containsId(
+                new EidBuilder(localEid).setVirtualNetworkId(new InstanceIdType(3L)).build(), vniMappingContext));
+    }
+
+    @Test
+    public void testContainsIdAfterRemove() {
+        assertTrue(eidMappingContext.containsId(localEid, mappingContext));
+        eidMappingContext.removeEid(mappingId, mappingContext);
+        redefineMappings(mappingEidPrefixBased, mappingIdPrefixBased);
+        assertFalse(eidMappingContext.containsId(localEid, mappingContext));
+    }
+
+    @Test
+    public void testContainsIdMappingModifiedExternally() {
+        assertTrue(eidMappingContext.containsId(localEid, mappingContext));
+        // mapping id reused for other eid, bypassing the context
+        final Eid otherEid =
+                new EidBuilder().setAddress(new Ipv4Builder().setIpv4(new Ipv4Address("192.168.2.5")).build()).build();
+        redefineMappings(fromLocalToMappingEid(otherEid), mappingId);
+        assertFalse(eidMappingContext.containsId(localEid, mappingContext));
+        assertTrue(eidMappingContext.containsId(otherEid, mappingContext));
+    }
+
     @Test
     public void testAddEidLocal() {
         eidMappingContext.addEid(mappingId, localEid, mappingContext);
@@ -168,6 +238,14 @@ public class EidMappingContextTest implements EidMappingContextHelper {
         assertEquals(remoteEid.getVirtualNetworkId(), eid.getVirtualNetworkId());
     }
 
+    private void redefineMappings(
+            final org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.mapping.Eid eid,
+            final MappingId id) {
+        reset(mappingContext);
+        doReturn(Optional.absent()).when(mappingContext).read(any());
+        defineEidMapping(mappingContext, eid, id, EID_MAPPING_CONTEXT_NAME);
+    }
+
     private org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.mapping.Eid fromLocalToMappingEid(
             Eid eid) {
         return new org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.eid.mapping.context.rev160801.contexts.eid.mapping.context.mappings.mapping.EidBuilder()
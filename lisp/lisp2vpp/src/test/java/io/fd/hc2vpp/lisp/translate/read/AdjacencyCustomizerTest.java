@@ -26,6 +26,7 @@ import static io.fd.hc2vpp.lisp.translate.AdjacencyData.REMOTE_EID_ONE;
 import static io.fd.hc2vpp.lisp.translate.AdjacencyData.REMOTE_EID_PREFIX_ONE;
 import static io.fd.hc2vpp.lisp.translate.AdjacencyData.REMOTE_EID_PREFIX_TWO;
 import static io.fd.hc2vpp.lisp.translate.AdjacencyData.REMOTE_EID_TWO;
+import static io.fd.hc2vpp.lisp.translate.AdjacencyData.VNI;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
@@ -79,7 +80,7 @@ public class AdjacencyCustomizerTest
     @Before
     public void init() {
         identifier = InstanceIdentifier.create(EidTable.class)
-                .child(VniTable.class, new VniTableKey(2L))
+                .child(VniTable.class, new VniTableKey(VNI))
                 .child(BridgeDomainSubtable.class)
                 .child(RemoteMappings.class)
                 .child(RemoteMapping.class, new RemoteMappingKey(new MappingId("remote-mapping")))
@@ -20,6 +20,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
@@ -288,6 +290,49 @@ public class RemoteMappingCustomizerTest
         assertEquals("remote-mapping", keys.get(0).getId().getValue());
     }
 
+    @Test
+    public void readMultipleMappingsFromSingleDump() throws Exception {
+        final OneEidTableDetails first = remoteDetail(new byte[]{-64, -88, 2, 1}, 2);
+        final OneEidTableDetails second = remoteDetail(new byte[]{-64, -88, 2, 2}, 3);
+        final OneEidTableDetails otherVni = remoteDetail(new byte[]{-64, -88, 2, 2}, 4);
+        otherVni.vni = 13;
+        final OneEidTableDetailsReplyDump replyDump = new OneEidTableDetailsReplyDump();
+        replyDump.oneEidTableDetails = ImmutableList.of(first, otherVni, second);
+        when(api.oneEidTableDump(any())).thenReturn(future(replyDump));
+
+        final MappingId secondId = new MappingId("remote-mapping-2");
+        mockAddressMappings();
+        when(eidMappingContext.containsEid(secondId, mappingContext)).thenReturn(true);
+        when(eidMappingContext.getEid(secondId, mappingContext)).thenReturn(new EidBuilder()
+                .setAddress(new Ipv4Builder().setIpv4(new Ipv4Address("192.168.2.2")).build()).build());
+
+        final RemoteMappingBuilder firstBuilder = new RemoteMappingBuilder();
+        getCustomizer().getAllIds(validId, ctx);
+        getCustomizer().readCurrentAttributes(validId, firstBuilder, ctx);
+        final RemoteMappingBuilder secondBuilder = new RemoteMappingBuilder();
+        getCustomizer().readCurrentAttributes(validId.firstIdentifierOf(RemoteMappings.class)
+                .child(RemoteMapping.class, new RemoteMappingKey(secondId)), secondBuilder, ctx);
+
+        assertEquals(2L, firstBuilder.getTtl().longValue());
+        assertTrue(compareAddresses(EID_ADDRESS, firstBuilder.getEid().getAddress()));
+        assertEquals(3L, secondBuilder.getTtl().longValue());
+        assertEquals("192.168.2.2", ((Ipv4) secondBuilder.getEid().getAddress()).getIpv4().getValue());
+        verify(api, times(1)).oneEidTableDump(any());
+    }
+
+    private static OneEidTableDetails remoteDetail(final byte[] eid, final int ttl) {
+        OneEidTableDetails detail = new OneEidTableDetails();
+        detail.action = 0;
+        detail.authoritative = 1;
+        detail.eid = eid;
+        detail.eidPrefixLen = 32;
+        detail.isLocal = 0;
+        detail.locatorSetIndex = -1;
+        detail.ttl = ttl;
+        detail.vni = 12;
+        return detail;
+    }
+
     @Override
     protected ReaderCustomizer<RemoteMapping, RemoteMappingBuilder> initCustomizer() {
         return new RemoteMappingCustomizer(api, new NamingContext("loc-set", "loc-set-context"), eidMappingContext);
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.nat;
+
+import net.jmob.guice.conf.core.BindConfig;
+import net.jmob.guice.conf.core.InjectConfig;
+import net.jmob.guice.conf.core.Syntax;
+
+@BindConfig(value = "nat", syntax = Syntax.JSON)
+public class NatConfiguration {
+
+    /**
+     * Timeout in milliseconds of NAT44 static mapping dump replies, 0 to use global jvpp request timeout
+     */
+    @InjectConfig("nat44-static-mapping-dump-timeout")
+    private int nat44StaticMappingDumpTimeout;
+
+    /**
+     * Timeout in milliseconds of NAT64 BIB dump replies, 0 to use global jvpp request timeout
+     */
+    @InjectConfig("nat64-bib-dump-timeout")
+    private int nat64BibDumpTimeout;
+
+    public int getNat44StaticMappingDumpTimeout() {
+        return nat44StaticMappingDumpTimeout;
+    }
+
+    public int getNat64BibDumpTimeout() {
+        return nat64BibDumpTimeout;
+    }
+}
@@ -18,26 +18,18 @@ package io.fd.hc2vpp.nat.read;
 
 import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
 import io.fd.hc2vpp.common.translate.util.Ipv6Translator;
-import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.nat.util.MappingEntryContext;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
 import io.fd.honeycomb.translate.spi.read.InitializingListReaderCustomizer;
 import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
-import io.fd.honeycomb.translate.util.read.cache.EntityDumpExecutor;
 import io.fd.jvpp.nat.dto.Nat44StaticMappingDetails;
-import io.fd.jvpp.nat.dto.Nat44StaticMappingDetailsReplyDump;
-import io.fd.jvpp.nat.dto.Nat44StaticMappingDump;
 import io.fd.jvpp.nat.dto.Nat64BibDetails;
-import io.fd.jvpp.nat.dto.Nat64BibDetailsReplyDump;
-import io.fd.jvpp.nat.dto.Nat64BibDump;
-import io.fd.jvpp.nat.future.FutureJVppNatFacade;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.PortNumber;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.mapping.entry.ExternalSrcPortBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.mapping.entry.InternalSrcPortBuilder;
@@ -57,16 +49,12 @@ final class MappingEntryCustomizer implements Ipv4Translator, Ipv6Translator,
 
     private static final Logger LOG = LoggerFactory.getLogger(MappingEntryCustomizer.class);
 
-    private final DumpCacheManager<Nat44StaticMappingDetailsReplyDump, Void> nat44DumpManager;
-    private final DumpCacheManager<Nat64BibDetailsReplyDump, Void> nat64DumpManager;
+    private final DumpCacheManager<NatMappingDumps, Void> dumpManager;
     private final MappingEntryContext mappingEntryContext;
 
-    MappingEntryCustomizer(
-            final DumpCacheManager<Nat44StaticMappingDetailsReplyDump, Void> nat44DumpManager,
-            final DumpCacheManager<Nat64BibDetailsReplyDump, Void> nat64DumpManager,
-            final MappingEntryContext mappingEntryContext) {
-        this.nat44DumpManager = nat44DumpManager;
-        this.nat64DumpManager = nat64DumpManager;
+    MappingEntryCustomizer(final DumpCacheManager<NatMappingDumps, Void> dumpManager,
+                           final MappingEntryContext mappingEntryContext) {
+        this.dumpManager = dumpManager;
         this.mappingEntryContext = mappingEntryContext;
     }
 
@@ -84,21 +72,17 @@ final class MappingEntryCustomizer implements Ipv4Translator, Ipv6Translator,
 
         final int idx = id.firstKeyOf(MappingEntry.class).getIndex().intValue();
         final int natInstanceId = id.firstKeyOf(Instance.class).getId().intValue();
-        final List<Nat44StaticMappingDetails> nat44Details =
-                nat44DumpManager.getDump(id, ctx.getModificationCache())
-                        .or(new Nat44StaticMappingDetailsReplyDump()).nat44StaticMappingDetails;
+        final NatMappingDumps dumps = getDumps(id, ctx);
         final Optional<Nat44StaticMappingDetails> nat44StaticMappingDetails =
-                mappingEntryContext.findDetailsNat44(nat44Details, natInstanceId, idx, ctx.getMappingContext());
+                mappingEntryContext.findDetailsNat44(dumps.getNat44Details(), natInstanceId, idx,
+                        ctx.getMappingContext(), ctx.getModificationCache());
 
         if (nat44StaticMappingDetails.isPresent()) {
             readNat44Entry(builder, idx, nat44StaticMappingDetails.get());
         } else {
-            final List<Nat64BibDetails> nat64Details =
-                    nat64DumpManager.getDump(id, ctx.getModificationCache())
-                            .or(new Nat64BibDetailsReplyDump()).nat64BibDetails;
-
             final Optional<Nat64BibDetails> nat64StaticMappingDetails =
-                    mappingEntryContext.findDetailsNat64(nat64Details, natInstanceId, idx, ctx.getMappingContext());
+                    mappingEntryContext.findDetailsNat64(dumps.getNat64Details(), natInstanceId, idx,
+                            ctx.getMappingContext(), ctx.getModificationCache());
 
             if (nat64StaticMappingDetails.isPresent()) {
                 readNat64Entry(builder, idx, nat64StaticMappingDetails.get());
@@ -114,8 +98,8 @@ final class MappingEntryCustomizer implements Ipv4Translator, Ipv6Translator,
         builder.setIndex((long) index);
         builder.setType(
                 org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.MappingEntry.Type.Static);
-        builder.setExternalSrcAddress(new IpPrefix(toIpv4Prefix(detail.externalIpAddress, 32)));
-        builder.setInternalSrcAddress(new IpPrefix(toIpv4Prefix(detail.localIpAddress, 32)));
+        builder.setExternalSrcAddress(toIpv4IpPrefix(detail.externalIpAddress, 32));
+        builder.setInternalSrcAddress(toIpv4IpPrefix(detail.localIpAddress, 32));
 
         if (detail.addrOnly == 0) {
             builder.setExternalSrcPort(new ExternalSrcPortBuilder()
@@ -135,8 +119,8 @@ final class MappingEntryCustomizer implements Ipv4Translator, Ipv6Translator,
             builder.setType(
                     org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.MappingEntry.Type.DynamicImplicit);
         }
-        builder.setExternalSrcAddress(new IpPrefix(toIpv4Prefix(detail.oAddr,32 )));
-        builder.setInternalSrcAddress(new IpPrefix(toIpv6Prefix(detail.iAddr, 128)));
+        builder.setExternalSrcAddress(toIpv4IpPrefix(detail.oAddr, 32));
+        builder.setInternalSrcAddress(toIpv6IpPrefix(detail.iAddr, 128));
 
         builder.setExternalSrcPort(new ExternalSrcPortBuilder()
             .setStartPortNumber(new PortNumber(Short.toUnsignedInt(detail.oPort))).build());
@@ -151,22 +135,24 @@ final class MappingEntryCustomizer implements Ipv4Translator, Ipv6Translator,
         final Long natInstanceId = id.firstKeyOf(Instance.class).getId();
         LOG.trace("Listing IDs for all mapping-entries within nat-instance(vrf):{}", natInstanceId);
 
+        final NatMappingDumps dumps = getDumps(id, context).requestNat64();
+
         final List<MappingEntryKey> entryKeys =
-                nat44DumpManager.getDump(id, context.getModificationCache())
-                        .or(new Nat44StaticMappingDetailsReplyDump()).nat44StaticMappingDetails.stream()
+                dumps.getNat44Details().stream()
                         .filter(detail -> natInstanceId == detail.vrfId)
                         .map(detail -> mappingEntryContext
-                                .getStoredOrArtificialIndex(natInstanceId, detail, context.getMappingContext()))
+                                .getStoredOrArtificialIndex(natInstanceId, detail, context.getMappingContext(),
+                                        context.getModificationCache()))
                         .map(MappingEntryKey::new)
                         .collect(Collectors.toList());
 
 
         final List<MappingEntryKey> nat64Keys =
-                nat64DumpManager.getDump(id, context.getModificationCache())
-                        .or(new Nat64BibDetailsReplyDump()).nat64BibDetails.stream()
+                dumps.getNat64Details().stream()
                         .filter(detail -> natInstanceId == detail.vrfId)
                         .map(detail -> mappingEntryContext
-                                .getStoredOrArtificialIndex(natInstanceId, detail, context.getMappingContext()))
+                                .getStoredOrArtificialIndex(natInstanceId, detail, context.getMappingContext(),
+                                        context.getModificationCache()))
                         .map(MappingEntryKey::new)
                         .collect(Collectors.toList());
         entryKeys.addAll(nat64Keys);
@@ -189,40 +175,8 @@ final class MappingEntryCustomizer implements Ipv4Translator, Ipv6Translator,
         return Initialized.create(id, readValue);
     }
 
-    static final class MappingEntryNat44DumpExecutor
-            implements EntityDumpExecutor<Nat44StaticMappingDetailsReplyDump, Void>, JvppReplyConsumer {
-
-        private final FutureJVppNatFacade jvppNat;
-
-        MappingEntryNat44DumpExecutor(final FutureJVppNatFacade jvppNat) {
-            this.jvppNat = jvppNat;
-        }
-
-        @Nonnull
-        @Override
-        public Nat44StaticMappingDetailsReplyDump executeDump(final InstanceIdentifier<?> identifier, final Void params)
-                throws ReadFailedException {
-            return getReplyForRead(jvppNat.nat44StaticMappingDump(new Nat44StaticMappingDump()).toCompletableFuture(),
-                    identifier);
-        }
-    }
-
-    static final class MappingEntryNat64DumpExecutor
-            implements EntityDumpExecutor<Nat64BibDetailsReplyDump, Void>, JvppReplyConsumer {
-
-        private final FutureJVppNatFacade jvppNat;
-
-        MappingEntryNat64DumpExecutor(final FutureJVppNatFacade jvppNat) {
-            this.jvppNat = jvppNat;
-        }
-
-        @Nonnull
-        @Override
-        public Nat64BibDetailsReplyDump executeDump(final InstanceIdentifier<?> identifier, final Void params)
-                throws ReadFailedException {
-            final Nat64BibDump dump = new Nat64BibDump();
-            dump.proto = -1; // dump entries for all protocols
-            return getReplyForRead(jvppNat.nat64BibDump(dump).toCompletableFuture(), identifier);
-        }
+    private NatMappingDumps getDumps(final InstanceIdentifier<MappingEntry> id, final ReadContext ctx)
+            throws ReadFailedException {
+        return dumpManager.getDump(id, ctx.getModificationCache()).or(NatMappingDumps.empty());
     }
 }
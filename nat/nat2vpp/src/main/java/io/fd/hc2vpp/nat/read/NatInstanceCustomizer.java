@@ -21,8 +21,6 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
 import io.fd.honeycomb.translate.spi.read.InitializingListReaderCustomizer;
 import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
-import io.fd.jvpp.nat.dto.Nat44StaticMappingDetailsReplyDump;
-import io.fd.jvpp.nat.dto.Nat64BibDetailsReplyDump;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -46,14 +44,10 @@ final class NatInstanceCustomizer
     private static final Logger LOG = LoggerFactory.getLogger(NatInstanceCustomizer.class);
     static final InstanceKey DEFAULT_VRF_ID = new InstanceKey(0L);
 
-    private final DumpCacheManager<Nat44StaticMappingDetailsReplyDump, Void> nat44DumpManager;
-    private final DumpCacheManager<Nat64BibDetailsReplyDump, Void> nat64DumpManager;
+    private final DumpCacheManager<NatMappingDumps, Void> dumpManager;
 
-    NatInstanceCustomizer(
-            final DumpCacheManager<Nat44StaticMappingDetailsReplyDump, Void> nat44DumpManager,
-            final DumpCacheManager<Nat64BibDetailsReplyDump, Void> nat64DumpManager) {
-        this.nat44DumpManager = nat44DumpManager;
-        this.nat64DumpManager = nat64DumpManager;
+    NatInstanceCustomizer(final DumpCacheManager<NatMappingDumps, Void> dumpManager) {
+        this.dumpManager = dumpManager;
     }
 
     @Nonnull
@@ -77,13 +71,11 @@ final class NatInstanceCustomizer
         LOG.trace("Listing IDs for all nat-instances");
 
         // Find the nat instance IDs (vrf-ids) by listing all static mappings and their VRF assignment
+        final NatMappingDumps dumps =
+                dumpManager.getDump(id, context.getModificationCache()).or(NatMappingDumps.empty()).requestNat64();
         final List<InstanceKey> vrfIds = Stream.concat(
-                nat44DumpManager.getDump(id, context.getModificationCache())
-                        .or(new Nat44StaticMappingDetailsReplyDump()).nat44StaticMappingDetails.stream()
-                        .map(detail -> detail.vrfId),
-                nat64DumpManager.getDump(id, context.getModificationCache())
-                        .or(new Nat64BibDetailsReplyDump()).nat64BibDetails.stream()
-                        .map(detail -> detail.vrfId))
+                dumps.getNat44Details().stream().map(detail -> detail.vrfId),
+                dumps.getNat64Details().stream().map(detail -> detail.vrfId))
                 // V4 (nat44) and V6 (nat64) VRFs in VPP can have the same id. We store them under single nat instance,
                 // because the ietf-nat model does not require separate instances for nat44 and nat64 features.
                 .distinct()
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.nat.read;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.util.read.cache.EntityDumpExecutor;
+import io.fd.jvpp.nat.dto.Nat44StaticMappingDetails;
+import io.fd.jvpp.nat.dto.Nat44StaticMappingDetailsReplyDump;
+import io.fd.jvpp.nat.dto.Nat44StaticMappingDump;
+import io.fd.jvpp.nat.dto.Nat64BibDetails;
+import io.fd.jvpp.nat.dto.Nat64BibDetailsReplyDump;
+import io.fd.jvpp.nat.dto.Nat64BibDump;
+import io.fd.jvpp.nat.future.FutureJVppNatFacade;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * NAT44 static mappings and NAT64 BIB entries, which are both needed to read mapping entries and nat instances.
+ * NAT64 BIB is dumped only when requested, so that reading of NAT44 mapping entry does not wait for it.
+ */
+final class NatMappingDumps implements JvppReplyConsumer {
+
+    private static final NatMappingDumps EMPTY = new NatMappingDumps(null, null);
+
+    private final FutureJVppNatFacade jvppNat;
+    private final InstanceIdentifier<?> identifier;
+    private final CompletionStage<List<Nat44StaticMappingDetails>> nat44Details;
+
+    @GuardedBy("this")
+    private CompletionStage<List<Nat64BibDetails>> nat64Details;
+
+    NatMappingDumps(@Nullable final Nat44StaticMappingDetailsReplyDump nat44Dump,
+                    @Nullable final Nat64BibDetailsReplyDump nat64Dump) {
+        this(null, null, completedFuture(nat44Details(nat44Dump)), completedFuture(nat64Details(nat64Dump)));
+    }
+
+    private NatMappingDumps(@Nullable final FutureJVppNatFacade jvppNat,
+                            @Nullable final InstanceIdentifier<?> identifier,
+                            @Nonnull final CompletionStage<List<Nat44StaticMappingDetails>> nat44Details,
+                            @Nullable final CompletionStage<List<Nat64BibDetails>> nat64Details) {
+        this.jvppNat = jvppNat;
+        this.identifier = identifier;
+        this.nat44Details = nat44Details;
+        this.nat64Details = nat64Details;
+    }
+
+    static NatMappingDumps empty() {
+        return EMPTY;
+    }
+
+    List<Nat44StaticMappingDetails> getNat44Details() throws ReadFailedException {
+        return getAsyncReadResult(nat44Details);
+    }
+
+    List<Nat64BibDetails> getNat64Details() throws ReadFailedException {
+        return getAsyncReadResult(nat64Stage());
+    }
+
+    /**
+     * Sends NAT64 BIB dump request without waiting for reply. Used by readers that need both dumps, so that time
+     * spent reading is that of slower dump rather than sum of both.
+     */
+    NatMappingDumps requestNat64() {
+        nat64Stage();
+        return this;
+    }
+
+    private synchronized CompletionStage<List<Nat64BibDetails>> nat64Stage() {
+        if (nat64Details == null) {
+            final Nat64BibDump nat64Request = new Nat64BibDump();
+            nat64Request.proto = -1; // dump entries for all protocols
+            nat64Details = getReplyForReadAsync(jvppNat.nat64BibDump(nat64Request), Nat64BibDump.class, identifier)
+                    .thenApply(NatMappingDumps::nat64Details);
+        }
+        return nat64Details;
+    }
+
+    private static List<Nat44StaticMappingDetails> nat44Details(
+            @Nullable final Nat44StaticMappingDetailsReplyDump nat44Dump) {
+        return nat44Dump == null || nat44Dump.nat44StaticMappingDetails == null
+            ? Collections.emptyList()
+            : nat44Dump.nat44StaticMappingDetails;
+    }
+
+    private static List<Nat64BibDetails> nat64Details(@Nullable final Nat64BibDetailsReplyDump nat64Dump) {
+        return nat64Dump == null || nat64Dump.nat64BibDetails == null
+            ? Collections.emptyList()
+            : nat64Dump.nat64BibDetails;
+    }
+
+    /**
+     * Sends NAT44 static mapping dump request without waiting for reply, NAT64 BIB is dumped on demand by
+     * {@link NatMappingDumps}. Failures of either dump are reported when its details are read.
+     */
+    static final class NatMappingDumpExecutor implements EntityDumpExecutor<NatMappingDumps, Void>, JvppReplyConsumer {
+
+        private final FutureJVppNatFacade jvppNat;
+
+        NatMappingDumpExecutor(final FutureJVppNatFacade jvppNat) {
+            this.jvppNat = jvppNat;
+        }
+
+        @Nonnull
+        @Override
+        public NatMappingDumps executeDump(final InstanceIdentifier<?> identifier, final Void params) {
+            final CompletionStage<List<Nat44StaticMappingDetails>> nat44Details = getReplyForReadAsync(
+                    jvppNat.nat44StaticMappingDump(new Nat44StaticMappingDump()), Nat44StaticMappingDump.class,
+                    identifier).thenApply(NatMappingDumps::nat44Details);
+            return new NatMappingDumps(jvppNat, identifier, nat44Details, null);
+        }
+    }
+}
@@ -27,14 +27,17 @@ import static io.fd.hc2vpp.nat.NatIds.POLICY_ID;
 
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.nat.NatConfiguration;
 import io.fd.hc2vpp.nat.util.MappingEntryContext;
 import io.fd.honeycomb.translate.impl.read.GenericInitListReader;
 import io.fd.honeycomb.translate.impl.read.GenericListReader;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.honeycomb.translate.read.registry.ModifiableReaderRegistryBuilder;
 import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
-import io.fd.jvpp.nat.dto.Nat44StaticMappingDetailsReplyDump;
-import io.fd.jvpp.nat.dto.Nat64BibDetailsReplyDump;
+import io.fd.jvpp.dto.JVppRequest;
+import io.fd.jvpp.nat.dto.Nat44StaticMappingDump;
+import io.fd.jvpp.nat.dto.Nat64BibDump;
 import io.fd.jvpp.nat.future.FutureJVppNatFacade;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.NatBuilder;
@@ -51,37 +54,41 @@ public class NatReaderFactory implements ReaderFactory {
 
     private final FutureJVppNatFacade jvppNat;
     private final MappingEntryContext mappingEntryContext;
-    private final DumpCacheManager<Nat44StaticMappingDetailsReplyDump, Void> mapEntryNat44DumpMgr;
-    private final DumpCacheManager<Nat64BibDetailsReplyDump, Void> mapEntryNat64DumpMgr;
+    private final DumpCacheManager<NatMappingDumps, Void> mapEntryDumpMgr;
 
     @Inject
     public NatReaderFactory(final FutureJVppNatFacade jvppNat,
-                            final MappingEntryContext mappingEntryContext) {
+                            final MappingEntryContext mappingEntryContext,
+                            final NatConfiguration configuration) {
+        setupDumpTimeout(Nat44StaticMappingDump.class, configuration.getNat44StaticMappingDumpTimeout());
+        setupDumpTimeout(Nat64BibDump.class, configuration.getNat64BibDumpTimeout());
         this.jvppNat = jvppNat;
         this.mappingEntryContext = mappingEntryContext;
-        this.mapEntryNat44DumpMgr =
-                new DumpCacheManager.DumpCacheManagerBuilder<Nat44StaticMappingDetailsReplyDump, Void>()
-                        .withExecutor(new MappingEntryCustomizer.MappingEntryNat44DumpExecutor(jvppNat))
-                        .acceptOnly(Nat44StaticMappingDetailsReplyDump.class)
-                        .build();
-        this.mapEntryNat64DumpMgr =
-                new DumpCacheManager.DumpCacheManagerBuilder<Nat64BibDetailsReplyDump, Void>()
-                        .withExecutor(new MappingEntryCustomizer.MappingEntryNat64DumpExecutor(jvppNat))
-                        .acceptOnly(Nat64BibDetailsReplyDump.class)
+        this.mapEntryDumpMgr =
+                new DumpCacheManager.DumpCacheManagerBuilder<NatMappingDumps, Void>()
+                        .withExecutor(new NatMappingDumps.NatMappingDumpExecutor(jvppNat))
+                        .acceptOnly(NatMappingDumps.class)
                         .build();
     }
 
+    private static void setupDumpTimeout(final Class<? extends JVppRequest> requestType, final int timeoutInMillis) {
+        // 0 keeps global jvpp request timeout
+        if (timeoutInMillis > 0) {
+            JvppReplyConsumer.JvppReplyTimeoutHolder.setupTimeout(requestType, timeoutInMillis);
+        }
+    }
+
     @Override
     public void init(@Nonnull final ModifiableReaderRegistryBuilder registry) {
         registry.addStructuralReader(NAT_ID, NatBuilder.class);
         registry.addStructuralReader(NAT_INSTANCES_ID, InstancesBuilder.class);
         registry.add(new GenericInitListReader<>(NAT_INSTANCE_ID,
-                new NatInstanceCustomizer(mapEntryNat44DumpMgr, mapEntryNat64DumpMgr)));
+                new NatInstanceCustomizer(mapEntryDumpMgr)));
         registry.addStructuralReader(MAPPING_TABLE_ID, MappingTableBuilder.class);
         registry.subtreeAdd(Sets.newHashSet(InstanceIdentifier.create(MappingEntry.class).child(ExternalSrcPort.class),
                 InstanceIdentifier.create(MappingEntry.class).child(InternalSrcPort.class)),
                 new GenericInitListReader<>(MAPPING_ENTRY_ID,
-                        new MappingEntryCustomizer(mapEntryNat44DumpMgr, mapEntryNat64DumpMgr, mappingEntryContext)));
+                        new MappingEntryCustomizer(mapEntryDumpMgr, mappingEntryContext)));
 
         registry.add(new GenericInitListReader<>(POLICY_ID, new PolicyCustomizer()));
         registry.add(new GenericInitListReader<>(ADDRESS_POOL_ID, new ExternalIpPoolCustomizer(jvppNat)));
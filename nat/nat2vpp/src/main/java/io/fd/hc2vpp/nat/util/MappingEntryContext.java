@@ -23,11 +23,16 @@ import com.google.common.base.Optional;
 import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
 import io.fd.hc2vpp.common.translate.util.Ipv6Translator;
 import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.jvpp.nat.dto.Nat44StaticMappingDetails;
 import io.fd.jvpp.nat.dto.Nat64BibDetails;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
@@ -39,9 +44,6 @@ import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.mapping.table.MappingEntry;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.mapping.table.MappingEntryBuilder;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.mapping.table.MappingEntryKey;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Prefix;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,6 +56,11 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
 
     private static final Logger LOG = LoggerFactory.getLogger(MappingEntryContext.class);
 
+    // Indexes must be cached, not held as reference here, to have them destroyed with cache after transaction
+    private static final String NAT44_DETAILS_INDEX_KEY = MappingEntryContext.class.getName() + "_nat44DetailsIndex";
+    private static final String NAT64_DETAILS_INDEX_KEY = MappingEntryContext.class.getName() + "_nat64DetailsIndex";
+    private static final String TABLE_INDEX_KEY = MappingEntryContext.class.getName() + "_tableIndex";
+
     /**
      * Add mapping entry to index mapping to context.
      */
@@ -100,42 +107,14 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
     private MappingEntryKey entryToKey(final Nat44StaticMappingDetails entry) {
         // Only IPv4
         return new MappingEntryKey(
-            new IpPrefix(new Ipv4Prefix(toIpv4Prefix(entry.externalIpAddress,32))),
-            new IpPrefix(new Ipv4Prefix(toIpv4Prefix(entry.localIpAddress, 32))));
+            toIpv4IpPrefix(entry.externalIpAddress, 32),
+            toIpv4IpPrefix(entry.localIpAddress, 32));
     }
 
     private MappingEntryKey entryToKey(final Nat64BibDetails entry) {
         return new MappingEntryKey(
-                new IpPrefix(new Ipv4Prefix(toIpv4Prefix(entry.oAddr, 32))),
-                new IpPrefix(new Ipv6Prefix(toIpv6Prefix(entry.iAddr, 128))));
-    }
-
-    private boolean equalEntries(final Nat44StaticMappingDetails detail, final MappingEntry ctxMappingEntry) {
-        // Only IPv4
-        final IpPrefix internalAddrFromDetails = new IpPrefix(toIpv4Prefix(detail.localIpAddress, 32));
-        if (!ctxMappingEntry.getInternal().equals(internalAddrFromDetails)) {
-            return false;
-        }
-        // Only IPv4
-        final IpPrefix externalAddrFromDetails = new IpPrefix(toIpv4Prefix(detail.externalIpAddress, 32));
-        if (!ctxMappingEntry.getExternal().equals(externalAddrFromDetails)) {
-            return false;
-        }
-        return true;
-    }
-
-    private boolean equalEntries(final Nat64BibDetails detail, final MappingEntry ctxMappingEntry) {
-        // Only IPv6
-        final IpPrefix internalAddrFromDetails = new IpPrefix(toIpv6Prefix(detail.iAddr, 128));
-        if (!ctxMappingEntry.getInternal().equals(internalAddrFromDetails)) {
-            return false;
-        }
-        // Only IPv4
-        final IpPrefix externalAddrFromDetails = new IpPrefix(toIpv4Prefix(detail.oAddr, 32));
-        if (!ctxMappingEntry.getExternal().equals(externalAddrFromDetails)) {
-            return false;
-        }
-        return true;
+                toIpv4IpPrefix(entry.oAddr, 32),
+                toIpv6IpPrefix(entry.iAddr, 128));
     }
 
     @VisibleForTesting
@@ -148,20 +127,6 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
                 .build();
     }
 
-    private MappingEntry toCtxMapEntry(@Nonnull final Nat44StaticMappingDetails details, final long entryId) {
-        return new MappingEntryBuilder()
-                .withKey(entryToKey(details))
-                .setIndex(entryId)
-                .build();
-    }
-
-    private MappingEntry toCtxMapEntry(@Nonnull final Nat64BibDetails details, final long entryId) {
-        return new MappingEntryBuilder()
-                .withKey(entryToKey(details))
-                .setIndex(entryId)
-                .build();
-    }
-
     /**
      * Delete mapping of mapping entry to index from context.
      */
@@ -177,20 +142,23 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
     public synchronized java.util.Optional<Nat44StaticMappingDetails> findDetailsNat44(@Nonnull final List<Nat44StaticMappingDetails> details,
                                                                                        final long natInstanceId, final long idx,
                                                                                        @Nonnull final MappingContext mappingContext) {
-        // Find mapping entry for Index
-        final MappingEntry ctxMappingEntry = mappingContext.read(getTableId(natInstanceId))
-                .transform(MappingTable::getMappingEntry)
-                .or(Collections.emptyList())
-                .stream()
-                .filter(entry -> entry.getIndex() == idx)
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("Unable to find context mapping for nat-instance: "
-                        + natInstanceId + " and ID: " + idx));
+        return findDetailsNat44(details, natInstanceId, idx, mappingContext, new ModificationCache());
+    }
+
+    /**
+     * Find specific details in provided collection identified with provided index. Indexes of both details and
+     * context mappings are cached in provided cache, so subsequent calls within the same transaction are answered
+     * without scanning the collections.
+     */
+    public synchronized java.util.Optional<Nat44StaticMappingDetails> findDetailsNat44(@Nonnull final List<Nat44StaticMappingDetails> details,
+                                                                                       final long natInstanceId, final long idx,
+                                                                                       @Nonnull final MappingContext mappingContext,
+                                                                                       @Nonnull final ModificationCache cache) {
+        final MappingEntry ctxMappingEntry = findCtxMappingEntry(natInstanceId, idx, mappingContext, cache);
 
         // Find which details matches the context stored entry under index
-        return details.stream()
-                .filter(detail -> equalEntries(detail, ctxMappingEntry))
-                .findFirst();
+        return java.util.Optional.ofNullable(
+                getDetailsIndex(NAT44_DETAILS_INDEX_KEY, details, this::entryToKey, cache).get(ctxMappingEntry.key()));
     }
 
     /**
@@ -199,20 +167,33 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
     public synchronized java.util.Optional<Nat64BibDetails> findDetailsNat64(@Nonnull final List<Nat64BibDetails> details,
                                                                              final long natInstanceId, final long idx,
                                                                              @Nonnull final MappingContext mappingContext) {
-        // Find mapping entry for Index
-        final MappingEntry ctxMappingEntry = mappingContext.read(getTableId(natInstanceId))
-                .transform(MappingTable::getMappingEntry)
-                .or(Collections.emptyList())
-                .stream()
-                .filter(entry -> entry.getIndex() == idx)
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("Unable to find context mapping for nat-instance: "
-                        + natInstanceId + " and ID: " + idx));
+        return findDetailsNat64(details, natInstanceId, idx, mappingContext, new ModificationCache());
+    }
+
+    /**
+     * Find specific details in provided collection identified with provided index. Indexes of both details and
+     * context mappings are cached in provided cache, so subsequent calls within the same transaction are answered
+     * without scanning the collections.
+     */
+    public synchronized java.util.Optional<Nat64BibDetails> findDetailsNat64(@Nonnull final List<Nat64BibDetails> details,
+                                                                             final long natInstanceId, final long idx,
+                                                                             @Nonnull final MappingContext mappingContext,
+                                                                             @Nonnull final ModificationCache cache) {
+        final MappingEntry ctxMappingEntry = findCtxMappingEntry(natInstanceId, idx, mappingContext, cache);
 
         // Find which details matches the context stored entry under index
-        return details.stream()
-                .filter(detail -> equalEntries(detail, ctxMappingEntry))
-                .findFirst();
+        return java.util.Optional.ofNullable(
+                getDetailsIndex(NAT64_DETAILS_INDEX_KEY, details, this::entryToKey, cache).get(ctxMappingEntry.key()));
+    }
+
+    private MappingEntry findCtxMappingEntry(final long natInstanceId, final long idx,
+                                             final MappingContext mappingContext, final ModificationCache cache) {
+        final MappingEntry ctxMappingEntry = getTableIndex(natInstanceId, mappingContext, cache).entries.get(idx);
+        if (ctxMappingEntry == null) {
+            throw new IllegalStateException("Unable to find context mapping for nat-instance: "
+                    + natInstanceId + " and ID: " + idx);
+        }
+        return ctxMappingEntry;
     }
 
     /**
@@ -221,9 +202,21 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
     public synchronized long getStoredOrArtificialIndex(final Long natInstanceId,
                                                         @Nonnull final Nat44StaticMappingDetails details,
                                                         @Nonnull final MappingContext mappingContext) {
+        return getStoredOrArtificialIndex(natInstanceId, details, mappingContext, new ModificationCache());
+    }
+
+    /**
+     * Get index for a mapping entry details or create an artificial one. Free indexes are allocated using
+     * context mappings index cached in provided cache.
+     */
+    public synchronized long getStoredOrArtificialIndex(final Long natInstanceId,
+                                                        @Nonnull final Nat44StaticMappingDetails details,
+                                                        @Nonnull final MappingContext mappingContext,
+                                                        @Nonnull final ModificationCache cache) {
         return mappingContext.read(getId(natInstanceId, entryToKey(details)))
                 .transform(MappingEntry::getIndex)
-                .or(() -> getArtificialId(details, natInstanceId, mappingContext));
+                .or(() -> getArtificialId(entryToKey(details), details, natInstanceId, mappingContext,
+                        cache));
     }
 
     /**
@@ -232,9 +225,21 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
     public synchronized long getStoredOrArtificialIndex(final Long natInstanceId,
                                                         @Nonnull final Nat64BibDetails details,
                                                         @Nonnull final MappingContext mappingContext) {
+        return getStoredOrArtificialIndex(natInstanceId, details, mappingContext, new ModificationCache());
+    }
+
+    /**
+     * Get index for a mapping entry details or create an artificial one. Free indexes are allocated using
+     * context mappings index cached in provided cache.
+     */
+    public synchronized long getStoredOrArtificialIndex(final Long natInstanceId,
+                                                        @Nonnull final Nat64BibDetails details,
+                                                        @Nonnull final MappingContext mappingContext,
+                                                        @Nonnull final ModificationCache cache) {
         return mappingContext.read(getId(natInstanceId, entryToKey(details)))
                 .transform(MappingEntry::getIndex)
-                .or(() -> getArtificialId(details, natInstanceId, mappingContext));
+                .or(() -> getArtificialId(entryToKey(details), details, natInstanceId, mappingContext,
+                        cache));
     }
 
     /**
@@ -247,32 +252,71 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
                 .transform(MappingEntry::getIndex);
     }
 
-    private long getArtificialId(final Nat44StaticMappingDetails details, final Long natInstanceId,
-                                 final MappingContext mappingContext) {
+    private long getArtificialId(final MappingEntryKey key, final Object details, final Long natInstanceId,
+                                 final MappingContext mappingContext, final ModificationCache cache) {
         LOG.trace("Assigning artificial ID for {}", details);
-        final long artificialIdx = findFreeIndex(natInstanceId, mappingContext);
+        final TableIndex tableIndex = getTableIndex(natInstanceId, mappingContext, cache);
+        final long artificialIdx = tableIndex.nextIndex;
         LOG.debug("Artificial ID for {} assigned as: {}", details, artificialIdx);
-        mappingContext.put(getId(natInstanceId, entryToKey(details)), toCtxMapEntry(details, artificialIdx));
+        final MappingEntry ctxMappingEntry = new MappingEntryBuilder()
+                .withKey(key)
+                .setIndex(artificialIdx)
+                .build();
+        mappingContext.put(getId(natInstanceId, key), ctxMappingEntry);
+        tableIndex.add(ctxMappingEntry);
         return artificialIdx;
     }
 
-    private long getArtificialId(final Nat64BibDetails details, final Long natInstanceId,
-                                 final MappingContext mappingContext) {
-        LOG.trace("Assigning artificial ID for {}", details);
-        final long artificialIdx = findFreeIndex(natInstanceId, mappingContext);
-        LOG.debug("Artificial ID for {} assigned as: {}", details, artificialIdx);
-        mappingContext.put(getId(natInstanceId, entryToKey(details)), toCtxMapEntry(details, artificialIdx));
-        return artificialIdx;
+    private TableIndex getTableIndex(final long natInstanceId, final MappingContext mappingContext,
+                                     final ModificationCache cache) {
+        final Map<Long, TableIndex> tableIndexes = getCached(TABLE_INDEX_KEY, cache, HashMap::new);
+        return tableIndexes.computeIfAbsent(natInstanceId, id -> new TableIndex(mappingContext.read(getTableId(id))
+                .transform(MappingTable::getMappingEntry)
+                .or(Collections.emptyList())));
     }
 
-    private long findFreeIndex(final long natInstanceId, final MappingContext mappingContext) {
-        return mappingContext.read(getTableId(natInstanceId))
-                .transform(MappingTable::getMappingEntry)
-                .or(Collections.emptyList())
-                .stream()
-                .map(MappingEntry::getIndex)
-                .max(Comparator.naturalOrder())
-                .map(i -> i + 1)
-                .orElse(0L);
+    private static <D> Map<MappingEntryKey, D> getDetailsIndex(final String cacheKey,
+                                                               final List<D> details,
+                                                               final Function<D, MappingEntryKey> keyFunction,
+                                                               final ModificationCache cache) {
+        if (details.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        // details index is identified by the dump it was created from, which is cached for whole transaction
+        final Map<List<D>, Map<MappingEntryKey, D>> detailsIndexes = getCached(cacheKey, cache, IdentityHashMap::new);
+        return detailsIndexes.computeIfAbsent(details, list -> {
+            final Map<MappingEntryKey, D> index = new HashMap<>(list.size());
+            // first matching details wins, in case of multiple details with the same addresses
+            list.forEach(detail -> index.putIfAbsent(keyFunction.apply(detail), detail));
+            return index;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Map<K, V> getCached(final String cacheKey, final ModificationCache cache,
+                                              final Supplier<Map<K, V>> mapFactory) {
+        Map<K, V> cached = (Map<K, V>) cache.get(cacheKey);
+        if (cached == null) {
+            cached = mapFactory.get();
+            cache.put(cacheKey, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Mapping entries of single nat instance stored in context, indexed by entry index.
+     */
+    private static final class TableIndex {
+        private final Map<Long, MappingEntry> entries = new HashMap<>();
+        private long nextIndex;
+
+        private TableIndex(final List<MappingEntry> ctxMappingEntries) {
+            ctxMappingEntries.forEach(this::add);
+        }
+
+        private void add(final MappingEntry ctxMappingEntry) {
+            entries.putIfAbsent(ctxMappingEntry.getIndex(), ctxMappingEntry);
+            nextIndex = Math.max(nextIndex, ctxMappingEntry.getIndex() + 1);
+        }
     }
 }
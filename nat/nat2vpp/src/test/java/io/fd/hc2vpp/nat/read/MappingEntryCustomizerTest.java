@@ -51,17 +51,13 @@ public class MappingEntryCustomizerTest
     private static final long NAT_MAPPING_ID = 2L;
     private InstanceIdentifier<MappingEntry> mappingEntryId;
     private InstanceIdentifier<MappingEntry> mappingEntryWildcarded;
-    private DumpCacheManager<Nat44StaticMappingDetailsReplyDump, Void> nat44DumpManager;
-    private DumpCacheManager<Nat64BibDetailsReplyDump, Void> nat64DumpManager;
+    private DumpCacheManager<NatMappingDumps, Void> dumpManager;
 
     @Mock
     private MappingEntryContext mappingContext;
 
     @Mock
-    private EntityDumpExecutor<Nat44StaticMappingDetailsReplyDump, Void> nat44DumpExecutor;
-
-    @Mock
-    private EntityDumpExecutor<Nat64BibDetailsReplyDump, Void> nat64DumpExecutor;
+    private EntityDumpExecutor<NatMappingDumps, Void> dumpExecutor;
 
     public MappingEntryCustomizerTest() {
         super(MappingEntry.class, MappingTableBuilder.class);
@@ -77,20 +73,16 @@ public class MappingEntryCustomizerTest
                 .child(Instance.class, new InstanceKey(NatInstanceCustomizer.DEFAULT_VRF_ID))
                 .child(MappingTable.class)
                 .child(MappingEntry.class);
-        nat44DumpManager = new DumpCacheManager.DumpCacheManagerBuilder<Nat44StaticMappingDetailsReplyDump, Void>()
-                .withExecutor(nat44DumpExecutor)
-                .acceptOnly(Nat44StaticMappingDetailsReplyDump.class)
-                .build();
-        nat64DumpManager = new DumpCacheManager.DumpCacheManagerBuilder<Nat64BibDetailsReplyDump, Void>()
-                .withExecutor(nat64DumpExecutor)
-                .acceptOnly(Nat64BibDetailsReplyDump.class)
+        dumpManager = new DumpCacheManager.DumpCacheManagerBuilder<NatMappingDumps, Void>()
+                .withExecutor(dumpExecutor)
+                .acceptOnly(NatMappingDumps.class)
                 .build();
     }
 
     @Test
     public void testReadNat44() throws Exception {
         final Nat44StaticMappingDetailsReplyDump dumpNat44 = dumpReplyNat44NonEmpty();
-        when(nat44DumpExecutor.executeDump(mappingEntryId, null)).thenReturn(dumpNat44);
+        when(dumpExecutor.executeDump(mappingEntryId, null)).thenReturn(new NatMappingDumps(dumpNat44, null));
         stubFindDetailsNat44(dumpNat44, 2);
 
         final MappingEntryBuilder builder = new MappingEntryBuilder();
@@ -106,7 +98,7 @@ public class MappingEntryCustomizerTest
     @Test
     public void testReadNat44HighPorts() throws Exception {
         final Nat44StaticMappingDetailsReplyDump dumpNat44 = dumpReplyNat44NonEmpty();
-        when(nat44DumpExecutor.executeDump(mappingEntryId, null)).thenReturn(dumpNat44);
+        when(dumpExecutor.executeDump(mappingEntryId, null)).thenReturn(new NatMappingDumps(dumpNat44, null));
         stubFindDetailsNat44(dumpNat44, 1);
 
         final MappingEntryBuilder builder = new MappingEntryBuilder();
@@ -118,9 +110,8 @@ public class MappingEntryCustomizerTest
 
     @Test
     public void testReadNat64() throws Exception {
-        when(nat44DumpExecutor.executeDump(mappingEntryId, null)).thenReturn(new Nat44StaticMappingDetailsReplyDump());
         final Nat64BibDetailsReplyDump dumpNat64 = dumpReplyNat64NonEmpty();
-        when(nat64DumpExecutor.executeDump(mappingEntryId, null)).thenReturn(dumpNat64);
+        when(dumpExecutor.executeDump(mappingEntryId, null)).thenReturn(new NatMappingDumps(null, dumpNat64));
         stubFindDetailsNat64(dumpNat64, 2);
 
         final MappingEntryBuilder builder = new MappingEntryBuilder();
@@ -135,9 +126,8 @@ public class MappingEntryCustomizerTest
 
     @Test
     public void testReadNat64HighPorts() throws Exception {
-        when(nat44DumpExecutor.executeDump(mappingEntryId, null)).thenReturn(new Nat44StaticMappingDetailsReplyDump());
         final Nat64BibDetailsReplyDump dumpNat64 = dumpReplyNat64NonEmpty();
-        when(nat64DumpExecutor.executeDump(mappingEntryId, null)).thenReturn(dumpNat64);
+        when(dumpExecutor.executeDump(mappingEntryId, null)).thenReturn(new NatMappingDumps(null, dumpNat64));
         stubFindDetailsNat64(dumpNat64, 1);
 
         final MappingEntryBuilder builder = new MappingEntryBuilder();
@@ -150,14 +140,13 @@ public class MappingEntryCustomizerTest
     @Test
     public void testReadAllNat44() throws Exception {
         final Nat44StaticMappingDetailsReplyDump dumpNat44 = dumpReplyNat44NonEmpty();
-        when(nat44DumpExecutor.executeDump(mappingEntryWildcarded, null)).thenReturn(dumpNat44);
-        when(nat64DumpExecutor.executeDump(mappingEntryWildcarded, null)).thenReturn(new Nat64BibDetailsReplyDump());
+        when(dumpExecutor.executeDump(mappingEntryWildcarded, null)).thenReturn(new NatMappingDumps(dumpNat44, null));
         when(mappingContext.getStoredOrArtificialIndex(NatInstanceCustomizer.DEFAULT_VRF_ID.getId(),
-                dumpNat44.nat44StaticMappingDetails.get(0), ctx.getMappingContext())).thenReturn(0L);
+                dumpNat44.nat44StaticMappingDetails.get(0), ctx.getMappingContext(), ctx.getModificationCache())).thenReturn(0L);
         when(mappingContext.getStoredOrArtificialIndex(NatInstanceCustomizer.DEFAULT_VRF_ID.getId(),
-                dumpNat44.nat44StaticMappingDetails.get(1), ctx.getMappingContext())).thenReturn(1L);
+                dumpNat44.nat44StaticMappingDetails.get(1), ctx.getMappingContext(), ctx.getModificationCache())).thenReturn(1L);
         when(mappingContext.getStoredOrArtificialIndex(NatInstanceCustomizer.DEFAULT_VRF_ID.getId(),
-                dumpNat44.nat44StaticMappingDetails.get(2), ctx.getMappingContext())).thenReturn(2L);
+                dumpNat44.nat44StaticMappingDetails.get(2), ctx.getMappingContext(), ctx.getModificationCache())).thenReturn(2L);
 
         final List<MappingEntryKey> allIds = getCustomizer().getAllIds(mappingEntryWildcarded, ctx);
         assertThat(allIds, hasItems(new MappingEntryKey(0L), new MappingEntryKey(2L)));
@@ -166,15 +155,13 @@ public class MappingEntryCustomizerTest
     @Test
     public void testReadAllNat64() throws Exception {
         final Nat64BibDetailsReplyDump dumpNat64 = dumpReplyNat64NonEmpty();
-        when(nat44DumpExecutor.executeDump(mappingEntryWildcarded, null))
-                .thenReturn(new Nat44StaticMappingDetailsReplyDump());
-        when(nat64DumpExecutor.executeDump(mappingEntryWildcarded, null)).thenReturn(dumpNat64);
+        when(dumpExecutor.executeDump(mappingEntryWildcarded, null)).thenReturn(new NatMappingDumps(null, dumpNat64));
         when(mappingContext.getStoredOrArtificialIndex(NatInstanceCustomizer.DEFAULT_VRF_ID.getId(),
-                dumpNat64.nat64BibDetails.get(0), ctx.getMappingContext())).thenReturn(0L);
+                dumpNat64.nat64BibDetails.get(0), ctx.getMappingContext(), ctx.getModificationCache())).thenReturn(0L);
         when(mappingContext.getStoredOrArtificialIndex(NatInstanceCustomizer.DEFAULT_VRF_ID.getId(),
-                dumpNat64.nat64BibDetails.get(1), ctx.getMappingContext())).thenReturn(1L);
+                dumpNat64.nat64BibDetails.get(1), ctx.getMappingContext(), ctx.getModificationCache())).thenReturn(1L);
         when(mappingContext.getStoredOrArtificialIndex(NatInstanceCustomizer.DEFAULT_VRF_ID.getId(),
-                dumpNat64.nat64BibDetails.get(2), ctx.getMappingContext())).thenReturn(2L);
+                dumpNat64.nat64BibDetails.get(2), ctx.getMappingContext(), ctx.getModificationCache())).thenReturn(2L);
 
         final List<MappingEntryKey> allIds = getCustomizer().getAllIds(mappingEntryWildcarded, ctx);
         assertThat(allIds, hasItems(new MappingEntryKey(0L), new MappingEntryKey(2L)));
@@ -184,21 +171,20 @@ public class MappingEntryCustomizerTest
     public void testReadAll() throws Exception {
         final Nat44StaticMappingDetailsReplyDump dumpNat44 = dumpReplyNat44NonEmpty();
         final Nat64BibDetailsReplyDump dumpNat64 = dumpReplyNat64NonEmpty();
-        when(nat44DumpExecutor.executeDump(mappingEntryWildcarded, null))
-                .thenReturn(dumpNat44);
-        when(nat64DumpExecutor.executeDump(mappingEntryWildcarded, null)).thenReturn(dumpNat64);
+        when(dumpExecutor.executeDump(mappingEntryWildcarded, null))
+                .thenReturn(new NatMappingDumps(dumpNat44, dumpNat64));
         when(mappingContext.getStoredOrArtificialIndex(NatInstanceCustomizer.DEFAULT_VRF_ID.getId(),
-                dumpNat44.nat44StaticMappingDetails.get(0), ctx.getMappingContext())).thenReturn(0L);
+                dumpNat44.nat44StaticMappingDetails.get(0), ctx.getMappingContext(), ctx.getModificationCache())).thenReturn(0L);
         when(mappingContext.getStoredOrArtificialIndex(NatInstanceCustomizer.DEFAULT_VRF_ID.getId(),
-                dumpNat44.nat44StaticMappingDetails.get(1), ctx.getMappingContext())).thenReturn(1L);
+                dumpNat44.nat44StaticMappingDetails.get(1), ctx.getMappingContext(), ctx.getModificationCache())).thenReturn(1L);
         when(mappingContext.getStoredOrArtificialIndex(NatInstanceCustomizer.DEFAULT_VRF_ID.getId(),
-                dumpNat44.nat44StaticMappingDetails.get(2), ctx.getMappingContext())).thenReturn(2L);
+                dumpNat44.nat44StaticMappingDetails.get(2), ctx.getMappingContext(), ctx.getModificationCache())).thenReturn(2L);
         when(mappingContext.getStoredOrArtificialIndex(NatInstanceCustomizer.DEFAULT_VRF_ID.getId(),
-                dumpNat64.nat64BibDetails.get(0), ctx.getMappingContext())).thenReturn(3L);
+                dumpNat64.nat64BibDetails.get(0), ctx.getMappingContext(), ctx.getModificationCache())).thenReturn(3L);
         when(mappingContext.getStoredOrArtificialIndex(NatInstanceCustomizer.DEFAULT_VRF_ID.getId(),
-                dumpNat64.nat64BibDetails.get(1), ctx.getMappingContext())).thenReturn(4L);
+                dumpNat64.nat64BibDetails.get(1), ctx.getMappingContext(), ctx.getModificationCache())).thenReturn(4L);
         when(mappingContext.getStoredOrArtificialIndex(NatInstanceCustomizer.DEFAULT_VRF_ID.getId(),
-                dumpNat64.nat64BibDetails.get(2), ctx.getMappingContext())).thenReturn(5L);
+                dumpNat64.nat64BibDetails.get(2), ctx.getMappingContext(), ctx.getModificationCache())).thenReturn(5L);
 
         final List<MappingEntryKey> allIds = getCustomizer().getAllIds(mappingEntryWildcarded, ctx);
         assertThat(allIds, hasItems(new MappingEntryKey(0L), new MappingEntryKey(2L), new MappingEntryKey(3L),
@@ -207,7 +193,7 @@ public class MappingEntryCustomizerTest
 
     @Override
     protected ReaderCustomizer<MappingEntry, MappingEntryBuilder> initCustomizer() {
-        return new MappingEntryCustomizer(nat44DumpManager, nat64DumpManager, mappingContext);
+        return new MappingEntryCustomizer(dumpManager, mappingContext);
     }
 
     private static Nat44StaticMappingDetailsReplyDump dumpReplyNat44NonEmpty() {
@@ -281,14 +267,14 @@ public class MappingEntryCustomizerTest
     private void stubFindDetailsNat44(final Nat44StaticMappingDetailsReplyDump dumpNat44, final int index) {
         when(mappingContext
             .findDetailsNat44(dumpNat44.nat44StaticMappingDetails, NatInstanceCustomizer.DEFAULT_VRF_ID.getId(),
-                NAT_MAPPING_ID, ctx.getMappingContext()))
+                NAT_MAPPING_ID, ctx.getMappingContext(), ctx.getModificationCache()))
             .thenReturn(Optional.of(dumpNat44.nat44StaticMappingDetails.get(index)));
     }
 
     private void stubFindDetailsNat64(final Nat64BibDetailsReplyDump dumpNat64, final int index) {
         when(mappingContext
             .findDetailsNat64(dumpNat64.nat64BibDetails, NatInstanceCustomizer.DEFAULT_VRF_ID.getId(),
-                NAT_MAPPING_ID, ctx.getMappingContext()))
+                NAT_MAPPING_ID, ctx.getMappingContext(), ctx.getModificationCache()))
             .thenReturn(Optional.of(dumpNat64.nat64BibDetails.get(index)));
     }
 }
\ No newline at end of file
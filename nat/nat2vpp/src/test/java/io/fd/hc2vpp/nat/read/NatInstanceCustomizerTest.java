@@ -46,14 +46,11 @@ import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 public class NatInstanceCustomizerTest
         extends InitializingListReaderCustomizerTest<Instance, InstanceKey, InstanceBuilder> {
     @Mock
-    private EntityDumpExecutor<Nat44StaticMappingDetailsReplyDump, Void> nat44DumpExecutor;
-    @Mock
-    private EntityDumpExecutor<Nat64BibDetailsReplyDump, Void> nat64DumpExecutor;
+    private EntityDumpExecutor<NatMappingDumps, Void> dumpExecutor;
 
     private KeyedInstanceIdentifier<Instance, InstanceKey> natInstanceId;
     private InstanceIdentifier<Instance> natInstanceWildcarded;
-    private DumpCacheManager<Nat44StaticMappingDetailsReplyDump, Void> mapEntryNat44DumpMgr;
-    private DumpCacheManager<Nat64BibDetailsReplyDump, Void> mapEntryNat64DumpMgr;
+    private DumpCacheManager<NatMappingDumps, Void> mapEntryDumpMgr;
 
     public NatInstanceCustomizerTest() {
         super(Instance.class, InstancesBuilder.class);
@@ -61,7 +58,7 @@ public class NatInstanceCustomizerTest
 
     @Override
     protected NatInstanceCustomizer initCustomizer() {
-        return new NatInstanceCustomizer(mapEntryNat44DumpMgr, mapEntryNat64DumpMgr);
+        return new NatInstanceCustomizer(mapEntryDumpMgr);
     }
 
     @Override
@@ -70,13 +67,9 @@ public class NatInstanceCustomizerTest
                 .child(Instance.class, new InstanceKey(NatInstanceCustomizer.DEFAULT_VRF_ID));
         natInstanceWildcarded = InstanceIdentifier.create(Instances.class)
                 .child(Instance.class);
-        mapEntryNat44DumpMgr = new DumpCacheManager.DumpCacheManagerBuilder<Nat44StaticMappingDetailsReplyDump, Void>()
-                .withExecutor(nat44DumpExecutor)
-                .acceptOnly(Nat44StaticMappingDetailsReplyDump.class)
-                .build();
-        mapEntryNat64DumpMgr = new DumpCacheManager.DumpCacheManagerBuilder<Nat64BibDetailsReplyDump, Void>()
-                .withExecutor(nat64DumpExecutor)
-                .acceptOnly(Nat64BibDetailsReplyDump.class)
+        mapEntryDumpMgr = new DumpCacheManager.DumpCacheManagerBuilder<NatMappingDumps, Void>()
+                .withExecutor(dumpExecutor)
+                .acceptOnly(NatMappingDumps.class)
                 .build();
     }
 
@@ -89,8 +82,8 @@ public class NatInstanceCustomizerTest
 
     @Test
     public void testReadAll() throws ReadFailedException {
-        when(nat44DumpExecutor.executeDump(natInstanceWildcarded, null)).thenReturn(nat44NonEmptyDump());
-        when(nat64DumpExecutor.executeDump(natInstanceWildcarded, null)).thenReturn(nat64NonEmptyDump());
+        when(dumpExecutor.executeDump(natInstanceWildcarded, null))
+                .thenReturn(new NatMappingDumps(nat44NonEmptyDump(), nat64NonEmptyDump()));
         final List<InstanceKey> allIds = getCustomizer().getAllIds(natInstanceWildcarded, ctx);
         assertThat(allIds, hasSize(6));
         assertThat(allIds, hasItems(
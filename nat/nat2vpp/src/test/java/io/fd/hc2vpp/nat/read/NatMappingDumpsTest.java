@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.nat.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.fd.hc2vpp.common.test.util.FutureProducer;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.jvpp.nat.dto.Nat44StaticMappingDetails;
+import io.fd.jvpp.nat.dto.Nat44StaticMappingDetailsReplyDump;
+import io.fd.jvpp.nat.dto.Nat64BibDetails;
+import io.fd.jvpp.nat.dto.Nat64BibDetailsReplyDump;
+import io.fd.jvpp.nat.future.FutureJVppNatFacade;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.Instances;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class NatMappingDumpsTest implements FutureProducer {
+
+    private static final InstanceIdentifier<Instances> ID = InstanceIdentifier.create(Instances.class);
+
+    @Mock
+    private FutureJVppNatFacade jvppNat;
+
+    private NatMappingDumps.NatMappingDumpExecutor executor;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        executor = new NatMappingDumps.NatMappingDumpExecutor(jvppNat);
+    }
+
+    @Test
+    public void testNat64DumpedLazily() throws ReadFailedException {
+        final Nat44StaticMappingDetailsReplyDump nat44Dump = new Nat44StaticMappingDetailsReplyDump();
+        nat44Dump.nat44StaticMappingDetails = Collections.singletonList(new Nat44StaticMappingDetails());
+        when(jvppNat.nat44StaticMappingDump(any())).thenReturn(future(nat44Dump));
+        final Nat64BibDetailsReplyDump nat64Dump = new Nat64BibDetailsReplyDump();
+        nat64Dump.nat64BibDetails = Collections.singletonList(new Nat64BibDetails());
+        when(jvppNat.nat64BibDump(any())).thenReturn(future(nat64Dump));
+
+        final NatMappingDumps dumps = executor.executeDump(ID, null);
+        assertSame(nat44Dump.nat44StaticMappingDetails, dumps.getNat44Details());
+        verify(jvppNat, never()).nat64BibDump(any());
+
+        assertSame(nat64Dump.nat64BibDetails, dumps.getNat64Details());
+        assertSame(nat64Dump.nat64BibDetails, dumps.getNat64Details());
+        verify(jvppNat).nat64BibDump(any());
+    }
+
+    @Test
+    public void testDumpsRequestedConcurrently() throws ReadFailedException {
+        final Nat44StaticMappingDetailsReplyDump nat44Dump = new Nat44StaticMappingDetailsReplyDump();
+        nat44Dump.nat44StaticMappingDetails = Collections.singletonList(new Nat44StaticMappingDetails());
+        final Nat64BibDetailsReplyDump nat64Dump = new Nat64BibDetailsReplyDump();
+        nat64Dump.nat64BibDetails = Collections.singletonList(new Nat64BibDetails());
+
+        // nat44 reply arrives only after nat64 dump was requested,
+        // which would not happen if nat44 reply was waited for first
+        final CompletableFuture<Nat44StaticMappingDetailsReplyDump> nat44Reply = new CompletableFuture<>();
+        when(jvppNat.nat44StaticMappingDump(any())).thenReturn(nat44Reply);
+        when(jvppNat.nat64BibDump(any())).then(invocation -> {
+            nat44Reply.complete(nat44Dump);
+            return future(nat64Dump);
+        });
+
+        final NatMappingDumps dumps = executor.executeDump(ID, null).requestNat64();
+        assertSame(nat44Dump.nat44StaticMappingDetails, dumps.getNat44Details());
+        assertSame(nat64Dump.nat64BibDetails, dumps.getNat64Details());
+    }
+
+    @Test(expected = ReadFailedException.class)
+    public void testDumpFailed() throws ReadFailedException {
+        when(jvppNat.nat44StaticMappingDump(any())).thenReturn(future(new Nat44StaticMappingDetailsReplyDump()));
+        when(jvppNat.nat64BibDump(any())).thenReturn(failedFuture());
+        final NatMappingDumps dumps = executor.executeDump(ID, null);
+        dumps.getNat44Details();
+        dumps.getNat64Details();
+    }
+
+    @Test
+    public void testEmptyDumps() throws ReadFailedException {
+        final NatMappingDumps dumps = new NatMappingDumps(null, new Nat64BibDetailsReplyDump());
+        assertEquals(0, dumps.getNat44Details().size());
+        assertEquals(0, dumps.getNat64Details().size());
+        assertEquals(0, NatMappingDumps.empty().getNat44Details().size());
+        assertEquals(0, NatMappingDumps.empty().getNat64Details().size());
+    }
+}
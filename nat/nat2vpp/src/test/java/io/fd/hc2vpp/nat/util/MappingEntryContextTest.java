@@ -20,6 +20,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -28,6 +29,7 @@ import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
 import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.jvpp.nat.dto.Nat44StaticMappingDetails;
 import java.util.Collections;
 import java.util.List;
@@ -110,6 +112,47 @@ public class MappingEntryContextTest implements Ipv4Translator {
         assertSame(details, ctx.findDetailsNat44(someDetails, natId, 0, mappingCtx).get());
     }
 
+    @Test
+    public void testFindDetailsCached() throws Exception {
+        final long natId = 0;
+        final MappingEntry entry = getEntry(0, "192.168.1.5/32", "17.14.4.6/32");
+        final Nat44StaticMappingDetails details = getDetails(0, "192.168.1.5", "17.14.4.6");
+        final MappingEntry entry2 = getEntry(1, "192.168.1.8/32", "17.14.4.10/32");
+        final Nat44StaticMappingDetails details2 = getDetails(1, "192.168.1.8", "17.14.4.10");
+
+        final List<Nat44StaticMappingDetails> someDetails = Lists.newArrayList(details, details2);
+
+        when(mappingCtx.read(MappingEntryContext.getTableId(natId)))
+                .thenReturn(Optional.of(new MappingTableBuilder()
+                        .setMappingEntry(Lists.newArrayList(
+                                MappingEntryContext.toCtxMapEntry(entry, 0),
+                                MappingEntryContext.toCtxMapEntry(entry2, 1)))
+                        .build()));
+
+        final ModificationCache cache = new ModificationCache();
+        assertSame(details, ctx.findDetailsNat44(someDetails, natId, 0, mappingCtx, cache).get());
+        assertSame(details2, ctx.findDetailsNat44(someDetails, natId, 1, mappingCtx, cache).get());
+        verify(mappingCtx, times(1)).read(MappingEntryContext.getTableId(natId));
+    }
+
+    @Test
+    public void testGetArtificialIndexCached() throws Exception {
+        final long natId = 0;
+        final MappingEntry entry = getEntry(0, "192.168.1.5/32", "17.14.4.6/32");
+        final Nat44StaticMappingDetails newDetails = getDetails(0, "192.168.1.98", "17.14.4.98");
+        final Nat44StaticMappingDetails newDetails2 = getDetails(0, "192.168.1.99", "17.14.4.99");
+        when(mappingCtx.read(any(InstanceIdentifier.class))).thenReturn(Optional.absent());
+        when(mappingCtx.read(MappingEntryContext.getTableId(natId)))
+                .thenReturn(Optional.of(new MappingTableBuilder()
+                        .setMappingEntry(Lists.newArrayList(MappingEntryContext.toCtxMapEntry(entry, 7)))
+                        .build()));
+
+        final ModificationCache cache = new ModificationCache();
+        assertEquals(8, ctx.getStoredOrArtificialIndex(natId, newDetails, mappingCtx, cache));
+        assertEquals(9, ctx.getStoredOrArtificialIndex(natId, newDetails2, mappingCtx, cache));
+        verify(mappingCtx, times(1)).read(MappingEntryContext.getTableId(natId));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testFindDetailsNoMappingStored() throws Exception {
         final long natId = 0;
@@ -46,8 +46,18 @@ public class RoutingConfiguration {
     @InjectConfig("learned-route-name-prefix")
     private String learnedRouteNamePrefix;
 
+    /**
+     * Whether paths of multi-hop routes should be programmed without waiting for reply to each of them
+     */
+    @InjectConfig("multipath-route-batch-write")
+    private boolean multipathRouteBatchWrite;
+
 
     public String getLearnedRouteNamePrefix() {
         return learnedRouteNamePrefix;
     }
+
+    public boolean isMultipathRouteBatchWrite() {
+        return multipathRouteBatchWrite;
+    }
 }
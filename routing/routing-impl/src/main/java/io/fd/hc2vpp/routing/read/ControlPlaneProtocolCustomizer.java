@@ -26,6 +26,7 @@ import io.fd.honeycomb.translate.spi.read.ListReaderCustomizer;
 import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
 import io.fd.jvpp.core.dto.Ip6FibDetailsReplyDump;
 import io.fd.jvpp.core.dto.IpFibDetailsReplyDump;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -86,9 +87,9 @@ final class ControlPlaneProtocolCustomizer
                 ipv4Routes = ipv4RoutesDumpManager.getDump(instanceIdentifier, modificationCache);
 
         if (ipv4Routes.isPresent()) {
-            return ipv4Routes.get().ipFibDetails.stream()
-                    .map(ipFibDetails -> ipFibDetails.tableId)
-                    .collect(Collectors.toList());
+            // dump is partitioned by table just once, and shared with route reads
+            return new ArrayList<>(FibDetailsIndex.getIndex(FibDetailsIndex.IPV4_INDEX_KEY,
+                    ipv4Routes.get().ipFibDetails, details -> details.tableId, modificationCache).getTableIds());
         }
         return Collections.emptyList();
     }
@@ -99,9 +100,8 @@ final class ControlPlaneProtocolCustomizer
                 ipv6Routes = ipv6RoutesDumpManager.getDump(instanceIdentifier, modificationCache);
 
         if (ipv6Routes.isPresent()) {
-            return ipv6Routes.get().ip6FibDetails.stream()
-                    .map(ipFibDetails -> ipFibDetails.tableId)
-                    .collect(Collectors.toList());
+            return new ArrayList<>(FibDetailsIndex.getIndex(FibDetailsIndex.IPV6_INDEX_KEY,
+                    ipv6Routes.get().ip6FibDetails, details -> details.tableId, modificationCache).getTableIds());
         }
         return Collections.emptyList();
     }
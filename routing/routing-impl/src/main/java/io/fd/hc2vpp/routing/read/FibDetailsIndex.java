@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.routing.read;
+
+import io.fd.hc2vpp.routing.trait.RouteMapper;
+import io.fd.honeycomb.translate.ModificationCache;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import javax.annotation.Nonnull;
+
+/**
+ * Index of fib dump entries by table id and unique route name. Dump is partitioned by table once, and route names of
+ * a table are computed once when first route of the table is searched, so that reading particular route is a hash
+ * lookup instead of filtering whole dump. Stored in {@link ModificationCache}, to have it destroyed with cache after
+ * transaction.
+ *
+ * @param <D> type of fib details
+ */
+final class FibDetailsIndex<D> implements RouteMapper {
+
+    static final String IPV4_INDEX_KEY = FibDetailsIndex.class.getName() + "_ipv4";
+    static final String IPV6_INDEX_KEY = FibDetailsIndex.class.getName() + "_ipv6";
+
+    private final List<D> details;
+    private final Map<Integer, List<D>> tables = new LinkedHashMap<>();
+    private final Map<Integer, Map<String, D>> routeNames = new HashMap<>();
+
+    private FibDetailsIndex(@Nonnull final List<D> details, @Nonnull final ToIntFunction<D> tableIdExtractor) {
+        this.details = details;
+        for (final D detail : details) {
+            tables.computeIfAbsent(tableIdExtractor.applyAsInt(detail), id -> new ArrayList<>()).add(detail);
+        }
+    }
+
+    /**
+     * Returns index for provided dump stored under provided key, or creates new one if there is none or if it was built
+     * for different dump.
+     */
+    @SuppressWarnings("unchecked")
+    static <D> FibDetailsIndex<D> getIndex(@Nonnull final String cacheKey, @Nonnull final List<D> details,
+                                           @Nonnull final ToIntFunction<D> tableIdExtractor,
+                                           @Nonnull final ModificationCache cache) {
+        final Object cached = cache.get(cacheKey);
+        if (cached instanceof FibDetailsIndex && ((FibDetailsIndex<D>) cached).details == details) {
+            return (FibDetailsIndex<D>) cached;
+        }
+        final FibDetailsIndex<D> index = new FibDetailsIndex<>(details, tableIdExtractor);
+        cache.put(cacheKey, index);
+        return index;
+    }
+
+    /**
+     * Ids of all dumped tables, in order of their first appearance in dump.
+     */
+    Set<Integer> getTableIds() {
+        return Collections.unmodifiableSet(tables.keySet());
+    }
+
+    /**
+     * Details of all routes dumped for provided table.
+     */
+    List<D> getTableDetails(final int tableId) {
+        return tables.getOrDefault(tableId, Collections.emptyList());
+    }
+
+    /**
+     * Finds details of route with provided unique name(either configured or learned) within provided table.
+     *
+     * @param tableId          table of the route
+     * @param routeName        unique route name, as produced by route names factory
+     * @param learnedPrefix    prefix of learned route names
+     * @param routeNameFactory produces unique route name of dumped details, invoked once per details of the table
+     */
+    Optional<D> find(final int tableId, @Nonnull final String routeName, @Nonnull final String learnedPrefix,
+                     @Nonnull final Function<D, String> routeNameFactory) {
+        final Map<String, D> routes = routeNames.computeIfAbsent(tableId, id -> indexTable(id, routeNameFactory));
+        final D route = routes.get(routeName);
+        if (route != null) {
+            return Optional.of(route);
+        }
+
+        // searched name can be learned name of dumped route
+        final String learnedNamePrefix = nameWithPrefix(learnedPrefix, "");
+        return routeName.startsWith(learnedNamePrefix)
+                ? Optional.ofNullable(routes.get(routeName.substring(learnedNamePrefix.length())))
+                : Optional.empty();
+    }
+
+    private Map<String, D> indexTable(final int tableId, final Function<D, String> routeNameFactory) {
+        final Map<String, D> routes = new HashMap<>();
+        for (final D detail : getTableDetails(tableId)) {
+            routes.putIfAbsent(routeNameFactory.apply(detail), detail);
+        }
+        return routes;
+    }
+}
@@ -24,6 +24,7 @@ import io.fd.hc2vpp.routing.naming.Ipv4RouteNamesFactory;
 import io.fd.hc2vpp.routing.trait.Ipv4RoutePathParser;
 import io.fd.hc2vpp.routing.trait.RouteMapper;
 import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.ListReaderCustomizer;
@@ -86,13 +87,19 @@ final class Ipv4RouteCustomizer
         final int protocolTableId = routingProtocolContext.getIndex(protocolName, readContext.getMappingContext());
 
         return ipv4RoutesDump.isPresent()
-                ? ipv4RoutesDump.get().ipFibDetails.stream()
-                .filter(details -> protocolTableId == details.tableId)
+                ? getIndex(ipv4RoutesDump.get(), readContext.getModificationCache())
+                .getTableDetails(protocolTableId).stream()
                 .map(ipFibDetails -> toKey(ipFibDetails, readContext.getMappingContext()))
                 .collect(Collectors.toList())
                 : Collections.emptyList();
     }
 
+    private static FibDetailsIndex<IpFibDetails> getIndex(@Nonnull final IpFibDetailsReplyDump dump,
+                                                          @Nonnull final ModificationCache cache) {
+        return FibDetailsIndex.getIndex(FibDetailsIndex.IPV4_INDEX_KEY, dump.ipFibDetails, details -> details.tableId,
+                cache);
+    }
+
     /**
      * route id is represented as number, but there's no index in dumped data,
      * so index is assigned to name formatted as tableId_address_addressLength(should be unique combination)
@@ -145,11 +152,10 @@ final class Ipv4RouteCustomizer
 
         if (ipv4RoutesDump.isPresent() && !ipv4RoutesDump.get().ipFibDetails.isEmpty()) {
 
-            final java.util.Optional<IpFibDetails> opDetail = ipv4RoutesDump.get().ipFibDetails.stream()
-                    .filter(details -> protocolTableId == details.tableId)
-                    .filter(details -> equalsWithConfigOrLearned(configuration.getLearnedRouteNamePrefix(), mappedName,
-                            namesFactory.uniqueRouteName(details, readContext.getMappingContext())))
-                    .findAny();
+            final java.util.Optional<IpFibDetails> opDetail =
+                    getIndex(ipv4RoutesDump.get(), readContext.getModificationCache())
+                            .find(protocolTableId, mappedName, configuration.getLearnedRouteNamePrefix(),
+                                    details -> namesFactory.uniqueRouteName(details, readContext.getMappingContext()));
 
             if (opDetail.isPresent()) {
                 final IpFibDetails detail = opDetail.get();
@@ -24,6 +24,7 @@ import io.fd.hc2vpp.routing.naming.Ipv6RouteNamesFactory;
 import io.fd.hc2vpp.routing.trait.Ipv6RoutePathParser;
 import io.fd.hc2vpp.routing.trait.RouteMapper;
 import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.ListReaderCustomizer;
@@ -85,13 +86,19 @@ final class Ipv6RouteCustomizer
         final int protocolTableId = routingProtocolContext.getIndex(protocolName, readContext.getMappingContext());
 
         return ipv6RoutesDump.isPresent()
-                ? ipv6RoutesDump.get().ip6FibDetails.stream()
-                .filter(details -> protocolTableId == details.tableId)
+                ? getIndex(ipv6RoutesDump.get(), readContext.getModificationCache())
+                .getTableDetails(protocolTableId).stream()
                 .map(ip6FibDetails -> toKey(ip6FibDetails, readContext.getMappingContext()))
                 .collect(Collectors.toList())
                 : Collections.emptyList();
     }
 
+    private static FibDetailsIndex<Ip6FibDetails> getIndex(@Nonnull final Ip6FibDetailsReplyDump dump,
+                                                           @Nonnull final ModificationCache cache) {
+        return FibDetailsIndex.getIndex(FibDetailsIndex.IPV6_INDEX_KEY, dump.ip6FibDetails, details -> details.tableId,
+                cache);
+    }
+
     /**
      * route id is represented as number, but there's no index in dumped data,
      * so index is assigned to name formatted as tableId_address_addressLength(should be unique combination)
@@ -142,11 +149,10 @@ final class Ipv6RouteCustomizer
 
         if (ipv6RoutesDump.isPresent() && !ipv6RoutesDump.get().ip6FibDetails.isEmpty()) {
 
-            final java.util.Optional<Ip6FibDetails> opDetail = ipv6RoutesDump.get().ip6FibDetails.stream()
-                    .filter(details -> protocolTableId == details.tableId)
-                    .filter(details -> equalsWithConfigOrLearned(configuration.getLearnedRouteNamePrefix(), mappedName,
-                            namesFactory.uniqueRouteName(details, readContext.getMappingContext())))
-                    .findAny();
+            final java.util.Optional<Ip6FibDetails> opDetail =
+                    getIndex(ipv6RoutesDump.get(), readContext.getModificationCache())
+                            .find(protocolTableId, mappedName, configuration.getLearnedRouteNamePrefix(),
+                                    details -> namesFactory.uniqueRouteName(details, readContext.getMappingContext()));
 
             if (opDetail.isPresent()) {
                 final Ip6FibDetails detail = opDetail.get();
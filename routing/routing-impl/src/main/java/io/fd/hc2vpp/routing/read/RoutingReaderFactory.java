@@ -28,6 +28,7 @@ import io.fd.honeycomb.translate.impl.read.GenericListReader;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.honeycomb.translate.read.registry.ModifiableReaderRegistryBuilder;
 import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.StaticCacheKeyFactory;
 import io.fd.jvpp.core.dto.Ip6FibDetailsReplyDump;
 import io.fd.jvpp.core.dto.Ip6FibDump;
 import io.fd.jvpp.core.dto.IpFibDetailsReplyDump;
@@ -51,6 +52,9 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
  */
 public final class RoutingReaderFactory implements ReaderFactory, Ipv4RoutingNodes, Ipv6RoutingNodes {
 
+    private static final String IPV4_FIB_DUMP_KEY = RoutingReaderFactory.class.getName() + "_ipv4FibDump";
+    private static final String IPV6_FIB_DUMP_KEY = RoutingReaderFactory.class.getName() + "_ipv6FibDump";
+
     @Inject
     private RoutingConfiguration configuration;
 
@@ -111,13 +115,17 @@ public final class RoutingReaderFactory implements ReaderFactory, Ipv4RoutingNod
             org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev180313.StaticRoutes1.class);
     }
 
+    /**
+     * VPP does not allow to dump routes of single table, therefore fib is dumped once per read transaction
+     * regardless of read protocol or route, and partitioned by table (see {@link FibDetailsIndex}).
+     */
     private DumpCacheManager<IpFibDetailsReplyDump, Void> newIpv4RoutesDumpManager(
         @Nonnull final FutureJVppCore vppApi) {
         return new DumpCacheManager.DumpCacheManagerBuilder<IpFibDetailsReplyDump, Void>()
             .withExecutor(
                 (identifier, params) -> getReplyForRead(vppApi.ipFibDump(new IpFibDump()).toCompletableFuture(),
                                                         identifier))
-            .acceptOnly(IpFibDetailsReplyDump.class)
+            .withCacheKeyFactory(new StaticCacheKeyFactory(IPV4_FIB_DUMP_KEY, IpFibDetailsReplyDump.class))
             .build();
     }
 
@@ -127,7 +135,7 @@ public final class RoutingReaderFactory implements ReaderFactory, Ipv4RoutingNod
             .withExecutor(
                 (identifier, params) -> getReplyForRead(
                     vppApi.ip6FibDump(new Ip6FibDump()).toCompletableFuture(), identifier))
-            .acceptOnly(Ip6FibDetailsReplyDump.class)
+            .withCacheKeyFactory(new StaticCacheKeyFactory(IPV6_FIB_DUMP_KEY, Ip6FibDetailsReplyDump.class))
             .build();
     }
 
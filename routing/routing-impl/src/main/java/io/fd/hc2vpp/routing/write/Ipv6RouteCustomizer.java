@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.JvppWriteBatch;
 import io.fd.hc2vpp.common.translate.util.MultiNamingContext;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.routing.naming.Ipv6RouteNamesFactory;
@@ -37,15 +38,23 @@ import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.jvpp.core.dto.IpAddDelRoute;
 import io.fd.jvpp.core.future.FutureJVppCore;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.fib.table.management.rev180521.VniReference;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.fib.table.management.rev180521.vpp.fib.table.management.fib.tables.TableKey;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.ipv6.unicast.routing.rev180319.VppIpv6RouteAttributesAugmentation;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.Ipv6;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.ipv6.Route;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.ipv6.RouteKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev180313.next.hop.content.NextHopOptions;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev180313.next.hop.content.next.hop.options.NextHopList;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev180313.next.hop.content.next.hop.options.SimpleNextHop;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev180313.next.hop.content.next.hop.options.SpecialNextHop;
@@ -79,13 +88,31 @@ public class Ipv6RouteCustomizer extends FutureJVppCustomizer
      */
     private final Ipv6RouteNamesFactory namesFactory;
 
+    /**
+     * If enabled, paths of multi-hop routes are sent without waiting for reply to each of them,
+     * and hop mappings are written by single context update
+     */
+    private final boolean multipathBatchWrite;
+
     Ipv6RouteCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
                         @Nonnull final NamingContext interfaceContext,
                         @Nonnull final NamingContext routesContext,
                         @Nonnull final NamingContext routingProtocolContext,
                         @Nonnull final MultiNamingContext routesHopsContext,
                         @Nonnull final VppClassifierContextManager classifierContextManager) {
+        this(futureJVppCore, interfaceContext, routesContext, routingProtocolContext, routesHopsContext,
+                classifierContextManager, false);
+    }
+
+    Ipv6RouteCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
+                        @Nonnull final NamingContext interfaceContext,
+                        @Nonnull final NamingContext routesContext,
+                        @Nonnull final NamingContext routingProtocolContext,
+                        @Nonnull final MultiNamingContext routesHopsContext,
+                        @Nonnull final VppClassifierContextManager classifierContextManager,
+                        final boolean multipathBatchWrite) {
         super(futureJVppCore);
+        this.multipathBatchWrite = multipathBatchWrite;
 
         this.routesContext = routesContext;
         this.routesHopsContext = routesHopsContext;
@@ -125,6 +152,50 @@ public class Ipv6RouteCustomizer extends FutureJVppCustomizer
         routesContext.addName(routeName, writeContext.getMappingContext());
     }
 
+    @Override
+    public void updateCurrentAttributes(@Nonnull final InstanceIdentifier<Route> instanceIdentifier,
+                                        @Nonnull final Route routeBefore,
+                                        @Nonnull final Route routeAfter, @Nonnull final WriteContext writeContext)
+            throws WriteFailedException {
+        final String parentProtocolName = instanceIdentifier.firstKeyOf(ControlPlaneProtocol.class).getName();
+        final String routeName = namesFactory.uniqueRouteName(parentProtocolName, routeAfter);
+        final NextHopOptions optionsBefore = routeBefore.getNextHop().getNextHopOptions();
+        final NextHopOptions optionsAfter = routeAfter.getNextHop().getNextHopOptions();
+        final boolean sameAttributes =
+                Objects.equals(routeBefore.augmentation(VppIpv6RouteAttributesAugmentation.class),
+                        routeAfter.augmentation(VppIpv6RouteAttributesAugmentation.class));
+
+        if (sameAttributes && Objects.equals(optionsBefore, optionsAfter)) {
+            LOG.debug("Next hops of route {} did not change, nothing to update", instanceIdentifier);
+        } else if (sameAttributes && optionsBefore instanceof NextHopList && optionsAfter instanceof NextHopList) {
+            updateMultihopRoute(instanceIdentifier, parentProtocolName, routeName, routeBefore, routeAfter,
+                    writeContext);
+        } else if (sameAttributes && optionsAfter instanceof SimpleNextHop
+                && (optionsBefore instanceof SimpleNextHop || optionsBefore instanceof NextHopList)) {
+            // non-multipath add replaces all paths of the prefix in one step
+            writeRoute(simpleHopRequestFactory.createIpv6SimpleHopRequest(true, parentProtocolName, routeAfter,
+                    writeContext.getMappingContext()), instanceIdentifier);
+            if (optionsBefore instanceof NextHopList) {
+                removeMappingForEachHop(routeName, writeContext, orderedHops(routeBefore));
+            }
+        } else if (sameAttributes && optionsBefore instanceof SimpleNextHop && optionsAfter instanceof NextHopList) {
+            // paths of new hops are added before the old path is removed, so the prefix stays reachable
+            final IpAddDelRoute oldPath = simpleHopRequestFactory.createIpv6SimpleHopRequest(false, true,
+                    parentProtocolName, routeBefore, writeContext.getMappingContext());
+            final List<IpAddDelRoute> newPaths =
+                    writeMultihopRoute(instanceIdentifier, parentProtocolName, routeName, routeAfter, writeContext,
+                            true);
+            if (newPaths.stream().noneMatch(path -> samePath(path, oldPath))) {
+                writeRoute(oldPath, instanceIdentifier);
+            }
+        } else {
+            // special and table lookup routes are not path based, so they can't be swapped in place.
+            // Change of route attributes (classify table) changes type of the route as well
+            writeRoute(instanceIdentifier, parentProtocolName, routeName, routeBefore, writeContext, false);
+            writeRoute(instanceIdentifier, parentProtocolName, routeName, routeAfter, writeContext, true);
+        }
+    }
+
     @Override
     public void deleteCurrentAttributes(@Nonnull final InstanceIdentifier<Route> instanceIdentifier,
                                         @Nonnull final Route route,
@@ -147,15 +218,7 @@ public class Ipv6RouteCustomizer extends FutureJVppCustomizer
                             writeContext.getMappingContext()),
                     identifier);
         } else if (route.getNextHop().getNextHopOptions() instanceof NextHopList) {
-            final List<NextHop> createdHops =
-                    writeMultihopRoute(identifier, parentProtocolName, route, writeContext, isAdd);
-
-            // after all hops has been added, add mappings to preserve hop ids, or remove them
-            if (isAdd) {
-                addMappingForEachHop(routeName, writeContext, createdHops);
-            } else {
-                removeMappingForEachHop(routeName, writeContext, createdHops);
-            }
+            writeMultihopRoute(identifier, parentProtocolName, routeName, route, writeContext, isAdd);
         } else if (route.getNextHop().getNextHopOptions() instanceof SpecialNextHop) {
             writeSpecialHopRoute(identifier, route, parentProtocolName, writeContext, isAdd);
         } else if (route.getNextHop().getNextHopOptions() instanceof TableLookupCase) {
@@ -166,31 +229,111 @@ public class Ipv6RouteCustomizer extends FutureJVppCustomizer
         }
     }
 
-    private List<NextHop> writeMultihopRoute(final InstanceIdentifier<Route> identifier,
-                                             final String parentProtocolName,
-                                             final Route route,
-                                             final WriteContext writeContext, final boolean isAdd)
+    /**
+     * @return requests of all hops of the route
+     */
+    private List<IpAddDelRoute> writeMultihopRoute(final InstanceIdentifier<Route> identifier,
+                                                   final String parentProtocolName,
+                                                   final String routeName,
+                                                   final Route route,
+                                                   final WriteContext writeContext, final boolean isAdd)
             throws WriteFailedException {
         // list of next hops
         final NextHopList hopList = NextHopList.class.cast(route.getNextHop().getNextHopOptions());
         final MappingContext mappingContext = writeContext.getMappingContext();
         LOG.debug("Writing hop list {} for route {}", hopList, identifier);
 
-        // order hops to preserve order by ids(even that model is not ordered)
-        final List<NextHop> orderedHops = hopList.getNextHopList().getNextHop().stream()
-                .sorted(Comparator.comparing(NextHop::getIndex))
-                .collect(Collectors.toList());
+        final List<NextHop> orderedHops = orderedHops(route);
 
+        final List<IpAddDelRoute> requests = new ArrayList<>(orderedHops.size());
         for (NextHop hop : orderedHops) {
             LOG.debug("Writing hop {} for route {}", hop, identifier);
 
-            final IpAddDelRoute request = multipathHopRequestFactory
-                    .createIpv6MultipathHopRequest(isAdd, parentProtocolName, route, hop, mappingContext);
+            requests.add(multipathHopRequestFactory
+                    .createIpv6MultipathHopRequest(isAdd, parentProtocolName, route, hop, mappingContext));
+        }
+        final List<NextHop> writtenHops = new ArrayList<>(orderedHops.size());
+        try {
+            writeHopRoutes(requests, identifier, index -> writtenHops.add(orderedHops.get(index)));
+        } finally {
+            // after hops has been written, add mappings to preserve hop ids, or remove them.
+            // If write failed, only hops written to VPP are (un)mapped
+            if (isAdd) {
+                addMappingForEachHop(routeName, writeContext, writtenHops);
+            } else {
+                removeMappingForEachHop(routeName, writeContext, writtenHops);
+            }
+        }
+        return requests;
+    }
+
+    /**
+     * Adds paths of new hops before removing paths of stale ones, so the prefix stays reachable during the update.
+     * Hops are matched by their unique names, paths of unchanged hops are left untouched.
+     */
+    private void updateMultihopRoute(@Nonnull final InstanceIdentifier<Route> identifier,
+                                     @Nonnull final String parentProtocolName, @Nonnull final String routeName,
+                                     @Nonnull final Route routeBefore, @Nonnull final Route routeAfter,
+                                     @Nonnull final WriteContext writeContext) throws WriteFailedException {
+        final MappingContext mappingContext = writeContext.getMappingContext();
+        final Map<String, NextHop> hopsBefore = hopsByName(routeBefore);
+        final Map<String, NextHop> hopsAfter = hopsByName(routeAfter);
 
-            writeRoute(request, identifier);
+        final List<NextHop> addedHops = hopsAfter.entrySet().stream()
+                .filter(entry -> !hopsBefore.containsKey(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+        final List<NextHop> removedHops = hopsBefore.entrySet().stream()
+                .filter(entry -> !hopsAfter.containsKey(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+        // same path, only the hop id changed
+        final List<NextHop> renumberedHops = hopsAfter.entrySet().stream()
+                .filter(entry -> hopsBefore.containsKey(entry.getKey()))
+                .filter(entry -> !hopsBefore.get(entry.getKey()).getIndex().equals(entry.getValue().getIndex()))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+        LOG.debug("Updating hop list of route {}, adding {}, removing {}", identifier, addedHops, removedHops);
+
+        final List<IpAddDelRoute> requests = new ArrayList<>(addedHops.size() + removedHops.size());
+        for (NextHop hop : addedHops) {
+            requests.add(multipathHopRequestFactory
+                    .createIpv6MultipathHopRequest(true, parentProtocolName, routeAfter, hop, mappingContext));
+        }
+        for (NextHop hop : removedHops) {
+            requests.add(multipathHopRequestFactory
+                    .createIpv6MultipathHopRequest(false, parentProtocolName, routeBefore, hop, mappingContext));
         }
+        final List<NextHop> unmappedHops = new ArrayList<>(removedHops.size() + renumberedHops.size());
+        final List<NextHop> mappedHops = new ArrayList<>(addedHops.size() + renumberedHops.size());
+        try {
+            writeHopRoutes(requests, identifier, index -> {
+                if (index < addedHops.size()) {
+                    mappedHops.add(addedHops.get(index));
+                } else {
+                    unmappedHops.add(removedHops.get(index - addedHops.size()));
+                }
+            });
+        } finally {
+            // If write failed, only hops written to VPP are (un)mapped
+            unmappedHops.addAll(renumberedHops);
+            mappedHops.addAll(renumberedHops);
+            removeMappingForEachHop(routeName, writeContext, unmappedHops);
+            addMappingForEachHop(routeName, writeContext, mappedHops);
+        }
+    }
 
-        return orderedHops;
+    private Map<String, NextHop> hopsByName(@Nonnull final Route route) {
+        final Map<String, NextHop> hops = new LinkedHashMap<>();
+        orderedHops(route).forEach(hop -> hops.put(namesFactory.uniqueRouteHopName(hop), hop));
+        return hops;
+    }
+
+    private static List<NextHop> orderedHops(@Nonnull final Route route) {
+        // order hops to preserve order by ids(even that model is not ordered)
+        return NextHopList.class.cast(route.getNextHop().getNextHopOptions()).getNextHopList().getNextHop().stream()
+                .sorted(Comparator.comparing(NextHop::getIndex))
+                .collect(Collectors.toList());
     }
 
     private void writeSpecialHopRoute(final @Nonnull InstanceIdentifier<Route> identifier, final @Nonnull Route route,
@@ -213,8 +356,53 @@ public class Ipv6RouteCustomizer extends FutureJVppCustomizer
         getReplyForWrite(getFutureJVpp().ipAddDelRoute(request).toCompletableFuture(), identifier);
     }
 
+    /**
+     * Checks whether requests refer to the same path of the prefix.
+     */
+    private static boolean samePath(final IpAddDelRoute first, final IpAddDelRoute second) {
+        return first.nextHopSwIfIndex == second.nextHopSwIfIndex
+                && Arrays.equals(first.nextHopAddress, second.nextHopAddress);
+    }
+
+    /**
+     * Writes paths of multi-hop route. In batch mode, requests are pipelined using {@link JvppWriteBatch},
+     * VPP processes them in the order they were sent. After first failure no more requests are sent, but replies of
+     * all sent requests are awaited. Otherwise requests are written one by one, until first failure.
+     *
+     * @param onWritten invoked with index of each successfully written request, so that caller can map hops that
+     *                  were written even if the write fails as a whole
+     * @throws WriteFailedException failure of the first failed request, in batch mode with failures of other
+     *                              requests suppressed
+     */
+    private void writeHopRoutes(final List<IpAddDelRoute> requests, final InstanceIdentifier<Route> identifier,
+                                final IntConsumer onWritten) throws WriteFailedException {
+        if (!multipathBatchWrite) {
+            for (int i = 0; i < requests.size(); i++) {
+                writeRoute(requests.get(i), identifier);
+                onWritten.accept(i);
+            }
+            return;
+        }
+        LOG.debug("Writing {} hop requests {} for path {}", requests.size(), requests, identifier);
+        final JvppWriteBatch batch = new JvppWriteBatch();
+        for (int i = 0; i < requests.size(); i++) {
+            final IpAddDelRoute request = requests.get(i);
+            final int index = i;
+            batch.write(() -> getFutureJVpp().ipAddDelRoute(request), identifier, () -> onWritten.accept(index));
+        }
+        batch.awaitAll();
+    }
+
     private void removeMappingForEachHop(final @Nonnull String routeName, final @Nonnull WriteContext writeContext,
                                          final List<NextHop> createdHops) {
+        if (multipathBatchWrite) {
+            if (!createdHops.isEmpty()) {
+                routesHopsContext.removeChildren(routeName, createdHops.stream()
+                        .map(namesFactory::uniqueRouteHopName)
+                        .collect(Collectors.toList()), writeContext.getMappingContext());
+            }
+            return;
+        }
         createdHops.forEach(nextHop -> routesHopsContext.removeChild(routeName,
                 namesFactory.uniqueRouteHopName(nextHop),
                 writeContext.getMappingContext()));
@@ -222,6 +410,15 @@ public class Ipv6RouteCustomizer extends FutureJVppCustomizer
 
     private void addMappingForEachHop(final @Nonnull String routeName, final @Nonnull WriteContext writeContext,
                                       final List<NextHop> createdHops) {
+        if (multipathBatchWrite) {
+            if (!createdHops.isEmpty()) {
+                final Map<Integer, String> children = new LinkedHashMap<>();
+                createdHops.forEach(nextHop -> children.put(Integer.valueOf(nextHop.getIndex()),
+                        namesFactory.uniqueRouteHopName(nextHop)));
+                routesHopsContext.addChildren(routeName, children, writeContext.getMappingContext());
+            }
+            return;
+        }
         createdHops.forEach(nextHop -> routesHopsContext.addChild(routeName,
                 Integer.valueOf(nextHop.getIndex()),
                 namesFactory.uniqueRouteHopName(nextHop),
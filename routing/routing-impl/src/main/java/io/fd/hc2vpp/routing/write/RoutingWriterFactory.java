@@ -95,12 +95,18 @@ public final class RoutingWriterFactory implements WriterFactory, Ipv4RoutingNod
                                  new GenericWriter<>(RoutingIIds.RT_CPS_CP_SR_SRV4_IPV4_RT,
                                                      new Ipv4RouteCustomizer(vppApi, interfaceContext, routeContext,
                                                                              routingProtocolContext, routHopContext,
-                                                                             vppClassifierContextManager)), IFACE_ID);
+                                                                             vppClassifierContextManager,
+                                                                             configuration
+                                                                                 .isMultipathRouteBatchWrite())),
+                                 IFACE_ID);
         registry.subtreeAddAfter(ipv6RoutingHandledChildren(RoutingIIds.RT_CPS_CP_SR_SRV6_IPV6_RT_PARENT),
                                  new GenericWriter<>(RoutingIIds.RT_CPS_CP_SR_SRV6_IPV6_RT,
                                                      new Ipv6RouteCustomizer(vppApi, interfaceContext, routeContext,
                                                                              routingProtocolContext, routHopContext,
-                                                                             vppClassifierContextManager)), IFACE_ID);
+                                                                             vppClassifierContextManager,
+                                                                             configuration
+                                                                                 .isMultipathRouteBatchWrite())),
+                                 IFACE_ID);
 
         //router advertisements
         registry.subtreeAdd(raHandledChildren(),
@@ -57,6 +57,17 @@ public class SimpleHopRequestFactory extends BasicHopRequestFactory implements R
                                                     @Nonnull final String parentProtocolName,
                                                     @Nonnull final Route route,
                                                     @Nonnull final MappingContext mappingContext) {
+        return createIpv4SimpleHopRequest(add, false, parentProtocolName, route, mappingContext);
+    }
+
+    /**
+     * @param multipath if true, request adds or removes just the path of the hop, not whole route
+     */
+    public IpAddDelRoute createIpv4SimpleHopRequest(final boolean add,
+                                                    final boolean multipath,
+                                                    @Nonnull final String parentProtocolName,
+                                                    @Nonnull final Route route,
+                                                    @Nonnull final MappingContext mappingContext) {
         SimpleNextHop simpleNextHop = (SimpleNextHop) route.getNextHop().getNextHopOptions();
         SimpleNextHop1 hop = simpleNextHop.augmentation(SimpleNextHop1.class);
 
@@ -70,7 +81,7 @@ public class SimpleHopRequestFactory extends BasicHopRequestFactory implements R
         if (routingAttributes != null &&
                 classifyTablePresent(routingAttributes.getClassifyTable(), getVppClassifierContextManager(),
                         mappingContext)) {
-            return getSimpleHopRequest(add,
+            return getSimpleHopRequest(add, multipath,
                                        route.getDestinationPrefix(),
                                        nextHopInterfaceIndex,
                                        hop.getNextHopAddress(),
@@ -80,7 +91,7 @@ public class SimpleHopRequestFactory extends BasicHopRequestFactory implements R
                                                           getVppClassifierContextManager(), mappingContext),
                                        true);
         } else {
-            return getSimpleHopRequest(add,
+            return getSimpleHopRequest(add, multipath,
                     route.getDestinationPrefix(),
                     nextHopInterfaceIndex,
                     hop.getNextHopAddress(),
@@ -95,6 +106,17 @@ public class SimpleHopRequestFactory extends BasicHopRequestFactory implements R
                                                     @Nonnull final String parentProtocolName,
                                                     @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.ipv6.Route route,
                                                     @Nonnull final MappingContext mappingContext) {
+        return createIpv6SimpleHopRequest(add, false, parentProtocolName, route, mappingContext);
+    }
+
+    /**
+     * @param multipath if true, request adds or removes just the path of the hop, not whole route
+     */
+    public IpAddDelRoute createIpv6SimpleHopRequest(final boolean add,
+                                                    final boolean multipath,
+                                                    @Nonnull final String parentProtocolName,
+                                                    @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.ipv6.Route route,
+                                                    @Nonnull final MappingContext mappingContext) {
         SimpleNextHop simpleNextHop = (SimpleNextHop) route.getNextHop().getNextHopOptions();
         final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.ipv6.route.next.hop.SimpleNextHop1
                 hop = simpleNextHop.augmentation(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.ipv6.route.next.hop.SimpleNextHop1.class);
@@ -108,7 +130,7 @@ public class SimpleHopRequestFactory extends BasicHopRequestFactory implements R
         if (routingAttributes != null &&
                 classifyTablePresent(routingAttributes.getClassifyTable(), getVppClassifierContextManager(),
                         mappingContext)) {
-            return getSimpleHopRequest(add,
+            return getSimpleHopRequest(add, multipath,
                     route.getDestinationPrefix(),
                     nextHopInterfaceIndex,
                     hop.getNextHopAddress(),
@@ -118,7 +140,7 @@ public class SimpleHopRequestFactory extends BasicHopRequestFactory implements R
                             mappingContext),
                     true);
         } else {
-            return getSimpleHopRequest(add,
+            return getSimpleHopRequest(add, multipath,
                     route.getDestinationPrefix(),
                     nextHopInterfaceIndex,
                     hop.getNextHopAddress(),
@@ -130,25 +152,29 @@ public class SimpleHopRequestFactory extends BasicHopRequestFactory implements R
     }
 
 
-    private IpAddDelRoute getSimpleHopRequest(final boolean isAdd, @Nonnull final Ipv6Prefix destinationAddress,
+    private IpAddDelRoute getSimpleHopRequest(final boolean isAdd, final boolean multipath,
+                                              @Nonnull final Ipv6Prefix destinationAddress,
                                               final int nextHopInterfaceIndex,
                                               @Nonnull final Ipv6Address nextHopAddress,
                                               final int primaryVrf, final int secondaryVrf,
                                               final int classifyTableIndex, final boolean classifyIndexSet) {
         return flaglessAddDelRouteRequest(booleanToByte(isAdd), nextHopInterfaceIndex,
                 ipv6AddressNoZoneToArray(nextHopAddress), DEFAULT_HOP_WEIGHT, BYTE_TRUE,
-                ipv6AddressPrefixToArray(destinationAddress), extractPrefix(destinationAddress.getValue()), BYTE_FALSE,
+                ipv6AddressPrefixToArray(destinationAddress), extractPrefix(destinationAddress.getValue()),
+                booleanToByte(multipath),
                 primaryVrf, secondaryVrf, classifyTableIndex, booleanToByte(classifyIndexSet));
     }
 
-    private IpAddDelRoute getSimpleHopRequest(final boolean isAdd, @Nonnull final Ipv4Prefix destinationAddress,
+    private IpAddDelRoute getSimpleHopRequest(final boolean isAdd, final boolean multipath,
+                                              @Nonnull final Ipv4Prefix destinationAddress,
                                               final int nextHopInterfaceIndex,
                                               @Nonnull final Ipv4Address nextHopAddress,
                                               final int primaryVrf, final int secondaryVrf,
                                               final int classifyTableIndex, final boolean classifyIndexSet) {
         return flaglessAddDelRouteRequest(booleanToByte(isAdd), nextHopInterfaceIndex,
                 ipv4AddressNoZoneToArray(nextHopAddress.getValue()), DEFAULT_HOP_WEIGHT, BYTE_FALSE,
-                ipv4AddressPrefixToArray(destinationAddress), extractPrefix(destinationAddress.getValue()), BYTE_FALSE,
+                ipv4AddressPrefixToArray(destinationAddress), extractPrefix(destinationAddress.getValue()),
+                booleanToByte(multipath),
                 primaryVrf, secondaryVrf, classifyTableIndex, booleanToByte(classifyIndexSet));
     }
 }
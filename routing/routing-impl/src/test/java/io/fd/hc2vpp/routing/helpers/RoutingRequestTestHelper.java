@@ -170,4 +170,15 @@ public interface RoutingRequestTestHelper extends ByteDataTranslator, FutureProd
                 .collect(RWUtils.singleItemCollector());
     }
 
+    default NextHop getHopWithId(
+            final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.ipv6.Route route,
+            final int id) {
+        return NextHopList.class
+                .cast(route.getNextHop().getNextHopOptions())
+                .getNextHopList().getNextHop()
+                .stream()
+                .filter(nextHop -> Integer.valueOf(nextHop.key().getIndex()) == id)
+                .collect(RWUtils.singleItemCollector());
+    }
+
 }
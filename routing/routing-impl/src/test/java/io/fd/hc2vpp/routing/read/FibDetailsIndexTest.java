@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.routing.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.jvpp.core.dto.IpFibDetails;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FibDetailsIndexTest {
+
+    private static final String KEY = "index";
+    private static final String LEARNED_PREFIX = "learned-route";
+
+    private ModificationCache cache;
+    private List<IpFibDetails> details;
+    private AtomicInteger nameInvocations;
+    private Function<IpFibDetails, String> nameFactory;
+
+    @Before
+    public void setUp() {
+        cache = new ModificationCache();
+        details = Arrays.asList(details(1, 10), details(1, 11), details(2, 10));
+        nameInvocations = new AtomicInteger();
+        nameFactory = detail -> {
+            nameInvocations.incrementAndGet();
+            return "protocol-" + detail.tableId + "_" + detail.addressLength;
+        };
+    }
+
+    @Test
+    public void testFind() {
+        final FibDetailsIndex<IpFibDetails> index = getIndex(details);
+
+        assertSame(details.get(0), index.find(1, "protocol-1_10", LEARNED_PREFIX, nameFactory).get());
+        assertSame(details.get(1), index.find(1, "protocol-1_11", LEARNED_PREFIX, nameFactory).get());
+        assertSame(details.get(2), index.find(2, "protocol-2_10", LEARNED_PREFIX, nameFactory).get());
+        // names are produced only once per details
+        assertEquals(3, nameInvocations.get());
+    }
+
+    @Test
+    public void testFindLearned() {
+        assertSame(details.get(1),
+                getIndex(details).find(1, "learned-route_protocol-1_11", LEARNED_PREFIX, nameFactory).get());
+    }
+
+    @Test
+    public void testFindWrongTable() {
+        assertFalse(getIndex(details).find(2, "protocol-1_10", LEARNED_PREFIX, nameFactory).isPresent());
+        // only details of requested table are named
+        assertEquals(1, nameInvocations.get());
+    }
+
+    @Test
+    public void testGetTableIds() {
+        assertEquals(Arrays.asList(1, 2), new ArrayList<>(getIndex(details).getTableIds()));
+    }
+
+    @Test
+    public void testGetTableDetails() {
+        final FibDetailsIndex<IpFibDetails> index = getIndex(details);
+
+        assertEquals(Arrays.asList(details.get(0), details.get(1)), index.getTableDetails(1));
+        assertEquals(Collections.singletonList(details.get(2)), index.getTableDetails(2));
+        assertTrue(index.getTableDetails(3).isEmpty());
+        // partitioning does not require route names
+        assertEquals(0, nameInvocations.get());
+    }
+
+    @Test
+    public void testIndexCached() {
+        assertSame(getIndex(details), getIndex(details));
+    }
+
+    @Test
+    public void testIndexRebuiltForDifferentDump() {
+        final FibDetailsIndex<IpFibDetails> index = getIndex(details);
+        assertNotSame(index, getIndex(new ArrayList<>(details)));
+    }
+
+    private FibDetailsIndex<IpFibDetails> getIndex(final List<IpFibDetails> dump) {
+        return FibDetailsIndex.getIndex(KEY, dump, detail -> detail.tableId, cache);
+    }
+
+    private static IpFibDetails details(final int tableId, final int prefixLength) {
+        final IpFibDetails detail = new IpFibDetails();
+        detail.tableId = tableId;
+        detail.addressLength = (byte) prefixLength;
+        return detail;
+    }
+}
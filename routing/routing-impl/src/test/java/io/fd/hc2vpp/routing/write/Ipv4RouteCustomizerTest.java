@@ -19,14 +19,18 @@ package io.fd.hc2vpp.routing.write;
 import static io.fd.hc2vpp.routing.Ipv4RouteData.FIRST_ADDRESS_AS_ARRAY;
 import static io.fd.hc2vpp.routing.Ipv4RouteData.SECOND_ADDRESS_AS_ARRAY;
 import static io.fd.hc2vpp.routing.helpers.InterfaceTestHelper.INTERFACE_INDEX;
-import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.fib.management.FibManagementIIds;
 import io.fd.hc2vpp.routing.naming.Ipv4RouteNamesFactory;
@@ -34,6 +38,7 @@ import io.fd.honeycomb.test.tools.HoneycombTestRunner;
 import io.fd.honeycomb.test.tools.annotations.InjectTestData;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.jvpp.core.dto.IpAddDelRoute;
+import io.fd.jvpp.core.dto.IpAddDelRouteReply;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
@@ -96,6 +101,11 @@ public class Ipv4RouteCustomizerTest extends RouteCustomizerTest {
         when(writeContext.readAfter(secondaryFibIid)).thenReturn(Optional.of(IPV4_TABLE));
     }
 
+    private Ipv4RouteCustomizer batchCustomizer() {
+        return new Ipv4RouteCustomizer(api, interfaceContext, new NamingContext("route", "route-context"),
+                routingProtocolContext, routeHopContext, classifyManager, true);
+    }
+
     @Test(expected = WriteFailedException.class)
     public void testWriteSingleHopInvalid(
             @InjectTestData(resourcePath = "/ipv4/simplehop/simpleHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH) StaticRoutes route)
@@ -176,6 +186,82 @@ public class Ipv4RouteCustomizerTest extends RouteCustomizerTest {
                         mappingContext);
     }
 
+    @Test
+    public void testWriteHopListBatch(
+            @InjectTestData(resourcePath = "/ipv4/multihop/multiHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes route)
+            throws WriteFailedException {
+        final Route route1 = getIpv4RouteWithId(route, new Ipv4Prefix("192.168.2.1/24"));
+        final String routeName = namesFactory.uniqueRouteName(ROUTE_PROTOCOL_NAME, route1);
+        noMappingDefined(mappingContext, routeName, "route-context");
+
+        batchCustomizer().writeCurrentAttributes(ROUTE_IID, route1, writeContext);
+        verifyInvocation(2,
+                ImmutableList.of(
+                        desiredFlaglessResult(1, 0, 1, FIRST_ADDRESS_AS_ARRAY, 24,
+                                FIRST_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 2, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1),
+                        desiredFlaglessResult(1, 0, 1, FIRST_ADDRESS_AS_ARRAY, 24,
+                                SECOND_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 3, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1)), api,
+                requestCaptor);
+
+        // all hops mapped at once
+        verify(routeHopContext, times(1)).addChildren(routeName,
+                ImmutableMap.of(1, namesFactory.uniqueRouteHopName(getHopWithId(route1, 1)),
+                        2, namesFactory.uniqueRouteHopName(getHopWithId(route1, 2))),
+                mappingContext);
+        verify(routeHopContext, never()).addChild(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    public void testDeleteHopListBatch(
+            @InjectTestData(resourcePath = "/ipv4/multihop/multiHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes route)
+            throws WriteFailedException {
+        final Route route1 = getIpv4RouteWithId(route, new Ipv4Prefix("192.168.2.1/24"));
+        final String routeName = namesFactory.uniqueRouteName(ROUTE_PROTOCOL_NAME, route1);
+        noMappingDefined(mappingContext, routeName, "route-context");
+
+        batchCustomizer().deleteCurrentAttributes(ROUTE_IID, route1, writeContext);
+        verifyInvocation(2,
+                ImmutableList.of(
+                        desiredFlaglessResult(0, 0, 1, FIRST_ADDRESS_AS_ARRAY, 24,
+                                FIRST_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 2, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1),
+                        desiredFlaglessResult(0, 0, 1, FIRST_ADDRESS_AS_ARRAY, 24,
+                                SECOND_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 3, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1)), api,
+                requestCaptor);
+
+        verify(routeHopContext, times(1)).removeChildren(routeName,
+                ImmutableList.of(namesFactory.uniqueRouteHopName(getHopWithId(route1, 1)),
+                        namesFactory.uniqueRouteHopName(getHopWithId(route1, 2))),
+                mappingContext);
+        verify(routeHopContext, never()).removeChild(any(), any(), any());
+    }
+
+    @Test
+    public void testWriteHopListBatchFailed(
+            @InjectTestData(resourcePath = "/ipv4/multihop/multiHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes route) {
+        final Route route1 = getIpv4RouteWithId(route, new Ipv4Prefix("192.168.2.1/24"));
+        final String routeName = namesFactory.uniqueRouteName(ROUTE_PROTOCOL_NAME, route1);
+        noMappingDefined(mappingContext, routeName, "route-context");
+        when(api.ipAddDelRoute(any())).thenReturn(future(new IpAddDelRouteReply())).thenReturn(failedFuture());
+
+        try {
+            batchCustomizer().writeCurrentAttributes(ROUTE_IID, route1, writeContext);
+        } catch (WriteFailedException e) {
+            // only hop written to VPP is mapped
+            verify(routeHopContext, times(1)).addChildren(routeName,
+                    ImmutableMap.of(1, namesFactory.uniqueRouteHopName(getHopWithId(route1, 1))), mappingContext);
+            verify(routeHopContext, never()).addChild(any(), anyInt(), any(), any());
+            return;
+        }
+        fail("WriteFailedException expected");
+    }
+
     @Test
     public void testWriteSpecialHop(
             @InjectTestData(resourcePath = "/ipv4/specialhop/specialHopRouteBlackhole.json", id = STATIC_ROUTE_PATH) StaticRoutes route)
@@ -191,19 +277,173 @@ public class Ipv4RouteCustomizerTest extends RouteCustomizerTest {
     }
 
     @Test
-    public void testUpdate(
-            @InjectTestData(resourcePath = "/ipv4/specialhop/specialHopRouteBlackhole.json", id = STATIC_ROUTE_PATH) StaticRoutes route) {
-        try {
-            customizer.updateCurrentAttributes(ROUTE_IID,
-                                               new RouteBuilder().build(),
-                                               getIpv4RouteWithId(route,
-                                                                  new Ipv4Prefix("192.168.2.1/24")), writeContext);
-        } catch (WriteFailedException e) {
-            assertTrue(e.getCause() instanceof UnsupportedOperationException);
-            verifyNotInvoked(api);
-            return;
-        }
-        fail("Test should have thrown exception");
+    public void testUpdateHopList(
+            @InjectTestData(resourcePath = "/ipv4/multihop/multiHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes routesBefore,
+            @InjectTestData(resourcePath = "/ipv4/multihop/multiHopRouteWithClassifierChangedHop.json",
+                id = STATIC_ROUTE_PATH) StaticRoutes routesAfter)
+            throws WriteFailedException {
+        final Route before = getIpv4RouteWithId(routesBefore, new Ipv4Prefix("192.168.2.1/24"));
+        final Route after = getIpv4RouteWithId(routesAfter, new Ipv4Prefix("192.168.2.1/24"));
+        final String routeName = namesFactory.uniqueRouteName(ROUTE_PROTOCOL_NAME, after);
+
+        customizer.updateCurrentAttributes(ROUTE_IID, before, after, writeContext);
+
+        // new path is added before the stale one is removed, unchanged path is not touched
+        verifyInvocation(2,
+                ImmutableList.of(
+                        desiredFlaglessResult(1, 0, 1, FIRST_ADDRESS_AS_ARRAY, 24,
+                                new byte[]{-64, -88, 2, 3}, INTERFACE_INDEX, 3, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1),
+                        desiredFlaglessResult(0, 0, 1, FIRST_ADDRESS_AS_ARRAY, 24,
+                                SECOND_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 3, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1)), api, requestCaptor);
+
+        verify(routeHopContext, times(1))
+                .removeChild(routeName, namesFactory.uniqueRouteHopName(getHopWithId(before, 2)), mappingContext);
+        verify(routeHopContext, times(1))
+                .addChild(routeName, 2, namesFactory.uniqueRouteHopName(getHopWithId(after, 2)), mappingContext);
+        verify(routeHopContext, never())
+                .removeChild(routeName, namesFactory.uniqueRouteHopName(getHopWithId(before, 1)), mappingContext);
+    }
+
+    @Test
+    public void testUpdateHopListBatch(
+            @InjectTestData(resourcePath = "/ipv4/multihop/multiHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes routesBefore,
+            @InjectTestData(resourcePath = "/ipv4/multihop/multiHopRouteWithClassifierChangedHop.json",
+                id = STATIC_ROUTE_PATH) StaticRoutes routesAfter)
+            throws WriteFailedException {
+        final Route before = getIpv4RouteWithId(routesBefore, new Ipv4Prefix("192.168.2.1/24"));
+        final Route after = getIpv4RouteWithId(routesAfter, new Ipv4Prefix("192.168.2.1/24"));
+        final String routeName = namesFactory.uniqueRouteName(ROUTE_PROTOCOL_NAME, after);
+
+        batchCustomizer().updateCurrentAttributes(ROUTE_IID, before, after, writeContext);
+
+        verifyInvocation(2,
+                ImmutableList.of(
+                        desiredFlaglessResult(1, 0, 1, FIRST_ADDRESS_AS_ARRAY, 24,
+                                new byte[]{-64, -88, 2, 3}, INTERFACE_INDEX, 3, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1),
+                        desiredFlaglessResult(0, 0, 1, FIRST_ADDRESS_AS_ARRAY, 24,
+                                SECOND_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 3, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1)), api, requestCaptor);
+
+        verify(routeHopContext, times(1)).removeChildren(routeName,
+                ImmutableList.of(namesFactory.uniqueRouteHopName(getHopWithId(before, 2))), mappingContext);
+        verify(routeHopContext, times(1)).addChildren(routeName,
+                ImmutableMap.of(2, namesFactory.uniqueRouteHopName(getHopWithId(after, 2))), mappingContext);
+    }
+
+    @Test
+    public void testUpdateHopListToSingleHop(
+            @InjectTestData(resourcePath = "/ipv4/multihop/multiHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes routesBefore,
+            @InjectTestData(resourcePath = "/ipv4/simplehop/simpleHopRouteWithClassifier.json",
+                id = STATIC_ROUTE_PATH) StaticRoutes routesAfter)
+            throws WriteFailedException {
+        final Route before = getIpv4RouteWithId(routesBefore, new Ipv4Prefix("192.168.2.1/24"));
+        final Route after = getIpv4RouteWithId(routesAfter, new Ipv4Prefix("192.168.2.1/24"));
+        final String routeName = namesFactory.uniqueRouteName(ROUTE_PROTOCOL_NAME, after);
+
+        customizer.updateCurrentAttributes(ROUTE_IID, before, after, writeContext);
+
+        // single non-multipath add replaces all paths of the route
+        verifyInvocation(1, ImmutableList
+                        .of(desiredFlaglessResult(1, 0, 0, FIRST_ADDRESS_AS_ARRAY, 24,
+                                SECOND_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 0, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1)),
+                api, requestCaptor);
+        verify(routeHopContext, times(1))
+                .removeChild(routeName, namesFactory.uniqueRouteHopName(getHopWithId(before, 1)), mappingContext);
+        verify(routeHopContext, times(1))
+                .removeChild(routeName, namesFactory.uniqueRouteHopName(getHopWithId(before, 2)), mappingContext);
+    }
+
+    @Test
+    public void testUpdateSingleHopToHopList(
+            @InjectTestData(resourcePath = "/ipv4/simplehop/simpleHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes routesBefore,
+            @InjectTestData(resourcePath = "/ipv4/multihop/multiHopRouteWithClassifierChangedHop.json",
+                id = STATIC_ROUTE_PATH) StaticRoutes routesAfter)
+            throws WriteFailedException {
+        final Route before = getIpv4RouteWithId(routesBefore, new Ipv4Prefix("192.168.2.1/24"));
+        final Route after = getIpv4RouteWithId(routesAfter, new Ipv4Prefix("192.168.2.1/24"));
+        final String routeName = namesFactory.uniqueRouteName(ROUTE_PROTOCOL_NAME, after);
+
+        customizer.updateCurrentAttributes(ROUTE_IID, before, after, writeContext);
+
+        // paths of new hops are added first, old path is removed afterwards
+        verifyInvocation(3,
+                ImmutableList.of(
+                        desiredFlaglessResult(1, 0, 1, FIRST_ADDRESS_AS_ARRAY, 24,
+                                FIRST_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 2, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1),
+                        desiredFlaglessResult(1, 0, 1, FIRST_ADDRESS_AS_ARRAY, 24,
+                                new byte[]{-64, -88, 2, 3}, INTERFACE_INDEX, 3, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1),
+                        desiredFlaglessResult(0, 0, 1, FIRST_ADDRESS_AS_ARRAY, 24,
+                                SECOND_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 0, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1)),
+                api, requestCaptor);
+        verify(routeHopContext, times(1))
+                .addChild(routeName, 1, namesFactory.uniqueRouteHopName(getHopWithId(after, 1)), mappingContext);
+        verify(routeHopContext, times(1))
+                .addChild(routeName, 2, namesFactory.uniqueRouteHopName(getHopWithId(after, 2)), mappingContext);
+    }
+
+    @Test
+    public void testUpdateSingleHopToHopListWithSamePath(
+            @InjectTestData(resourcePath = "/ipv4/simplehop/simpleHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes routesBefore,
+            @InjectTestData(resourcePath = "/ipv4/multihop/multiHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes routesAfter)
+            throws WriteFailedException {
+        final Route before = getIpv4RouteWithId(routesBefore, new Ipv4Prefix("192.168.2.1/24"));
+        final Route after = getIpv4RouteWithId(routesAfter, new Ipv4Prefix("192.168.2.1/24"));
+
+        customizer.updateCurrentAttributes(ROUTE_IID, before, after, writeContext);
+
+        // old path is one of the new hops, so it is kept
+        verifyInvocation(2,
+                ImmutableList.of(
+                        desiredFlaglessResult(1, 0, 1, FIRST_ADDRESS_AS_ARRAY, 24,
+                                FIRST_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 2, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1),
+                        desiredFlaglessResult(1, 0, 1, FIRST_ADDRESS_AS_ARRAY, 24,
+                                SECOND_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 3, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1)),
+                api, requestCaptor);
+    }
+
+    @Test
+    public void testUpdateNotChanged(
+            @InjectTestData(resourcePath = "/ipv4/multihop/multiHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes route)
+            throws WriteFailedException {
+        final Route route1 = getIpv4RouteWithId(route, new Ipv4Prefix("192.168.2.1/24"));
+        customizer.updateCurrentAttributes(ROUTE_IID, route1, route1, writeContext);
+        verifyNotInvoked(api);
+        verifyZeroInteractions(routeHopContext);
+    }
+
+    @Test
+    public void testUpdateSpecialHop(
+            @InjectTestData(resourcePath = "/ipv4/specialhop/specialHopRouteBlackhole.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes routesBefore,
+            @InjectTestData(resourcePath = "/ipv4/specialhop/specialHopRouteReceive.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes routesAfter)
+            throws WriteFailedException {
+        customizer.updateCurrentAttributes(ROUTE_IID,
+                getIpv4RouteWithId(routesBefore, new Ipv4Prefix("192.168.2.1/24")),
+                getIpv4RouteWithId(routesAfter, new Ipv4Prefix("192.168.2.1/24")), writeContext);
+
+        // special hops are not paths, so route is replaced by delete and add
+        verifyInvocation(2,
+                ImmutableList.of(
+                        desiredSpecialResult(0, 0, FIRST_ADDRESS_AS_ARRAY, 24, 1, 0, 0, 0, TABLE_ID.intValue(), 0),
+                        desiredSpecialResult(1, 0, FIRST_ADDRESS_AS_ARRAY, 24, 0, 1, 0, 0, TABLE_ID.intValue(), 0)),
+                api, requestCaptor);
     }
 
 
@@ -17,10 +17,17 @@
 package io.fd.hc2vpp.routing.write;
 
 import static io.fd.hc2vpp.routing.helpers.InterfaceTestHelper.INTERFACE_INDEX;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import io.fd.hc2vpp.fib.management.FibManagementIIds;
 import io.fd.hc2vpp.routing.Ipv6RouteData;
 import io.fd.hc2vpp.routing.naming.Ipv6RouteNamesFactory;
@@ -28,6 +35,7 @@ import io.fd.honeycomb.test.tools.HoneycombTestRunner;
 import io.fd.honeycomb.test.tools.annotations.InjectTestData;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.jvpp.core.dto.IpAddDelRoute;
+import io.fd.jvpp.core.dto.IpAddDelRouteReply;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
@@ -61,6 +69,8 @@ public class Ipv6RouteCustomizerTest extends RouteCustomizerTest {
             .setAddressFamily(SEC_TABLE_KEY.getAddressFamily()).build();
     private static final Ipv6Prefix IPV_6_PREFIX = new Ipv6Prefix("2001:0db8:0a0b:12f0:0000:0000:0000:0001/64");
     private static final Ipv6Prefix IPV_6_PREFIX_128 = new Ipv6Prefix("2001:0db8:0a0b:12f0:0000:0000:0000:0001/128");
+    private static final byte[] THIRD_ADDRESS_AS_ARRAY = {32, 1, 13, -72, 10, 11, 18, -16, 0, 0, 0, 0, 0, 0, 0, 3};
+    private static final byte[] FOURTH_ADDRESS_AS_ARRAY = {32, 1, 13, -72, 10, 11, 18, -16, 0, 0, 0, 0, 0, 0, 0, 4};
 
     private static final InstanceIdentifier<Route> ROUTE_IID = CONTROL_PROTOCOL_IID
             .child(StaticRoutes.class)
@@ -90,6 +100,11 @@ public class Ipv6RouteCustomizerTest extends RouteCustomizerTest {
         when(writeContext.readAfter(secondaryFibIid)).thenReturn(Optional.of(IPV6_TABLE));
     }
 
+    private Ipv6RouteCustomizer batchCustomizer() {
+        return new Ipv6RouteCustomizer(api, interfaceContext, routingProtocolContext, routingProtocolContext,
+                routeHopContext, classifyManager, true);
+    }
+
     @Test(expected = WriteFailedException.class)
     public void testWriteSingleInvalidHop(
             @InjectTestData(resourcePath = "/ipv6/simplehop/simpleHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH) StaticRoutes route)
@@ -162,10 +177,149 @@ public class Ipv6RouteCustomizerTest extends RouteCustomizerTest {
                 requestCaptor);
     }
 
-    @Test(expected = UnsupportedOperationException.class)
-    public void testUpdate() throws WriteFailedException {
-        customizer.updateCurrentAttributes(ROUTE_IID, Ipv6RouteData.IPV6_ROUTE_WITH_CLASSIFIER_BLACKHOLE_HOP,
-                Ipv6RouteData.IPV6_ROUTE_WITH_CLASSIFIER_RECEIVE_HOP, writeContext);
+    @Test
+    public void testWriteHopListBatch(
+            @InjectTestData(resourcePath = "/ipv6/multihop/multiHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes route)
+            throws WriteFailedException {
+        whenAddRouteThenSuccess(api);
+        final Route route1 = getIpv6RouteWithId(route, IPV_6_PREFIX);
+        final String routeName = namesFactory.uniqueRouteName(ROUTE_PROTOCOL_NAME, route1);
+
+        batchCustomizer().writeCurrentAttributes(ROUTE_IID, route1, writeContext);
+        verifyInvocation(2,
+                ImmutableList.of(
+                        desiredFlaglessResult(1, 1, 1, Ipv6RouteData.FIRST_ADDRESS_AS_ARRAY, 64,
+                                Ipv6RouteData.SECOND_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 2, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1),
+                        desiredFlaglessResult(1, 1, 1, Ipv6RouteData.FIRST_ADDRESS_AS_ARRAY, 64,
+                                Ipv6RouteData.SECOND_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 2, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1)), api,
+                requestCaptor);
+
+        // all hops mapped at once
+        verify(routeHopContext, times(1)).addChildren(routeName,
+                ImmutableMap.of(1, namesFactory.uniqueRouteHopName(getHopWithId(route1, 1)),
+                        2, namesFactory.uniqueRouteHopName(getHopWithId(route1, 2))),
+                mappingContext);
+        verify(routeHopContext, never()).addChild(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    public void testWriteHopListBatchFailed(
+            @InjectTestData(resourcePath = "/ipv6/multihop/multiHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes route) {
+        when(api.ipAddDelRoute(any())).thenReturn(future(new IpAddDelRouteReply())).thenReturn(failedFuture());
+        final Route route1 = getIpv6RouteWithId(route, IPV_6_PREFIX);
+        final String routeName = namesFactory.uniqueRouteName(ROUTE_PROTOCOL_NAME, route1);
+
+        try {
+            batchCustomizer().writeCurrentAttributes(ROUTE_IID, route1, writeContext);
+        } catch (WriteFailedException e) {
+            // only hop written to VPP is mapped
+            verify(routeHopContext, times(1)).addChildren(routeName,
+                    ImmutableMap.of(1, namesFactory.uniqueRouteHopName(getHopWithId(route1, 1))), mappingContext);
+            verify(routeHopContext, never()).addChild(any(), anyInt(), any(), any());
+            return;
+        }
+        fail("WriteFailedException expected");
+    }
+
+    @Test
+    public void testUpdateHopListToSingleHop(
+            @InjectTestData(resourcePath = "/ipv6/multihop/multiHopRouteWithClassifierChangedHop.json",
+                id = STATIC_ROUTE_PATH) StaticRoutes routesBefore,
+            @InjectTestData(resourcePath = "/ipv6/simplehop/simpleHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes routesAfter)
+            throws WriteFailedException {
+        whenAddRouteThenSuccess(api);
+        final Route before = getIpv6RouteWithId(routesBefore, IPV_6_PREFIX);
+        final Route after = getIpv6RouteWithId(routesAfter, IPV_6_PREFIX);
+        final String routeName = namesFactory.uniqueRouteName(ROUTE_PROTOCOL_NAME, after);
+
+        customizer.updateCurrentAttributes(ROUTE_IID, before, after, writeContext);
+
+        // single non-multipath add replaces all paths of the route
+        verifyInvocation(1, ImmutableList
+                .of(desiredFlaglessResult(1, 1, 0, Ipv6RouteData.FIRST_ADDRESS_AS_ARRAY, 64,
+                        Ipv6RouteData.SECOND_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 0, TABLE_ID.intValue(),
+                        0, CLASSIFY_TABLE_INDEX, 1)), api, requestCaptor);
+        verify(routeHopContext, times(1))
+                .removeChild(routeName, namesFactory.uniqueRouteHopName(getHopWithId(before, 1)), mappingContext);
+        verify(routeHopContext, times(1))
+                .removeChild(routeName, namesFactory.uniqueRouteHopName(getHopWithId(before, 2)), mappingContext);
+    }
+
+    @Test
+    public void testUpdateSingleHopToHopList(
+            @InjectTestData(resourcePath = "/ipv6/simplehop/simpleHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes routesBefore,
+            @InjectTestData(resourcePath = "/ipv6/multihop/multiHopRouteWithClassifierOtherHops.json",
+                id = STATIC_ROUTE_PATH) StaticRoutes routesAfter)
+            throws WriteFailedException {
+        whenAddRouteThenSuccess(api);
+        final Route before = getIpv6RouteWithId(routesBefore, IPV_6_PREFIX);
+        final Route after = getIpv6RouteWithId(routesAfter, IPV_6_PREFIX);
+        final String routeName = namesFactory.uniqueRouteName(ROUTE_PROTOCOL_NAME, after);
+
+        customizer.updateCurrentAttributes(ROUTE_IID, before, after, writeContext);
+
+        // paths of new hops are added first, old path is removed afterwards
+        verifyInvocation(3, ImmutableList
+                .of(desiredFlaglessResult(1, 1, 1, Ipv6RouteData.FIRST_ADDRESS_AS_ARRAY, 64,
+                                THIRD_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 2, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1),
+                        desiredFlaglessResult(1, 1, 1, Ipv6RouteData.FIRST_ADDRESS_AS_ARRAY, 64,
+                                FOURTH_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 2, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1),
+                        desiredFlaglessResult(0, 1, 1, Ipv6RouteData.FIRST_ADDRESS_AS_ARRAY, 64,
+                                Ipv6RouteData.SECOND_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 0, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1)), api, requestCaptor);
+        verify(routeHopContext, times(1))
+                .addChild(routeName, 1, namesFactory.uniqueRouteHopName(getHopWithId(after, 1)), mappingContext);
+        verify(routeHopContext, times(1))
+                .addChild(routeName, 2, namesFactory.uniqueRouteHopName(getHopWithId(after, 2)), mappingContext);
+    }
+
+    @Test
+    public void testUpdateSingleHopToHopListWithSamePath(
+            @InjectTestData(resourcePath = "/ipv6/simplehop/simpleHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes routesBefore,
+            @InjectTestData(resourcePath = "/ipv6/multihop/multiHopRouteWithClassifierChangedHop.json",
+                id = STATIC_ROUTE_PATH) StaticRoutes routesAfter)
+            throws WriteFailedException {
+        whenAddRouteThenSuccess(api);
+        customizer.updateCurrentAttributes(ROUTE_IID, getIpv6RouteWithId(routesBefore, IPV_6_PREFIX),
+                getIpv6RouteWithId(routesAfter, IPV_6_PREFIX), writeContext);
+
+        // old path is one of the new hops, so it is kept
+        verifyInvocation(2, ImmutableList
+                .of(desiredFlaglessResult(1, 1, 1, Ipv6RouteData.FIRST_ADDRESS_AS_ARRAY, 64,
+                                Ipv6RouteData.SECOND_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 2, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1),
+                        desiredFlaglessResult(1, 1, 1, Ipv6RouteData.FIRST_ADDRESS_AS_ARRAY, 64,
+                                THIRD_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 2, TABLE_ID.intValue(), 0,
+                                CLASSIFY_TABLE_INDEX, 1)), api, requestCaptor);
+    }
+
+    @Test
+    public void testUpdateSpecialHop(
+            @InjectTestData(resourcePath = "/ipv6/specialhop/specialHopRouteBlackhole.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes routesBefore,
+            @InjectTestData(resourcePath = "/ipv6/specialhop/specialHopRouteReceive.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes routesAfter)
+            throws WriteFailedException {
+        whenAddRouteThenSuccess(api);
+        customizer.updateCurrentAttributes(ROUTE_IID, getIpv6RouteWithId(routesBefore, IPV_6_PREFIX),
+                getIpv6RouteWithId(routesAfter, IPV_6_PREFIX), writeContext);
+
+        // special hops are not paths, so route is replaced by delete and add
+        verifyInvocation(2, ImmutableList
+                        .of(desiredSpecialResult(0, 1, Ipv6RouteData.FIRST_ADDRESS_AS_ARRAY, 64,
+                                1, 0, 0, 0, TABLE_ID.intValue(), 0),
+                            desiredSpecialResult(1, 1, Ipv6RouteData.FIRST_ADDRESS_AS_ARRAY, 64,
+                                0, 1, 0, 0, TABLE_ID.intValue(), 0)),
+                api, requestCaptor);
     }
 
     @Test
@@ -210,6 +364,33 @@ public class Ipv6RouteCustomizerTest extends RouteCustomizerTest {
                 requestCaptor);
     }
 
+    @Test
+    public void testDeleteHopListBatch(
+            @InjectTestData(resourcePath = "/ipv6/multihop/multiHopRouteWithClassifier.json", id = STATIC_ROUTE_PATH)
+                StaticRoutes route)
+            throws WriteFailedException {
+        whenAddRouteThenSuccess(api);
+        final Route route1 = getIpv6RouteWithId(route, IPV_6_PREFIX);
+        final String routeName = namesFactory.uniqueRouteName(ROUTE_PROTOCOL_NAME, route1);
+
+        batchCustomizer().deleteCurrentAttributes(ROUTE_IID, route1, writeContext);
+        verifyInvocation(2,
+                ImmutableList.of(
+                        desiredFlaglessResult(0, 1, 1, Ipv6RouteData.FIRST_ADDRESS_AS_ARRAY, 64,
+                                Ipv6RouteData.SECOND_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 2, 1, 0,
+                                CLASSIFY_TABLE_INDEX, 1),
+                        desiredFlaglessResult(0, 1, 1, Ipv6RouteData.FIRST_ADDRESS_AS_ARRAY, 64,
+                                Ipv6RouteData.SECOND_ADDRESS_AS_ARRAY, INTERFACE_INDEX, 2, 1, 0,
+                                CLASSIFY_TABLE_INDEX, 1)), api,
+                requestCaptor);
+
+        verify(routeHopContext, times(1)).removeChildren(routeName,
+                ImmutableList.of(namesFactory.uniqueRouteHopName(getHopWithId(route1, 1)),
+                        namesFactory.uniqueRouteHopName(getHopWithId(route1, 2))),
+                mappingContext);
+        verify(routeHopContext, never()).removeChild(any(), any(), any());
+    }
+
     @Test
     public void testWriteSpecialHop(
             @InjectTestData(resourcePath = "/ipv6/specialhop/specialHopRouteBlackhole.json", id = STATIC_ROUTE_PATH) StaticRoutes route)
@@ -19,9 +19,11 @@ package io.fd.hc2vpp.srv6.read.policy.request;
 import com.google.common.base.Preconditions;
 import io.fd.hc2vpp.srv6.read.ReadRequest;
 import io.fd.hc2vpp.srv6.util.CandidatePathContextManager;
+import io.fd.hc2vpp.srv6.util.Ipv6AddressKey;
 import io.fd.hc2vpp.srv6.util.JVppRequest;
 import io.fd.hc2vpp.srv6.util.PolicyContextManager;
 import io.fd.hc2vpp.srv6.util.Srv6Util;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
@@ -34,7 +36,9 @@ import io.fd.jvpp.core.types.Srv6SidList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
@@ -85,6 +89,7 @@ public class PolicyReadRequest extends JVppRequest
     private static final Logger LOG = LoggerFactory.getLogger(PolicyReadRequest.class);
     private static final SrPoliciesDump STATIC_DUMP_REQUEST = new SrPoliciesDump();
     private static final SrPoliciesDetailsReplyDump STATIC_EMPTY_REPLY = new SrPoliciesDetailsReplyDump();
+    private static final String BSID_INDEX_CACHE_KEY = PolicyReadRequest.class.getName() + "_byBsid";
     private final PolicyContextManager policyCtx;
     private final CandidatePathContextManager candidateCtx;
     private final DumpCacheManager<SrPoliciesDetailsReplyDump, Void> dumpManager;
@@ -121,12 +126,38 @@ public class PolicyReadRequest extends JVppRequest
         PolicyKey key = id.firstKeyOf(Policy.class);
         Ipv6Address bsid =
                 policyCtx.getPolicyBsid(key.getColor(), key.getEndpoint().getIpv6Address(), ctx.getMappingContext());
+        if (bsid == null) {
+            LOG.debug("No policy mapping found for key: {}", key);
+            return;
+        }
 
-        dumpManager.getDump(id, ctx.getModificationCache()).or(STATIC_EMPTY_REPLY).srPoliciesDetails.stream()
-                .filter(srPoliciesDetails -> arrayToIpv6AddressNoZone(srPoliciesDetails.bsid.addr).getValue()
-                        .equals(bsid.getValue()))
-                .findFirst()
-                .ifPresent((SrPoliciesDetails details) -> bindPolicy(details, ctx, builder));
+        final SrPoliciesDetails details = getPoliciesByBsid(id, ctx).get(Ipv6AddressKey.of(bsid));
+        if (details != null) {
+            bindPolicy(details, ctx, builder);
+        }
+    }
+
+    /**
+     * Returns policies dumped in current transaction, indexed by binary form of their BSID.
+     */
+    private Map<Ipv6AddressKey, SrPoliciesDetails> getPoliciesByBsid(@Nonnull final InstanceIdentifier<?> id,
+                                                                     @Nonnull final ReadContext ctx)
+            throws ReadFailedException {
+        final ModificationCache cache = ctx.getModificationCache();
+        @SuppressWarnings("unchecked")
+        Map<Ipv6AddressKey, SrPoliciesDetails> index = (Map<Ipv6AddressKey, SrPoliciesDetails>) cache.get(
+                BSID_INDEX_CACHE_KEY);
+        if (index == null) {
+            final List<SrPoliciesDetails> policies =
+                    dumpManager.getDump(id, cache).or(STATIC_EMPTY_REPLY).srPoliciesDetails;
+            index = new HashMap<>(policies.size() * 2);
+            for (SrPoliciesDetails details : policies) {
+                // keep the first policy for given BSID
+                index.putIfAbsent(Ipv6AddressKey.of(details.bsid.addr), details);
+            }
+            cache.put(BSID_INDEX_CACHE_KEY, index);
+        }
+        return index;
     }
 
     private void bindPolicy(SrPoliciesDetails srPoliciesDetails, @Nonnull ReadContext ctx,
@@ -237,18 +268,19 @@ public class PolicyReadRequest extends JVppRequest
         Preconditions.checkNotNull(bsid, "Weight/Bsid not resolved for Iid: {}", id);
 
         builder.setSegments(new SegmentsBuilder().build());
-        dumpManager.getDump(id, ctx.getModificationCache()).or(STATIC_EMPTY_REPLY).srPoliciesDetails.stream()
-                .filter(srPoliciesDetails -> arrayToIpv6AddressNoZone(srPoliciesDetails.bsid.addr).getValue()
-                        .equals(bsid))
-                .forEach(srPoliciesDetails -> Arrays.stream(srPoliciesDetails.sidLists)
-                        .forEach(srv6SidList -> {
-                            if (srv6SidList.weight == weight.intValue()) {
-                                List<Segment> segments = IntStream.range(0, srv6SidList.numSids)
-                                        .mapToObj(i -> parseSrv6Sid(i, srv6SidList.sids[i]))
-                                        .collect(Collectors.toList());
-                                builder.setSegments(new SegmentsBuilder().setSegment(segments).build());
-                            }
-                        }));
+        final SrPoliciesDetails srPoliciesDetails =
+                getPoliciesByBsid(id, ctx).get(Ipv6AddressKey.of(new Ipv6Address(bsid)));
+        if (srPoliciesDetails == null || srPoliciesDetails.sidLists == null) {
+            return;
+        }
+        Arrays.stream(srPoliciesDetails.sidLists)
+                .filter(srv6SidList -> srv6SidList.weight == weight.intValue())
+                .forEach(srv6SidList -> {
+                    List<Segment> segments = IntStream.range(0, srv6SidList.numSids)
+                            .mapToObj(i -> parseSrv6Sid(i, srv6SidList.sids[i]))
+                            .collect(Collectors.toList());
+                    builder.setSegments(new SegmentsBuilder().setSegment(segments).build());
+                });
     }
 
     private Segment parseSrv6Sid(final long i, final Srv6Sid srv6Sid) {
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.srv6.read.sid.request;
+
+import io.fd.hc2vpp.common.translate.util.AddressTranslator;
+import io.fd.hc2vpp.srv6.util.LocatorContextManager;
+import io.fd.hc2vpp.srv6.util.LocatorPrefixTrie;
+import io.fd.hc2vpp.srv6.util.Srv6Util;
+import io.fd.jvpp.core.dto.SrLocalsidsDetails;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Prefix;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local SIDs dumped from VPP, assigned to locators by longest prefix match and keyed by their function (opcode).
+ * Created once per read transaction, SIDs are (re)assigned lazily after set of locators changes.
+ */
+@NotThreadSafe
+final class LocalSidIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalSidIndex.class);
+
+    private final List<SrLocalsidsDetails> sids;
+    private final LocatorPrefixTrie<String> locators = new LocatorPrefixTrie<>();
+    private final Map<String, Integer> locatorLengths = new HashMap<>();
+    private Map<String, Map<Long, SrLocalsidsDetails>> sidsByLocator;
+
+    LocalSidIndex(@Nonnull final List<SrLocalsidsDetails> sids, @Nonnull final Map<String, Ipv6Prefix> locators) {
+        this.sids = sids;
+        locators.forEach(this::addLocator);
+    }
+
+    boolean containsLocator(@Nonnull final String name) {
+        return locatorLengths.containsKey(name);
+    }
+
+    void addLocator(@Nonnull final String name, @Nonnull final Ipv6Prefix prefix) {
+        final int length = LocatorContextManager.parseLength(prefix);
+        locators.put(AddressTranslator.INSTANCE.ipv6AddressPrefixToArray(prefix), length, name);
+        locatorLengths.put(name, length);
+        sidsByLocator = null;
+    }
+
+    /**
+     * @return SIDs of locator by their function, in order of dump
+     */
+    @Nonnull
+    Map<Long, SrLocalsidsDetails> getSids(@Nonnull final String locator) {
+        if (sidsByLocator == null) {
+            sidsByLocator = assignSids();
+        }
+        return sidsByLocator.getOrDefault(locator, Collections.emptyMap());
+    }
+
+    private Map<String, Map<Long, SrLocalsidsDetails>> assignSids() {
+        final Map<String, Map<Long, SrLocalsidsDetails>> assigned = new HashMap<>();
+        for (final SrLocalsidsDetails sid : sids) {
+            final String locator = locators.longestMatch(sid.addr.addr);
+            if (locator == null) {
+                continue;
+            }
+            final long function = Srv6Util.extractFunction(sid.addr.addr, locatorLengths.get(locator));
+            final SrLocalsidsDetails previous = assigned.computeIfAbsent(locator, name -> new LinkedHashMap<>())
+                    .putIfAbsent(function, sid);
+            if (previous != null) {
+                LOG.warn("Multiple SIDs with function {} found for locator {}, ignoring {}", function, locator,
+                        sid);
+            }
+        }
+        return assigned;
+    }
+}
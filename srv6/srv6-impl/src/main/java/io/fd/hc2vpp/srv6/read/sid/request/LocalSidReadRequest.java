@@ -16,16 +16,13 @@
 
 package io.fd.hc2vpp.srv6.read.sid.request;
 
-import static java.lang.Integer.parseInt;
-
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
-import com.googlecode.ipv6.IPv6NetworkMask;
 import io.fd.hc2vpp.srv6.read.ReadRequest;
 import io.fd.hc2vpp.srv6.util.JVppRequest;
 import io.fd.hc2vpp.srv6.util.LocatorContextManager;
 import io.fd.hc2vpp.srv6.util.function.LocalSidFunctionReadBindingRegistry;
-import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
@@ -33,12 +30,10 @@ import io.fd.jvpp.core.dto.SrLocalsidsDetails;
 import io.fd.jvpp.core.dto.SrLocalsidsDetailsReplyDump;
 import io.fd.jvpp.core.dto.SrLocalsidsDump;
 import io.fd.jvpp.core.future.FutureJVppCore;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Address;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.srv6._static.rev180301.srv6._static.cfg.Sid;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.srv6._static.rev180301.srv6._static.cfg.SidBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.srv6._static.rev180301.srv6._static.cfg.SidKey;
@@ -72,6 +67,8 @@ public class LocalSidReadRequest extends JVppRequest implements ReadRequest<Sid,
                 .build();
     }
 
+    private static final String INDEX_CACHE_KEY = LocalSidReadRequest.class.getName() + "_index";
+
     private final DumpCacheManager<SrLocalsidsDetailsReplyDump, Void> dumpManager;
     private final LocatorContextManager locatorContext;
     private final LocalSidFunctionReadBindingRegistry registry;
@@ -90,31 +87,35 @@ public class LocalSidReadRequest extends JVppRequest implements ReadRequest<Sid,
     }
 
     /**
-     * Extracts Operational code (SRv6 endpoint function) from provided SID value. SID value consists of two parts.
-     * First part is Locator defined by its IPv6 address and length (stored in mappingContext referenced
-     * by locator name). Second part is Operational code (endpoint function). Locator length(number of bits) divides SID
-     * address to bits used for locator value and bits used for endpoint function.
+     * Provides dumped SIDs assigned to their locators. SID value consists of two parts. First part is Locator defined
+     * by its IPv6 address and length (stored in mappingContext referenced by locator name). Second part is Operational
+     * code (endpoint function). Locator length(number of bits) divides SID address to bits used for locator value and
+     * bits used for endpoint function.
      *
      * @see <a href="https://tools.ietf.org/html/draft-filsfils-spring-srv6-network-programming-04">
      *     SRv6 network programming (SRv6 Segment)</a>
      * @see <a href="https://tools.ietf.org/html/draft-raza-spring-srv6-yang-01">
      *      *     SRv6 Yang (SRv6 Types)</a>
      *
-     * @param sid provided SRv6 SIDs IPv6 address
-     * @param mappingContext mapping context which stores mapping for locator length
-     * @param locName locator name used as a key to retrieve locator length from mapping context
-     * @return operational code (endpoint function) of SRv6 SID address
+     * @param locName locator name, artificial mapping with default locator length is created if it is not present in
+     *                mapping context
+     * @return SIDs of locator by their operational code
      */
-    private Srv6FuncOpcodeUnreserved extractOpCode(Ipv6Address sid, MappingContext mappingContext,
-                                                   final String locName) {
-        int locLength = LocatorContextManager.parseLength(locatorContext.getLocator(locName, mappingContext));
-        com.googlecode.ipv6.IPv6Address ip = com.googlecode.ipv6.IPv6Address.fromString(sid.getValue());
-        IPv6NetworkMask mask = IPv6NetworkMask.fromPrefixLength(locLength);
-        com.googlecode.ipv6.IPv6Address locator = ip.maskWithNetworkMask(mask);
-
-        long function = ip.toBigInteger().subtract(locator.toBigInteger()).longValue();
-
-        return new Srv6FuncOpcodeUnreserved(function);
+    private Map<Long, SrLocalsidsDetails> getLocatorSids(@Nonnull final InstanceIdentifier<Sid> identifier,
+                                                         @Nonnull final ReadContext ctx, @Nonnull final String locName)
+            throws ReadFailedException {
+        final ModificationCache cache = ctx.getModificationCache();
+        LocalSidIndex index = (LocalSidIndex) cache.get(INDEX_CACHE_KEY);
+        if (index == null) {
+            index = new LocalSidIndex(
+                    dumpManager.getDump(identifier, cache).or(STATIC_EMPTY_REPLY).srLocalsidsDetails,
+                    locatorContext.getLocators(ctx.getMappingContext()));
+            cache.put(INDEX_CACHE_KEY, index);
+        }
+        if (!index.containsLocator(locName)) {
+            index.addLocator(locName, locatorContext.getLocator(locName, ctx.getMappingContext()));
+        }
+        return index.getSids(locName);
     }
 
     @Override
@@ -123,13 +124,8 @@ public class LocalSidReadRequest extends JVppRequest implements ReadRequest<Sid,
             throws ReadFailedException {
         final LocatorKey key = Preconditions.checkNotNull(identifier.firstKeyOf(Locator.class),
                 "Identifier does not have %s ", LocatorKey.class);
-        String locator = key.getName();
-
-        return dumpManager.getDump(identifier, ctx.getModificationCache()).or(STATIC_EMPTY_REPLY).srLocalsidsDetails
-                .stream()
-                .filter(detail -> arrayToIpv6AddressNoZone(detail.addr.addr).getValue().contains(locator))
-                .map(srLocalsidsDetails -> extractOpCode(arrayToIpv6AddressNoZone(srLocalsidsDetails.addr.addr),
-                        ctx.getMappingContext(), locator))
+        return getLocatorSids(identifier, ctx, key.getName()).keySet().stream()
+                .map(Srv6FuncOpcodeUnreserved::new)
                 .map(SidKey::new)
                 .collect(Collectors.toList());
     }
@@ -146,35 +142,17 @@ public class LocalSidReadRequest extends JVppRequest implements ReadRequest<Sid,
         // VPP stores SID address as whole without defining locator and function parts (or locator length).
         // It is necessary to split SID address to locator and function (operational code), because that is how SID
         // is identified in model. Currently we use locatorContext to store locator length, so it is possible to split
-        // SID address back to locator (used as LocatorKey) and function (used as SidKey) or to construct SID from
-        // from locator and function (opCode)
-        Integer locLength = LocatorContextManager
-                .parseLength(locatorContext.getLocator(locatorKey.getName(), ctx.getMappingContext()));
-        Ipv6Address locator = LocatorContextManager
-                .parseLocator(locatorContext.getLocator(locatorKey.getName(), ctx.getMappingContext()));
-
-        Ipv6Address sidAddress =
-                parseSrv6SidAddress(locator.getValue(), locLength.toString(), sidKey.getOpcode().getValue());
-
-        dumpManager.getDump(identifier, ctx.getModificationCache()).or(STATIC_EMPTY_REPLY).srLocalsidsDetails
-                .stream()
-                .filter(detail -> Arrays.equals(detail.addr.addr, ipv6AddressNoZoneToArray(sidAddress)))
-                .findFirst()
-                .ifPresent(detail -> bindLocalSid(detail, ctx, locatorKey.getName(), sidAddress, builder));
-    }
-
-    private Ipv6Address parseSrv6SidAddress(final String locatorIp, final String locatorLength, final Long opcode) {
-        com.googlecode.ipv6.IPv6Address ip =
-                com.googlecode.ipv6.IPv6Address.fromString(locatorIp);
-        IPv6NetworkMask mask = IPv6NetworkMask.fromPrefixLength(parseInt(locatorLength));
-        com.googlecode.ipv6.IPv6Address srv6Sid = ip.maskWithNetworkMask(mask);
-        return new Ipv6Address(srv6Sid.add(opcode.intValue()).toString());
+        // SID address back to locator (used as LocatorKey) and function (used as SidKey)
+        final SrLocalsidsDetails detail =
+                getLocatorSids(identifier, ctx, locatorKey.getName()).get(sidKey.getOpcode().getValue());
+        if (detail != null) {
+            bindLocalSid(detail, ctx, sidKey.getOpcode(), builder);
+        }
     }
 
-    private void bindLocalSid(final SrLocalsidsDetails detail, final ReadContext readContext, final String locName,
-                              final Ipv6Address sidAddress, final SidBuilder builder) {
+    private void bindLocalSid(final SrLocalsidsDetails detail, final ReadContext readContext,
+                              final Srv6FuncOpcodeUnreserved opcode, final SidBuilder builder) {
         Class<? extends Srv6EndpointType> behaviorType = parseEndBehaviorType(detail.behavior);
-        Srv6FuncOpcodeUnreserved opcode = extractOpCode(sidAddress, readContext.getMappingContext(), locName);
         builder.setEndBehaviorType(behaviorType).withKey(new SidKey(opcode)).setOpcode(opcode);
         parseEndFunction(builder, detail, readContext);
     }
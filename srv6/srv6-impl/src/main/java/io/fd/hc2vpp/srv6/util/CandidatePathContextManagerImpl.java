@@ -18,7 +18,10 @@
 package io.fd.hc2vpp.srv6.util;
 
 import com.google.common.base.Optional;
+import io.fd.hc2vpp.common.translate.util.MappingContextIndexes;
 import io.fd.honeycomb.translate.MappingContext;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
@@ -45,6 +48,9 @@ public class CandidatePathContextManagerImpl implements CandidatePathContextMana
 
     private final InstanceIdentifier<Srv6CandidatePathMappings> ctxIid;
 
+    private final MappingContextIndexes<Map<Ipv6AddressKey, Ipv6Address>> indexes =
+            new MappingContextIndexes<>(this::loadIndex);
+
     public CandidatePathContextManagerImpl() {
         this.ctxIid = InstanceIdentifier.create(Contexts.class)
                 .augmentation(Srv6PolicyContextAugmentation.class)
@@ -53,10 +59,10 @@ public class CandidatePathContextManagerImpl implements CandidatePathContextMana
     }
 
     @Override
-    public void addCandidatePath(@Nonnull Ipv6Address bsid, @Nonnull final String name,
-                                 @Nonnull final Class<? extends ProvisioningMethodType> provisioningMethod,
-                                 @Nonnull Long preference, @Nonnull Long distinguisher,
-                                 @Nonnull final MappingContext ctx) {
+    public synchronized void addCandidatePath(@Nonnull Ipv6Address bsid, @Nonnull final String name,
+                                              @Nonnull final Class<? extends ProvisioningMethodType> provisioningMethod,
+                                              @Nonnull Long preference, @Nonnull Long distinguisher,
+                                              @Nonnull final MappingContext ctx) {
         final KeyedInstanceIdentifier<Srv6CandidatePathMapping, Srv6CandidatePathMappingKey> mappingIid =
                 getCandidatePathIid(bsid);
         final Srv6CandidatePathMappingBuilder builder =
@@ -64,6 +70,11 @@ public class CandidatePathContextManagerImpl implements CandidatePathContextMana
                         .setProvisioningMethod(provisioningMethod).setPreference(preference)
                         .setDistinguisher(distinguisher).setBsid(bsid).setName(name);
         ctx.put(mappingIid, builder.build());
+
+        final Map<Ipv6AddressKey, Ipv6Address> index = indexes.getIfPresent(ctx);
+        if (index != null) {
+            index.put(Ipv6AddressKey.of(bsid), bsid);
+        }
     }
 
     private KeyedInstanceIdentifier<Srv6CandidatePathMapping, Srv6CandidatePathMappingKey> getCandidatePathIid(
@@ -75,16 +86,48 @@ public class CandidatePathContextManagerImpl implements CandidatePathContextMana
     @Nonnull
     public synchronized Srv6CandidatePathMapping getCandidatePath(@Nonnull final Ipv6Address bsid,
                                                                   @Nonnull final MappingContext ctx) {
-        final Optional<Srv6CandidatePathMappings> read = ctx.read(ctxIid);
+        final Srv6CandidatePathMapping mapping = findCandidatePath(bsid, ctx);
+        return mapping != null
+                ? mapping
+                : getArtificialMapping(bsid, ctx, bsid.getValue());
+    }
+
+    private Srv6CandidatePathMapping findCandidatePath(@Nonnull final Ipv6Address bsid,
+                                                       @Nonnull final MappingContext ctx) {
+        final Optional<Srv6CandidatePathMapping> read = ctx.read(getCandidatePathIid(bsid));
         if (read.isPresent()) {
-            java.util.Optional<Srv6CandidatePathMapping> mappingOpt = read.get().getSrv6CandidatePathMapping().stream()
-                    .filter(srv6CandidatePathMapping -> srv6CandidatePathMapping.getBsid().getValue()
-                            .equals(bsid.getValue())).findAny();
-            if (mappingOpt.isPresent()) {
-                return mappingOpt.get();
-            }
+            return read.get();
+        }
+
+        // mapping might be stored using different textual form of the same BSID
+        final Ipv6AddressKey key = Ipv6AddressKey.of(bsid);
+        final Ipv6Address storedBsid = indexes.get(ctx).get(key);
+        if (storedBsid == null || storedBsid.equals(bsid)) {
+            return null;
         }
-        return getArtificialMapping(bsid, ctx, bsid.getValue());
+        final Optional<Srv6CandidatePathMapping> stored = ctx.read(getCandidatePathIid(storedBsid));
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        // mapping was removed bypassing this context manager, index needs to be reloaded
+        final Ipv6Address reloadedBsid = indexes.reload(ctx).get(key);
+        return reloadedBsid == null || reloadedBsid.equals(bsid)
+                ? null
+                : ctx.read(getCandidatePathIid(reloadedBsid)).orNull();
+    }
+
+    /**
+     * Reads all candidate path mappings and indexes their BSIDs by address.
+     */
+    private Map<Ipv6AddressKey, Ipv6Address> loadIndex(@Nonnull final MappingContext ctx) {
+        final Optional<Srv6CandidatePathMappings> read = ctx.read(ctxIid);
+        final Map<Ipv6AddressKey, Ipv6Address> index = new HashMap<>();
+        if (read.isPresent() && read.get().getSrv6CandidatePathMapping() != null) {
+            read.get().getSrv6CandidatePathMapping()
+                    .forEach(mapping -> index.put(Ipv6AddressKey.of(mapping.getBsid()), mapping.getBsid()));
+        }
+        return index;
     }
 
     private Srv6CandidatePathMapping getArtificialMapping(final @Nonnull Ipv6Address bsid,
@@ -104,9 +147,15 @@ public class CandidatePathContextManagerImpl implements CandidatePathContextMana
     }
 
     @Override
-    public void removeCandidatePath(@Nonnull final Ipv6Address bsid, @Nonnull final MappingContext ctx) {
+    public synchronized void removeCandidatePath(@Nonnull final Ipv6Address bsid,
+                                                 @Nonnull final MappingContext ctx) {
         final KeyedInstanceIdentifier<Srv6CandidatePathMapping, Srv6CandidatePathMappingKey> mappingIid =
                 getCandidatePathIid(bsid);
         ctx.delete(mappingIid);
+
+        final Map<Ipv6AddressKey, Ipv6Address> index = indexes.getIfPresent(ctx);
+        if (index != null) {
+            index.remove(Ipv6AddressKey.of(bsid), bsid);
+        }
     }
 }
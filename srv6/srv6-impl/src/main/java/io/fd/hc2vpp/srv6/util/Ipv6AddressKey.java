@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.srv6.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.fd.hc2vpp.common.translate.util.AddressTranslator;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Address;
+
+/**
+ * IPv6 address (e.g. BSID) usable as map key. Unlike {@link Ipv6Address}, it is equal for all textual forms of the
+ * same address.
+ */
+public final class Ipv6AddressKey {
+    private final long high;
+    private final long low;
+
+    private Ipv6AddressKey(final long high, final long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * @param address 16 bytes of IPv6 address
+     */
+    public static Ipv6AddressKey of(@Nonnull final byte[] address) {
+        checkArgument(address.length == 16, "Invalid IPv6 address length %s", address.length);
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < 8; i++) {
+            high = (high << 8) | (address[i] & 0xff);
+            low = (low << 8) | (address[i + 8] & 0xff);
+        }
+        return new Ipv6AddressKey(high, low);
+    }
+
+    public static Ipv6AddressKey of(@Nonnull final Ipv6Address address) {
+        return of(AddressTranslator.INSTANCE.ipv6AddressNoZoneToArray(address));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final Ipv6AddressKey that = (Ipv6AddressKey) o;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(high) + Long.hashCode(low);
+    }
+
+    @Override
+    public String toString() {
+        return "Ipv6AddressKey{" + Long.toHexString(high) + ":" + Long.toHexString(low) + '}';
+    }
+}
@@ -19,6 +19,7 @@ package io.fd.hc2vpp.srv6.util;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.fd.honeycomb.translate.MappingContext;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
@@ -60,6 +61,15 @@ public interface LocatorContextManager {
      */
     Ipv6Prefix getLocator(@Nonnull final String name, @Nonnull final MappingContext ctx);
 
+    /**
+     * Retrieves all locators stored in current context.
+     *
+     * @param ctx mapping context providing context data for current transaction
+     * @return locator prefixes by locator name
+     */
+    @Nonnull
+    Map<String, Ipv6Prefix> getLocators(@Nonnull final MappingContext ctx);
+
     /**
      * Removes locator metadata from current context.
      *
@@ -21,6 +21,9 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Optional;
 import io.fd.honeycomb.translate.MappingContext;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.locator.context.rev180605.Srv6LocatorContextAugmentation;
@@ -80,6 +83,17 @@ public final class LocatorContextManagerImpl implements LocatorContextManager {
         return ipv6Prefix;
     }
 
+    @Nonnull
+    @Override
+    public Map<String, Ipv6Prefix> getLocators(@Nonnull final MappingContext ctx) {
+        final Optional<Srv6LocatorMappings> read = ctx.read(ctxIid);
+        if (!read.isPresent() || read.get().getSrv6LocatorMapping() == null) {
+            return Collections.emptyMap();
+        }
+        return read.get().getSrv6LocatorMapping().stream()
+                .collect(Collectors.toMap(Srv6LocatorMapping::getName, Srv6LocatorMapping::getPrefix));
+    }
+
     @Override
     public void removeLocator(@Nonnull final String name, @Nonnull final MappingContext ctx) {
         ctx.delete(getLocatorIid(name));
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.srv6.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Binary trie of IPv6 prefixes (e.g. SRv6 locators) providing longest prefix match of IPv6 addresses in at most
+ * 128 steps, regardless of number of stored prefixes.
+ *
+ * @param <V> type of value stored for prefix
+ */
+@NotThreadSafe
+public final class LocatorPrefixTrie<V> {
+    private static final int ADDRESS_BITS = 128;
+
+    private final Node<V> root = new Node<>();
+    private int size;
+
+    /**
+     * Stores value for prefix, replacing value previously stored for the same prefix.
+     *
+     * @param address 16 bytes of prefix address, bits beyond prefix length are ignored
+     * @param length  prefix length
+     */
+    public void put(@Nonnull final byte[] address, final int length, @Nonnull final V value) {
+        checkArgument(address.length * 8 == ADDRESS_BITS, "Invalid IPv6 address length %s", address.length);
+        checkArgument(length >= 0 && length <= ADDRESS_BITS, "Invalid prefix length %s", length);
+        Node<V> node = root;
+        for (int bit = 0; bit < length; bit++) {
+            final int branch = bit(address, bit);
+            if (node.children[branch] == null) {
+                node.children[branch] = new Node<>();
+            }
+            node = node.children[branch];
+        }
+        if (node.value == null) {
+            size++;
+        }
+        node.value = value;
+    }
+
+    /**
+     * @param address 16 bytes of IPv6 address
+     * @return value of the longest stored prefix containing address, null if there is none
+     */
+    @Nullable
+    public V longestMatch(@Nonnull final byte[] address) {
+        checkArgument(address.length * 8 == ADDRESS_BITS, "Invalid IPv6 address length %s", address.length);
+        Node<V> node = root;
+        V match = root.value;
+        for (int bit = 0; bit < ADDRESS_BITS; bit++) {
+            node = node.children[bit(address, bit)];
+            if (node == null) {
+                break;
+            }
+            if (node.value != null) {
+                match = node.value;
+            }
+        }
+        return match;
+    }
+
+    /**
+     * @return number of stored prefixes
+     */
+    public int size() {
+        return size;
+    }
+
+    private static int bit(final byte[] address, final int bit) {
+        return (address[bit >>> 3] >>> (7 - (bit & 7))) & 1;
+    }
+
+    private static final class Node<V> {
+        @SuppressWarnings("unchecked")
+        private final Node<V>[] children = new Node[2];
+        private V value;
+    }
+}
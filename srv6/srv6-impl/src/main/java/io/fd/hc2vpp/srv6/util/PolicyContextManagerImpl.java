@@ -18,7 +18,11 @@
 package io.fd.hc2vpp.srv6.util;
 
 import com.google.common.base.Optional;
+import io.fd.hc2vpp.common.translate.util.MappingContextIndexes;
 import io.fd.honeycomb.translate.MappingContext;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.HashMap;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
@@ -43,6 +47,8 @@ public class PolicyContextManagerImpl implements PolicyContextManager {
     private static final String DUMMY_EP = "2001:db8::";
     private Long artificialColor;
 
+    private final MappingContextIndexes<PolicyIndex> indexes = new MappingContextIndexes<>(this::loadIndex);
+
     public PolicyContextManagerImpl() {
         this.ctxIid = InstanceIdentifier.create(Contexts.class)
                 .augmentation(Srv6PolicyContextAugmentation.class)
@@ -51,13 +57,19 @@ public class PolicyContextManagerImpl implements PolicyContextManager {
     }
 
     @Override
-    public void addPolicy(@Nonnull final String name, @Nonnull final Long color, @Nonnull final Ipv6Address endpoint,
-                          @Nonnull final Ipv6Address bsid, @Nonnull final MappingContext ctx) {
+    public synchronized void addPolicy(@Nonnull final String name, @Nonnull final Long color,
+                                       @Nonnull final Ipv6Address endpoint, @Nonnull final Ipv6Address bsid,
+                                       @Nonnull final MappingContext ctx) {
         final KeyedInstanceIdentifier<Srv6PolicyMapping, Srv6PolicyMappingKey> mappingIid = getPolicyIid(bsid);
         final Srv6PolicyMappingBuilder builder =
                 new Srv6PolicyMappingBuilder().withKey(new Srv6PolicyMappingKey(bsid)).setColor(color)
                         .setEndpoint(endpoint).setBsid(bsid).setName(name);
         ctx.put(mappingIid, builder.build());
+
+        final PolicyIndex index = indexes.getIfPresent(ctx);
+        if (index != null) {
+            index.put(bsid, color, endpoint);
+        }
     }
 
     private KeyedInstanceIdentifier<Srv6PolicyMapping, Srv6PolicyMappingKey> getPolicyIid(final Ipv6Address bsid) {
@@ -67,9 +79,9 @@ public class PolicyContextManagerImpl implements PolicyContextManager {
     @Nonnull
     public synchronized Srv6PolicyMapping getPolicy(@Nonnull final Ipv6Address bsid,
                                                     @Nonnull final MappingContext ctx) {
-        final Optional<Srv6PolicyMapping> read = ctx.read(getPolicyIid(bsid));
-        if (read.isPresent()) {
-            return read.get();
+        final Srv6PolicyMapping policy = findPolicy(bsid, ctx);
+        if (policy != null) {
+            return policy;
         }
 
         //if not present we need to generate artificial mapping
@@ -82,27 +94,106 @@ public class PolicyContextManagerImpl implements PolicyContextManager {
         return mapping;
     }
 
-    @Override
-    public Ipv6Address getPolicyBsid(@Nonnull Long color, @Nonnull Ipv6Address endpoint,
-                                     @Nonnull final MappingContext ctx) {
-        Optional<Srv6PolicyMappings> read = ctx.read(ctxIid);
+    private Srv6PolicyMapping findPolicy(@Nonnull final Ipv6Address bsid, @Nonnull final MappingContext ctx) {
+        final Optional<Srv6PolicyMapping> read = ctx.read(getPolicyIid(bsid));
         if (read.isPresent()) {
-            return read.get().getSrv6PolicyMapping().stream()
-                    .filter(srv6PolicyMapping -> srv6PolicyMapping.getColor().equals(color) &&
-                            srv6PolicyMapping.getEndpoint().equals(endpoint))
-                    .map(Srv6PolicyMapping::getBsid).findFirst().orElse(null);
+            return read.get();
         }
-        return null;
+
+        // mapping might be stored using different textual form of the same BSID
+        final Ipv6AddressKey key = Ipv6AddressKey.of(bsid);
+        final Ipv6Address storedBsid = indexes.get(ctx).bsids.get(key);
+        if (storedBsid == null || storedBsid.equals(bsid)) {
+            return null;
+        }
+        final Optional<Srv6PolicyMapping> stored = ctx.read(getPolicyIid(storedBsid));
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        // mapping was removed bypassing this context manager, index needs to be reloaded
+        final Ipv6Address reloadedBsid = indexes.reload(ctx).bsids.get(key);
+        return reloadedBsid == null || reloadedBsid.equals(bsid)
+                ? null
+                : ctx.read(getPolicyIid(reloadedBsid)).orNull();
     }
 
     @Override
-    public void removePolicy(@Nonnull final Ipv6Address bsid, @Nonnull final MappingContext ctx) {
+    public synchronized Ipv6Address getPolicyBsid(@Nonnull Long color, @Nonnull Ipv6Address endpoint,
+                                                  @Nonnull final MappingContext ctx) {
+        final Map.Entry<Long, Ipv6AddressKey> colorEndpoint =
+                new SimpleImmutableEntry<>(color, Ipv6AddressKey.of(endpoint));
+        final Ipv6Address bsid = indexes.get(ctx).bsidsByColorEndpoint.get(colorEndpoint);
+        if (bsid == null || isMapped(bsid, colorEndpoint, ctx)) {
+            return bsid;
+        }
+        // mapping was removed or modified bypassing this context manager, index needs to be reloaded
+        return indexes.reload(ctx).bsidsByColorEndpoint.get(colorEndpoint);
+    }
+
+    private boolean isMapped(@Nonnull final Ipv6Address bsid,
+                             @Nonnull final Map.Entry<Long, Ipv6AddressKey> colorEndpoint,
+                             @Nonnull final MappingContext ctx) {
+        final Optional<Srv6PolicyMapping> read = ctx.read(getPolicyIid(bsid));
+        return read.isPresent() && colorEndpoint.equals(colorEndpointOf(read.get()));
+    }
+
+    /**
+     * Reads all policy mappings and indexes them by BSID and by color and endpoint.
+     */
+    private PolicyIndex loadIndex(@Nonnull final MappingContext ctx) {
+        final Optional<Srv6PolicyMappings> read = ctx.read(ctxIid);
+        final PolicyIndex index = new PolicyIndex();
+        if (read.isPresent() && read.get().getSrv6PolicyMapping() != null) {
+            read.get().getSrv6PolicyMapping()
+                    .forEach(mapping -> index.put(mapping.getBsid(), mapping.getColor(), mapping.getEndpoint()));
+        }
+        return index;
+    }
+
+    private static Map.Entry<Long, Ipv6AddressKey> colorEndpointOf(@Nonnull final Srv6PolicyMapping mapping) {
+        return new SimpleImmutableEntry<>(mapping.getColor(), Ipv6AddressKey.of(mapping.getEndpoint()));
+    }
+
+    @Override
+    public synchronized void removePolicy(@Nonnull final Ipv6Address bsid, @Nonnull final MappingContext ctx) {
         final KeyedInstanceIdentifier<Srv6PolicyMapping, Srv6PolicyMappingKey> mappingIid = getPolicyIid(bsid);
         ctx.delete(mappingIid);
+
+        final PolicyIndex index = indexes.getIfPresent(ctx);
+        if (index != null) {
+            index.remove(bsid);
+        }
     }
 
     private synchronized Long getNextArtificialColor() {
         artificialColor++;
         return artificialColor;
     }
+
+    /**
+     * Address and color/endpoint view of policy mappings stored in single mapping context.
+     */
+    private static final class PolicyIndex {
+        private final Map<Ipv6AddressKey, Ipv6Address> bsids = new HashMap<>();
+        private final Map<Map.Entry<Long, Ipv6AddressKey>, Ipv6Address> bsidsByColorEndpoint = new HashMap<>();
+        private final Map<Ipv6Address, Map.Entry<Long, Ipv6AddressKey>> colorEndpointsByBsid = new HashMap<>();
+
+        private void put(final Ipv6Address bsid, final Long color, final Ipv6Address endpoint) {
+            remove(bsid);
+            final Map.Entry<Long, Ipv6AddressKey> colorEndpoint =
+                    new SimpleImmutableEntry<>(color, Ipv6AddressKey.of(endpoint));
+            bsids.put(Ipv6AddressKey.of(bsid), bsid);
+            bsidsByColorEndpoint.putIfAbsent(colorEndpoint, bsid);
+            colorEndpointsByBsid.put(bsid, colorEndpoint);
+        }
+
+        private void remove(final Ipv6Address bsid) {
+            bsids.remove(Ipv6AddressKey.of(bsid), bsid);
+            final Map.Entry<Long, Ipv6AddressKey> colorEndpoint = colorEndpointsByBsid.remove(bsid);
+            if (colorEndpoint != null) {
+                bsidsByColorEndpoint.remove(colorEndpoint, bsid);
+            }
+        }
+    }
 }
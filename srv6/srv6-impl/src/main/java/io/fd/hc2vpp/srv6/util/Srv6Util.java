@@ -17,6 +17,8 @@
 
 package io.fd.hc2vpp.srv6.util;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.google.common.base.Optional;
 import io.fd.honeycomb.translate.util.RWUtils;
 import io.fd.honeycomb.translate.write.WriteContext;
@@ -99,4 +101,26 @@ public final class Srv6Util {
         // returning default Vrf Fib table
         return 0;
     }
+
+    /**
+     * Extracts function (operational code) part of SRv6 SID, i.e. bits following locator. Only low 64 bits of SID are
+     * used, so function of locator shorter than 64 bits is truncated to its low 64 bits.
+     *
+     * @param sid           16 bytes of SID address
+     * @param locatorLength length of locator part of SID
+     * @return function part of SID
+     */
+    public static long extractFunction(@Nonnull final byte[] sid, final int locatorLength) {
+        checkArgument(sid.length == 16, "Invalid SID length %s", sid.length);
+        checkArgument(locatorLength >= 0 && locatorLength <= 128, "Invalid locator length %s", locatorLength);
+        long low = 0;
+        for (int i = 8; i < 16; i++) {
+            low = (low << 8) | (sid[i] & 0xff);
+        }
+        if (locatorLength <= 64) {
+            return low;
+        }
+        final int functionBits = 128 - locatorLength;
+        return low & ((1L << functionBits) - 1);
+    }
 }
@@ -65,9 +65,6 @@ public abstract class PoliciesTest extends LocalSidRequestTest {
     Ipv6AddressNoZone B_ADDR = new Ipv6AddressNoZone("b::");
     Ipv6AddressNoZone C_ADDR = new Ipv6AddressNoZone("c::");
 
-    @Mock
-    private
-    ModificationCache modificationCache;
     private Srv6Sid A = new Srv6Sid();
     private Srv6Sid B = new Srv6Sid();
     private Srv6Sid C = new Srv6Sid();
@@ -115,8 +112,8 @@ public abstract class PoliciesTest extends LocalSidRequestTest {
 
         replyDump.srPoliciesDetails = Arrays.asList(srPoliciesDetails1, srPoliciesDetails2);
 
-        when(readCtx.getModificationCache()).thenReturn(modificationCache);
+        when(readCtx.getModificationCache()).thenReturn(new ModificationCache());
         when(readCtx.getMappingContext()).thenReturn(mappingContext);
-        when(modificationCache.get(any())).thenReturn(replyDump);
+        when(api.srPoliciesDump(any())).thenReturn(future(replyDump));
     }
 }
@@ -50,9 +50,6 @@ public class SidCustomizerTest extends LocalSidRequestTest {
     @Mock
     private ReadContext readCtx;
 
-    @Mock
-    private ModificationCache modificationCache;
-
     @Mock
     private MappingContext mappingContext;
 
@@ -60,8 +57,8 @@ public class SidCustomizerTest extends LocalSidRequestTest {
 
     @Override
     protected void init() {
-        when(readCtx.getModificationCache()).thenReturn(modificationCache);
-        when(modificationCache.get(any())).thenReturn(replyDump);
+        when(readCtx.getModificationCache()).thenReturn(new ModificationCache());
+        when(api.srLocalsidsDump(any())).thenReturn(future(replyDump));
         when(readCtx.getMappingContext()).thenReturn(mappingContext);
         when(mappingContext.read(any())).thenReturn(Optional.of(LOCATOR));
         when(locatorContext.getLocator(eq(LOCATOR.getName()), any())).thenReturn(new Ipv6Prefix("a::/64"));
@@ -17,9 +17,13 @@
 package io.fd.hc2vpp.srv6.read.sid.request;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableMap;
 import io.fd.hc2vpp.common.translate.util.AddressTranslator;
 import io.fd.hc2vpp.srv6.write.sid.request.LocalSidRequestTest;
 import io.fd.honeycomb.translate.MappingContext;
@@ -30,10 +34,12 @@ import io.fd.jvpp.core.dto.SrLocalsidsDetails;
 import io.fd.jvpp.core.dto.SrLocalsidsDetailsReplyDump;
 import io.fd.jvpp.core.types.Srv6Sid;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -87,9 +93,6 @@ public class LocalSidReadRequestTest extends LocalSidRequestTest {
     @Mock
     private CompletableFuture<SrLocalsidsDetailsReplyDump> detailsFuture;
 
-    @Mock
-    private ModificationCache modificationCache;
-
     @Mock
     private MappingContext mappingContext;
 
@@ -103,16 +106,16 @@ public class LocalSidReadRequestTest extends LocalSidRequestTest {
         replyDump.srLocalsidsDetails = new ArrayList<>();
         when(ctx.getMappingContext()).thenReturn(mappingContext);
         when(readCtx.getMappingContext()).thenReturn(mappingContext);
-        when(readCtx.getModificationCache()).thenReturn(modificationCache);
-        when(modificationCache.get(any())).thenReturn(replyDump);
+        when(readCtx.getModificationCache()).thenReturn(new ModificationCache());
         when(api.srLocalsidsDump(any())).thenReturn(stage);
         when(stage.toCompletableFuture()).thenReturn(detailsFuture);
         when(locatorContext.getLocator(eq(LOCATOR.getName()), any())).thenReturn(new Ipv6Prefix("a::/64"));
-
+        when(locatorContext.getLocators(any())).thenReturn(Collections.emptyMap());
 
         try {
             when(detailsFuture.get()).thenReturn(replyDump);
-        } catch (InterruptedException | ExecutionException e) {
+            when(detailsFuture.get(anyLong(), any())).thenReturn(replyDump);
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
             // noop
         }
     }
@@ -140,6 +143,25 @@ public class LocalSidReadRequestTest extends LocalSidRequestTest {
         Assert.assertEquals(2, sidKeys.size());
     }
 
+    @Test
+    public void readAllKeysLongestMatchTest() throws ReadFailedException {
+        when(locatorContext.getLocators(any())).thenReturn(ImmutableMap.of(
+                LOCATOR.getName(), new Ipv6Prefix("a::/64"),
+                "a::1:0:0", new Ipv6Prefix("a::1:0:0/96")));
+        replyDump.srLocalsidsDetails.add(localSid(SID_ADR));
+        // belongs to more specific locator
+        replyDump.srLocalsidsDetails.add(localSid(new Ipv6Address("a::1:0:105")));
+        // does not belong to any locator
+        replyDump.srLocalsidsDetails.add(localSid(new Ipv6Address("b::100")));
+
+        final LocalSidReadRequest request = new LocalSidReadRequest(api, locatorContext, READ_REGISTRY);
+        Assert.assertEquals(Collections.singletonList(new SidKey(new Srv6FuncOpcodeUnreserved(OPERATION))),
+                request.readAllKeys(ID_SID, readCtx));
+        Assert.assertEquals(Collections.singletonList(new SidKey(new Srv6FuncOpcodeUnreserved(261L))),
+                request.readAllKeys(sidId("a::1:0:0", OPERATION), readCtx));
+        verify(api, times(1)).srLocalsidsDump(any());
+    }
+
     @Test
     public void readSpecificEndXTest() throws ReadFailedException {
         SrLocalsidsDetails endX = new SrLocalsidsDetails();
@@ -190,4 +212,23 @@ public class LocalSidReadRequestTest extends LocalSidRequestTest {
         Assert.assertEquals(OPERATION, sidBuilder.getOpcode().getValue().longValue());
         Assert.assertEquals(4L, sidBuilder.getEndT().getLookupTableIpv6().getValue().longValue());
     }
+
+    private static SrLocalsidsDetails localSid(final Ipv6Address address) {
+        final SrLocalsidsDetails details = new SrLocalsidsDetails();
+        details.addr = new Srv6Sid();
+        details.addr.addr = AddressTranslator.INSTANCE.ipAddressToArray(new IpAddress(address));
+        return details;
+    }
+
+    private static InstanceIdentifier<Sid> sidId(final String locator, final long opcode) {
+        return InstanceIdentifier.create(Routing.class)
+                .augmentation(Routing1.class)
+                .child(Srv6.class)
+                .child(Locators.class)
+                .child(Locator.class, new LocatorKey(locator))
+                .augmentation(Locator1.class)
+                .child(Static.class)
+                .child(LocalSids.class)
+                .child(Sid.class, new SidKey(new Srv6FuncOpcodeUnreserved(opcode)));
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.srv6.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Optional;
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.yang.gen.v1.http.cisco.com.ns.yang.oc.srte.policy.rev170918.ProvisioningMethodConfig;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.Srv6PolicyContextAugmentation;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.srv6.candidate.path.context.attributes.Srv6CandidatePathMappings;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.srv6.candidate.path.context.attributes.Srv6CandidatePathMappingsBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.srv6.candidate.path.context.attributes.srv6.candidate.path.mappings.Srv6CandidatePathMapping;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.srv6.candidate.path.context.attributes.srv6.candidate.path.mappings.Srv6CandidatePathMappingBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.srv6.candidate.path.context.attributes.srv6.candidate.path.mappings.Srv6CandidatePathMappingKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Address;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class CandidatePathContextManagerImplTest {
+
+    private static final InstanceIdentifier<Srv6CandidatePathMappings> MAPPINGS_IID =
+            InstanceIdentifier.create(Contexts.class).augmentation(Srv6PolicyContextAugmentation.class)
+                    .child(Srv6CandidatePathMappings.class);
+    private static final Ipv6Address BSID = new Ipv6Address("a::e");
+    private static final Srv6CandidatePathMapping CANDIDATE_PATH = new Srv6CandidatePathMappingBuilder()
+            .setBsid(BSID).setName(BSID.getValue()).setProvisioningMethod(ProvisioningMethodConfig.class)
+            .setPreference(200L).setDistinguisher(1L).build();
+
+    @Mock
+    private MappingContext mappingContext;
+
+    private CandidatePathContextManagerImpl candidatePathContext;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        candidatePathContext = new CandidatePathContextManagerImpl();
+        when(mappingContext.read(any())).thenReturn(Optional.absent());
+        when(mappingContext.read(MAPPINGS_IID)).thenReturn(Optional.of(new Srv6CandidatePathMappingsBuilder()
+                .setSrv6CandidatePathMapping(Collections.singletonList(CANDIDATE_PATH)).build()));
+        when(mappingContext.read(candidatePathIid(BSID))).thenReturn(Optional.of(CANDIDATE_PATH));
+    }
+
+    @Test
+    public void getCandidatePathTest() {
+        assertEquals(CANDIDATE_PATH, candidatePathContext.getCandidatePath(BSID, mappingContext));
+        verify(mappingContext, times(0)).read(MAPPINGS_IID);
+    }
+
+    @Test
+    public void getCandidatePathByAddressTest() {
+        // same BSID in different textual form
+        assertEquals(CANDIDATE_PATH, candidatePathContext.getCandidatePath(new Ipv6Address("a:0::e"), mappingContext));
+        assertEquals(CANDIDATE_PATH, candidatePathContext.getCandidatePath(new Ipv6Address("a::0:e"), mappingContext));
+        verify(mappingContext, times(1)).read(MAPPINGS_IID);
+    }
+
+    @Test
+    public void getCandidatePathArtificialTest() {
+        final Ipv6Address bsid = new Ipv6Address("b::e");
+        final Srv6CandidatePathMapping mapping = candidatePathContext.getCandidatePath(bsid, mappingContext);
+        assertEquals(bsid, mapping.getBsid());
+        assertEquals(ProvisioningMethodConfig.class, mapping.getProvisioningMethod());
+        verify(mappingContext).put(eq(candidatePathIid(bsid)), any());
+    }
+
+    @Test
+    public void getCandidatePathUnmappedTest() {
+        // e.g. candidate paths read from VPP after restart, without mapping
+        for (int i = 1; i <= 10; i++) {
+            final Ipv6Address bsid = new Ipv6Address("b::" + i);
+            assertEquals(bsid, candidatePathContext.getCandidatePath(bsid, mappingContext).getBsid());
+        }
+        verify(mappingContext, times(1)).read(MAPPINGS_IID);
+    }
+
+    private static InstanceIdentifier<Srv6CandidatePathMapping> candidatePathIid(final Ipv6Address bsid) {
+        return MAPPINGS_IID.child(Srv6CandidatePathMapping.class, new Srv6CandidatePathMappingKey(bsid));
+    }
+}
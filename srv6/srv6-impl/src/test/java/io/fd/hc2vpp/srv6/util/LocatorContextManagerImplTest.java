@@ -25,14 +25,19 @@ import static org.mockito.Mockito.when;
 import com.google.common.base.Optional;
 import io.fd.hc2vpp.srv6.write.sid.request.LocalSidRequestTest;
 import io.fd.honeycomb.translate.MappingContext;
+import java.util.Collections;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.locator.context.rev180605.Srv6LocatorContextAugmentation;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.locator.context.rev180605.srv6.locator.context.attributes.Srv6LocatorMappings;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.locator.context.rev180605.srv6.locator.context.attributes.Srv6LocatorMappingsBuilder;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.locator.context.rev180605.srv6.locator.context.attributes.srv6.locator.mappings.Srv6LocatorMapping;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.locator.context.rev180605.srv6.locator.context.attributes.srv6.locator.mappings.Srv6LocatorMappingBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Prefix;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
@@ -83,6 +88,19 @@ public class LocatorContextManagerImplTest extends LocalSidRequestTest {
         Assert.assertEquals(LOCATOR_PREFIX, locator);
     }
 
+    @Test
+    public void getLocatorsTest() {
+        Srv6LocatorMapping locatorMapping =
+                new Srv6LocatorMappingBuilder().setName(LOCATOR.getName()).setPrefix(LOCATOR_PREFIX).build();
+        when(mappingContext.read(InstanceIdentifier.create(Contexts.class)
+                .augmentation(Srv6LocatorContextAugmentation.class).child(Srv6LocatorMappings.class)))
+                .thenReturn(Optional.of(new Srv6LocatorMappingsBuilder()
+                        .setSrv6LocatorMapping(Collections.singletonList(locatorMapping)).build()));
+        LocatorContextManagerImpl contextManager = new LocatorContextManagerImpl(64);
+        Assert.assertEquals(Collections.singletonMap(LOCATOR.getName(), LOCATOR_PREFIX),
+                contextManager.getLocators(ctx.getMappingContext()));
+    }
+
     @Test
     public void removeLocatorTest() {
         MappingContext mappingContext = ctx.getMappingContext();
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.srv6.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import io.fd.hc2vpp.common.translate.util.AddressTranslator;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Address;
+
+public class LocatorPrefixTrieTest {
+
+    @Test
+    public void testLongestMatch() {
+        final LocatorPrefixTrie<String> trie = new LocatorPrefixTrie<>();
+        trie.put(address("a::"), 64, "a::/64");
+        trie.put(address("a::1:0:0"), 96, "a::1:0:0/96");
+        trie.put(address("b::"), 16, "b::/16");
+
+        assertEquals(3, trie.size());
+        assertEquals("a::/64", trie.longestMatch(address("a::100")));
+        assertEquals("a::1:0:0/96", trie.longestMatch(address("a::1:0:100")));
+        assertEquals("b::/16", trie.longestMatch(address("b:1::1")));
+        assertNull(trie.longestMatch(address("c::1")));
+    }
+
+    @Test
+    public void testPutReplaces() {
+        final LocatorPrefixTrie<String> trie = new LocatorPrefixTrie<>();
+        trie.put(address("a::"), 64, "first");
+        // bits beyond prefix length are ignored
+        trie.put(address("a::ffff"), 64, "second");
+
+        assertEquals(1, trie.size());
+        assertEquals("second", trie.longestMatch(address("a::1")));
+    }
+
+    @Test
+    public void testDefaultAndHostPrefix() {
+        final LocatorPrefixTrie<String> trie = new LocatorPrefixTrie<>();
+        trie.put(address("::"), 0, "default");
+        trie.put(address("a::1"), 128, "host");
+
+        assertEquals("host", trie.longestMatch(address("a::1")));
+        assertEquals("default", trie.longestMatch(address("a::2")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLength() {
+        new LocatorPrefixTrie<String>().put(address("a::"), 129, "invalid");
+    }
+
+    private static byte[] address(final String address) {
+        return AddressTranslator.INSTANCE.ipv6AddressNoZoneToArray(new Ipv6Address(address));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.srv6.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Optional;
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.Srv6PolicyContextAugmentation;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.srv6.policy.context.attributes.Srv6PolicyMappings;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.srv6.policy.context.attributes.Srv6PolicyMappingsBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.srv6.policy.context.attributes.srv6.policy.mappings.Srv6PolicyMapping;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.srv6.policy.context.attributes.srv6.policy.mappings.Srv6PolicyMappingBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.policy.context.rev180607.srv6.policy.context.attributes.srv6.policy.mappings.Srv6PolicyMappingKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Address;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class PolicyContextManagerImplTest {
+
+    private static final InstanceIdentifier<Srv6PolicyMappings> MAPPINGS_IID =
+            InstanceIdentifier.create(Contexts.class).augmentation(Srv6PolicyContextAugmentation.class)
+                    .child(Srv6PolicyMappings.class);
+    private static final Ipv6Address BSID_1 = new Ipv6Address("a::e");
+    private static final Ipv6Address BSID_2 = new Ipv6Address("e::a");
+    private static final Ipv6Address ENDPOINT_1 = new Ipv6Address("e::1");
+    private static final Ipv6Address ENDPOINT_2 = new Ipv6Address("a::1");
+    private static final Srv6PolicyMapping POLICY_1 = new Srv6PolicyMappingBuilder().setBsid(BSID_1).setColor(1L)
+            .setEndpoint(ENDPOINT_1).setName(BSID_1.getValue()).build();
+    private static final Srv6PolicyMapping POLICY_2 = new Srv6PolicyMappingBuilder().setBsid(BSID_2).setColor(2L)
+            .setEndpoint(ENDPOINT_2).setName(BSID_2.getValue()).build();
+
+    @Mock
+    private MappingContext mappingContext;
+
+    private PolicyContextManagerImpl policyContext;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        policyContext = new PolicyContextManagerImpl();
+        when(mappingContext.read(any())).thenReturn(Optional.absent());
+        when(mappingContext.read(MAPPINGS_IID)).thenReturn(Optional.of(
+                new Srv6PolicyMappingsBuilder().setSrv6PolicyMapping(Arrays.asList(POLICY_1, POLICY_2)).build()));
+        when(mappingContext.read(policyIid(BSID_1))).thenReturn(Optional.of(POLICY_1));
+        when(mappingContext.read(policyIid(BSID_2))).thenReturn(Optional.of(POLICY_2));
+    }
+
+    @Test
+    public void getPolicyBsidTest() {
+        assertEquals(BSID_1, policyContext.getPolicyBsid(1L, ENDPOINT_1, mappingContext));
+        assertEquals(BSID_2, policyContext.getPolicyBsid(2L, new Ipv6Address("a:0::0:1"), mappingContext));
+        assertNull(policyContext.getPolicyBsid(2L, ENDPOINT_1, mappingContext));
+        // both hits and misses are served from index
+        verify(mappingContext, times(1)).read(MAPPINGS_IID);
+    }
+
+    @Test
+    public void getPolicyBsidRemovedTest() {
+        assertEquals(BSID_1, policyContext.getPolicyBsid(1L, ENDPOINT_1, mappingContext));
+        policyContext.removePolicy(BSID_1, mappingContext);
+        when(mappingContext.read(policyIid(BSID_1))).thenReturn(Optional.absent());
+        when(mappingContext.read(MAPPINGS_IID)).thenReturn(Optional.of(
+                new Srv6PolicyMappingsBuilder().setSrv6PolicyMapping(Arrays.asList(POLICY_2)).build()));
+        assertNull(policyContext.getPolicyBsid(1L, ENDPOINT_1, mappingContext));
+    }
+
+    @Test
+    public void getPolicyBsidStaleIndexTest() {
+        assertEquals(BSID_1, policyContext.getPolicyBsid(1L, ENDPOINT_1, mappingContext));
+        // mapping deleted directly from mapping context
+        when(mappingContext.read(policyIid(BSID_1))).thenReturn(Optional.absent());
+        when(mappingContext.read(MAPPINGS_IID)).thenReturn(Optional.of(
+                new Srv6PolicyMappingsBuilder().setSrv6PolicyMapping(Arrays.asList(POLICY_2)).build()));
+        assertNull(policyContext.getPolicyBsid(1L, ENDPOINT_1, mappingContext));
+        verify(mappingContext, times(2)).read(MAPPINGS_IID);
+    }
+
+    @Test
+    public void getPolicyBsidAddedTest() {
+        final Ipv6Address bsid = new Ipv6Address("b::e");
+        assertNull(policyContext.getPolicyBsid(3L, ENDPOINT_1, mappingContext));
+        policyContext.addPolicy(bsid.getValue(), 3L, ENDPOINT_1, bsid, mappingContext);
+        when(mappingContext.read(policyIid(bsid))).thenReturn(Optional.of(new Srv6PolicyMappingBuilder()
+                .setBsid(bsid).setColor(3L).setEndpoint(ENDPOINT_1).setName(bsid.getValue()).build()));
+        assertEquals(bsid, policyContext.getPolicyBsid(3L, ENDPOINT_1, mappingContext));
+        verify(mappingContext, times(1)).read(MAPPINGS_IID);
+    }
+
+    @Test
+    public void getPolicyUnmappedTest() {
+        // e.g. policies read from VPP after restart, without mapping
+        for (int i = 1; i <= 10; i++) {
+            final Ipv6Address bsid = new Ipv6Address("b::" + i);
+            assertEquals(bsid, policyContext.getPolicy(bsid, mappingContext).getBsid());
+        }
+        verify(mappingContext, times(1)).read(MAPPINGS_IID);
+    }
+
+    @Test
+    public void getPolicyTest() {
+        assertEquals(POLICY_1, policyContext.getPolicy(BSID_1, mappingContext));
+        // same BSID in different textual form
+        assertEquals(POLICY_2, policyContext.getPolicy(new Ipv6Address("e:0:0::a"), mappingContext));
+        verify(mappingContext, times(1)).read(MAPPINGS_IID);
+    }
+
+    private static InstanceIdentifier<Srv6PolicyMapping> policyIid(final Ipv6Address bsid) {
+        return MAPPINGS_IID.child(Srv6PolicyMapping.class, new Srv6PolicyMappingKey(bsid));
+    }
+}
@@ -20,6 +20,7 @@ package io.fd.hc2vpp.srv6.util;
 import static org.mockito.Mockito.when;
 
 import com.google.common.base.Optional;
+import io.fd.hc2vpp.common.translate.util.AddressTranslator;
 import io.fd.hc2vpp.srv6.Srv6PolicyIIds;
 import io.fd.honeycomb.test.tools.annotations.InjectTestData;
 import org.junit.Assert;
@@ -61,4 +62,14 @@ public class Srv6UtilTest extends JvppRequestTest{
     public void extractVrfFibTest() {
         Assert.assertEquals(0, Srv6Util.extractVrfFib(POLICY_IID, ctx, true));
     }
+
+    @Test
+    public void extractFunctionTest() {
+        final byte[] sid = AddressTranslator.INSTANCE.ipv6AddressNoZoneToArray(new Ipv6Address("a::1:0:0:100"));
+        Assert.assertEquals(0x100L, Srv6Util.extractFunction(sid, 96));
+        Assert.assertEquals(0x1000000000100L, Srv6Util.extractFunction(sid, 64));
+        // function longer than 64 bits is truncated
+        Assert.assertEquals(0x1000000000100L, Srv6Util.extractFunction(sid, 16));
+        Assert.assertEquals(0L, Srv6Util.extractFunction(sid, 128));
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po;
+
+import net.jmob.guice.conf.core.BindConfig;
+import net.jmob.guice.conf.core.InjectConfig;
+import net.jmob.guice.conf.core.Syntax;
+
+@BindConfig(value = "v3po", syntax = Syntax.JSON)
+public class V3poConfiguration {
+
+    /**
+     * Whether interface details should be cached between read transactions
+     */
+    @InjectConfig("interface-state-cache-enabled")
+    private boolean interfaceStateCacheEnabled;
+
+    /**
+     * Max age of cached interface details in milliseconds, after which interfaces are dumped again
+     */
+    @InjectConfig("interface-state-cache-max-staleness")
+    private int interfaceStateCacheMaxStaleness;
+
+    /**
+     * Max number of interface events waiting to be published as notifications
+     */
+    @InjectConfig("interface-notification-queue-capacity")
+    private int interfaceNotificationQueueCapacity;
+
+    /**
+     * Time in milliseconds for which repeated events of the same interface are coalesced into single notification
+     */
+    @InjectConfig("interface-notification-coalesce-window")
+    private int interfaceNotificationCoalesceWindow;
+
+    public boolean isInterfaceStateCacheEnabled() {
+        return interfaceStateCacheEnabled;
+    }
+
+    public int getInterfaceStateCacheMaxStaleness() {
+        return interfaceStateCacheMaxStaleness;
+    }
+
+    public int getInterfaceNotificationQueueCapacity() {
+        return interfaceNotificationQueueCapacity;
+    }
+
+    public int getInterfaceNotificationCoalesceWindow() {
+        return interfaceNotificationCoalesceWindow;
+    }
+}
@@ -29,10 +29,13 @@ import io.fd.hc2vpp.v3po.factory.SubinterfaceAugmentationWriterFactory;
 import io.fd.hc2vpp.v3po.factory.SubinterfaceStateAugmentationReaderFactory;
 import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceCacheDumpManager;
 import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceCacheDumpManagerProvider;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCache;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCacheProvider;
 import io.fd.hc2vpp.v3po.notification.InterfaceChangeNotificationProducerProvider;
 import io.fd.honeycomb.notification.ManagedNotificationProducer;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.honeycomb.translate.write.WriterFactory;
+import net.jmob.guice.conf.core.ConfigurationModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,6 +47,9 @@ public class V3poModule extends AbstractModule {
     protected void configure() {
         LOG.debug("Installing V3PO module");
 
+        install(ConfigurationModule.create());
+        requestInjection(V3poConfiguration.class);
+
         // TODO HONEYCOMB-173 put into constants
         // Naming contexts
         bind(NamingContext.class)
@@ -53,6 +59,8 @@ public class V3poModule extends AbstractModule {
                 .annotatedWith(Names.named("bridge-domain-context"))
                 .toInstance(new NamingContext("bridge-domain-", "bridge-domain-context"));
 
+        // Interface details shared by read transactions, if enabled
+        bind(InterfaceDetailsCache.class).toProvider(InterfaceDetailsCacheProvider.class).in(Singleton.class);
         bind(InterfaceCacheDumpManager.class).toProvider(InterfaceCacheDumpManagerProvider.class).in(Singleton.class);
 
         // Context utility for deleted interfaces
@@ -31,6 +31,7 @@ import io.fd.jvpp.core.dto.SwInterfaceDetails;
 import io.fd.jvpp.core.dto.SwInterfaceDetailsReplyDump;
 import io.fd.jvpp.core.dto.SwInterfaceDump;
 import io.fd.jvpp.core.future.FutureJVppCore;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
@@ -52,11 +53,21 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
     private NamingContext namingContext;
     private final DumpCacheManager<SwInterfaceDetailsReplyDump, String> specificDumpManager;
     private final DumpCacheManager<SwInterfaceDetailsReplyDump, Void> fullDumpManager;
+    private final EntityDumpExecutor<SwInterfaceDetailsReplyDump, String> specificDumpExecutor;
+    private final InterfaceDetailsCache detailsCache;
 
     InterfaceCacheDumpManagerImpl(@Nonnull final FutureJVppCore jvpp,
                                   @Nonnull final NamingContext namingContext) {
+        this(jvpp, namingContext, InterfaceDetailsCache.disabled());
+    }
+
+    InterfaceCacheDumpManagerImpl(@Nonnull final FutureJVppCore jvpp,
+                                  @Nonnull final NamingContext namingContext,
+                                  @Nonnull final InterfaceDetailsCache detailsCache) {
         this.namingContext = namingContext;
-        specificDumpManager = specificInterfaceDumpManager(jvpp);
+        this.detailsCache = detailsCache;
+        specificDumpExecutor = specificInterfaceDumpExecutor(jvpp);
+        specificDumpManager = specificInterfaceDumpManager(specificDumpExecutor);
         fullDumpManager = fullInterfaceDumpManager(jvpp,
                 new StaticCacheKeyFactory(InterfaceCacheDumpManagerImpl.class.getName() + "_dump", SwInterfaceDetailsReplyDump.class));
     }
@@ -82,6 +93,12 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
         if (interfaceIndex != null) {
             // tries to find interface in map
             return interfaceIndex.get(interfaceName);
+        } else if (detailsCache.isActive()) {
+            // details shared between transactions are cheaper than specific dump, if they are fresh
+            final SwInterfaceDetails cachedDetail = initMapAndGet(identifier, ctx).get(interfaceName);
+            return cachedDetail != null
+                    ? cachedDetail
+                    : dumpSpecificDetail(identifier, ctx, interfaceName);
         } else {
             // if map is not present, use specific dump(it will be cached standard way, under key constructed from IID)
             return dumpSpecificDetail(identifier, ctx, interfaceName);
@@ -110,14 +127,11 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
 
         final ModificationCache cache = ctx.getModificationCache();
         if (!cache.containsKey(BY_NAME_INDEX_KEY)) {
-            LOG.debug("Performing dump[{}]", identifier);
-            final SwInterfaceDetailsReplyDump dump =
-                    fullDumpManager.getDump(identifier, cache)
-                            .or(new SwInterfaceDetailsReplyDump());
+            final List<SwInterfaceDetails> details = getAllDetails(identifier, cache);
 
             // naming context initialization must be done here, as it is uses getName in next step, therefore it would
             // create artificial mapping for every interface, because this happens before interface dump is processed
-            dump.swInterfaceDetails.forEach((elt) -> {
+            details.forEach((elt) -> {
                 // Store interface name from VPP in context if not yet present
                 if (!namingContext.containsName(elt.swIfIndex, ctx.getMappingContext())) {
                     namingContext.addName(elt.swIfIndex, ByteDataTranslator.INSTANCE.toString(elt.interfaceName),
@@ -129,7 +143,7 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
                         elt.swIfIndex);
             });
 
-            final Map<String, SwInterfaceDetails> freshIndex = dump.swInterfaceDetails.stream()
+            final Map<String, SwInterfaceDetails> freshIndex = details.stream()
                     .collect(toMap(detail -> getInterfaceName(ctx, detail),
                             detail -> detail));
             putMap(freshIndex, ctx);
@@ -138,6 +152,49 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
         return getMap(ctx);
     }
 
+    private List<SwInterfaceDetails> getAllDetails(final InstanceIdentifier<?> identifier,
+                                                   final ModificationCache cache) throws ReadFailedException {
+        if (!detailsCache.isEnabled()) {
+            return fullDump(identifier, cache);
+        }
+
+        return detailsCache.getDetails(new InterfaceDetailsCache.Dumper() {
+            @Nonnull
+            @Override
+            public List<SwInterfaceDetails> dumpAll() throws ReadFailedException {
+                return fullDump(identifier, cache);
+            }
+
+            @Nullable
+            @Override
+            public SwInterfaceDetails dump(@Nonnull final SwInterfaceDetails cachedDetail)
+                    throws ReadFailedException {
+                LOG.debug("Interface {} changed since last dump, performing specific dump[{}]",
+                        cachedDetail.swIfIndex, identifier);
+                return dumpByVppName(identifier, cachedDetail);
+            }
+        });
+    }
+
+    private List<SwInterfaceDetails> fullDump(final InstanceIdentifier<?> identifier, final ModificationCache cache)
+            throws ReadFailedException {
+        LOG.debug("Performing dump[{}]", identifier);
+        return fullDumpManager.getDump(identifier, cache)
+                .or(new SwInterfaceDetailsReplyDump())
+                .swInterfaceDetails;
+    }
+
+    private SwInterfaceDetails dumpByVppName(final InstanceIdentifier<?> identifier,
+                                             final SwInterfaceDetails cachedDetail) throws ReadFailedException {
+        // name filter matches also sub-interfaces, therefore interface must be identified by index
+        return specificDumpExecutor
+                .executeDump(identifier, ByteDataTranslator.INSTANCE.toString(cachedDetail.interfaceName))
+                .swInterfaceDetails.stream()
+                .filter(detail -> detail.swIfIndex == cachedDetail.swIfIndex)
+                .findFirst()
+                .orElse(null);
+    }
+
     private String getInterfaceName(final ReadContext ctx, final SwInterfaceDetails elt) {
         return namingContext.getName(elt.swIfIndex, ctx.getMappingContext());
     }
@@ -162,9 +219,9 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager {
     }
 
     private static DumpCacheManager<SwInterfaceDetailsReplyDump, String> specificInterfaceDumpManager(
-            final FutureJVppCore jvpp) {
+            final EntityDumpExecutor<SwInterfaceDetailsReplyDump, String> specificDumpExecutor) {
         return new DumpCacheManager.DumpCacheManagerBuilder<SwInterfaceDetailsReplyDump, String>()
-                .withExecutor(specificInterfaceDumpExecutor(jvpp))
+                .withExecutor(specificDumpExecutor)
                 .acceptOnly(SwInterfaceDetailsReplyDump.class)
                 .build();
     }
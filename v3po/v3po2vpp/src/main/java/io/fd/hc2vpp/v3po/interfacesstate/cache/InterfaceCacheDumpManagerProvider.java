@@ -31,8 +31,11 @@ public class InterfaceCacheDumpManagerProvider implements Provider<InterfaceCach
     @Named("interface-context")
     private NamingContext namingContext;
 
+    @Inject
+    private InterfaceDetailsCache detailsCache;
+
     @Override
     public InterfaceCacheDumpManager get() {
-        return new InterfaceCacheDumpManagerImpl(jvpp, namingContext);
+        return new InterfaceCacheDumpManagerImpl(jvpp, namingContext, detailsCache);
     }
 }
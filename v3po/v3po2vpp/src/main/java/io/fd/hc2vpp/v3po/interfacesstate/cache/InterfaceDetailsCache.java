@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.cache;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.jvpp.core.dto.SwInterfaceDetails;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Interface details shared by read transactions. Details are dumped again when they are older than max staleness.
+ * Changes reported by VPP via sw_interface_event are applied incrementally: details of deleted interfaces are
+ * removed and details of changed interfaces are dumped again by {@link InterfaceCacheDumpManager}. Only the last event
+ * of each interface is applied, so interface deleted and created again with the same index is dumped again. Event for
+ * interface that is not cached invalidates whole cache.
+ * <p/>
+ * Cached details are used only while interface events are subscribed (interface notifications are started),
+ * otherwise interfaces are dumped in each read transaction.
+ * <p/>
+ * Events are recorded without locking, because they are delivered by the same thread that delivers dump replies.
+ */
+@ThreadSafe
+public final class InterfaceDetailsCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceDetailsCache.class);
+
+    private final boolean enabled;
+    private final long maxStalenessNanos;
+    private final LongSupplier nanoClock;
+
+    // swIfIndex -> deleted, for last event received since last read
+    private final Map<Integer, Boolean> changes = new ConcurrentHashMap<>();
+
+    // indexes of cached interfaces checked by event thread without locking, null if there are no cached data
+    private volatile Set<Integer> cachedIndexes;
+    private volatile boolean unknownInterfaceChanged;
+
+    // null if there are no cached data
+    private Map<Integer, SwInterfaceDetails> details;
+    private long dumpedAt;
+    private volatile boolean subscribed;
+
+    public InterfaceDetailsCache(final boolean enabled, final long maxStalenessMillis) {
+        this(enabled, maxStalenessMillis, System::nanoTime);
+    }
+
+    InterfaceDetailsCache(final boolean enabled, final long maxStalenessMillis,
+                          @Nonnull final LongSupplier nanoClock) {
+        checkArgument(maxStalenessMillis >= 0, "Max staleness should not be negative, but was %s", maxStalenessMillis);
+        this.enabled = enabled;
+        this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(maxStalenessMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Cache that is never used, interfaces are dumped in each read transaction.
+     */
+    public static InterfaceDetailsCache disabled() {
+        return new InterfaceDetailsCache(false, 0);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return true if cached details can be used, i.e. cache is enabled and interface events are subscribed
+     */
+    public boolean isActive() {
+        return enabled && subscribed;
+    }
+
+    /**
+     * Invoked when interface events are subscribed. Events were not recorded before, so cached details are dropped.
+     */
+    public synchronized void onEventsSubscribed() {
+        invalidate();
+        subscribed = true;
+    }
+
+    /**
+     * Invoked when interface events are unsubscribed. Cached details are dropped, since they can't be kept up to date.
+     */
+    public synchronized void onEventsUnsubscribed() {
+        subscribed = false;
+        invalidate();
+    }
+
+    /**
+     * Records change of interface reported by VPP. Never blocks.
+     */
+    public void onInterfaceEvent(final int swIfIndex, final boolean deleted) {
+        if (enabled) {
+            changes.put(swIfIndex, deleted);
+            final Set<Integer> indexes = cachedIndexes;
+            if (!deleted && indexes != null && !indexes.contains(swIfIndex)) {
+                unknownInterfaceChanged = true;
+            }
+        }
+    }
+
+    /**
+     * Returns details of all interfaces. Recorded changes are drained and applied using provided dumper in single
+     * critical section, so that concurrent reads can not interleave drain and update.
+     *
+     * @param dumper performs full dump if cached details are not usable, or dumps changed interfaces otherwise
+     */
+    @Nonnull
+    synchronized List<SwInterfaceDetails> getDetails(@Nonnull final Dumper dumper) throws ReadFailedException {
+        if (!isActive()) {
+            return dumper.dumpAll();
+        }
+
+        final Optional<List<SwInterfaceDetails>> changed = drainChanges();
+        if (!changed.isPresent()) {
+            invalidate();
+            final List<SwInterfaceDetails> dumped = dumper.dumpAll();
+            update(dumped);
+            return dumped;
+        }
+
+        for (final SwInterfaceDetails changedDetail : changed.get()) {
+            update(changedDetail.swIfIndex, dumper.dump(changedDetail));
+        }
+        return getDetails();
+    }
+
+    /**
+     * Drops all cached details. Changes recorded from now on are applied to details stored by next
+     * {@link #update(List)}, so invoke this before full dump is performed.
+     */
+    synchronized void invalidate() {
+        details = null;
+        cachedIndexes = null;
+        changes.clear();
+        unknownInterfaceChanged = false;
+    }
+
+    /**
+     * Replaces all cached details by fresh full dump.
+     */
+    synchronized void update(@Nonnull final List<SwInterfaceDetails> dumpedDetails) {
+        final Map<Integer, SwInterfaceDetails> fresh = new LinkedHashMap<>();
+        dumpedDetails.forEach(detail -> fresh.put(detail.swIfIndex, detail));
+        details = fresh;
+        final Set<Integer> indexes = ConcurrentHashMap.newKeySet();
+        indexes.addAll(fresh.keySet());
+        cachedIndexes = indexes;
+        dumpedAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * Replaces cached details of single interface.
+     *
+     * @param swIfIndex     index of interface
+     * @param freshDetail   fresh details of interface, null if interface no longer exists
+     */
+    synchronized void update(final int swIfIndex, @Nullable final SwInterfaceDetails freshDetail) {
+        if (details == null) {
+            return;
+        }
+        if (freshDetail == null) {
+            details.remove(swIfIndex);
+            cachedIndexes.remove(swIfIndex);
+        } else {
+            details.put(swIfIndex, freshDetail);
+            cachedIndexes.add(swIfIndex);
+        }
+    }
+
+    /**
+     * Applies recorded deletes and returns cached details of interfaces that changed since last call, so that they can
+     * be dumped again.
+     *
+     * @return details of changed interfaces, or empty if cached data are not usable and full dump is required
+     */
+    synchronized Optional<List<SwInterfaceDetails>> drainChanges() {
+        if (details == null || !subscribed) {
+            return Optional.empty();
+        }
+        if (nanoClock.getAsLong() - dumpedAt > maxStalenessNanos) {
+            LOG.debug("Cached interface details are older than {}ns", maxStalenessNanos);
+            return Optional.empty();
+        }
+        if (unknownInterfaceChanged) {
+            LOG.debug("Interface that is not cached changed, cached interface details are not usable");
+            return Optional.empty();
+        }
+
+        final List<SwInterfaceDetails> changed = new ArrayList<>();
+        for (final Integer swIfIndex : new ArrayList<>(changes.keySet())) {
+            final boolean deleted = changes.remove(swIfIndex);
+            final SwInterfaceDetails cached = details.get(swIfIndex);
+            if (cached == null && !deleted) {
+                LOG.debug("Interface {} is not cached, cached interface details are not usable", swIfIndex);
+                return Optional.empty();
+            } else if (deleted) {
+                details.remove(swIfIndex);
+                cachedIndexes.remove(swIfIndex);
+            } else {
+                changed.add(cached);
+            }
+        }
+        return Optional.of(changed);
+    }
+
+    /**
+     * Returns all cached details.
+     */
+    @Nonnull
+    synchronized List<SwInterfaceDetails> getDetails() {
+        return details == null
+                ? new ArrayList<>()
+                : new ArrayList<>(details.values());
+    }
+
+    /**
+     * Dumps used to refresh cached details.
+     */
+    interface Dumper {
+
+        /**
+         * @return details of all interfaces
+         */
+        @Nonnull
+        List<SwInterfaceDetails> dumpAll() throws ReadFailedException;
+
+        /**
+         * @param cachedDetail cached details of changed interface
+         * @return fresh details of the interface, or null if it no longer exists
+         */
+        @Nullable
+        SwInterfaceDetails dump(@Nonnull SwInterfaceDetails cachedDetail) throws ReadFailedException;
+    }
+}
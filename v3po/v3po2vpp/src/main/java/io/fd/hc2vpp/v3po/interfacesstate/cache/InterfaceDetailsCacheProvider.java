@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.cache;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import io.fd.hc2vpp.v3po.V3poConfiguration;
+
+public class InterfaceDetailsCacheProvider implements Provider<InterfaceDetailsCache> {
+
+    @Inject
+    private V3poConfiguration configuration;
+
+    @Override
+    public InterfaceDetailsCache get() {
+        return new InterfaceDetailsCache(configuration.isInterfaceStateCacheEnabled(),
+                configuration.getInterfaceStateCacheMaxStaleness());
+    }
+}
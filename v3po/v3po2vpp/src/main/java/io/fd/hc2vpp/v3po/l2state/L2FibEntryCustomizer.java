@@ -16,24 +16,33 @@
 
 package io.fd.hc2vpp.v3po.l2state;
 
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
 import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
+import io.fd.hc2vpp.common.translate.util.MacTranslator;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.v3po.interfacesstate.InterfaceDataTranslator;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
 import io.fd.honeycomb.translate.spi.read.InitializingListReaderCustomizer;
 import io.fd.honeycomb.translate.util.RWUtils;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.TypeAwareIdentifierCacheKeyFactory;
 import io.fd.jvpp.core.dto.L2FibTableDetails;
 import io.fd.jvpp.core.dto.L2FibTableDetailsReplyDump;
 import io.fd.jvpp.core.dto.L2FibTableDump;
 import io.fd.jvpp.core.future.FutureJVppCore;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190128.L2FibFilter;
@@ -54,21 +63,28 @@ import org.slf4j.LoggerFactory;
 
 public final class L2FibEntryCustomizer extends FutureJVppCustomizer
         implements InitializingListReaderCustomizer<L2FibEntry, L2FibEntryKey, L2FibEntryBuilder>, ByteDataTranslator,
-        InterfaceDataTranslator {
+        InterfaceDataTranslator, MacTranslator {
 
     private static final Logger LOG = LoggerFactory.getLogger(L2FibEntryCustomizer.class);
 
-    private static final Collector<L2FibTableDetails, ?, L2FibTableDetails> SINGLE_ITEM_COLLECTOR =
-            RWUtils.singleItemCollector();
+    private static final String MAC_INDEX_CACHE_KEY = L2FibEntryCustomizer.class.getName() + "_macIndex_";
 
     private final NamingContext bdContext;
     private final NamingContext interfaceContext;
+    private final DumpCacheManager<L2FibTableDetailsReplyDump, Integer> dumpManager;
 
     public L2FibEntryCustomizer(@Nonnull final FutureJVppCore futureJVppCore, @Nonnull final NamingContext bdContext,
                                 @Nonnull final NamingContext interfaceContext) {
         super(futureJVppCore);
         this.bdContext = Preconditions.checkNotNull(bdContext, "bdContext should not be null");
         this.interfaceContext = Preconditions.checkNotNull(interfaceContext, "interfaceContext should not be null");
+        this.dumpManager = new DumpCacheManager.DumpCacheManagerBuilder<L2FibTableDetailsReplyDump, Integer>()
+                .withExecutor(this::dumpL2Fibs)
+                // Key needs to contain bridge domain to distinguish dumps between bridge domains
+                .withCacheKeyFactory(new TypeAwareIdentifierCacheKeyFactory(L2FibTableDetailsReplyDump.class,
+                        ImmutableSet.of(BridgeDomain.class)))
+                .acceptOnly(L2FibTableDetailsReplyDump.class)
+                .build();
     }
 
     @Override
@@ -82,10 +98,8 @@ public final class L2FibEntryCustomizer extends FutureJVppCustomizer
         LOG.debug("Reading L2 FIB entry: key={}. bridgeDomainKey={}, bdId={}", key, bridgeDomainKey, bdId);
 
         try {
-            // TODO HONEYCOMB-186 use cached l2FibTable
-            final L2FibTableDetails entry = dumpL2Fibs(id, bdId).stream().filter(e -> key.getPhysAddress()
-                    .equals(new PhysAddress(vppPhysAddrToYang((e.mac)))))
-                    .collect(SINGLE_ITEM_COLLECTOR);
+            final L2FibTableDetails entry = getMacIndex(id, bdId, ctx).get(macToLong(key.getPhysAddress().getValue()));
+            checkState(entry != null, "No L2 FIB entry found for %s in bridge domain %s", key, bdId);
 
             builder.setAction(byteToBoolean(entry.filterMac)
                     ? L2FibFilter.class
@@ -103,8 +117,40 @@ public final class L2FibEntryCustomizer extends FutureJVppCustomizer
         }
     }
 
+    /**
+     * Returns L2 FIB entries of bridge domain indexed by MAC address packed to long. Index is built from cached dump
+     * once per read transaction.
+     */
+    @Nonnull
+    private Map<Long, L2FibTableDetails> getMacIndex(@Nonnull final InstanceIdentifier<L2FibEntry> id, final int bdId,
+                                                     @Nonnull final ReadContext ctx) throws ReadFailedException {
+        final ModificationCache cache = ctx.getModificationCache();
+        final String cacheKey = MAC_INDEX_CACHE_KEY + bdId;
+        @SuppressWarnings("unchecked")
+        Map<Long, L2FibTableDetails> index = (Map<Long, L2FibTableDetails>) cache.get(cacheKey);
+        if (index == null) {
+            final List<L2FibTableDetails> entries = getL2Fibs(id, bdId, ctx);
+            index = new HashMap<>(entries.size() * 2);
+            for (final L2FibTableDetails entry : entries) {
+                index.putIfAbsent(macToLong(entry.mac), entry);
+            }
+            cache.put(cacheKey, index);
+        }
+        return index;
+    }
+
     @Nonnull
-    private List<L2FibTableDetails> dumpL2Fibs(final InstanceIdentifier<L2FibEntry> id, final int bdId)
+    private List<L2FibTableDetails> getL2Fibs(@Nonnull final InstanceIdentifier<L2FibEntry> id, final int bdId,
+                                              @Nonnull final ReadContext ctx) throws ReadFailedException {
+        final Optional<L2FibTableDetailsReplyDump> dump = dumpManager.getDump(id, ctx.getModificationCache(), bdId);
+        if (!dump.isPresent() || null == dump.get().l2FibTableDetails) {
+            return Collections.emptyList();
+        } else {
+            return dump.get().l2FibTableDetails;
+        }
+    }
+
+    private L2FibTableDetailsReplyDump dumpL2Fibs(final InstanceIdentifier<?> id, final Integer bdId)
             throws ReadFailedException {
         final L2FibTableDump l2FibRequest = new L2FibTableDump();
         l2FibRequest.bdId = bdId;
@@ -112,13 +158,7 @@ public final class L2FibEntryCustomizer extends FutureJVppCustomizer
         final CompletableFuture<L2FibTableDetailsReplyDump> l2FibTableDumpCompletableFuture =
                 getFutureJVpp().l2FibTableDump(l2FibRequest).toCompletableFuture();
 
-        final L2FibTableDetailsReplyDump dump = getReplyForRead(l2FibTableDumpCompletableFuture, id);
-
-        if (null == dump || null == dump.l2FibTableDetails) {
-            return Collections.emptyList();
-        } else {
-            return dump.l2FibTableDetails;
-        }
+        return getReplyForRead(l2FibTableDumpCompletableFuture, id);
     }
 
     @Nonnull
@@ -129,7 +169,7 @@ public final class L2FibEntryCustomizer extends FutureJVppCustomizer
         final int bdId = bdContext.getIndex(bridgeDomainKey.getName(), ctx.getMappingContext());
 
         LOG.debug("Reading L2 FIB for bridge domain {} (bdId={})", bridgeDomainKey, bdId);
-        return dumpL2Fibs(id, bdId).stream()
+        return getL2Fibs(id, bdId, ctx).stream()
                 .map(entry -> new L2FibEntryKey(new PhysAddress(vppPhysAddrToYang(entry.mac))))
                 .collect(Collectors.toList());
     }
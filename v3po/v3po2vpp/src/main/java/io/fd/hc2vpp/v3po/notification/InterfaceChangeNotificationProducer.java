@@ -20,7 +20,9 @@ import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.MXBeanRegistration;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCache;
 import io.fd.honeycomb.notification.ManagedNotificationProducer;
 import io.fd.honeycomb.notification.NotificationCollector;
 import io.fd.honeycomb.translate.MappingContext;
@@ -35,6 +37,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeoutException;
+import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -51,25 +54,59 @@ import org.slf4j.LoggerFactory;
 /**
  * Notification producer for interface events. It starts interface notification stream and for every received
  * notification, it transforms it into its BA equivalent and pushes into HC's notification collector.
+ * <p/>
+ * Received events are only queued by jvpp rx thread. They are transformed and pushed by {@link InterfaceEventQueue},
+ * which coalesces repeated events of the same interface. Statistics of the queue are exposed via JMX, see
+ * {@link InterfaceEventQueueMXBean}.
  */
 @NotThreadSafe
 final class InterfaceChangeNotificationProducer implements ManagedNotificationProducer, JvppReplyConsumer {
 
     private static final Logger LOG = LoggerFactory.getLogger(InterfaceChangeNotificationProducer.class);
 
+    static final int DEFAULT_QUEUE_CAPACITY = 4096;
+    static final long DEFAULT_COALESCE_WINDOW_MILLIS = 100;
+
     private final FutureJVppCore jvpp;
     private final NamingContext interfaceContext;
     private final MappingContext mappingContext;
+    private final InterfaceDetailsCache detailsCache;
+    private final int queueCapacity;
+    private final long coalesceWindowMillis;
     @Nullable
     private AutoCloseable notificationListenerReg;
+    @Nullable
+    private InterfaceEventQueue eventQueue;
+    @Nullable
+    private MXBeanRegistration eventQueueStatsReg;
 
-    @Inject
     InterfaceChangeNotificationProducer(@Nonnull final FutureJVppCore jvpp,
                                         @Nonnull final NamingContext interfaceContext,
                                         @Nonnull final MappingContext mappingContext) {
+        this(jvpp, interfaceContext, mappingContext, InterfaceDetailsCache.disabled());
+    }
+
+    @Inject
+    InterfaceChangeNotificationProducer(@Nonnull final FutureJVppCore jvpp,
+                                        @Nonnull final NamingContext interfaceContext,
+                                        @Nonnull final MappingContext mappingContext,
+                                        @Nonnull final InterfaceDetailsCache detailsCache) {
+        this(jvpp, interfaceContext, mappingContext, detailsCache, DEFAULT_QUEUE_CAPACITY,
+                DEFAULT_COALESCE_WINDOW_MILLIS);
+    }
+
+    InterfaceChangeNotificationProducer(@Nonnull final FutureJVppCore jvpp,
+                                        @Nonnull final NamingContext interfaceContext,
+                                        @Nonnull final MappingContext mappingContext,
+                                        @Nonnull final InterfaceDetailsCache detailsCache,
+                                        @Nonnegative final int queueCapacity,
+                                        @Nonnegative final long coalesceWindowMillis) {
         this.jvpp = jvpp;
         this.interfaceContext = interfaceContext;
         this.mappingContext = mappingContext;
+        this.detailsCache = detailsCache;
+        this.queueCapacity = queueCapacity;
+        this.coalesceWindowMillis = coalesceWindowMillis;
     }
 
     @Override
@@ -77,19 +114,19 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
         LOG.trace("Starting interface notifications");
         enableDisableIfcNotifications(1);
         LOG.debug("Interface notifications started successfully");
+        final InterfaceEventQueue queue =
+                new InterfaceEventQueue(queueCapacity, coalesceWindowMillis, events -> publish(events, collector));
+        eventQueue = queue;
+        eventQueueStatsReg =
+                MXBeanRegistration.register(queue, InterfaceEventQueueMXBean.class, "InterfaceEventQueue");
         notificationListenerReg = jvpp.getEventRegistry().registerSwInterfaceEventCallback(
                 new SwInterfaceEventCallback() {
                     @Override
                     public void onSwInterfaceEvent(SwInterfaceEvent swInterfaceEvent) {
                         LOG.trace("Interface notification received: {}", swInterfaceEvent);
-                        // TODO HONEYCOMB-166 this should be lazy
-                        try {
-                            collector.onNotification(transformNotification(swInterfaceEvent));
-                        } catch (Exception e) {
-                            // There is no need to propagate exception to jvpp rx thread in case of unexpected failures.
-                            // We can't do much about it, so lets log the exception.
-                            LOG.warn("Failed to process interface notification {}", swInterfaceEvent, e);
-                        }
+                        // cached interface details must not outlive the change
+                        detailsCache.onInterfaceEvent(swInterfaceEvent.swIfIndex, swInterfaceEvent.deleted == 1);
+                        queue.offer(swInterfaceEvent);
                     }
 
                     //TODO this should be removed within VPP-1000
@@ -99,14 +136,39 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
                     }
                 }
         );
+        // cached interface details are kept up to date only while events are received
+        detailsCache.onEventsSubscribed();
     }
 
-    private Notification transformNotification(final SwInterfaceEvent swInterfaceEvent) {
+    /**
+     * Transforms events drained from the queue and pushes them into collector. Invoked by the queue thread only.
+     */
+    private void publish(@Nonnull final Collection<SwInterfaceEvent> events,
+                         @Nonnull final NotificationCollector collector) {
+        for (final SwInterfaceEvent swInterfaceEvent : events) {
+            try {
+                Optional<String> name = interfaceContext.getNameIfPresent(swInterfaceEvent.swIfIndex, mappingContext);
+                if (!name.isPresent()) {
+                    // mapping context is long-lived, interface might have been mapped by other transaction
+                    interfaceContext.invalidateIndex(mappingContext);
+                    name = interfaceContext.getNameIfPresent(swInterfaceEvent.swIfIndex, mappingContext);
+                }
+                collector.onNotification(transformNotification(swInterfaceEvent, getIfcName(swInterfaceEvent, name)));
+            } catch (Exception e) {
+                // There is no need to stop processing of other events in case of unexpected failures.
+                // We can't do much about it, so lets log the exception.
+                LOG.warn("Failed to process interface notification {}", swInterfaceEvent, e);
+            }
+        }
+    }
+
+    private Notification transformNotification(final SwInterfaceEvent swInterfaceEvent,
+                                               final InterfaceNameOrIndex name) {
         if (swInterfaceEvent.deleted == 1) {
-            return new InterfaceDeletedBuilder().setName(getIfcName(swInterfaceEvent)).build();
+            return new InterfaceDeletedBuilder().setName(name).build();
         } else {
             return new InterfaceStateChangeBuilder()
-                    .setName(getIfcName(swInterfaceEvent))
+                    .setName(name)
                     .setAdminStatus(swInterfaceEvent.adminUpDown == 1
                             ? InterfaceStatus.Up
                             : InterfaceStatus.Down)
@@ -124,9 +186,8 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
      * <p/>
      * In case mapping is not available, index is used as name.
      */
-    private InterfaceNameOrIndex getIfcName(final SwInterfaceEvent swInterfaceEventNotification) {
-        final Optional<String> optionalName =
-                interfaceContext.getNameIfPresent(swInterfaceEventNotification.swIfIndex, mappingContext);
+    private static InterfaceNameOrIndex getIfcName(final SwInterfaceEvent swInterfaceEventNotification,
+                                                   final Optional<String> optionalName) {
         return optionalName.isPresent()
                 ? new InterfaceNameOrIndex(optionalName.get())
                 : new InterfaceNameOrIndex((long) swInterfaceEventNotification.swIfIndex);
@@ -135,6 +196,7 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
     @Override
     public void stop() {
         LOG.trace("Stopping interface notifications");
+        detailsCache.onEventsUnsubscribed();
         enableDisableIfcNotifications(0);
         LOG.debug("Interface notifications stopped successfully");
         try {
@@ -144,6 +206,15 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
         } catch (Exception e) {
             LOG.warn("Unable to properly close notification registration: {}", notificationListenerReg, e);
         }
+        if (eventQueueStatsReg != null) {
+            eventQueueStatsReg.close();
+        }
+        if (eventQueue != null) {
+            LOG.info("Closing interface event queue, handled events: {}, dropped events: {}, coalesced events: {}",
+                    eventQueue.getHandledEventCount(), eventQueue.getDroppedEventCount(),
+                    eventQueue.getCoalescedEventCount());
+            eventQueue.close();
+        }
     }
 
     private void enableDisableIfcNotifications(int enableDisable) {
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.notification;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.fd.jvpp.core.dto.SwInterfaceEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded queue of interface events, drained by dedicated thread. At most the last deletion and the last state event
+ * of each interface are queued, in order of their arrival, so only the latest state of each interface is handled and
+ * deletion of the interface is not lost when it is followed by state events (e.g. interface was created again with the
+ * same index). Once first event arrives, the drain thread waits for coalescing window before it takes all queued
+ * events, so that repeated events (e.g. link flaps) received within the window are handled just once.
+ * <p/>
+ * Offering an event never blocks. Events that would exceed capacity of the queue are dropped, events replacing queued
+ * events are always accepted.
+ */
+@ThreadSafe
+final class InterfaceEventQueue implements InterfaceEventQueueMXBean, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceEventQueue.class);
+
+    // last deletion and last state event
+    private static final int MAX_INTERFACE_EVENTS = 2;
+
+    private final int capacity;
+    private final long coalesceWindowMillis;
+    private final Consumer<Collection<SwInterfaceEvent>> handler;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong handled = new AtomicLong();
+
+    // swIfIndex -> queued events of the interface, in order of first arrival
+    @GuardedBy("this")
+    private Map<Integer, List<SwInterfaceEvent>> pending = new LinkedHashMap<>();
+    @GuardedBy("this")
+    private int depth;
+    @GuardedBy("this")
+    private boolean dropping;
+    @GuardedBy("this")
+    private boolean closed;
+
+    /**
+     * Creates queue and starts its drain thread.
+     *
+     * @param capacity             max number of queued events
+     * @param coalesceWindowMillis time to wait for repeated events before queued events are handled
+     * @param handler              handles drained events, invoked by the drain thread only
+     */
+    InterfaceEventQueue(@Nonnegative final int capacity, @Nonnegative final long coalesceWindowMillis,
+                        @Nonnull final Consumer<Collection<SwInterfaceEvent>> handler) {
+        checkArgument(capacity > 0, "Queue capacity should be positive, but was %s", capacity);
+        checkArgument(coalesceWindowMillis >= 0, "Coalesce window should not be negative, but was %s",
+                coalesceWindowMillis);
+        this.capacity = capacity;
+        this.coalesceWindowMillis = coalesceWindowMillis;
+        this.handler = handler;
+        final Thread drainThread = new Thread(this::drain, "interface-event-queue");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    /**
+     * Queues event, replacing queued event of the same interface and kind (deletion or state event). Never blocks.
+     *
+     * @return false if event was dropped, because the queue is full or closed
+     */
+    synchronized boolean offer(@Nonnull final SwInterfaceEvent event) {
+        if (closed) {
+            return false;
+        }
+        final List<SwInterfaceEvent> queued = pending.get(event.swIfIndex);
+        if (queued != null) {
+            final int last = queued.size() - 1;
+            if (isDeletion(event) == isDeletion(queued.get(last))) {
+                queued.set(last, event);
+                coalesced.incrementAndGet();
+                return true;
+            } else if (queued.size() == MAX_INTERFACE_EVENTS) {
+                // queued events alternate in kind, so the first one is of the same kind as the new one
+                queued.remove(0);
+                queued.add(event);
+                coalesced.incrementAndGet();
+                return true;
+            }
+        }
+        if (depth >= capacity) {
+            dropped.incrementAndGet();
+            if (!dropping) {
+                LOG.warn("Interface event queue is full ({} events), dropping events", capacity);
+                dropping = true;
+            }
+            LOG.debug("Dropping interface event {}", event);
+            return false;
+        }
+        if (queued != null) {
+            queued.add(event);
+        } else {
+            final List<SwInterfaceEvent> events = new ArrayList<>(MAX_INTERFACE_EVENTS);
+            events.add(event);
+            pending.put(event.swIfIndex, events);
+        }
+        depth++;
+        if (depth == 1) {
+            notifyAll();
+        }
+        return true;
+    }
+
+    private void drain() {
+        try {
+            Collection<SwInterfaceEvent> events;
+            while ((events = take()) != null) {
+                handled.addAndGet(events.size());
+                try {
+                    handler.accept(events);
+                } catch (RuntimeException e) {
+                    LOG.warn("Failed to handle interface events {}", events, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOG.debug("Interface event queue closed");
+    }
+
+    /**
+     * Waits for first event and then for coalesce window, and takes all queued events.
+     *
+     * @return queued events, or null if queue was closed
+     */
+    private Collection<SwInterfaceEvent> take() throws InterruptedException {
+        synchronized (this) {
+            while (pending.isEmpty() && !closed) {
+                wait();
+            }
+            if (closed) {
+                return null;
+            }
+        }
+        if (coalesceWindowMillis > 0) {
+            TimeUnit.MILLISECONDS.sleep(coalesceWindowMillis);
+        }
+        synchronized (this) {
+            if (closed) {
+                return null;
+            }
+            final List<SwInterfaceEvent> events = new ArrayList<>(depth);
+            pending.values().forEach(events::addAll);
+            pending = new LinkedHashMap<>();
+            depth = 0;
+            if (dropping) {
+                LOG.info("Interface event queue accepts events again, dropped events in total: {}", dropped.get());
+                dropping = false;
+            }
+            return events;
+        }
+    }
+
+    private static boolean isDeletion(final SwInterfaceEvent event) {
+        return event.deleted == 1;
+    }
+
+    @Override
+    public synchronized int getQueueDepth() {
+        return depth;
+    }
+
+    @Override
+    public long getDroppedEventCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public long getCoalescedEventCount() {
+        return coalesced.get();
+    }
+
+    @Override
+    public long getHandledEventCount() {
+        return handled.get();
+    }
+
+    /**
+     * Stops the drain thread once it handles current events. Queued events that were not handled yet are discarded.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            pending.clear();
+            depth = 0;
+            notifyAll();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.v3po.notification;
+
+/**
+ * Statistics of queue of interface events waiting to be published as notifications. Exposed via JMX as
+ * {@code io.fd.hc2vpp:type=InterfaceEventQueue} while interface notifications are started.
+ */
+public interface InterfaceEventQueueMXBean {
+
+    /**
+     * Number of events waiting to be published.
+     */
+    int getQueueDepth();
+
+    /**
+     * Number of events dropped because the queue was full.
+     */
+    long getDroppedEventCount();
+
+    /**
+     * Number of events replaced by later event of the same interface before they were published.
+     */
+    long getCoalescedEventCount();
+
+    /**
+     * Number of events passed to the publisher.
+     */
+    long getHandledEventCount();
+}
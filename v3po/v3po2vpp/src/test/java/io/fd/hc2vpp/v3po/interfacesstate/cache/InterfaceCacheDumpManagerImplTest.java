@@ -20,6 +20,7 @@ import static io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceCacheDumpManagerI
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -141,6 +142,95 @@ public class InterfaceCacheDumpManagerImplTest implements NamingContextHelper, F
         verify(jvpp, times(1)).swInterfaceDump(specificRequest(IFACE_3));
     }
 
+    @Test
+    public void getInterfacesSharedBetweenTransactions() throws Exception {
+        final InterfaceCacheDumpManagerImpl sharingManager =
+                new InterfaceCacheDumpManagerImpl(jvpp, namingContext, subscribedCache(60_000));
+
+        assertEquals(3, sharingManager.getInterfaces(identifier, ctx).count());
+        assertEquals(3, sharingManager.getInterfaces(identifier, nextTransaction()).count());
+        assertEquals(detailOne(), sharingManager.getInterfaceDetail(identifier, nextTransaction(), IFACE_1));
+
+        verify(jvpp, times(1)).swInterfaceDump(fullRequest());
+        verifyNoMoreInteractions(jvpp);
+    }
+
+    @Test
+    public void getInterfacesChangedInterfaceDumpedAgain() throws Exception {
+        final InterfaceDetailsCache detailsCache = subscribedCache(60_000);
+        final InterfaceCacheDumpManagerImpl sharingManager =
+                new InterfaceCacheDumpManagerImpl(jvpp, namingContext, detailsCache);
+        final SwInterfaceDetails changedOne = detailOne();
+        changedOne.adminUpDown = 1;
+        final SwInterfaceDetailsReplyDump changedReply = new SwInterfaceDetailsReplyDump();
+        changedReply.swInterfaceDetails = Arrays.asList(changedOne);
+        when(jvpp.swInterfaceDump(specificRequest(IFACE_1))).thenReturn(future(changedReply));
+
+        sharingManager.getInterfaces(identifier, ctx);
+        detailsCache.onInterfaceEvent(1, false);
+        detailsCache.onInterfaceEvent(2, true);
+
+        final List<SwInterfaceDetails> interfaces =
+                sharingManager.getInterfaces(identifier, nextTransaction()).collect(Collectors.toList());
+        assertEquals(2, interfaces.size());
+        assertTrue(interfaces.contains(detailZero()));
+        assertTrue(interfaces.contains(changedOne));
+
+        verify(jvpp, times(1)).swInterfaceDump(fullRequest());
+        verify(jvpp, times(1)).swInterfaceDump(specificRequest(IFACE_1));
+        verifyNoMoreInteractions(jvpp);
+    }
+
+    @Test
+    public void getInterfacesUnknownInterfaceChanged() throws Exception {
+        final InterfaceDetailsCache detailsCache = subscribedCache(60_000);
+        final InterfaceCacheDumpManagerImpl sharingManager =
+                new InterfaceCacheDumpManagerImpl(jvpp, namingContext, detailsCache);
+
+        sharingManager.getInterfaces(identifier, ctx);
+        detailsCache.onInterfaceEvent(3, false);
+        sharingManager.getInterfaces(identifier, nextTransaction());
+
+        verify(jvpp, times(2)).swInterfaceDump(fullRequest());
+    }
+
+    @Test
+    public void getInterfacesStale() throws Exception {
+        final InterfaceCacheDumpManagerImpl sharingManager =
+                new InterfaceCacheDumpManagerImpl(jvpp, namingContext, subscribedCache(0));
+
+        sharingManager.getInterfaces(identifier, ctx);
+        Thread.sleep(1);
+        sharingManager.getInterfaces(identifier, nextTransaction());
+
+        verify(jvpp, times(2)).swInterfaceDump(fullRequest());
+    }
+
+    @Test
+    public void getInterfacesNotSubscribed() throws Exception {
+        // interface notifications are not started, so changes would not be seen
+        final InterfaceCacheDumpManagerImpl sharingManager =
+                new InterfaceCacheDumpManagerImpl(jvpp, namingContext, new InterfaceDetailsCache(true, 60_000));
+
+        sharingManager.getInterfaces(identifier, ctx);
+        sharingManager.getInterfaces(identifier, nextTransaction());
+
+        verify(jvpp, times(2)).swInterfaceDump(fullRequest());
+    }
+
+    private static InterfaceDetailsCache subscribedCache(final long maxStalenessMillis) {
+        final InterfaceDetailsCache detailsCache = new InterfaceDetailsCache(true, maxStalenessMillis);
+        detailsCache.onEventsSubscribed();
+        return detailsCache;
+    }
+
+    private ReadContext nextTransaction() {
+        final ReadContext nextCtx = mock(ReadContext.class);
+        when(nextCtx.getModificationCache()).thenReturn(new ModificationCache());
+        when(nextCtx.getMappingContext()).thenReturn(mappingContext);
+        return nextCtx;
+    }
+
     private SwInterfaceDetailsReplyDump fullReply() {
         final SwInterfaceDetailsReplyDump reply = new SwInterfaceDetailsReplyDump();
         reply.swInterfaceDetails = Arrays.asList(detailZero(), detailOne(), detailTwo());
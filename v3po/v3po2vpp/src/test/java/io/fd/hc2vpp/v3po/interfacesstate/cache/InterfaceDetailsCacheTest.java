@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.interfacesstate.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.jvpp.core.dto.SwInterfaceDetails;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InterfaceDetailsCacheTest {
+
+    private AtomicLong clock;
+    private InterfaceDetailsCache cache;
+
+    @Before
+    public void setUp() {
+        clock = new AtomicLong();
+        cache = new InterfaceDetailsCache(true, 1000, clock::get);
+        cache.onEventsSubscribed();
+    }
+
+    @Test
+    public void testEmpty() {
+        assertFalse(cache.drainChanges().isPresent());
+        assertTrue(cache.getDetails().isEmpty());
+    }
+
+    @Test
+    public void testFresh() {
+        cache.update(Arrays.asList(detail(0), detail(1)));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+        assertEquals(Collections.emptyList(), cache.drainChanges().get());
+        assertEquals(Arrays.asList(detail(0), detail(1)), cache.getDetails());
+    }
+
+    @Test
+    public void testStale() {
+        cache.update(Arrays.asList(detail(0), detail(1)));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001));
+
+        assertFalse(cache.drainChanges().isPresent());
+    }
+
+    @Test
+    public void testChanges() {
+        cache.update(Arrays.asList(detail(0), detail(1), detail(2)));
+        cache.onInterfaceEvent(1, false);
+        cache.onInterfaceEvent(2, false);
+        cache.onInterfaceEvent(2, true);
+
+        assertEquals(Collections.singletonList(detail(1)), cache.drainChanges().get());
+        assertEquals(Arrays.asList(detail(0), detail(1)), cache.getDetails());
+
+        // changes are drained
+        assertEquals(Collections.emptyList(), cache.drainChanges().get());
+    }
+
+    @Test
+    public void testInterfaceDeletedAndCreatedAgain() throws ReadFailedException {
+        cache.update(Arrays.asList(detail(0), detail(1)));
+        cache.onInterfaceEvent(1, true);
+        cache.onInterfaceEvent(1, false);
+        final SwInterfaceDetails recreated = detail(1);
+        recreated.interfaceName = "recreated".getBytes();
+
+        final InterfaceDetailsCache.Dumper dumper = mock(InterfaceDetailsCache.Dumper.class);
+        when(dumper.dump(detail(1))).thenReturn(recreated);
+
+        assertEquals(Arrays.asList(detail(0), recreated), cache.getDetails(dumper));
+        verify(dumper, never()).dumpAll();
+    }
+
+    @Test
+    public void testInterfaceCreatedAndDeleted() {
+        cache.update(Arrays.asList(detail(0), detail(1)));
+        cache.onInterfaceEvent(1, false);
+        cache.onInterfaceEvent(1, true);
+
+        assertEquals(Collections.emptyList(), cache.drainChanges().get());
+        assertEquals(Collections.singletonList(detail(0)), cache.getDetails());
+    }
+
+    @Test
+    public void testUpdateSingle() {
+        cache.update(Arrays.asList(detail(0), detail(1)));
+        final SwInterfaceDetails changed = detail(1);
+        changed.linkUpDown = 1;
+
+        cache.update(1, changed);
+        cache.update(0, null);
+        assertEquals(Collections.singletonList(changed), cache.getDetails());
+    }
+
+    @Test
+    public void testUnknownInterfaceChanged() {
+        cache.update(Arrays.asList(detail(0), detail(1)));
+        cache.onInterfaceEvent(5, false);
+
+        assertFalse(cache.drainChanges().isPresent());
+    }
+
+    @Test
+    public void testUnknownInterfaceChangedInvalidatesCache() throws ReadFailedException {
+        cache.update(Arrays.asList(detail(0), detail(1)));
+        cache.onInterfaceEvent(1, true);
+        cache.onInterfaceEvent(5, false);
+        // interface 5 was created and deleted before read, but cached details are no longer trusted
+        cache.onInterfaceEvent(5, true);
+
+        final InterfaceDetailsCache.Dumper dumper = mock(InterfaceDetailsCache.Dumper.class);
+        when(dumper.dumpAll()).thenReturn(Arrays.asList(detail(0), detail(1)));
+
+        assertEquals(Arrays.asList(detail(0), detail(1)), cache.getDetails(dumper));
+        verify(dumper).dumpAll();
+        assertEquals(Collections.emptyList(), cache.drainChanges().get());
+    }
+
+    @Test
+    public void testUnknownInterfaceDeleted() {
+        cache.update(Arrays.asList(detail(0), detail(1)));
+        cache.onInterfaceEvent(5, true);
+
+        assertEquals(Collections.emptyList(), cache.drainChanges().get());
+    }
+
+    @Test
+    public void testChangesDuringFullDump() {
+        cache.update(Collections.singletonList(detail(0)));
+        cache.invalidate();
+        // event received while dump was in progress
+        cache.onInterfaceEvent(0, false);
+        cache.update(Collections.singletonList(detail(0)));
+
+        assertEquals(Collections.singletonList(detail(0)), cache.drainChanges().get());
+    }
+
+    @Test
+    public void testNotSubscribed() {
+        final InterfaceDetailsCache notSubscribed = new InterfaceDetailsCache(true, 1000, clock::get);
+        notSubscribed.update(Collections.singletonList(detail(0)));
+
+        assertFalse(notSubscribed.isActive());
+        assertFalse(notSubscribed.drainChanges().isPresent());
+    }
+
+    @Test
+    public void testUnsubscribed() {
+        cache.update(Collections.singletonList(detail(0)));
+        cache.onEventsUnsubscribed();
+
+        assertFalse(cache.isActive());
+        assertTrue(cache.getDetails().isEmpty());
+    }
+
+    @Test
+    public void testGetDetailsAppliesChanges() throws ReadFailedException {
+        cache.update(Arrays.asList(detail(0), detail(1), detail(2)));
+        cache.onInterfaceEvent(1, false);
+        cache.onInterfaceEvent(2, true);
+        final SwInterfaceDetails changed = detail(1);
+        changed.linkUpDown = 1;
+
+        final InterfaceDetailsCache.Dumper dumper = mock(InterfaceDetailsCache.Dumper.class);
+        when(dumper.dump(detail(1))).thenReturn(changed);
+
+        assertEquals(Arrays.asList(detail(0), changed), cache.getDetails(dumper));
+        verify(dumper, never()).dumpAll();
+    }
+
+    @Test
+    public void testGetDetailsFullDump() throws ReadFailedException {
+        final InterfaceDetailsCache.Dumper dumper = mock(InterfaceDetailsCache.Dumper.class);
+        when(dumper.dumpAll()).thenReturn(Arrays.asList(detail(0), detail(1)));
+
+        assertEquals(Arrays.asList(detail(0), detail(1)), cache.getDetails(dumper));
+        assertEquals(Collections.emptyList(), cache.drainChanges().get());
+    }
+
+    @Test
+    public void testDisabled() {
+        assertFalse(InterfaceDetailsCache.disabled().isEnabled());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeStaleness() {
+        new InterfaceDetailsCache(true, -1);
+    }
+
+    private static SwInterfaceDetails detail(final int swIfIndex) {
+        final SwInterfaceDetails detail = new SwInterfaceDetails();
+        detail.swIfIndex = swIfIndex;
+        detail.interfaceName = ("iface-" + swIfIndex).getBytes();
+        return detail;
+    }
+}
@@ -19,16 +19,19 @@ package io.fd.hc2vpp.v3po.l2state;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.fd.hc2vpp.common.test.read.ListReaderCustomizerTest;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.ReaderCustomizer;
 import io.fd.jvpp.VppInvocationException;
 import io.fd.jvpp.core.dto.L2FibTableDetails;
 import io.fd.jvpp.core.dto.L2FibTableDetailsReplyDump;
 import io.fd.jvpp.core.dto.L2FibTableDump;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -121,4 +124,32 @@ public class L2FibEntryCustomizerTest extends ListReaderCustomizerTest<L2FibEntr
         assertEquals(1, ids.size());
         assertEquals(address, ids.get(0).getPhysAddress());
     }
+
+    @Test
+    public void testReadAllEntriesUsesSingleDump() throws Exception {
+        final PhysAddress address1 = new PhysAddress("01:02:03:04:05:06");
+        final PhysAddress address2 = new PhysAddress("0a:0b:0c:0d:0e:0f");
+        defineMapping(mappingContext, IFACE_NAME, IFACE_ID, IFC_CTX_NAME);
+
+        whenL2FibTableDumpThenReturn(Arrays.asList(generateL2FibEntry(new byte[]{1, 2, 3, 4, 5, 6}),
+            generateL2FibEntry(new byte[]{0xa, 0xb, 0xc, 0xd, 0xe, 0xf})));
+
+        final List<L2FibEntryKey> ids = getCustomizer().getAllIds(getL2FibEntryId(BD_NAME, address1), ctx);
+        assertEquals(2, ids.size());
+        for (L2FibEntryKey id : ids) {
+            final L2FibEntryBuilder builder = new L2FibEntryBuilder();
+            getCustomizer().readCurrentAttributes(getL2FibEntryId(BD_NAME, id.getPhysAddress()), builder, ctx);
+            assertEquals(id.getPhysAddress(), builder.getPhysAddress());
+        }
+        assertEquals(address2, ids.get(1).getPhysAddress());
+        verify(api, times(1)).l2FibTableDump(any(L2FibTableDump.class));
+    }
+
+    @Test(expected = ReadFailedException.class)
+    public void testReadMissing() throws Exception {
+        whenL2FibTableDumpThenReturn(Collections.singletonList(generateL2FibEntry(new byte[]{1, 2, 3, 4, 5, 6})));
+
+        getCustomizer().readCurrentAttributes(getL2FibEntryId(BD_NAME, new PhysAddress("01:02:03:04:05:07")),
+            new L2FibEntryBuilder(), ctx);
+    }
 }
@@ -17,14 +17,17 @@
 package io.fd.hc2vpp.v3po.notification;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import io.fd.hc2vpp.common.test.util.FutureProducer;
 import io.fd.hc2vpp.common.test.util.NamingContextHelper;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.interfacesstate.cache.InterfaceDetailsCache;
 import io.fd.honeycomb.notification.NotificationCollector;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.jvpp.core.callback.SwInterfaceEventCallback;
@@ -33,6 +36,9 @@ import io.fd.jvpp.core.dto.WantInterfaceEvents;
 import io.fd.jvpp.core.dto.WantInterfaceEventsReply;
 import io.fd.jvpp.core.future.FutureJVppCore;
 import io.fd.jvpp.core.notification.CoreEventRegistry;
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.ObjectName;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -46,6 +52,15 @@ public class InterfaceChangeNotificationProducerTest implements FutureProducer,
     private static final String IFC_CTX_NAME = "ifc-test-instance";
     private static final String IFACE_NAME = "eth0";
     private static final int IFACE_ID = 0;
+    private static final ObjectName QUEUE_STATS_NAME;
+
+    static {
+        try {
+            QUEUE_STATS_NAME = new ObjectName("io.fd.hc2vpp:type=InterfaceEventQueue");
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
     @Mock
     private FutureJVppCore jVpp;
@@ -103,10 +118,46 @@ public class InterfaceChangeNotificationProducerTest implements FutureProducer,
         callbackArgumentCaptor.getValue().onSwInterfaceEvent(swInterfaceSetFlagsNotification);
         final ArgumentCaptor<InterfaceStateChange> notificationCaptor =
             ArgumentCaptor.forClass(InterfaceStateChange.class);
-        verify(collector).onNotification(notificationCaptor.capture());
+        verify(collector, timeout(5000)).onNotification(notificationCaptor.capture());
 
         assertEquals(IFACE_NAME, notificationCaptor.getValue().getName().getString());
         assertEquals(InterfaceStatus.Up, notificationCaptor.getValue().getAdminStatus());
         assertEquals(InterfaceStatus.Up, notificationCaptor.getValue().getOperStatus());
+        interfaceChangeNotificationProducer.stop();
+    }
+
+    @Test
+    public void testNotificationCoalesced() throws Exception {
+        final InterfaceChangeNotificationProducer interfaceChangeNotificationProducer =
+            new InterfaceChangeNotificationProducer(jVpp, namingContext, mappingContext,
+                InterfaceDetailsCache.disabled(), 10, 1000);
+
+        interfaceChangeNotificationProducer.start(collector);
+
+        final SwInterfaceEvent linkDown = new SwInterfaceEvent();
+        linkDown.swIfIndex = IFACE_ID;
+        linkDown.adminUpDown = 1;
+        linkDown.linkUpDown = 0;
+        final SwInterfaceEvent linkUp = new SwInterfaceEvent();
+        linkUp.swIfIndex = IFACE_ID;
+        linkUp.adminUpDown = 1;
+        linkUp.linkUpDown = 1;
+        callbackArgumentCaptor.getValue().onSwInterfaceEvent(linkDown);
+        callbackArgumentCaptor.getValue().onSwInterfaceEvent(linkUp);
+        assertEquals(1, getQueueStatistic("QueueDepth"));
+        assertEquals(1L, getQueueStatistic("CoalescedEventCount"));
+
+        final ArgumentCaptor<InterfaceStateChange> notificationCaptor =
+            ArgumentCaptor.forClass(InterfaceStateChange.class);
+        verify(collector, timeout(5000)).onNotification(notificationCaptor.capture());
+        assertEquals(IFACE_NAME, notificationCaptor.getValue().getName().getString());
+        assertEquals(InterfaceStatus.Up, notificationCaptor.getValue().getOperStatus());
+        assertEquals(0L, getQueueStatistic("DroppedEventCount"));
+        interfaceChangeNotificationProducer.stop();
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(QUEUE_STATS_NAME));
+    }
+
+    private static Object getQueueStatistic(final String attribute) throws JMException {
+        return ManagementFactory.getPlatformMBeanServer().getAttribute(QUEUE_STATS_NAME, attribute);
     }
 }
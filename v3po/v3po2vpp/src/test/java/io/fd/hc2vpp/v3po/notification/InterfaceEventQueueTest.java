@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.notification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.fd.jvpp.core.dto.SwInterfaceEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+
+public class InterfaceEventQueueTest {
+
+    private final BlockingQueue<List<SwInterfaceEvent>> handled = new LinkedBlockingQueue<>();
+    private InterfaceEventQueue queue;
+
+    @After
+    public void tearDown() {
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    @Test
+    public void testHandle() throws InterruptedException {
+        queue = new InterfaceEventQueue(10, 0, this::handle);
+        final SwInterfaceEvent event = event(1, 1);
+
+        assertTrue(queue.offer(event));
+        final List<SwInterfaceEvent> events = handled.poll(5, TimeUnit.SECONDS);
+        assertEquals(1, events.size());
+        assertEquals(event, events.get(0));
+        assertEquals(0, queue.getQueueDepth());
+    }
+
+    @Test
+    public void testCoalesce() throws InterruptedException {
+        queue = new InterfaceEventQueue(10, 1000, this::handle);
+
+        assertTrue(queue.offer(event(1, 0)));
+        assertTrue(queue.offer(event(2, 1)));
+        assertTrue(queue.offer(event(1, 1)));
+        assertEquals(2, queue.getQueueDepth());
+
+        final List<SwInterfaceEvent> events = handled.poll(5, TimeUnit.SECONDS);
+        assertEquals(2, events.size());
+        // latest event of interface, in order of first arrival
+        assertEquals(1, events.get(0).swIfIndex);
+        assertEquals(1, events.get(0).linkUpDown);
+        assertEquals(2, events.get(1).swIfIndex);
+        assertEquals(1, queue.getCoalescedEventCount());
+        assertEquals(2, queue.getHandledEventCount());
+    }
+
+    @Test
+    public void testDeletionKeptWithLastStateEvent() throws InterruptedException {
+        queue = new InterfaceEventQueue(10, 1000, this::handle);
+
+        assertTrue(queue.offer(event(1, 0)));
+        assertTrue(queue.offer(deletion(1)));
+        assertTrue(queue.offer(event(1, 1)));
+        assertTrue(queue.offer(event(1, 0)));
+        assertEquals(2, queue.getQueueDepth());
+
+        final List<SwInterfaceEvent> events = handled.poll(5, TimeUnit.SECONDS);
+        // state event preceding deletion is dropped, state events following it are coalesced
+        assertEquals(2, events.size());
+        assertEquals(1, events.get(0).deleted);
+        assertEquals(0, events.get(1).deleted);
+        assertEquals(0, events.get(1).linkUpDown);
+        assertEquals(2, queue.getCoalescedEventCount());
+    }
+
+    @Test
+    public void testRepeatedDeletionsCoalesced() throws InterruptedException {
+        queue = new InterfaceEventQueue(10, 1000, this::handle);
+
+        assertTrue(queue.offer(deletion(1)));
+        assertTrue(queue.offer(deletion(1)));
+
+        assertEquals(1, handled.poll(5, TimeUnit.SECONDS).size());
+        assertEquals(1, queue.getCoalescedEventCount());
+    }
+
+    @Test
+    public void testFlappingInterfaceBounded() throws InterruptedException {
+        queue = new InterfaceEventQueue(10, 1000, this::handle);
+
+        for (int i = 0; i < 100; ++i) {
+            assertTrue(queue.offer(event(1, i % 2)));
+            assertTrue(queue.offer(deletion(1)));
+        }
+        assertTrue(queue.offer(event(1, 1)));
+        assertEquals(2, queue.getQueueDepth());
+
+        final List<SwInterfaceEvent> events = handled.poll(5, TimeUnit.SECONDS);
+        assertEquals(2, events.size());
+        assertEquals(1, events.get(0).deleted);
+        assertEquals(1, events.get(1).linkUpDown);
+        assertEquals(199, queue.getCoalescedEventCount());
+    }
+
+    @Test
+    public void testDropWhenFull() throws InterruptedException {
+        queue = new InterfaceEventQueue(2, 1000, this::handle);
+
+        assertTrue(queue.offer(event(1, 0)));
+        assertTrue(queue.offer(event(2, 0)));
+        assertFalse(queue.offer(event(3, 0)));
+        // events of queued interfaces are still accepted
+        assertTrue(queue.offer(event(2, 1)));
+        assertEquals(2, queue.getQueueDepth());
+        assertEquals(1, queue.getDroppedEventCount());
+
+        assertEquals(2, handled.poll(5, TimeUnit.SECONDS).size());
+        // queue accepts events again once drained
+        assertTrue(queue.offer(event(3, 0)));
+    }
+
+    @Test
+    public void testCapacityCountsEvents() throws InterruptedException {
+        queue = new InterfaceEventQueue(2, 1000, this::handle);
+
+        assertTrue(queue.offer(event(1, 0)));
+        assertTrue(queue.offer(deletion(1)));
+        assertFalse(queue.offer(event(2, 0)));
+        // replacing queued events does not increase queue depth
+        assertTrue(queue.offer(event(1, 1)));
+        assertEquals(2, queue.getQueueDepth());
+        assertEquals(1, queue.getDroppedEventCount());
+
+        assertEquals(2, handled.poll(5, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    public void testClose() throws InterruptedException {
+        queue = new InterfaceEventQueue(10, 1000, this::handle);
+        assertTrue(queue.offer(event(1, 0)));
+        queue.close();
+
+        assertFalse(queue.offer(event(2, 0)));
+        assertNull(handled.poll(1500, TimeUnit.MILLISECONDS));
+    }
+
+    private void handle(final Collection<SwInterfaceEvent> events) {
+        handled.add(new ArrayList<>(events));
+    }
+
+    private static SwInterfaceEvent event(final int swIfIndex, final int linkUpDown) {
+        final SwInterfaceEvent event = new SwInterfaceEvent();
+        event.swIfIndex = swIfIndex;
+        event.linkUpDown = (byte) linkUpDown;
+        return event;
+    }
+
+    private static SwInterfaceEvent deletion(final int swIfIndex) {
+        final SwInterfaceEvent event = new SwInterfaceEvent();
+        event.swIfIndex = swIfIndex;
+        event.deleted = 1;
+        return event;
+    }
+}
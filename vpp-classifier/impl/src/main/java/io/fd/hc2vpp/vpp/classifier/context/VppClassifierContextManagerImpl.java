@@ -17,21 +17,22 @@
 package io.fd.hc2vpp.vpp.classifier.context;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.MappingContextIndexes;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.honeycomb.translate.read.registry.ModifiableReaderRegistryBuilder;
-import io.fd.honeycomb.translate.util.RWUtils;
 import io.fd.honeycomb.translate.util.read.BindingBrokerReader;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collector;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
 import javax.inject.Named;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
@@ -50,15 +51,16 @@ import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 /**
  * Facade on top of {@link MappingContext} that manages {@link ClassifyTableContext}.
  */
+@ThreadSafe
 public final class VppClassifierContextManagerImpl implements VppClassifierContextManager {
-    private static final Collector<ClassifyTableContext, ?, ClassifyTableContext> SINGLE_ITEM_COLLECTOR =
-        RWUtils.singleItemCollector();
 
     @VisibleForTesting
     static final InstanceIdentifier<VppClassifierContext>
         VPP_CLASSIFIER_CONTEXT_IID = KeyedInstanceIdentifier.create(VppClassifierContext.class);
     private final String artificialNamePrefix;
 
+    private final MappingContextIndexes<TableIndex> indexes = new MappingContextIndexes<>(this::loadIndex);
+
     /**
      * Creates new VppClassifierContextManagerImpl.
      *
@@ -75,14 +77,20 @@ public final class VppClassifierContextManagerImpl implements VppClassifierConte
     }
 
     @Override
-    public void addTable(final int id, @Nonnull final String name, @Nullable final VppNodeName classifierNode,
-                         @Nonnull final MappingContext ctx) {
+    public synchronized void addTable(final int id, @Nonnull final String name,
+                                      @Nullable final VppNodeName classifierNode,
+                                      @Nonnull final MappingContext ctx) {
         final KeyedInstanceIdentifier<ClassifyTableContext, ClassifyTableContextKey> mappingIid = getMappingIid(name);
         final ClassifyTableContextBuilder tableCtx = new ClassifyTableContextBuilder().setIndex(id).setName(name);
         if (classifierNode != null) {
             tableCtx.setClassifierNodeName(classifierNode.getValue());
         }
         ctx.put(mappingIid, tableCtx.build());
+
+        final TableIndex index = indexes.getIfPresent(ctx);
+        if (index != null) {
+            index.putTable(id, name);
+        }
     }
 
     @Override
@@ -99,25 +107,33 @@ public final class VppClassifierContextManagerImpl implements VppClassifierConte
     }
 
     @Override
-    public String getTableName(final int id, @Nonnull final MappingContext ctx) {
-        if (!containsName(id, ctx)) {
-            final String artificialName = getArtificialName(id);
-            addTable(id, artificialName, null, ctx);
+    public synchronized String getTableName(final int id, @Nonnull final MappingContext ctx) {
+        final String name = findTableName(id, ctx);
+        if (name != null) {
+            return name;
         }
 
-        final Optional<VppClassifierContext> read = ctx.read(VPP_CLASSIFIER_CONTEXT_IID);
-        checkState(read.isPresent(), "VppClassifierContext for index: %s is not present. But should be", id);
+        final String artificialName = getArtificialName(id);
+        addTable(id, artificialName, null, ctx);
+        return artificialName;
+    }
 
-        return read.get().getClassifyTableContext().stream()
-            .filter(t -> t.getIndex().equals(id))
-            .collect(SINGLE_ITEM_COLLECTOR).getName();
+    /**
+     * @return name of table with given index or null if no such table is stored in mapping context
+     */
+    @Nullable
+    private String findTableName(final int index, @Nonnull final MappingContext ctx) {
+        final String name = indexes.get(ctx).tableNames.get(index);
+        if (name == null || isTableMapped(name, index, ctx)) {
+            return name;
+        }
+        // mapping was removed or modified bypassing this manager, index needs to be reloaded
+        return indexes.reload(ctx).tableNames.get(index);
     }
 
-    private boolean containsName(final int index, @Nonnull final MappingContext mappingContext) {
-        final Optional<VppClassifierContext> read = mappingContext.read(VPP_CLASSIFIER_CONTEXT_IID);
-        return read.isPresent()
-            ? read.get().getClassifyTableContext().stream().anyMatch(t -> t.getIndex().equals(index))
-            : false;
+    private boolean isTableMapped(@Nonnull final String name, final int index, @Nonnull final MappingContext ctx) {
+        final Optional<ClassifyTableContext> read = ctx.read(getMappingIid(name));
+        return read.isPresent() && read.get().getIndex() == index;
     }
 
     @Override
@@ -130,41 +146,118 @@ public final class VppClassifierContextManagerImpl implements VppClassifierConte
     }
 
     @Override
-    public void removeTable(@Nonnull final String name, @Nonnull final MappingContext ctx) {
+    public synchronized void removeTable(@Nonnull final String name, @Nonnull final MappingContext ctx) {
         ctx.delete(getMappingIid(name));
+
+        final TableIndex index = indexes.getIfPresent(ctx);
+        if (index != null) {
+            index.removeTable(name);
+        }
     }
 
     @Override
-    public void addNodeName(@Nonnull final String tableName, final int nodeIndex,
-                            @Nonnull final String nodeName,
-                            @Nonnull final MappingContext ctx) {
-        final KeyedInstanceIdentifier<NodeContext, NodeContextKey> iid =
-            getMappingIid(tableName).child(NodeContext.class, new NodeContextKey(nodeName));
-        ctx.put(iid, new NodeContextBuilder().setName(nodeName).setIndex(nodeIndex).build());
+    public synchronized void addNodeName(@Nonnull final String tableName, final int nodeIndex,
+                                         @Nonnull final String nodeName,
+                                         @Nonnull final MappingContext ctx) {
+        ctx.put(getNodeIid(tableName, nodeName),
+            new NodeContextBuilder().setName(nodeName).setIndex(nodeIndex).build());
+
+        final TableIndex index = indexes.getIfPresent(ctx);
+        if (index != null) {
+            final Map<Integer, String> nodes = index.nodeNames.get(tableName);
+            if (nodes != null) {
+                nodes.values().remove(nodeName);
+                nodes.putIfAbsent(nodeIndex, nodeName);
+            }
+        }
     }
 
     @Override
-    public Optional<String> getNodeName(final int tableIndex, final int nodeIndex, @Nonnull final MappingContext ctx) {
-        if (!containsName(tableIndex, ctx)) {
+    public synchronized Optional<String> getNodeName(final int tableIndex, final int nodeIndex,
+                                                     @Nonnull final MappingContext ctx) {
+        final String tableName = findTableName(tableIndex, ctx);
+        if (tableName == null) {
             return Optional.absent();
         }
-        final String tableName = getTableName(tableIndex, ctx);
+
+        final TableIndex index = indexes.get(ctx);
+        final Map<Integer, String> nodes =
+            index.nodeNames.computeIfAbsent(tableName, name -> readNodeNames(name, ctx));
+        final String nodeName = nodes.get(nodeIndex);
+        if (nodeName == null || isNodeMapped(tableName, nodeName, nodeIndex, ctx)) {
+            return Optional.fromNullable(nodeName);
+        }
+
+        // node mapping was removed or modified bypassing this manager, nodes of the table need to be read again
+        final Map<Integer, String> readNodes = readNodeNames(tableName, ctx);
+        index.nodeNames.put(tableName, readNodes);
+        return Optional.fromNullable(readNodes.get(nodeIndex));
+    }
+
+    private boolean isNodeMapped(@Nonnull final String tableName, @Nonnull final String nodeName, final int nodeIndex,
+                                 @Nonnull final MappingContext ctx) {
+        final Optional<NodeContext> read = ctx.read(getNodeIid(tableName, nodeName));
+        return read.isPresent() && read.get().getIndex() == nodeIndex;
+    }
+
+    private Map<Integer, String> readNodeNames(@Nonnull final String tableName, @Nonnull final MappingContext ctx) {
+        final Map<Integer, String> nodes = new HashMap<>();
         final Optional<ClassifyTableContext> tableCtx = ctx.read(getMappingIid(tableName));
-        final List<NodeContext> nodeContext = tableCtx.get().getNodeContext();
-        if (nodeContext == null) {
-            return Optional.absent();
+        if (tableCtx.isPresent() && tableCtx.get().getNodeContext() != null) {
+            tableCtx.get().getNodeContext().forEach(node -> nodes.putIfAbsent(node.getIndex(), node.getName()));
+        }
+        return nodes;
+    }
+
+    private KeyedInstanceIdentifier<NodeContext, NodeContextKey> getNodeIid(@Nonnull final String tableName,
+                                                                            @Nonnull final String nodeName) {
+        return getMappingIid(tableName).child(NodeContext.class, new NodeContextKey(nodeName));
+    }
+
+    /**
+     * Reads all classify table mappings and indexes them by table index. Node names are indexed lazily per table.
+     */
+    private TableIndex loadIndex(@Nonnull final MappingContext ctx) {
+        final Optional<VppClassifierContext> read = ctx.read(VPP_CLASSIFIER_CONTEXT_IID);
+        final TableIndex index = new TableIndex();
+        if (read.isPresent() && read.get().getClassifyTableContext() != null) {
+            read.get().getClassifyTableContext().forEach(table -> index.loadTable(table.getIndex(), table.getName()));
         }
-        return Optional.fromNullable(nodeContext.stream()
-            .filter(n -> n.getIndex().equals(nodeIndex))
-            .findFirst()
-            .map(nodes -> nodes.getName())
-            .orElse(null));
+        return index;
     }
 
     private String getArtificialName(final int index) {
         return artificialNamePrefix + index;
     }
 
+    /**
+     * Index to name view of classify table mappings stored in single mapping context, together with node index
+     * to name views of tables whose nodes were already looked up.
+     */
+    private static final class TableIndex {
+        private final Map<Integer, String> tableNames = new HashMap<>();
+        private final Map<String, Integer> tableIndexes = new HashMap<>();
+        private final Map<String, Map<Integer, String>> nodeNames = new HashMap<>();
+
+        private void loadTable(final int id, final String name) {
+            tableNames.putIfAbsent(id, name);
+            tableIndexes.put(name, id);
+        }
+
+        private void putTable(final int id, final String name) {
+            removeTable(name);
+            loadTable(id, name);
+        }
+
+        private void removeTable(final String name) {
+            final Integer id = tableIndexes.remove(name);
+            if (id != null) {
+                tableNames.remove(id, name);
+            }
+            nodeNames.remove(name);
+        }
+    }
+
     public static final class ContextsReaderFactory implements ReaderFactory {
 
         @Inject
@@ -18,9 +18,13 @@ package io.fd.hc2vpp.vpp.classifier.factory.read;
 
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
+import io.fd.hc2vpp.common.translate.util.MXBeanRegistration;
+import io.fd.hc2vpp.vpp.classifier.VppClassifierConfiguration;
 import io.fd.hc2vpp.vpp.classifier.context.VppClassifierContextManager;
 import io.fd.hc2vpp.vpp.classifier.read.ClassifySessionReader;
+import io.fd.hc2vpp.vpp.classifier.read.ClassifySessionReaderMXBean;
 import io.fd.hc2vpp.vpp.classifier.read.ClassifyTableReader;
+import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.honeycomb.translate.impl.read.GenericInitListReader;
 import io.fd.honeycomb.translate.impl.read.GenericListReader;
 import io.fd.honeycomb.translate.read.ReaderFactory;
@@ -37,12 +41,18 @@ public final class VppClassifierReaderFactory implements ReaderFactory {
 
     private final FutureJVppCore jvpp;
     private final VppClassifierContextManager classifyCtx;
+    private final VppClassifierConfiguration configuration;
+    private final ShutdownHandler shutdownHandler;
 
     @Inject
     public VppClassifierReaderFactory(final FutureJVppCore jvpp,
-                                      @Named("classify-table-context") final VppClassifierContextManager classifyCtx) {
+                                      @Named("classify-table-context") final VppClassifierContextManager classifyCtx,
+                                      final VppClassifierConfiguration configuration,
+                                      final ShutdownHandler shutdownHandler) {
         this.jvpp = jvpp;
         this.classifyCtx = classifyCtx;
+        this.configuration = configuration;
+        this.shutdownHandler = shutdownHandler;
     }
 
     @Override
@@ -55,6 +65,10 @@ public final class VppClassifierReaderFactory implements ReaderFactory {
         registry.add(new GenericInitListReader<>(classTblId, new ClassifyTableReader(jvpp, classifyCtx)));
         //   ClassifySession
         final InstanceIdentifier<ClassifySession> classSesId = classTblId.child(ClassifySession.class);
-        registry.add(new GenericListReader<>(classSesId, new ClassifySessionReader(jvpp, classifyCtx)));
+        final ClassifySessionReader sessionReader =
+                new ClassifySessionReader(jvpp, classifyCtx, configuration.getClassifySessionDumpTimeout());
+        registry.add(new GenericListReader<>(classSesId, sessionReader));
+        shutdownHandler.register("classify-session-reader-stats",
+                MXBeanRegistration.register(sessionReader, ClassifySessionReaderMXBean.class, "ClassifySessionReader"));
     }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.vpp.classifier.read;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Optional;
+import io.fd.jvpp.core.dto.ClassifySessionDetails;
+import io.fd.jvpp.core.dto.ClassifySessionDetailsReplyDump;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Classify sessions of single classify table, indexed by their match. Built once per session dump.
+ */
+final class ClassifySessionIndex {
+
+    private final List<ClassifySessionDetails> sessions;
+    private final Map<MatchKey, ClassifySessionDetails> sessionsByMatch;
+    private final Map<MatchKey, Integer> duplicateMatches;
+
+    ClassifySessionIndex(@Nullable final ClassifySessionDetailsReplyDump dump) {
+        sessions = dump == null || dump.classifySessionDetails == null
+                ? Collections.emptyList()
+                : dump.classifySessionDetails;
+        sessionsByMatch = new HashMap<>(sessions.size() * 4 / 3 + 1);
+        duplicateMatches = new HashMap<>();
+        for (final ClassifySessionDetails session : sessions) {
+            final MatchKey key = new MatchKey(session.match);
+            if (sessionsByMatch.putIfAbsent(key, session) != null) {
+                duplicateMatches.merge(key, 2, (count, ignored) -> count + 1);
+            }
+        }
+    }
+
+    /**
+     * @return all sessions of the table, in order provided by vpp
+     */
+    @Nonnull
+    List<ClassifySessionDetails> getSessions() {
+        return sessions;
+    }
+
+    int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Finds session by match.
+     *
+     * @param hexMatch match in form of colon separated hex bytes, e.g. "00:01:02"
+     * @throws IllegalStateException if there are multiple sessions with given match
+     */
+    @Nonnull
+    Optional<ClassifySessionDetails> find(@Nonnull final String hexMatch) {
+        final MatchKey key = MatchKey.parse(hexMatch);
+        final Integer duplicates = duplicateMatches.get(key);
+        if (duplicates != null) {
+            throw new IllegalStateException(String.format(
+                    "Found %d classify sessions witch given match. Single session expected.", duplicates));
+        }
+        return Optional.fromNullable(sessionsByMatch.get(key));
+    }
+
+    /**
+     * Match bytes with precomputed hash code.
+     */
+    static final class MatchKey {
+        private final byte[] match;
+        private final int hash;
+
+        MatchKey(@Nullable final byte[] match) {
+            this.match = match == null
+                    ? new byte[0]
+                    : match;
+            this.hash = Arrays.hashCode(this.match);
+        }
+
+        /**
+         * Parses hex bytes, optionally separated by colons, without creating intermediate strings.
+         */
+        static MatchKey parse(@Nonnull final String hexMatch) {
+            int digits = 0;
+            for (int i = 0; i < hexMatch.length(); i++) {
+                if (hexMatch.charAt(i) != ':') {
+                    digits++;
+                }
+            }
+            checkArgument(digits % 2 == 0, "Invalid hex string %s", hexMatch);
+
+            final byte[] bytes = new byte[digits / 2];
+            int high = -1;
+            int index = 0;
+            for (int i = 0; i < hexMatch.length(); i++) {
+                final char c = hexMatch.charAt(i);
+                if (c == ':') {
+                    continue;
+                }
+                final int digit = Character.digit(c, 16);
+                checkArgument(digit != -1, "Invalid hex string %s", hexMatch);
+                if (high == -1) {
+                    high = digit;
+                } else {
+                    bytes[index++] = (byte) ((high << 4) | digit);
+                    high = -1;
+                }
+            }
+            return new MatchKey(bytes);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final MatchKey that = (MatchKey) o;
+            return hash == that.hash && Arrays.equals(match, that.match);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
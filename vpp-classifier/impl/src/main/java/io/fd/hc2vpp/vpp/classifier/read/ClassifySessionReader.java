@@ -33,13 +33,10 @@ import io.fd.jvpp.core.dto.ClassifySessionDetails;
 import io.fd.jvpp.core.dto.ClassifySessionDetailsReplyDump;
 import io.fd.jvpp.core.dto.ClassifySessionDump;
 import io.fd.jvpp.core.future.FutureJVppCore;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
-import javax.annotation.Nullable;
-import javax.xml.bind.DatatypeConverter;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.classifier.rev170327.OpaqueIndex;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.classifier.rev170327.VppNode;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.classifier.rev170327.VppNodeName;
@@ -63,17 +60,39 @@ import org.slf4j.LoggerFactory;
  */
 public class ClassifySessionReader extends FutureJVppCustomizer
         implements ListReaderCustomizer<ClassifySession, ClassifySessionKey, ClassifySessionBuilder>,
-        InterfaceDataTranslator, VppNodeReader, JvppReplyConsumer {
+        InterfaceDataTranslator, VppNodeReader, JvppReplyConsumer, ClassifySessionReaderMXBean {
 
     private static final Logger LOG = LoggerFactory.getLogger(ClassifySessionReader.class);
     static final String CACHE_KEY = ClassifySessionReader.class.getName();
 
+    // there can be many session with current ietf-acl implementation (could be probably
+    // removed after fixing HONEYCOMB-247)
+    static final int DEFAULT_DUMP_TIMEOUT = 30;
+
     private final VppClassifierContextManager classifyTableContext;
+    private final int dumpTimeout;
+    private final LongAdder dumpedSessions = new LongAdder();
 
     public ClassifySessionReader(@Nonnull final FutureJVppCore futureJVppCore,
                                  @Nonnull final VppClassifierContextManager classifyTableContext) {
+        this(futureJVppCore, classifyTableContext, DEFAULT_DUMP_TIMEOUT);
+    }
+
+    /**
+     * @param dumpTimeout timeout in seconds for dump of sessions of single classify table
+     */
+    public ClassifySessionReader(@Nonnull final FutureJVppCore futureJVppCore,
+                                 @Nonnull final VppClassifierContextManager classifyTableContext,
+                                 final int dumpTimeout) {
         super(futureJVppCore);
         this.classifyTableContext = checkNotNull(classifyTableContext, "classifyTableContext should not be null");
+        Preconditions.checkArgument(dumpTimeout > 0, "dumpTimeout should be positive, but was %s", dumpTimeout);
+        this.dumpTimeout = dumpTimeout;
+    }
+
+    @Override
+    public long getDumpedSessionsCount() {
+        return dumpedSessions.sum();
     }
 
     @Override
@@ -97,10 +116,8 @@ public class ClassifySessionReader extends FutureJVppCustomizer
         final ClassifySessionKey key = id.firstKeyOf(ClassifySession.class);
         Preconditions.checkArgument(key != null, "could not find ClassifySession key in {}", id);
 
-        final ClassifySessionDetailsReplyDump classifySessionDump = dumpClassifySessions(id, ctx);
-        final byte[] match = DatatypeConverter.parseHexBinary(key.getMatch().getValue().replace(":", ""));
         final Optional<ClassifySessionDetails> classifySession =
-                findClassifySessionDetailsByMatch(classifySessionDump, match);
+                dumpClassifySessions(id, ctx).find(key.getMatch().getValue());
 
         if (classifySession.isPresent()) {
             final ClassifySessionDetails detail = classifySession.get();
@@ -139,20 +156,19 @@ public class ClassifySessionReader extends FutureJVppCustomizer
         }
     }
 
-    @Nullable
-    private ClassifySessionDetailsReplyDump dumpClassifySessions(@Nonnull final InstanceIdentifier<?> id,
-                                                                 @Nonnull final ReadContext ctx)
+    @Nonnull
+    private ClassifySessionIndex dumpClassifySessions(@Nonnull final InstanceIdentifier<?> id,
+                                                      @Nonnull final ReadContext ctx)
             throws ReadFailedException {
         final ClassifyTableKey tableKey = id.firstKeyOf(ClassifyTable.class);
         Preconditions.checkArgument(tableKey != null, "could not find ClassifyTable key in {}", id);
 
         final String cacheKey = CACHE_KEY + tableKey;
 
-        ClassifySessionDetailsReplyDump classifySessionDump =
-                (ClassifySessionDetailsReplyDump) ctx.getModificationCache().get(cacheKey);
-        if (classifySessionDump != null) {
+        ClassifySessionIndex classifySessionIndex = (ClassifySessionIndex) ctx.getModificationCache().get(cacheKey);
+        if (classifySessionIndex != null) {
             LOG.debug("Classify sessions is present in cache: {}", cacheKey);
-            return classifySessionDump;
+            return classifySessionIndex;
         }
 
         final String tableName = tableKey.getName();
@@ -165,36 +181,17 @@ public class ClassifySessionReader extends FutureJVppCustomizer
 
         final ClassifySessionDump dumpRequest = new ClassifySessionDump();
         dumpRequest.tableId = tableId;
-        final int timeOut = 30; // there can be many session with current ietf-acl implementation (could be probably
-        // removed after fixing HONEYCOMB-247)
-        classifySessionDump =
-                getReplyForRead(getFutureJVpp().classifySessionDump(dumpRequest).toCompletableFuture(), id, timeOut);
-
-        if (classifySessionDump != null) {
-            // update the cache:
-            ctx.getModificationCache().put(cacheKey, classifySessionDump);
-        }
+        final ClassifySessionDetailsReplyDump classifySessionDump =
+                getReplyForRead(getFutureJVpp().classifySessionDump(dumpRequest).toCompletableFuture(), id,
+                        dumpTimeout);
 
-        return classifySessionDump;
-    }
+        classifySessionIndex = new ClassifySessionIndex(classifySessionDump);
+        dumpedSessions.add(classifySessionIndex.size());
+        LOG.debug("{} classify sessions dumped for classify table id={}", classifySessionIndex.size(), tableId);
 
-    private static Optional<ClassifySessionDetails> findClassifySessionDetailsByMatch(
-            @Nullable final ClassifySessionDetailsReplyDump classifySessionDump, @Nonnull final byte[] match) {
-        if (classifySessionDump != null && classifySessionDump.classifySessionDetails != null) {
-            final List<ClassifySessionDetails> details = classifySessionDump.classifySessionDetails;
-            final List<ClassifySessionDetails> filteredSessions = details.stream()
-                    .filter(singleDetail -> Arrays.equals(singleDetail.match, match)).collect(Collectors.toList());
-            if (filteredSessions.isEmpty()) {
-                return Optional.absent();
-            } else if (filteredSessions.size() == 1) {
-                return Optional.of(filteredSessions.get(0));
-            } else {
-                throw new IllegalStateException(String.format(
-                        "Found %d classify sessions witch given match. Single session expected.",
-                        filteredSessions.size()));
-            }
-        }
-        return Optional.absent();
+        // update the cache:
+        ctx.getModificationCache().put(cacheKey, classifySessionIndex);
+        return classifySessionIndex;
     }
 
     @Nonnull
@@ -203,13 +200,8 @@ public class ClassifySessionReader extends FutureJVppCustomizer
                                               @Nonnull final ReadContext ctx) throws ReadFailedException {
         LOG.debug("Reading list of keys for classify sessions: {}", id);
 
-        final ClassifySessionDetailsReplyDump classifySessionDump = dumpClassifySessions(id, ctx);
-        if (classifySessionDump != null && classifySessionDump.classifySessionDetails != null) {
-            return classifySessionDump.classifySessionDetails.stream()
-                    .map(detail -> new ClassifySessionKey(new HexString(printHexBinary(detail.match))))
-                    .collect(Collectors.toList());
-        } else {
-            return Collections.emptyList();
-        }
+        return dumpClassifySessions(id, ctx).getSessions().stream()
+                .map(detail -> new ClassifySessionKey(new HexString(printHexBinary(detail.match))))
+                .collect(Collectors.toList());
     }
 }
@@ -29,6 +29,7 @@ import com.google.inject.name.Named;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.honeycomb.translate.impl.write.registry.FlatWriterRegistryBuilder;
 import io.fd.honeycomb.translate.util.YangDAG;
 import io.fd.honeycomb.translate.write.WriterFactory;
@@ -46,6 +47,10 @@ public class VppClassifierModuleTest {
     @Mock
     private FutureJVppCore futureJVppCore;
 
+    @Bind
+    @Mock
+    private ShutdownHandler shutdownHandler;
+
     @Named("interface-context")
     @Bind
     private NamingContext ifcContext;
@@ -19,6 +19,8 @@ package io.fd.hc2vpp.vpp.classifier.context;
 import static io.fd.hc2vpp.vpp.classifier.context.VppClassifierContextManagerImpl.VPP_CLASSIFIER_CONTEXT_IID;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -49,6 +51,8 @@ public class VppClassifierContextManagerImplTest {
 
     private static final int TABLE_ID_1 = 1;
     private static final String TABLE_NAME_1 = "table1";
+    private static final KeyedInstanceIdentifier<ClassifyTableContext, ClassifyTableContextKey> TABLE_IID_1 =
+        VPP_CLASSIFIER_CONTEXT_IID.child(ClassifyTableContext.class, new ClassifyTableContextKey(TABLE_NAME_1));
 
     private VppClassifierContextManagerImpl vppClassfierContext;
 
@@ -84,9 +88,58 @@ public class VppClassifierContextManagerImplTest {
     public void testGetTableName() throws Exception {
         when(ctx.read(VPP_CLASSIFIER_CONTEXT_IID))
             .thenReturn(Optional.of(context(table(TABLE_ID_0, TABLE_NAME_0), table(TABLE_ID_1, TABLE_NAME_1))));
+        when(ctx.read(TABLE_IID_0)).thenReturn(Optional.of(table(TABLE_ID_0, TABLE_NAME_0)));
         assertEquals(TABLE_NAME_0, (vppClassfierContext.getTableName(TABLE_ID_0, ctx)));
     }
 
+    @Test
+    public void testGetTableNameReadsContextOnce() throws Exception {
+        when(ctx.read(VPP_CLASSIFIER_CONTEXT_IID))
+            .thenReturn(Optional.of(context(table(TABLE_ID_0, TABLE_NAME_0), table(TABLE_ID_1, TABLE_NAME_1))));
+        when(ctx.read(TABLE_IID_0)).thenReturn(Optional.of(table(TABLE_ID_0, TABLE_NAME_0)));
+        when(ctx.read(TABLE_IID_1)).thenReturn(Optional.of(table(TABLE_ID_1, TABLE_NAME_1)));
+
+        assertEquals(TABLE_NAME_0, vppClassfierContext.getTableName(TABLE_ID_0, ctx));
+        assertEquals(TABLE_NAME_1, vppClassfierContext.getTableName(TABLE_ID_1, ctx));
+        assertEquals(TABLE_NAME_0, vppClassfierContext.getTableName(TABLE_ID_0, ctx));
+        verify(ctx, times(1)).read(VPP_CLASSIFIER_CONTEXT_IID);
+    }
+
+    @Test
+    public void testGetTableNameAfterRemove() throws Exception {
+        when(ctx.read(VPP_CLASSIFIER_CONTEXT_IID)).thenReturn(Optional.of(context(table(TABLE_ID_0, TABLE_NAME_0))));
+        when(ctx.read(TABLE_IID_0)).thenReturn(Optional.of(table(TABLE_ID_0, TABLE_NAME_0)));
+        assertEquals(TABLE_NAME_0, vppClassfierContext.getTableName(TABLE_ID_0, ctx));
+
+        vppClassfierContext.removeTable(TABLE_NAME_0, ctx);
+        when(ctx.read(VPP_CLASSIFIER_CONTEXT_IID)).thenReturn(Optional.of(context()));
+        when(ctx.read(TABLE_IID_0)).thenReturn(Optional.absent());
+        assertEquals("classify-table-0", vppClassfierContext.getTableName(TABLE_ID_0, ctx));
+        verify(ctx).put(VPP_CLASSIFIER_CONTEXT_IID.child(ClassifyTableContext.class,
+            new ClassifyTableContextKey("classify-table-0")), table(TABLE_ID_0, "classify-table-0"));
+    }
+
+    @Test
+    public void testGetTableNameModifiedBypassingManager() throws Exception {
+        when(ctx.read(VPP_CLASSIFIER_CONTEXT_IID)).thenReturn(Optional.of(context(table(TABLE_ID_0, TABLE_NAME_0))));
+        when(ctx.read(TABLE_IID_0)).thenReturn(Optional.of(table(TABLE_ID_0, TABLE_NAME_0)));
+        assertEquals(TABLE_NAME_0, vppClassfierContext.getTableName(TABLE_ID_0, ctx));
+
+        when(ctx.read(VPP_CLASSIFIER_CONTEXT_IID)).thenReturn(Optional.of(context(table(TABLE_ID_0, TABLE_NAME_1))));
+        when(ctx.read(TABLE_IID_0)).thenReturn(Optional.absent());
+        assertEquals(TABLE_NAME_1, vppClassfierContext.getTableName(TABLE_ID_0, ctx));
+    }
+
+    @Test
+    public void testGetUnmappedTableNamesReadContextOnce() throws Exception {
+        when(ctx.read(VPP_CLASSIFIER_CONTEXT_IID)).thenReturn(Optional.of(context(table(TABLE_ID_0, TABLE_NAME_0))));
+        for (int id = 1; id <= 100; ++id) {
+            assertEquals("classify-table-" + id, vppClassfierContext.getTableName(id, ctx));
+        }
+        verify(ctx, times(1)).read(VPP_CLASSIFIER_CONTEXT_IID);
+        verify(ctx, times(100)).put(any(), any());
+    }
+
     @Test
     public void testGetTableBaseNode() throws Exception {
         final String classfierNodeName = "node123";
@@ -127,12 +180,43 @@ public class VppClassifierContextManagerImplTest {
         assertEquals(Optional.absent(), vppClassfierContext.getNodeName(TABLE_ID_0, 123, ctx));
     }
 
+    @Test
+    public void testGetUnmappedNodeNamesReadTableOnce() throws Exception {
+        final ClassifyTableContext tableCtx = table(TABLE_ID_0, TABLE_NAME_0, "aa", node("node123", 123));
+        when(ctx.read(VPP_CLASSIFIER_CONTEXT_IID)).thenReturn(Optional.of(context(tableCtx)));
+        when(ctx.read(TABLE_IID_0)).thenReturn(Optional.of(tableCtx));
+        for (int nodeIndex = 0; nodeIndex < 100; ++nodeIndex) {
+            assertEquals(Optional.absent(), vppClassfierContext.getNodeName(TABLE_ID_0, nodeIndex, ctx));
+        }
+        verify(ctx, times(1)).read(VPP_CLASSIFIER_CONTEXT_IID);
+        verify(ctx, times(101)).read(TABLE_IID_0);
+    }
+
     @Test
     public void testGetNodeName() throws Exception {
         final ClassifyTableContext tableCtx = table(TABLE_ID_0, TABLE_NAME_0, "aa", node("node123", 123));
         when(ctx.read(VPP_CLASSIFIER_CONTEXT_IID)).thenReturn(Optional.of(context(tableCtx)));
         when(ctx.read(TABLE_IID_0)).thenReturn(Optional.of(tableCtx));
+        when(ctx.read(TABLE_IID_0.child(NodeContext.class, new NodeContextKey("node123"))))
+            .thenReturn(Optional.of(node("node123", 123)));
+        assertEquals(Optional.of("node123"), vppClassfierContext.getNodeName(TABLE_ID_0, 123, ctx));
+    }
+
+    @Test
+    public void testGetNodeNameAfterAddNodeName() throws Exception {
+        final ClassifyTableContext tableCtx = table(TABLE_ID_0, TABLE_NAME_0, "aa", node("node123", 123));
+        when(ctx.read(VPP_CLASSIFIER_CONTEXT_IID)).thenReturn(Optional.of(context(tableCtx)));
+        when(ctx.read(TABLE_IID_0)).thenReturn(Optional.of(tableCtx));
+        when(ctx.read(TABLE_IID_0.child(NodeContext.class, new NodeContextKey("node123"))))
+            .thenReturn(Optional.of(node("node123", 123)));
+        when(ctx.read(TABLE_IID_0.child(NodeContext.class, new NodeContextKey("node456"))))
+            .thenReturn(Optional.of(node("node456", 456)));
+        assertEquals(Optional.of("node123"), vppClassfierContext.getNodeName(TABLE_ID_0, 123, ctx));
+
+        vppClassfierContext.addNodeName(TABLE_NAME_0, 456, "node456", ctx);
+        assertEquals(Optional.of("node456"), vppClassfierContext.getNodeName(TABLE_ID_0, 456, ctx));
         assertEquals(Optional.of("node123"), vppClassfierContext.getNodeName(TABLE_ID_0, 123, ctx));
+        verify(ctx, times(1)).read(VPP_CLASSIFIER_CONTEXT_IID);
     }
 
     private VppClassifierContext context(ClassifyTableContext... tables) {
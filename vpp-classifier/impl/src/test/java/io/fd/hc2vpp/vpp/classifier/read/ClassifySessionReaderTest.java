@@ -19,6 +19,8 @@ package io.fd.hc2vpp.vpp.classifier.read;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.fd.hc2vpp.common.test.read.ListReaderCustomizerTest;
@@ -84,10 +86,57 @@ public class ClassifySessionReaderTest extends
             new byte[] {0x00, 0x00, 0x00, 0x00, 0x00, 0x00, (byte) 0x01, (byte) 0x02, (byte) 0x03, (byte) 0x04,
                 (byte) 0x05, (byte) 0x06, 0x00, 0x00, 0x00, 0x00};
         dump.classifySessionDetails = Collections.singletonList(details);
-        cache.put(ClassifySessionReader.CACHE_KEY + id.firstKeyOf(ClassifyTable.class), dump);
+        cache.put(ClassifySessionReader.CACHE_KEY + id.firstKeyOf(ClassifyTable.class),
+            new ClassifySessionIndex(dump));
         when(ctx.getModificationCache()).thenReturn(cache);
 
         getCustomizer().readCurrentAttributes(id, builder, ctx);
+        verify(builder).setAdvance(details.advance);
+        verify(api, never()).classifySessionDump(ArgumentMatchers.any());
+    }
+
+    @Test
+    public void testReadDumpsTableOnce() throws ReadFailedException {
+        final ClassifySessionDetails details1 = new ClassifySessionDetails();
+        details1.match =
+            new byte[] {0x00, 0x00, 0x00, 0x00, 0x00, 0x00, (byte) 0x01, (byte) 0x02, (byte) 0x03, (byte) 0x04,
+                (byte) 0x05, (byte) 0x06, 0x00, 0x00, 0x00, 0x00};
+        details1.advance = 1;
+        final ClassifySessionDetails details2 = new ClassifySessionDetails();
+        details2.match =
+            new byte[] {0x00, 0x00, 0x00, 0x00, 0x00, 0x00, (byte) 0x01, (byte) 0x02, (byte) 0x03, (byte) 0x04,
+                (byte) 0x05, (byte) 0x07, 0x00, 0x00, 0x00, 0x00};
+        details2.advance = 2;
+        final ClassifySessionDetailsReplyDump dump = new ClassifySessionDetailsReplyDump();
+        dump.classifySessionDetails = Arrays.asList(details1, details2);
+        doReturn(future(dump)).when(api).classifySessionDump(ArgumentMatchers.any(ClassifySessionDump.class));
+        when(classifierContext.containsTable(TABLE_NAME, mappingContext)).thenReturn(true);
+        when(classifierContext.getTableIndex(TABLE_NAME, mappingContext)).thenReturn(TABLE_INDEX);
+
+        final ClassifySessionBuilder builder1 = new ClassifySessionBuilder();
+        getCustomizer().readCurrentAttributes(getClassifySessionId(TABLE_NAME, MATCH_1), builder1, ctx);
+        final ClassifySessionBuilder builder2 = new ClassifySessionBuilder();
+        getCustomizer().readCurrentAttributes(getClassifySessionId(TABLE_NAME, MATCH_2), builder2, ctx);
+
+        assertEquals(1, builder1.getAdvance().intValue());
+        assertEquals(2, builder2.getAdvance().intValue());
+        verify(api).classifySessionDump(ArgumentMatchers.any());
+        assertEquals(2, ((ClassifySessionReader) getCustomizer()).getDumpedSessionsCount());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReadDuplicateMatch() throws ReadFailedException {
+        final InstanceIdentifier<ClassifySession> id = getClassifySessionId(TABLE_NAME, MATCH_1);
+        final ClassifySessionDetails details = new ClassifySessionDetails();
+        details.match =
+            new byte[] {0x00, 0x00, 0x00, 0x00, 0x00, 0x00, (byte) 0x01, (byte) 0x02, (byte) 0x03, (byte) 0x04,
+                (byte) 0x05, (byte) 0x06, 0x00, 0x00, 0x00, 0x00};
+        final ClassifySessionDetailsReplyDump dump = new ClassifySessionDetailsReplyDump();
+        dump.classifySessionDetails = Arrays.asList(details, details);
+        cache.put(ClassifySessionReader.CACHE_KEY + id.firstKeyOf(ClassifyTable.class),
+            new ClassifySessionIndex(dump));
+
+        getCustomizer().readCurrentAttributes(id, new ClassifySessionBuilder(), ctx);
     }
 
     @Test
@@ -24,9 +24,7 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddressNoZone;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4AddressNoZone;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Address;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6AddressNoZone;
 
 /**
  * Aggregation trait providing logic for converting address based data
@@ -40,9 +38,9 @@ public interface AddressTranslator extends Ipv4Translator, Ipv6Translator, MacTr
         checkNotNull(address, "Cannot resolve null address");
 
         if (isIpv6(address)) {
-            return ipv6AddressNoZoneToArray(new Ipv6AddressNoZone(address.getIpv6Address()));
+            return ipv6AddressNoZoneToArray(address.getIpv6Address());
         } else {
-            return ipv4AddressNoZoneToArray(new Ipv4AddressNoZone(address.getIpv4Address()));
+            return ipv4AddressNoZoneToArray(address.getIpv4Address().getValue());
         }
     }
 
@@ -54,9 +52,9 @@ public interface AddressTranslator extends Ipv4Translator, Ipv6Translator, MacTr
         checkNotNull(address, "Cannot convert null Address");
 
         if (isIpv6) {
-            return ipv6AddressNoZoneToArray(new Ipv6AddressNoZone(address.getIpv6Address()));
+            return ipv6AddressNoZoneToArray(address.getIpv6Address());
         } else {
-            return ipv4AddressNoZoneToArray(new Ipv4AddressNoZone(address.getIpv4Address()));
+            return ipv4AddressNoZoneToArray(address.getIpv4Address().getValue());
         }
     }
 
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Parsing and formatting of textual IPv4/IPv6 addresses and prefixes directly to and from byte arrays, without
+ * intermediate strings or {@link java.net.InetAddress} instances. Formatted IPv6 addresses use the same canonical form
+ * as {@link com.google.common.net.InetAddresses#toAddrString(java.net.InetAddress)} (RFC 5952).
+ */
+public final class IpAddressCodec {
+
+    public static final int IPV4_LENGTH = 4;
+    public static final int IPV6_LENGTH = 16;
+
+    private static final int IPV6_GROUPS = 8;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    // 4 x "255" + 3 x '.' + "/32"
+    private static final int IPV4_PREFIX_MAX_CHARS = 18;
+    // 8 x "ffff" + 7 x ':' + "/128"
+    private static final int IPV6_PREFIX_MAX_CHARS = 43;
+
+    private IpAddressCodec() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated.");
+    }
+
+    /**
+     * @return index of '/' in provided prefix or its length if there is no '/', i.e. end of address part
+     */
+    public static int addressEnd(@Nonnull final CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '/') {
+                return i;
+            }
+        }
+        return value.length();
+    }
+
+    /**
+     * Parses prefix length following '/' in provided prefix.
+     *
+     * @throws IllegalArgumentException if prefix does not contain decimal prefix length
+     */
+    public static int prefixLength(@Nonnull final CharSequence prefix) {
+        final int slash = addressEnd(prefix);
+        checkArgument(slash < prefix.length() - 1 && prefix.length() - slash <= 4,
+                "Invalid prefix length in %s", prefix);
+        int length = 0;
+        for (int i = slash + 1; i < prefix.length(); i++) {
+            final int digit = prefix.charAt(i) - '0';
+            checkArgument(digit >= 0 && digit <= 9, "Invalid prefix length in %s", prefix);
+            length = length * 10 + digit;
+        }
+        return length;
+    }
+
+    /**
+     * Parses dotted-decimal IPv4 address from characters {@code [start, end)} of provided value into
+     * {@code dst[offset, offset + 4)}.
+     *
+     * @return true if address was parsed, false if it is not valid IPv4 address (content of dst is undefined then)
+     */
+    public static boolean parseIpv4(@Nonnull final CharSequence value, final int start, final int end,
+                                    @Nonnull final byte[] dst, final int offset) {
+        int octet = 0;
+        int digits = 0;
+        int octets = 0;
+        for (int i = start; i < end; i++) {
+            final char c = value.charAt(i);
+            if (c == '.') {
+                if (digits == 0 || octets == IPV4_LENGTH - 1) {
+                    return false;
+                }
+                dst[offset + octets++] = (byte) octet;
+                octet = 0;
+                digits = 0;
+            } else if (c >= '0' && c <= '9' && digits < 3) {
+                octet = octet * 10 + (c - '0');
+                digits++;
+                if (octet > 255) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+        }
+        if (digits == 0 || octets != IPV4_LENGTH - 1) {
+            return false;
+        }
+        dst[offset + octets] = (byte) octet;
+        return true;
+    }
+
+    /**
+     * Parses IPv6 address (full, compressed or with embedded IPv4 address) from characters {@code [start, end)}
+     * of provided value into {@code dst[offset, offset + 16)}.
+     *
+     * @return true if address was parsed, false if it is not valid IPv6 address (content of dst is undefined then)
+     */
+    public static boolean parseIpv6(@Nonnull final CharSequence value, final int start, final int end,
+                                    @Nonnull final byte[] dst, final int offset) {
+        int groups = 0;
+        int compressedAt = -1;
+        int i = start;
+
+        if (end - start >= 2 && value.charAt(i) == ':') {
+            if (value.charAt(i + 1) != ':') {
+                return false;
+            }
+            compressedAt = 0;
+            i += 2;
+        }
+
+        while (i < end) {
+            int groupEnd = i;
+            boolean dotted = false;
+            while (groupEnd < end && value.charAt(groupEnd) != ':') {
+                dotted |= value.charAt(groupEnd) == '.';
+                groupEnd++;
+            }
+
+            if (dotted) {
+                // embedded IPv4 address must be the last part and occupies 2 groups
+                if (groupEnd != end || groups > IPV6_GROUPS - 2
+                        || !parseIpv4(value, i, end, dst, offset + groups * 2)) {
+                    return false;
+                }
+                groups += 2;
+                i = end;
+                break;
+            }
+
+            final int digits = groupEnd - i;
+            if (digits == 0 || digits > 4 || groups == IPV6_GROUPS) {
+                return false;
+            }
+            int group = 0;
+            for (; i < groupEnd; i++) {
+                final int digit = hexDigit(value.charAt(i));
+                if (digit == -1) {
+                    return false;
+                }
+                group = (group << 4) | digit;
+            }
+            dst[offset + groups * 2] = (byte) (group >>> 8);
+            dst[offset + groups * 2 + 1] = (byte) group;
+            groups++;
+
+            if (i == end) {
+                break;
+            }
+            // skip ':' and detect "::"
+            i++;
+            if (i < end && value.charAt(i) == ':') {
+                if (compressedAt != -1) {
+                    return false;
+                }
+                compressedAt = groups;
+                i++;
+            } else if (i == end) {
+                // trailing single ':'
+                return false;
+            }
+        }
+
+        if (compressedAt == -1) {
+            return groups == IPV6_GROUPS;
+        }
+        if (groups == IPV6_GROUPS) {
+            // "::" has to stand for at least one group
+            return false;
+        }
+
+        // move groups following "::" to the end and fill the gap with zeros
+        final int tailBytes = (groups - compressedAt) * 2;
+        System.arraycopy(dst, offset + compressedAt * 2, dst, offset + IPV6_LENGTH - tailBytes, tailBytes);
+        for (int b = offset + compressedAt * 2; b < offset + IPV6_LENGTH - tailBytes; b++) {
+            dst[b] = 0;
+        }
+        return true;
+    }
+
+    /**
+     * Formats 4 bytes of IPv4 address starting at offset in dotted-decimal notation.
+     */
+    @Nonnull
+    public static String formatIpv4(@Nonnull final byte[] src, final int offset) {
+        final char[] chars = new char[IPV4_PREFIX_MAX_CHARS];
+        return new String(chars, 0, appendIpv4(src, offset, chars, 0));
+    }
+
+    /**
+     * Formats IPv4 prefix, address bytes are not masked.
+     */
+    @Nonnull
+    public static String formatIpv4Prefix(@Nonnull final byte[] src, final int offset, final int prefixLength) {
+        checkArgument(prefixLength >= 0 && prefixLength <= 32, "Invalid IPv4 prefix length %s", prefixLength);
+        final char[] chars = new char[IPV4_PREFIX_MAX_CHARS];
+        int length = appendIpv4(src, offset, chars, 0);
+        chars[length++] = '/';
+        length = appendDecimal(prefixLength, chars, length);
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * Formats 16 bytes of IPv6 address starting at offset in canonical (RFC 5952) notation.
+     */
+    @Nonnull
+    public static String formatIpv6(@Nonnull final byte[] src, final int offset) {
+        final char[] chars = new char[IPV6_PREFIX_MAX_CHARS];
+        return new String(chars, 0, appendIpv6(src, offset, chars, 0));
+    }
+
+    /**
+     * Formats IPv6 prefix, address bytes are not masked.
+     */
+    @Nonnull
+    public static String formatIpv6Prefix(@Nonnull final byte[] src, final int offset, final int prefixLength) {
+        checkArgument(prefixLength >= 0 && prefixLength <= 128, "Invalid IPv6 prefix length %s", prefixLength);
+        final char[] chars = new char[IPV6_PREFIX_MAX_CHARS];
+        int length = appendIpv6(src, offset, chars, 0);
+        chars[length++] = '/';
+        length = appendDecimal(prefixLength, chars, length);
+        return new String(chars, 0, length);
+    }
+
+    private static int appendIpv4(final byte[] src, final int offset, final char[] dst, int position) {
+        checkArgument(src.length - offset >= IPV4_LENGTH, "IPv4 address needs %s bytes", IPV4_LENGTH);
+        for (int i = 0; i < IPV4_LENGTH; i++) {
+            if (i > 0) {
+                dst[position++] = '.';
+            }
+            position = appendDecimal(src[offset + i] & 0xff, dst, position);
+        }
+        return position;
+    }
+
+    private static int appendIpv6(final byte[] src, final int offset, final char[] dst, int position) {
+        checkArgument(src.length - offset >= IPV6_LENGTH, "IPv6 address needs %s bytes", IPV6_LENGTH);
+
+        // longest run of at least 2 zero groups, first one wins
+        int bestStart = -1;
+        int bestLength = 1;
+        int runStart = -1;
+        for (int group = 0; group <= IPV6_GROUPS; group++) {
+            if (group < IPV6_GROUPS && group(src, offset, group) == 0) {
+                if (runStart == -1) {
+                    runStart = group;
+                }
+            } else if (runStart != -1) {
+                if (group - runStart > bestLength) {
+                    bestStart = runStart;
+                    bestLength = group - runStart;
+                }
+                runStart = -1;
+            }
+        }
+
+        for (int group = 0; group < IPV6_GROUPS; group++) {
+            if (group == bestStart) {
+                dst[position++] = ':';
+                dst[position++] = ':';
+                group += bestLength - 1;
+                continue;
+            }
+            if (group > 0 && group != bestStart + bestLength) {
+                dst[position++] = ':';
+            }
+            position = appendHex(group(src, offset, group), dst, position);
+        }
+        return position;
+    }
+
+    private static int hexDigit(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        } else if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static int group(final byte[] src, final int offset, final int group) {
+        return ((src[offset + group * 2] & 0xff) << 8) | (src[offset + group * 2 + 1] & 0xff);
+    }
+
+    private static int appendHex(final int value, final char[] dst, int position) {
+        boolean leading = true;
+        for (int shift = 12; shift >= 0; shift -= 4) {
+            final int digit = (value >>> shift) & 0xf;
+            if (digit != 0 || !leading || shift == 0) {
+                dst[position++] = HEX_DIGITS[digit];
+                leading = false;
+            }
+        }
+        return position;
+    }
+
+    private static int appendDecimal(final int value, final char[] dst, int position) {
+        if (value >= 100) {
+            dst[position++] = (char) ('0' + value / 100);
+        }
+        if (value >= 10) {
+            dst[position++] = (char) ('0' + value / 10 % 10);
+        }
+        dst[position++] = (char) ('0' + value % 10);
+        return position;
+    }
+}
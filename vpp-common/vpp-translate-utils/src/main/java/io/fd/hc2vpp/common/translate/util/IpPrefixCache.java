@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.common.translate.util;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Prefix;
+
+/**
+ * Cache of immutable yang prefix objects keyed by address bytes and prefix length, shared by translate utils.
+ *
+ * <p>Reads of large tables (fibs, nat mappings) convert the same addresses repeatedly within single transaction.
+ * Cache returns the same instance for the same prefix while it is in use. Values are weakly referenced, so prefixes
+ * no longer referenced by read data are collected, and size of each family cache is bounded.
+ */
+@ThreadSafe
+public final class IpPrefixCache {
+
+    @VisibleForTesting
+    static final long MAXIMUM_SIZE = 100_000;
+
+    private static final IpPrefixCache INSTANCE = new IpPrefixCache(MAXIMUM_SIZE);
+
+    private final Cache<PrefixKey, Ipv4Prefix> ipv4Prefixes;
+    private final Cache<PrefixKey, Ipv6Prefix> ipv6Prefixes;
+    private final Cache<PrefixKey, IpPrefix> ipv4IpPrefixes;
+    private final Cache<PrefixKey, IpPrefix> ipv6IpPrefixes;
+
+    @VisibleForTesting
+    IpPrefixCache(final long maximumSize) {
+        ipv4Prefixes = createCache(maximumSize);
+        ipv6Prefixes = createCache(maximumSize);
+        ipv4IpPrefixes = createCache(maximumSize);
+        ipv6IpPrefixes = createCache(maximumSize);
+    }
+
+    public static IpPrefixCache getInstance() {
+        return INSTANCE;
+    }
+
+    private static <V> Cache<PrefixKey, V> createCache(final long maximumSize) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .weakValues()
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @param address 4 bytes of IPv4 address
+     */
+    @Nonnull
+    public Ipv4Prefix ipv4Prefix(@Nonnull final byte[] address, final int length) {
+        final Ipv4Prefix cached = ipv4Prefixes.getIfPresent(PrefixKey.lookup(address, length));
+        if (cached != null) {
+            return cached;
+        }
+        final Ipv4Prefix prefix = new Ipv4Prefix(IpAddressCodec.formatIpv4Prefix(address, 0, length));
+        ipv4Prefixes.put(PrefixKey.copyOf(address, length), prefix);
+        return prefix;
+    }
+
+    /**
+     * @param address 16 bytes of IPv6 address
+     */
+    @Nonnull
+    public Ipv6Prefix ipv6Prefix(@Nonnull final byte[] address, final int length) {
+        final Ipv6Prefix cached = ipv6Prefixes.getIfPresent(PrefixKey.lookup(address, length));
+        if (cached != null) {
+            return cached;
+        }
+        final Ipv6Prefix prefix = new Ipv6Prefix(IpAddressCodec.formatIpv6Prefix(address, 0, length));
+        ipv6Prefixes.put(PrefixKey.copyOf(address, length), prefix);
+        return prefix;
+    }
+
+    /**
+     * @param address 4 bytes of IPv4 address or 16 bytes of IPv6 address
+     */
+    @Nonnull
+    public IpPrefix ipPrefix(final boolean isIpv6, @Nonnull final byte[] address, final int length) {
+        final Cache<PrefixKey, IpPrefix> cache = isIpv6
+                ? ipv6IpPrefixes
+                : ipv4IpPrefixes;
+        final IpPrefix cached = cache.getIfPresent(PrefixKey.lookup(address, length));
+        if (cached != null) {
+            return cached;
+        }
+        final IpPrefix prefix = isIpv6
+                ? new IpPrefix(ipv6Prefix(address, length))
+                : new IpPrefix(ipv4Prefix(address, length));
+        cache.put(PrefixKey.copyOf(address, length), prefix);
+        return prefix;
+    }
+
+    /**
+     * @return statistics of all prefix caches combined
+     */
+    @Nonnull
+    public CacheStats stats() {
+        return ipv4Prefixes.stats()
+                .plus(ipv6Prefixes.stats())
+                .plus(ipv4IpPrefixes.stats())
+                .plus(ipv6IpPrefixes.stats());
+    }
+
+    public long getHitCount() {
+        return stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return stats().missCount();
+    }
+
+    /**
+     * Key of cached prefix. Lookups wrap address of caller without copying it, cached keys own copy of the address,
+     * so later modifications of the source array do not affect cache.
+     */
+    private static final class PrefixKey {
+        private final byte[] address;
+        private final int length;
+        private final int hash;
+
+        private PrefixKey(final byte[] address, final int length) {
+            this.address = address;
+            this.length = length;
+            this.hash = 31 * Arrays.hashCode(address) + length;
+        }
+
+        static PrefixKey lookup(final byte[] address, final int length) {
+            return new PrefixKey(address, length);
+        }
+
+        static PrefixKey copyOf(final byte[] address, final int length) {
+            return new PrefixKey(address.clone(), length);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final PrefixKey that = (PrefixKey) o;
+            return length == that.length && Arrays.equals(address, that.address);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
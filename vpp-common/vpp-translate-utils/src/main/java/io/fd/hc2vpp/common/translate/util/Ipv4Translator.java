@@ -16,15 +16,15 @@
 
 package io.fd.hc2vpp.common.translate.util;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.fd.jvpp.core.types.Address;
 import io.fd.jvpp.core.types.AddressFamily;
 import io.fd.jvpp.core.types.AddressUnion;
 import io.fd.jvpp.core.types.Ip4Address;
-import java.util.Arrays;
 import javax.annotation.Nonnull;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IetfInetUtil;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4AddressNoZone;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
@@ -46,12 +46,10 @@ public interface Ipv4Translator extends ByteDataTranslator {
     default byte[] ipv4AddressPrefixToArray(@Nonnull final Ipv4Prefix ipv4Prefix) {
         checkNotNull(ipv4Prefix, "Cannot convert null prefix");
 
-        byte[] retval = new byte[4];
-        String[] address = ipv4Prefix.getValue().substring(0, ipv4Prefix.getValue().indexOf('/')).split("\\.");
-
-        for (int d = 0; d < 4; d++) {
-            retval[d] = (byte) (Short.parseShort(address[d]) & 0xff);
-        }
+        final String value = ipv4Prefix.getValue();
+        final byte[] retval = new byte[IpAddressCodec.IPV4_LENGTH];
+        checkArgument(IpAddressCodec.parseIpv4(value, 0, IpAddressCodec.addressEnd(value), retval, 0),
+                "Invalid IPv4 prefix %s", value);
         return retval;
     }
 
@@ -60,7 +58,7 @@ public interface Ipv4Translator extends ByteDataTranslator {
      */
     default byte extractPrefix(Ipv4Prefix data) {
         checkNotNull(data, "Cannot extract from null");
-        return Byte.valueOf(data.getValue().substring(data.getValue().indexOf('/') + 1));
+        return (byte) IpAddressCodec.prefixLength(data.getValue());
     }
 
     /**
@@ -71,11 +69,10 @@ public interface Ipv4Translator extends ByteDataTranslator {
      */
     @Nonnull
     default Ipv4AddressNoZone arrayToIpv4AddressNoZone(@Nonnull byte[] ip) {
-        // VPP sends ipv4 in a 16 byte array
-        if (ip.length == 16) {
-            ip = Arrays.copyOfRange(ip, 0, 4);
-        }
-        return new Ipv4AddressNoZone(IetfInetUtil.INSTANCE.ipv4AddressFor(ip));
+        // VPP sends ipv4 in a 16 byte array, only first 4 bytes are used then
+        checkArgument(ip.length == IpAddressCodec.IPV4_LENGTH || ip.length == IpAddressCodec.IPV6_LENGTH,
+                "Invalid IPv4 address length %s", ip.length);
+        return new Ipv4AddressNoZone(IpAddressCodec.formatIpv4(ip, 0));
     }
 
     /**
@@ -117,16 +114,27 @@ public interface Ipv4Translator extends ByteDataTranslator {
     }
 
     default byte[] ipv4AddressNoZoneToArray(final String ipv4Addr) {
-        byte[] retval = new byte[4];
-        String[] dots = ipv4Addr.split("\\.");
-
-        for (int d = 0; d < 4; d++) {
-            retval[d] = (byte) (Short.parseShort(dots[d]) & 0xff);
-        }
+        final byte[] retval = new byte[IpAddressCodec.IPV4_LENGTH];
+        checkArgument(IpAddressCodec.parseIpv4(ipv4Addr, 0, ipv4Addr.length(), retval, 0),
+                "Invalid IPv4 address %s", ipv4Addr);
         return retval;
     }
 
+    /**
+     * Converts byte array to {@link Ipv4Prefix} with specified prefix length. Returned instance may be shared,
+     * see {@link IpPrefixCache}.
+     */
     default Ipv4Prefix toIpv4Prefix(final byte[] address, final int prefix) {
-        return IetfInetUtil.INSTANCE.ipv4PrefixFor(address, prefix);
+        checkArgument(address.length == IpAddressCodec.IPV4_LENGTH, "Invalid IPv4 address length %s", address.length);
+        return IpPrefixCache.getInstance().ipv4Prefix(address, prefix);
+    }
+
+    /**
+     * Converts byte array to {@link IpPrefix} holding {@link Ipv4Prefix} with specified prefix length. Returned
+     * instance may be shared, see {@link IpPrefixCache}.
+     */
+    default IpPrefix toIpv4IpPrefix(final byte[] address, final int prefix) {
+        checkArgument(address.length == IpAddressCodec.IPV4_LENGTH, "Invalid IPv4 address length %s", address.length);
+        return IpPrefixCache.getInstance().ipPrefix(false, address, prefix);
     }
 }
@@ -27,7 +27,6 @@ import io.fd.jvpp.core.types.AddressUnion;
 import io.fd.jvpp.core.types.Ip6Address;
 import io.fd.jvpp.core.types.Prefix;
 import javax.annotation.Nonnull;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IetfInetUtil;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddressNoZone;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
@@ -47,7 +46,13 @@ public interface Ipv6Translator extends ByteDataTranslator {
      * @return byte array with address bytes
      */
     default byte[] ipv6AddressNoZoneToArray(@Nonnull final Ipv6Address address) {
-        return InetAddresses.forString(address.getValue()).getAddress();
+        final String value = address.getValue();
+        final byte[] retval = new byte[IpAddressCodec.IPV6_LENGTH];
+        if (IpAddressCodec.parseIpv6(value, 0, value.length(), retval, 0)) {
+            return retval;
+        }
+        // zoned addresses are not handled by the codec
+        return InetAddresses.forString(value).getAddress();
     }
 
     /**
@@ -73,8 +78,11 @@ public interface Ipv6Translator extends ByteDataTranslator {
     default byte[] ipv6AddressPrefixToArray(@Nonnull final Ipv6Prefix ipv6Prefix) {
         checkNotNull(ipv6Prefix, "Cannot convert null prefix");
 
-        return ipv6AddressNoZoneToArray(new Ipv6AddressNoZone(
-                new Ipv6Address(ipv6Prefix.getValue().substring(0, ipv6Prefix.getValue().indexOf('/')))));
+        final String value = ipv6Prefix.getValue();
+        final byte[] retval = new byte[IpAddressCodec.IPV6_LENGTH];
+        checkArgument(IpAddressCodec.parseIpv6(value, 0, IpAddressCodec.addressEnd(value), retval, 0),
+                "Invalid IPv6 prefix %s", value);
+        return retval;
     }
 
     /**
@@ -100,14 +108,25 @@ public interface Ipv6Translator extends ByteDataTranslator {
     default byte extractPrefix(Ipv6Prefix data) {
         checkNotNull(data, "Cannot extract from null");
 
-        return Integer.valueOf(data.getValue().substring(data.getValue().indexOf('/') + 1)).byteValue();
+        return (byte) IpAddressCodec.prefixLength(data.getValue());
     }
 
     /**
-     * Converts byte array to {@link Ipv6Prefix} with specified prefixLength
+     * Converts byte array to {@link Ipv6Prefix} with specified prefixLength. Returned instance may be shared,
+     * see {@link IpPrefixCache}.
      */
     default Ipv6Prefix toIpv6Prefix(final byte[] address, int prefix) {
-        return IetfInetUtil.INSTANCE.ipv6PrefixFor(address, prefix);
+        checkArgument(address.length == IpAddressCodec.IPV6_LENGTH, "Invalid IPv6 address length %s", address.length);
+        return IpPrefixCache.getInstance().ipv6Prefix(address, prefix);
+    }
+
+    /**
+     * Converts byte array to {@link IpPrefix} holding {@link Ipv6Prefix} with specified prefixLength. Returned
+     * instance may be shared, see {@link IpPrefixCache}.
+     */
+    default IpPrefix toIpv6IpPrefix(final byte[] address, int prefix) {
+        checkArgument(address.length == IpAddressCodec.IPV6_LENGTH, "Invalid IPv6 address length %s", address.length);
+        return IpPrefixCache.getInstance().ipPrefix(true, address, prefix);
     }
 
     /**
@@ -119,7 +138,7 @@ public interface Ipv6Translator extends ByteDataTranslator {
     @Nonnull
     default Ipv6AddressNoZone arrayToIpv6AddressNoZone(@Nonnull byte[] ip) {
         checkArgument(ip.length == 16, "Illegal array length");
-        return new Ipv6AddressNoZone(IetfInetUtil.INSTANCE.ipv6AddressFor(ip));
+        return new Ipv6AddressNoZone(IpAddressCodec.formatIpv6(ip, 0));
     }
 
     /**
@@ -22,9 +22,15 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.jvpp.VppBaseCallException;
 import io.fd.jvpp.dto.JVppReply;
+import io.fd.jvpp.dto.JVppRequest;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import javax.annotation.Nonnegative;
@@ -199,12 +205,95 @@ public interface JvppReplyConsumer {
         }
     }
 
+    /**
+     * Consumes reply for jvpp call representing any read operation, without blocking calling thread.
+     * Timeout configured for requestType is applied.
+     *
+     * @return stage completed with reply, or exceptionally with {@link ReadTimeoutException} if reply did not arrive
+     * within timeout, or with {@link ReadFailedException} if call failed
+     */
+    default <R extends JVppReply<?>> CompletionStage<R> getReplyForReadAsync(
+            @Nonnull final CompletionStage<R> future,
+            @Nonnull final Class<? extends JVppRequest> requestType,
+            @Nonnull final InstanceIdentifier<?> replyType) {
+        return getReplyForReadAsync(future, replyType, JvppReplyTimeoutHolder.getTimeoutInMillis(requestType));
+    }
+
+    default <R extends JVppReply<?>> CompletionStage<R> getReplyForReadAsync(
+            @Nonnull final CompletionStage<R> future,
+            @Nonnull final InstanceIdentifier<?> replyType,
+            @Nonnegative final long timeoutInMillis) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        getReplyAsync(future, timeoutInMillis).whenComplete((reply, error) -> {
+            if (error == null) {
+                result.complete(reply);
+                return;
+            }
+            final Throwable cause = JvppReplyTimer.unwrap(error);
+            if (cause instanceof TimeoutException) {
+                result.completeExceptionally(new ReadTimeoutException(replyType, cause));
+            } else if (cause instanceof VppBaseCallException) {
+                result.completeExceptionally(new ReadFailedException(replyType, cause));
+            } else {
+                result.completeExceptionally(cause);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Waits for result of stage composed from stages returned by
+     * {@link #getReplyForReadAsync(CompletionStage, Class, InstanceIdentifier)}. Does not apply any timeout on its
+     * own, those of composed stages apply.
+     *
+     * @throws ReadFailedException failure of any of composed stages
+     */
+    default <T> T getAsyncReadResult(@Nonnull final CompletionStage<T> stage) throws ReadFailedException {
+        try {
+            return stage.toCompletableFuture().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = JvppReplyTimer.unwrap(e);
+            if (cause instanceof ReadFailedException) {
+                throw (ReadFailedException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Consumes reply without blocking calling thread.
+     *
+     * @return stage completed with reply, or exceptionally with {@link TimeoutException} if reply did not arrive
+     * within timeout, or with {@link VppBaseCallException} if call failed
+     */
+    default <R extends JVppReply<?>> CompletionStage<R> getReplyAsync(
+            @Nonnull final CompletionStage<R> future,
+            @Nonnegative final long timeoutInMillis) {
+        checkArgument(timeoutInMillis > 0, "Timeout cannot be < 0");
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        final ScheduledFuture<?> timeout = JvppReplyTimer.schedule(() -> result.completeExceptionally(
+                new TimeoutException("Reply not received within " + timeoutInMillis + "ms")), timeoutInMillis);
+        future.whenComplete((reply, error) -> {
+            timeout.cancel(false);
+            if (error == null) {
+                result.complete(reply);
+            } else {
+                result.completeExceptionally(JvppReplyTimer.unwrap(error));
+            }
+        });
+        return result;
+    }
+
     /**
      * Wrapper for reply timeout
      */
     class JvppReplyTimeoutHolder {
         private static final Logger LOG = LoggerFactory.getLogger(JvppReplyTimeoutHolder.class);
         private static Optional<Integer> timeout = Optional.empty();
+        private static final Map<Class<? extends JVppRequest>, Long> TIMEOUTS_IN_MILLIS = new ConcurrentHashMap<>();
 
         private JvppReplyTimeoutHolder() {
             throw new UnsupportedOperationException("Utility class cannot be instantiated.");
@@ -223,5 +312,23 @@ public interface JvppReplyConsumer {
         public static int getTimeout() {
             return timeout.orElse(5);
         }
+
+        /**
+         * Configures timeout of replies to given request type, used by asynchronous reply consumers.
+         * Overrides timeout in seconds for that request type.
+         */
+        public static void setupTimeout(@Nonnull final Class<? extends JVppRequest> requestType,
+                                        @Nonnegative final long timeoutInMillis) {
+            checkArgument(timeoutInMillis > 0, "Timeout cannot be < 0");
+            TIMEOUTS_IN_MILLIS.put(requestType, timeoutInMillis);
+            LOG.info("Jvpp reply timeout for {} configured to {} ms", requestType.getSimpleName(), timeoutInMillis);
+        }
+
+        public static long getTimeoutInMillis(@Nonnull final Class<? extends JVppRequest> requestType) {
+            final Long timeoutInMillis = TIMEOUTS_IN_MILLIS.get(requestType);
+            return timeoutInMillis != null
+                ? timeoutInMillis
+                : TimeUnit.SECONDS.toMillis(getTimeout());
+        }
     }
 }
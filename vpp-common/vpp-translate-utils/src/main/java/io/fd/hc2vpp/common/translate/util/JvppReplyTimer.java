@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * Schedules timeouts of asynchronously consumed jvpp replies, so that no thread waits for reply.
+ */
+final class JvppReplyTimer {
+
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+    private JvppReplyTimer() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated.");
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "jvpp-reply-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // most replies arrive before timeout, do not keep their timeouts in the queue
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    static ScheduledFuture<?> schedule(@Nonnull final Runnable onTimeout, @Nonnegative final long timeoutInMillis) {
+        return TIMER.schedule(onTimeout, timeoutInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Strips wrappers added by {@link java.util.concurrent.CompletableFuture} to failures of dependent stages.
+     */
+    static Throwable unwrap(@Nonnull final Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.jvpp.dto.JVppReply;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Pipelined alternative to blocking {@link JvppReplyConsumer} write methods, for customizers that send many requests
+ * within single write. Requests are sent without waiting for replies of previous ones, up to window size of requests
+ * can wait for reply at a time. Once window is full, reply of oldest request is consumed before next request is sent.
+ * <p/>
+ * Replies are consumed using respective {@link JvppReplyConsumer} method, therefore failure of each request is
+ * reported by the same {@link WriteFailedException} subtype, and with the same identifier and data, as if it was
+ * consumed right after it was sent. After first failure, no more requests are sent, replies of already sent requests
+ * are consumed and their failures are added as suppressed exceptions of the first one.
+ * <p/>
+ * Usage:
+ * <pre>
+ * final JvppWriteBatch batch = new JvppWriteBatch();
+ * for (final Entry entry : entries) {
+ *     batch.create(() -&gt; api.addEntry(request(entry)), id, entry);
+ * }
+ * batch.awaitAll();
+ * </pre>
+ */
+@NotThreadSafe
+public final class JvppWriteBatch implements JvppReplyConsumer {
+
+    /**
+     * Window size used if none is specified
+     */
+    public static final int DEFAULT_WINDOW = 64;
+
+    private final int window;
+    private final int timeoutInSeconds;
+    private final Deque<PendingReply> pendingReplies = new ArrayDeque<>();
+    private WriteFailedException failure;
+
+    public JvppWriteBatch() {
+        this(DEFAULT_WINDOW);
+    }
+
+    public JvppWriteBatch(@Nonnegative final int window) {
+        this(window, JvppReplyTimeoutHolder.getTimeout());
+    }
+
+    public JvppWriteBatch(@Nonnegative final int window, @Nonnegative final int timeoutInSeconds) {
+        checkArgument(window > 0, "Window must be > 0, but was %s", window);
+        checkArgument(timeoutInSeconds > 0, "Timeout must be > 0, but was %s", timeoutInSeconds);
+        this.window = window;
+        this.timeoutInSeconds = timeoutInSeconds;
+    }
+
+    /**
+     * Sends request representing any write operation.
+     *
+     * @see JvppReplyConsumer#getReplyForWrite(Future, InstanceIdentifier, int)
+     */
+    public <R extends JVppReply<?>> void write(@Nonnull final Supplier<CompletionStage<R>> request,
+                                               @Nonnull final InstanceIdentifier<?> id)
+            throws WriteFailedException {
+        send(request, future -> getReplyForWrite(future, id, timeoutInSeconds));
+    }
+
+    /**
+     * Sends request representing any write operation. Provided callback is invoked once the request succeeds, so that
+     * caller can record which requests of failed batch were applied.
+     *
+     * @see JvppReplyConsumer#getReplyForWrite(Future, InstanceIdentifier, int)
+     */
+    public <R extends JVppReply<?>> void write(@Nonnull final Supplier<CompletionStage<R>> request,
+                                               @Nonnull final InstanceIdentifier<?> id,
+                                               @Nonnull final Runnable onSuccess)
+            throws WriteFailedException {
+        send(request, future -> {
+            getReplyForWrite(future, id, timeoutInSeconds);
+            onSuccess.run();
+        });
+    }
+
+    /**
+     * Sends request representing create operation.
+     *
+     * @see JvppReplyConsumer#getReplyForCreate(Future, InstanceIdentifier, DataObject, int)
+     */
+    public <R extends JVppReply<?>> void create(@Nonnull final Supplier<CompletionStage<R>> request,
+                                                @Nonnull final InstanceIdentifier<?> id,
+                                                @Nonnull final DataObject data)
+            throws WriteFailedException {
+        send(request, future -> getReplyForCreate(future, id, data, timeoutInSeconds));
+    }
+
+    /**
+     * Sends request representing update operation.
+     *
+     * @see JvppReplyConsumer#getReplyForUpdate(Future, InstanceIdentifier, DataObject, DataObject, int)
+     */
+    public <R extends JVppReply<?>> void update(@Nonnull final Supplier<CompletionStage<R>> request,
+                                                @Nonnull final InstanceIdentifier<?> id,
+                                                @Nonnull final DataObject dataBefore,
+                                                @Nonnull final DataObject dataAfter)
+            throws WriteFailedException {
+        send(request, future -> getReplyForUpdate(future, id, dataBefore, dataAfter, timeoutInSeconds));
+    }
+
+    /**
+     * Sends request representing delete operation.
+     *
+     * @see JvppReplyConsumer#getReplyForDelete(Future, InstanceIdentifier, int)
+     */
+    public <R extends JVppReply<?>> void delete(@Nonnull final Supplier<CompletionStage<R>> request,
+                                                @Nonnull final InstanceIdentifier<?> id)
+            throws WriteFailedException {
+        send(request, future -> getReplyForDelete(future, id, timeoutInSeconds));
+    }
+
+    /**
+     * Consumes replies of all sent requests.
+     *
+     * @throws WriteFailedException failure of first failed request, with failures of other requests suppressed
+     */
+    public void awaitAll() throws WriteFailedException {
+        while (!pendingReplies.isEmpty()) {
+            consumeOldest();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Number of sent requests, replies of which were not consumed yet.
+     */
+    public int getPendingCount() {
+        return pendingReplies.size();
+    }
+
+    private <R extends JVppReply<?>> void send(final Supplier<CompletionStage<R>> request,
+                                               final ReplyConsumer<R> replyConsumer) throws WriteFailedException {
+        checkState(failure == null, "Batch already failed, no more requests can be sent");
+        while (pendingReplies.size() >= window) {
+            consumeOldest();
+        }
+        if (failure != null) {
+            // do not send more requests after failure, just report it
+            awaitAll();
+        }
+
+        final Future<R> future = request.get().toCompletableFuture();
+        pendingReplies.add(() -> replyConsumer.consume(future));
+    }
+
+    private void consumeOldest() {
+        try {
+            pendingReplies.poll().consume();
+        } catch (WriteFailedException e) {
+            if (failure == null) {
+                failure = e;
+            } else {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ReplyConsumer<R extends JVppReply<?>> {
+        void consume(Future<R> future) throws WriteFailedException;
+    }
+
+    @FunctionalInterface
+    private interface PendingReply {
+        void consume() throws WriteFailedException;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.common.translate.util;
+
+import java.lang.management.ManagementFactory;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registration of MXBean exposing runtime statistics of hc2vpp component (queue depths, counters, timings) in the
+ * platform MBean server, so that they can be monitored by JMX clients. Bean is unregistered on close.
+ * <p/>
+ * Statistics are not essential for the component, so registration failures are only logged.
+ */
+public final class MXBeanRegistration implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MXBeanRegistration.class);
+
+    /**
+     * JMX domain of hc2vpp beans.
+     */
+    public static final String DOMAIN = "io.fd.hc2vpp";
+
+    @Nullable
+    private final ObjectName name;
+
+    private MXBeanRegistration(@Nullable final ObjectName name) {
+        this.name = name;
+    }
+
+    /**
+     * Registers bean under {@code io.fd.hc2vpp:type=<type>} name, replacing bean previously registered under the same
+     * name (e.g. by previous instance of restarted component).
+     *
+     * @param bean            bean to register
+     * @param mxbeanInterface MXBean interface exposed by the bean
+     * @param type            type of the bean
+     * @return registration, that unregisters the bean on close
+     */
+    @Nonnull
+    public static <T> MXBeanRegistration register(@Nonnull final T bean, @Nonnull final Class<T> mxbeanInterface,
+                                                  @Nonnull final String type) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(DOMAIN, "type", type);
+            final StandardMBean mbean = new StandardMBean(bean, mxbeanInterface, true);
+            try {
+                server.registerMBean(mbean, name);
+            } catch (InstanceAlreadyExistsException e) {
+                LOG.debug("Replacing MXBean {}", name);
+                unregister(server, name);
+                server.registerMBean(mbean, name);
+            }
+            LOG.debug("MXBean {} registered", name);
+            return new MXBeanRegistration(name);
+        } catch (JMException | IllegalArgumentException e) {
+            LOG.warn("Unable to register MXBean of type {}, statistics will not be available", type, e);
+            return new MXBeanRegistration(null);
+        }
+    }
+
+    private static void unregister(final MBeanServer server, final ObjectName name) throws JMException {
+        try {
+            server.unregisterMBean(name);
+        } catch (InstanceNotFoundException e) {
+            LOG.trace("MXBean {} already unregistered", name, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (name == null) {
+            return;
+        }
+        try {
+            unregister(ManagementFactory.getPlatformMBeanServer(), name);
+            LOG.debug("MXBean {} unregistered", name);
+        } catch (JMException e) {
+            LOG.warn("Unable to unregister MXBean {}", name, e);
+        }
+    }
+}
@@ -126,6 +126,36 @@ public interface MacTranslator {
         }
     }
 
+    /**
+     * Packs first 6 bytes of MAC address into lower 48 bits of long.
+     */
+    default long macToLong(@Nonnull final byte[] address) {
+        checkArgument(address.length >= 6, "Illegal array length");
+        long packed = 0;
+        for (int i = 0; i < 6; i++) {
+            packed = (packed << 8) | (address[i] & 0xff);
+        }
+        return packed;
+    }
+
+    /**
+     * Packs string represented mac address (using ":" as separator) into lower 48 bits of long, without converting it
+     * to byte array first.
+     */
+    default long macToLong(@Nonnull final String macAddress) {
+        checkArgument(macAddress.length() == 17, "Mac address is expected to have 6 parts but was: %s", macAddress);
+        long packed = 0;
+        for (int i = 0; i < 6; i++) {
+            final int offset = i * 3;
+            final int high = Character.digit(macAddress.charAt(offset), 16);
+            final int low = Character.digit(macAddress.charAt(offset + 1), 16);
+            checkArgument(high >= 0 && low >= 0 && (i == 5 || macAddress.charAt(offset + 2) == ':'),
+                    "Invalid mac address: %s", macAddress);
+            packed = (packed << 8) | (high << 4) | low;
+        }
+        return packed;
+    }
+
     default byte parseHexByte(final String aByte) {
         return (byte) Integer.parseInt(aByte, 16);
     }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.common.translate.util;
+
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Lookup indexes built from data stored in {@link MappingContext}, held per mapping context instance.
+ *
+ * <p>Mapping contexts passed to customizers are created for each transaction, so indexes are held by weak keys and
+ * dropped together with the transaction. Owner of the index is responsible for updating it on its own writes to
+ * the mapping context, so the index is authoritative for the lifetime of the mapping context and misses do not
+ * require reading the mapping context again. Mapping can be also removed or modified bypassing the owner, so the owner
+ * should verify index hits by keyed read. Indexes of long-lived mapping contexts (e.g. the one used by notification
+ * producers) need to be invalidated explicitly to see mappings added by other transactions.
+ *
+ * @param <T> type of the index
+ */
+public final class MappingContextIndexes<T> {
+
+    private final Map<MappingContext, T> indexes = new WeakHashMap<>();
+    private final Function<MappingContext, T> loader;
+
+    /**
+     * @param loader builds index from data stored in provided mapping context
+     */
+    public MappingContextIndexes(@Nonnull final Function<MappingContext, T> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * @return index for provided mapping context, or null if it was not loaded yet
+     */
+    @Nullable
+    public synchronized T getIfPresent(@Nonnull final MappingContext mappingContext) {
+        return indexes.get(mappingContext);
+    }
+
+    /**
+     * @return index for provided mapping context, loaded if not present
+     */
+    @Nonnull
+    public synchronized T get(@Nonnull final MappingContext mappingContext) {
+        final T index = indexes.get(mappingContext);
+        return index != null
+                ? index
+                : reload(mappingContext);
+    }
+
+    /**
+     * Loads index from provided mapping context, replacing the previous one.
+     *
+     * @return reloaded index
+     */
+    @Nonnull
+    public synchronized T reload(@Nonnull final MappingContext mappingContext) {
+        final T index = loader.apply(mappingContext);
+        indexes.put(mappingContext, index);
+        return index;
+    }
+
+    /**
+     * Drops index for provided mapping context, it will be loaded again on next access.
+     */
+    public synchronized void invalidate(@Nonnull final MappingContext mappingContext) {
+        indexes.remove(mappingContext);
+    }
+}
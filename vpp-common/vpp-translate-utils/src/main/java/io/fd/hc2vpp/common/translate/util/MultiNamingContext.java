@@ -21,9 +21,10 @@ import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.base.Optional;
 import io.fd.honeycomb.translate.MappingContext;
-import io.fd.honeycomb.translate.util.RWUtils;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.OptionalInt;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.MultiMappingCtxAugmentation;
@@ -36,6 +37,7 @@ import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.MappingKey;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.mapping.Value;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.mapping.ValueBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.mapping.ValueKey;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
@@ -50,6 +52,12 @@ public class MultiNamingContext {
 
     private final int startIndex;
 
+    /**
+     * Children indexes per parent name, loaded lazily for each parent.
+     */
+    private final MappingContextIndexes<Map<String, ChildIndex>> indexes =
+            new MappingContextIndexes<>(mappingContext -> new HashMap<>());
+
     public MultiNamingContext(@Nonnull final String instanceName, final int startIndex) {
         multiNamingContextIid = InstanceIdentifier.create(Contexts.class)
                 .augmentation(MultiMappingCtxAugmentation.class)
@@ -61,15 +69,35 @@ public class MultiNamingContext {
     public synchronized void addChild(@Nonnull final String parentName, final int childIndex,
                                       @Nonnull final String childName,
                                       @Nonnull final MappingContext mappingContext) {
-        checkArgument(childIndex >= startIndex, "Index cannot be lower than start index %s", startIndex);
+        addChildren(parentName, Collections.singletonMap(childIndex, childName), mappingContext);
+    }
+
+    /**
+     * Adds several children of the same parent by single mapping context update.
+     *
+     * @param children child names by their indexes
+     */
+    public synchronized void addChildren(@Nonnull final String parentName,
+                                         @Nonnull final Map<Integer, String> children,
+                                         @Nonnull final MappingContext mappingContext) {
+        children.keySet().forEach(childIndex -> checkArgument(childIndex >= startIndex,
+                "Index cannot be lower than start index %s", startIndex));
         final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(parentName);
 
         //uses merge to preserve previous
         mappingContext.merge(mappingIid,
-                new MappingBuilder().setName(parentName).setValue(Collections.singletonList(new ValueBuilder()
-                        .setIndex(childIndex)
-                        .setName(childName)
-                        .build())).build());
+                new MappingBuilder().setName(parentName).setValue(children.entrySet().stream()
+                        .map(child -> new ValueBuilder()
+                                .setIndex(child.getKey())
+                                .setName(child.getValue())
+                                .build())
+                        .collect(Collectors.toList())).build());
+
+        final ChildIndex cached = getCachedChildIndex(parentName, mappingContext);
+        if (cached != null) {
+            cached.parentPresent = true;
+            children.forEach(cached::put);
+        }
     }
 
     public synchronized void addChild(@Nonnull final String parentName,
@@ -81,31 +109,52 @@ public class MultiNamingContext {
     public synchronized String getChildName(@Nonnull final String parentName,
                                             @Nonnull final int childIndex,
                                             @Nonnull final MappingContext mappingContext) {
-        final Optional<Mapping> read = mappingContext.read(getMappingIid(parentName));
-
-        checkState(read.isPresent(), "Mapping not present");
+        final ChildIndex cached = getCachedChildIndex(parentName, mappingContext);
+        if (cached != null) {
+            final String childName = cached.children.getName(childIndex);
+            if (childName != null && isMapped(parentName, childName, childIndex, mappingContext)) {
+                return childName;
+            }
+        }
 
-        return read.get().getValue().stream()
-                .filter(value -> value.getIndex().equals(childIndex))
-                .collect(RWUtils.singleItemCollector()).getName();
+        final ChildIndex index = loadChildIndex(parentName, mappingContext);
+        checkState(index.parentPresent, "Mapping not present");
+        final String childName = index.children.getName(childIndex);
+        checkState(childName != null, "No child with index %s mapped for %s", childIndex, parentName);
+        return childName;
     }
 
     public synchronized int getChildIndex(@Nonnull final String parentName,
                                           @Nonnull final String childName,
                                           @Nonnull final MappingContext mappingContext) {
-        final Optional<Mapping> read = mappingContext.read(getMappingIid(parentName));
-
-        checkState(read.isPresent(), "Mapping not present");
+        final ChildIndex cached = getCachedChildIndex(parentName, mappingContext);
+        if (cached != null) {
+            final Integer childIndex = cached.children.getIndex(childName);
+            if (childIndex != null && isMapped(parentName, childName, childIndex, mappingContext)) {
+                return childIndex;
+            }
+        }
 
-        return read.get().getValue().stream()
-                .filter(value -> value.getName().equals(childName))
-                .collect(RWUtils.singleItemCollector()).getIndex();
+        final ChildIndex index = loadChildIndex(parentName, mappingContext);
+        checkState(index.parentPresent, "Mapping not present");
+        final Integer childIndex = index.children.getIndex(childName);
+        checkState(childIndex != null, "No child with name %s mapped for %s", childName, parentName);
+        return childIndex;
     }
 
 
     public synchronized void removeChild(@Nonnull final String parentName,
                                          @Nonnull final String childName,
                                          @Nonnull final MappingContext mappingContext) {
+        removeChildren(parentName, Collections.singleton(childName), mappingContext);
+    }
+
+    /**
+     * Removes several children of the same parent by single mapping context update.
+     */
+    public synchronized void removeChildren(@Nonnull final String parentName,
+                                            @Nonnull final Collection<String> childNames,
+                                            @Nonnull final MappingContext mappingContext) {
 
         final Optional<Mapping> read = mappingContext.read(getMappingIid(parentName));
 
@@ -113,39 +162,65 @@ public class MultiNamingContext {
         if (read.isPresent()) {
             final Mapping mapping = read.get();
 
-            // overrides old data with new(without removed child)
+            // overrides old data with new(without removed children)
             mappingContext.put(getMappingIid(parentName), new MappingBuilder()
                     .setName(mapping.getName())
                     .withKey(mapping.key())
                     .setValue(mapping.getValue()
                             .stream()
-                            .filter(value -> !value.getName().equals(childName))
+                            .filter(value -> !childNames.contains(value.getName()))
                             .collect(Collectors.toList()))
                     .build());
+
+            final ChildIndex cached = getCachedChildIndex(parentName, mappingContext);
+            if (cached != null) {
+                childNames.forEach(cached.children::remove);
+            }
         }
     }
 
     /**
-     * Returns next available index for mapping
+     * Returns next available index for mapping. Children of the parent are read only if they were not indexed yet.
      */
     private int getNextAvailableChildIndex(final String parentName, final MappingContext mappingContext) {
-        final Optional<Mappings> read = mappingContext.read(mappingIdBase());
+        final ChildIndex cached = getCachedChildIndex(parentName, mappingContext);
+        return cached != null
+                ? cached.nextIndex
+                : loadChildIndex(parentName, mappingContext).nextIndex;
+    }
 
-        if (!read.isPresent()) {
-            return startIndex;
-        }
+    /**
+     * Checks whether indexed child is still present in the backing mapping context.
+     */
+    private boolean isMapped(final String parentName, final String childName, final int childIndex,
+                             final MappingContext mappingContext) {
+        final Optional<Value> read =
+                mappingContext.read(getMappingIid(parentName).child(Value.class, new ValueKey(childName)));
+        return read != null && read.isPresent() && read.get().getIndex() == childIndex;
+    }
+
+    private ChildIndex getCachedChildIndex(final String parentName, final MappingContext mappingContext) {
+        final Map<String, ChildIndex> parents = indexes.getIfPresent(mappingContext);
+        return parents != null
+                ? parents.get(parentName)
+                : null;
+    }
 
-        final OptionalInt max = read.get().getMapping()
-            .stream()
-            .filter(mapping -> mapping.getName().equals(parentName))
-            .flatMap(mapping -> mapping.getValue().stream())
-            .mapToInt(Value::getIndex)
-            .max();
-        if (max.isPresent()) {
-            return max.getAsInt() + 1;
-        } else {
-            return startIndex;
+    /**
+     * Reads children of single parent and indexes them for subsequent lookups within the same mapping context.
+     */
+    private ChildIndex loadChildIndex(final String parentName, final MappingContext mappingContext) {
+        final Optional<Mapping> read = mappingContext.read(getMappingIid(parentName));
+        final ChildIndex index = new ChildIndex(startIndex);
+        if (read.isPresent()) {
+            index.parentPresent = true;
+            if (read.get().getValue() != null) {
+                read.get().getValue().forEach(value -> index.children.load(value.getIndex(), value.getName()));
+            }
         }
+        index.nextIndex = index.children.getNextAvailableIndex();
+        indexes.get(mappingContext).put(parentName, index);
+        return index;
     }
 
     private KeyedInstanceIdentifier<Mapping, MappingKey> getMappingIid(final String name) {
@@ -155,4 +230,25 @@ public class MultiNamingContext {
     private InstanceIdentifier<Mappings> mappingIdBase() {
         return multiNamingContextIid.child(Mappings.class);
     }
+
+    /**
+     * Children of single parent mapping.
+     */
+    private static final class ChildIndex {
+        private final NameIndex children;
+        private boolean parentPresent;
+        /**
+         * Next index to be allocated for the parent, follows the highest index mapped since the children were loaded.
+         */
+        private int nextIndex;
+
+        private ChildIndex(final int startIndex) {
+            children = new NameIndex(startIndex);
+        }
+
+        private void put(final int childIndex, final String childName) {
+            children.put(childIndex, childName);
+            nextIndex = Math.max(nextIndex, childIndex + 1);
+        }
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Index to name and name to index view of mappings stored in single {@link io.fd.honeycomb.translate.MappingContext}.
+ * Used by naming contexts to avoid scanning whole list of mappings for every lookup. Mapped indexes are kept sorted,
+ * so that next available index does not require scanning them.
+ */
+final class NameIndex {
+
+    private final int startIndex;
+    private final TreeMap<Integer, String> names = new TreeMap<>();
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final Set<Integer> duplicates = new HashSet<>();
+
+    NameIndex(final int startIndex) {
+        this.startIndex = startIndex;
+    }
+
+    /**
+     * Adds mapping read from mapping context to the index.
+     */
+    void load(final int index, final String name) {
+        indexes.put(name, index);
+        if (names.containsKey(index)) {
+            duplicates.add(index);
+        } else {
+            names.put(index, name);
+        }
+    }
+
+    /**
+     * Adds mapping to the index. Mapping with the same name is replaced.
+     */
+    void put(final int index, @Nonnull final String name) {
+        remove(name);
+        load(index, name);
+    }
+
+    /**
+     * Removes mapping with provided name from the index, if present.
+     */
+    void remove(@Nonnull final String name) {
+        final Integer index = indexes.remove(name);
+        if (index == null) {
+            return;
+        }
+
+        if (duplicates.contains(index)) {
+            // rare case of invalid data, resolve remaining names mapped to the same index
+            final List<String> remaining = indexes.entrySet().stream()
+                    .filter(entry -> entry.getValue().equals(index))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            names.put(index, remaining.get(0));
+            if (remaining.size() == 1) {
+                duplicates.remove(index);
+            }
+        } else {
+            names.remove(index);
+        }
+    }
+
+    /**
+     * @return name mapped to provided index, or null if there is none
+     * @throws IllegalStateException if multiple names are mapped to the index
+     */
+    @Nullable
+    String getName(final int index) {
+        if (duplicates.contains(index)) {
+            throw new IllegalStateException("Multiple mappings defined with index=" + index);
+        }
+        return names.get(index);
+    }
+
+    /**
+     * @return index mapped to provided name, or null if there is none
+     */
+    @Nullable
+    Integer getIndex(@Nonnull final String name) {
+        return indexes.get(name);
+    }
+
+    /**
+     * @return index following the highest mapped index, or start index if there are no mappings
+     */
+    int getNextAvailableIndex() {
+        return names.isEmpty()
+                ? startIndex
+                : names.lastKey() + 1;
+    }
+}
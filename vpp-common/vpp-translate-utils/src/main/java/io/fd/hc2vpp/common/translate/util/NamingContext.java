@@ -21,11 +21,7 @@ import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.base.Optional;
 import io.fd.honeycomb.translate.MappingContext;
-import io.fd.honeycomb.translate.util.RWUtils;
-import java.util.List;
 import java.util.function.Supplier;
-import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.NamingContextKey;
@@ -42,12 +38,13 @@ import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
  */
 public final class NamingContext implements AutoCloseable {
 
-    private static final Collector<Mapping, ?, Mapping> SINGLE_ITEM_COLLECTOR = RWUtils.singleItemCollector();
     private static final int START_INDEX = 0;
     private final String artificialNamePrefix;
     private final KeyedInstanceIdentifier<org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.NamingContext, NamingContextKey>
             namingContextIid;
 
+    private final MappingContextIndexes<NameIndex> indexes = new MappingContextIndexes<>(this::loadIndex);
+
     /**
      * Create new naming context
      *
@@ -77,12 +74,9 @@ public final class NamingContext implements AutoCloseable {
             addName(index, artificialName, mappingContext);
         }
 
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
-        checkState(read.isPresent(), "Mapping for index: %s is not present. But should be", index);
-
-        return read.get().getMapping().stream()
-                .filter(mapping -> mapping.getIndex().equals(index))
-                .collect(SINGLE_ITEM_COLLECTOR).getName();
+        final Optional<String> name = getNameIfPresent(index, mappingContext);
+        checkState(name.isPresent(), "Mapping for index: %s is not present. But should be", index);
+        return name.get();
     }
 
     /**
@@ -95,22 +89,12 @@ public final class NamingContext implements AutoCloseable {
     @Nonnull
     public synchronized Optional<String> getNameIfPresent(final int index,
                                                           @Nonnull final MappingContext mappingContext) {
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
-        if (!read.isPresent()) {
-            return Optional.absent();
-        }
-
-        final List<Mapping> mappings = read.get().getMapping().stream()
-                .filter(mapping -> mapping.getIndex().equals(index))
-                .collect(Collectors.toList());
-
-        if (mappings.size() > 1) {
-            throw new IllegalStateException("Multiple mappings defined with index=" + index + ": " + mappings);
-        } else if (mappings.size() == 1) {
-            return Optional.of(mappings.get(0).getName());
-        } else {
-            return Optional.absent();
+        final String name = indexes.get(mappingContext).getName(index);
+        if (name == null || isMapped(name, index, mappingContext)) {
+            return Optional.fromNullable(name);
         }
+        // mapping was removed or modified bypassing this naming context, index needs to be reloaded
+        return Optional.fromNullable(indexes.reload(mappingContext).getName(index));
     }
 
     /**
@@ -121,10 +105,7 @@ public final class NamingContext implements AutoCloseable {
      * @return true if present, false otherwise
      */
     public synchronized boolean containsName(final int index, @Nonnull final MappingContext mappingContext) {
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
-        return read.isPresent()
-                ? read.get().getMapping().stream().anyMatch(mapping -> mapping.getIndex().equals(index))
-                : false;
+        return getNameIfPresent(index, mappingContext).isPresent();
     }
 
 
@@ -138,6 +119,11 @@ public final class NamingContext implements AutoCloseable {
     public synchronized void addName(final int index, final String name, final MappingContext mappingContext) {
         final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(name);
         mappingContext.put(mappingIid, new MappingBuilder().setIndex(index).setName(name).build());
+
+        final NameIndex cached = indexes.getIfPresent(mappingContext);
+        if (cached != null) {
+            cached.put(index, name);
+        }
     }
 
     /**
@@ -163,6 +149,21 @@ public final class NamingContext implements AutoCloseable {
      */
     public synchronized void removeName(final String name, final MappingContext mappingContext) {
         mappingContext.delete(getMappingIid(name));
+
+        final NameIndex cached = indexes.getIfPresent(mappingContext);
+        if (cached != null) {
+            cached.remove(name);
+        }
+    }
+
+    /**
+     * Drops index of mappings held for provided mapping context, so that mappings added bypassing this naming context
+     * become visible. Index is loaded once per mapping context, so this is needed only for long-lived mapping contexts.
+     *
+     * @param mappingContext mapping context, index of which should be dropped
+     */
+    public synchronized void invalidateIndex(@Nonnull final MappingContext mappingContext) {
+        indexes.invalidate(mappingContext);
     }
 
     /**
@@ -216,19 +217,31 @@ public final class NamingContext implements AutoCloseable {
     }
 
     /**
-     * Returns next available index for mapping
+     * Checks whether indexed mapping is still present in the backing mapping context.
+     */
+    private boolean isMapped(final String name, final int index, final MappingContext mappingContext) {
+        final Optional<Mapping> read = mappingContext.read(getMappingIid(name));
+        return read != null && read.isPresent() && read.get().getIndex() == index;
+    }
+
+    /**
+     * Returns next available index for mapping.
      */
     private int getNextAvailableIndex(final MappingContext mappingContext) {
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
+        return indexes.get(mappingContext).getNextAvailableIndex();
+    }
 
-        if (!read.isPresent() || read.get().getMapping().isEmpty()) {
-            return START_INDEX;
+    /**
+     * Reads all mappings of this naming context and indexes them for subsequent lookups within the same mapping
+     * context.
+     */
+    private NameIndex loadIndex(final MappingContext mappingContext) {
+        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
+        final NameIndex index = new NameIndex(START_INDEX);
+        if (read.isPresent() && read.get().getMapping() != null) {
+            read.get().getMapping().forEach(mapping -> index.load(mapping.getIndex(), mapping.getName()));
         }
-
-        return 1 + read.get().getMapping()
-            .stream()
-            .mapToInt(Mapping::getIndex)
-            .max().getAsInt();
+        return index;
     }
 
     @Override
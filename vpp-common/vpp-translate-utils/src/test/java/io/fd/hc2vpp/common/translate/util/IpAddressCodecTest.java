@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class IpAddressCodecTest {
+
+    private static final byte[] IPV6_BYTES = {32, 1, 13, -72, 10, 11, 18, -16, 0, 0, 0, 0, 0, 0, 0, 1};
+    private static final String IPV6_FULL = "2001:0db8:0a0b:12f0:0000:0000:0000:0001";
+    private static final String IPV6_COMPRESSED = "2001:db8:a0b:12f0::1";
+
+    @Test
+    public void testParseIpv4() {
+        final byte[] dst = new byte[6];
+        assertTrue(IpAddressCodec.parseIpv4("x192.168.2.255/24", 1, 14, dst, 2));
+        assertArrayEquals(new byte[]{0, 0, -64, -88, 2, -1}, dst);
+    }
+
+    @Test
+    public void testParseIpv4Invalid() {
+        for (String invalid : new String[]{"", "1.2.3", "1.2.3.4.5", "1.2.3.256", "1..2.3", "1.2.3.4.", "a.b.c.d",
+                "1.2.3.0001"}) {
+            assertFalse(invalid, IpAddressCodec.parseIpv4(invalid, 0, invalid.length(), new byte[4], 0));
+        }
+    }
+
+    @Test
+    public void testParseIpv6Full() {
+        final byte[] dst = new byte[16];
+        assertTrue(IpAddressCodec.parseIpv6(IPV6_FULL, 0, IPV6_FULL.length(), dst, 0));
+        assertArrayEquals(IPV6_BYTES, dst);
+    }
+
+    @Test
+    public void testParseIpv6Compressed() {
+        final byte[] dst = new byte[16];
+        assertTrue(IpAddressCodec.parseIpv6(IPV6_COMPRESSED, 0, IPV6_COMPRESSED.length(), dst, 0));
+        assertArrayEquals(IPV6_BYTES, dst);
+    }
+
+    @Test
+    public void testParseIpv6CompressedEdges() {
+        assertIpv6("::", new byte[16]);
+        assertIpv6("::1", new byte[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1});
+        assertIpv6("FE80::", new byte[]{-2, -128, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0});
+    }
+
+    @Test
+    public void testParseIpv6EmbeddedIpv4() {
+        assertIpv6("::ffff:192.168.2.1", new byte[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, -1, -1, -64, -88, 2, 1});
+    }
+
+    @Test
+    public void testParseIpv6Invalid() {
+        for (String invalid : new String[]{"", ":", ":::", "1::2::3", "1:2:3:4:5:6:7:8:9", "1:2:3:4:5:6:7:8::",
+                "12345::", "::g", "1:", ":1", "1:2:3:4:5:6:7:1.2.3.4", "::1.2.3.256", "fe80::1%eth0"}) {
+            assertFalse(invalid, IpAddressCodec.parseIpv6(invalid, 0, invalid.length(), new byte[16], 0));
+        }
+    }
+
+    @Test
+    public void testPrefixLength() {
+        assertEquals(24, IpAddressCodec.prefixLength("192.168.2.1/24"));
+        assertEquals(128, IpAddressCodec.prefixLength(IPV6_COMPRESSED + "/128"));
+        assertEquals(IPV6_COMPRESSED.length(), IpAddressCodec.addressEnd(IPV6_COMPRESSED + "/128"));
+        assertEquals(IPV6_COMPRESSED.length(), IpAddressCodec.addressEnd(IPV6_COMPRESSED));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPrefixLengthMissing() {
+        IpAddressCodec.prefixLength("192.168.2.1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPrefixLengthInvalid() {
+        IpAddressCodec.prefixLength("192.168.2.1/2a");
+    }
+
+    @Test
+    public void testFormatIpv4() {
+        assertEquals("192.168.2.255", IpAddressCodec.formatIpv4(new byte[]{-64, -88, 2, -1}, 0));
+        assertEquals("0.0.0.0/0", IpAddressCodec.formatIpv4Prefix(new byte[4], 0, 0));
+    }
+
+    @Test
+    public void testFormatIpv6() {
+        assertEquals(IPV6_COMPRESSED, IpAddressCodec.formatIpv6(IPV6_BYTES, 0));
+        assertEquals("::", IpAddressCodec.formatIpv6(new byte[16], 0));
+        assertEquals(IPV6_COMPRESSED + "/64", IpAddressCodec.formatIpv6Prefix(IPV6_BYTES, 0, 64));
+    }
+
+    @Test
+    public void testFormatIpv6LongestZeroRun() {
+        // single zero group is not compressed, first of equally long runs is
+        assertEquals("1:0:2:3:4:5:6:7",
+                IpAddressCodec.formatIpv6(new byte[]{0, 1, 0, 0, 0, 2, 0, 3, 0, 4, 0, 5, 0, 6, 0, 7}, 0));
+        assertEquals("1::2:0:0:3:4",
+                IpAddressCodec.formatIpv6(new byte[]{0, 1, 0, 0, 0, 0, 0, 2, 0, 0, 0, 0, 0, 3, 0, 4}, 0));
+        assertEquals("1:0:0:2::3",
+                IpAddressCodec.formatIpv6(new byte[]{0, 1, 0, 0, 0, 0, 0, 2, 0, 0, 0, 0, 0, 0, 0, 3}, 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFormatIpv6PrefixInvalidLength() {
+        IpAddressCodec.formatIpv6Prefix(IPV6_BYTES, 0, 129);
+    }
+
+    private static void assertIpv6(final String address, final byte[] expected) {
+        final byte[] dst = new byte[16];
+        assertTrue(address, IpAddressCodec.parseIpv6(address, 0, address.length(), dst, 0));
+        assertArrayEquals(expected, dst);
+    }
+}
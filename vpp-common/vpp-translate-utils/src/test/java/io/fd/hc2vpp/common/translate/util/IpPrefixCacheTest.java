@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv6Prefix;
+
+public class IpPrefixCacheTest {
+
+    private static final byte[] IPV4_BYTES = {-64, -88, 2, 1};
+    private static final byte[] IPV6_BYTES = {32, 1, 13, -72, 10, 11, 18, -16, 0, 0, 0, 0, 0, 0, 0, 1};
+
+    private IpPrefixCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new IpPrefixCache(IpPrefixCache.MAXIMUM_SIZE);
+    }
+
+    @Test
+    public void testIpv4Prefix() {
+        final Ipv4Prefix prefix = cache.ipv4Prefix(IPV4_BYTES, 24);
+        assertEquals("192.168.2.1/24", prefix.getValue());
+        assertSame(prefix, cache.ipv4Prefix(IPV4_BYTES.clone(), 24));
+        assertNotSame(prefix, cache.ipv4Prefix(IPV4_BYTES, 32));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testIpv6Prefix() {
+        final Ipv6Prefix prefix = cache.ipv6Prefix(IPV6_BYTES, 64);
+        assertEquals("2001:db8:a0b:12f0::1/64", prefix.getValue());
+        assertSame(prefix, cache.ipv6Prefix(IPV6_BYTES.clone(), 64));
+    }
+
+    @Test
+    public void testIpPrefix() {
+        final IpPrefix ipv4 = cache.ipPrefix(false, IPV4_BYTES, 24);
+        assertEquals(new IpPrefix(new Ipv4Prefix("192.168.2.1/24")), ipv4);
+        assertSame(ipv4, cache.ipPrefix(false, IPV4_BYTES, 24));
+        // shares yang prefix with ipv4Prefix
+        assertSame(ipv4.getIpv4Prefix(), cache.ipv4Prefix(IPV4_BYTES, 24));
+
+        final IpPrefix ipv6 = cache.ipPrefix(true, IPV6_BYTES, 128);
+        assertEquals(new IpPrefix(new Ipv6Prefix("2001:db8:a0b:12f0::1/128")), ipv6);
+        assertSame(ipv6, cache.ipPrefix(true, IPV6_BYTES, 128));
+    }
+
+    @Test
+    public void testSourceArrayModified() {
+        final byte[] address = IPV4_BYTES.clone();
+        final Ipv4Prefix prefix = cache.ipv4Prefix(address, 24);
+        address[3] = 2;
+        assertEquals("192.168.2.2/24", cache.ipv4Prefix(address, 24).getValue());
+        assertSame(prefix, cache.ipv4Prefix(IPV4_BYTES, 24));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLength() {
+        cache.ipv4Prefix(IPV4_BYTES, 33);
+    }
+}
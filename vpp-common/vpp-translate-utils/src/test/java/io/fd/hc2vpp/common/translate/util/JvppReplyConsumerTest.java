@@ -24,7 +24,15 @@ import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.jvpp.VppCallbackException;
+import io.fd.jvpp.core.dto.SwInterfaceDump;
+import io.fd.jvpp.core.dto.SwInterfaceSetFlags;
+import io.fd.jvpp.core.dto.SwInterfaceSetFlagsReply;
 import io.fd.jvpp.dto.JVppReply;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -73,4 +81,60 @@ public class JvppReplyConsumerTest implements JvppReplyConsumer {
         }
         fail("ReadTimeoutException was expected");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetReplyAsync() throws Exception {
+        final SwInterfaceSetFlagsReply reply = new SwInterfaceSetFlagsReply();
+        final CompletableFuture<SwInterfaceSetFlagsReply> future = new CompletableFuture<>();
+        final CompletionStage<SwInterfaceSetFlagsReply> result = getReplyAsync(future, 1000);
+        future.complete(reply);
+        assertEquals(reply, result.toCompletableFuture().get());
+    }
+
+    @Test
+    public void testGetReplyAsyncTimeout() throws Exception {
+        final CompletionStage<SwInterfaceSetFlagsReply> result = getReplyAsync(new CompletableFuture<>(), 10);
+        try {
+            result.toCompletableFuture().get();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+            return;
+        }
+        fail("TimeoutException was expected");
+    }
+
+    @Test
+    public void testGetReplyForReadAsyncFailed() {
+        final InstanceIdentifier<AnDataObject> replyType = InstanceIdentifier.create(AnDataObject.class);
+        final CompletableFuture<SwInterfaceSetFlagsReply> future = new CompletableFuture<>();
+        future.completeExceptionally(new VppCallbackException("swInterfaceSetFlags", "failed", 1, -1));
+        try {
+            getAsyncReadResult(getReplyForReadAsync(future, SwInterfaceSetFlags.class, replyType));
+        } catch (ReadFailedException e) {
+            assertTrue(e.getCause() instanceof VppCallbackException);
+            assertEquals(replyType, e.getFailedId());
+            return;
+        }
+        fail("ReadFailedException was expected");
+    }
+
+    @Test
+    public void testGetReplyForReadAsyncTimeout() {
+        final InstanceIdentifier<AnDataObject> replyType = InstanceIdentifier.create(AnDataObject.class);
+        try {
+            getAsyncReadResult(getReplyForReadAsync(new CompletableFuture<SwInterfaceSetFlagsReply>(), replyType, 10));
+        } catch (ReadFailedException e) {
+            assertTrue(e instanceof ReadTimeoutException);
+            return;
+        }
+        fail("ReadTimeoutException was expected");
+    }
+
+    @Test
+    public void testTimeoutPerRequestType() {
+        assertEquals(TimeUnit.SECONDS.toMillis(JvppReplyTimeoutHolder.getTimeout()),
+                JvppReplyTimeoutHolder.getTimeoutInMillis(SwInterfaceSetFlags.class));
+        JvppReplyTimeoutHolder.setupTimeout(SwInterfaceDump.class, 250);
+        assertEquals(250, JvppReplyTimeoutHolder.getTimeoutInMillis(SwInterfaceDump.class));
+    }
+}
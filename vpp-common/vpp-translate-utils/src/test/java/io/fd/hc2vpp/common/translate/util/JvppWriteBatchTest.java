@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.jvpp.VppCallbackException;
+import io.fd.jvpp.core.dto.SwInterfaceSetFlagsReply;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class JvppWriteBatchTest {
+
+    private static final InstanceIdentifier<AnDataObject> ID = InstanceIdentifier.create(AnDataObject.class);
+    private static final AnDataObject DATA = new AnDataObject();
+
+    private List<CompletableFuture<SwInterfaceSetFlagsReply>> sent;
+
+    private static class AnDataObject implements DataObject {
+        @Override
+        public Class<? extends DataContainer> getImplementedInterface() {
+            return null;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        sent = new ArrayList<>();
+    }
+
+    private CompletableFuture<SwInterfaceSetFlagsReply> send() {
+        final CompletableFuture<SwInterfaceSetFlagsReply> future = new CompletableFuture<>();
+        sent.add(future);
+        return future;
+    }
+
+    private static CompletableFuture<SwInterfaceSetFlagsReply> failed() {
+        final CompletableFuture<SwInterfaceSetFlagsReply> future = new CompletableFuture<>();
+        future.completeExceptionally(new VppCallbackException("swInterfaceSetFlags", "failed", 1, -1));
+        return future;
+    }
+
+    private static CompletableFuture<SwInterfaceSetFlagsReply> succeeded() {
+        return CompletableFuture.completedFuture(new SwInterfaceSetFlagsReply());
+    }
+
+    @Test
+    public void testRequestsSentWithoutWaiting() throws WriteFailedException {
+        final JvppWriteBatch batch = new JvppWriteBatch(3, 1);
+        batch.write(this::send, ID);
+        batch.write(this::send, ID);
+        batch.write(this::send, ID);
+        assertEquals(3, sent.size());
+        assertEquals(3, batch.getPendingCount());
+
+        sent.forEach(future -> future.complete(new SwInterfaceSetFlagsReply()));
+        batch.awaitAll();
+        assertEquals(0, batch.getPendingCount());
+    }
+
+    @Test
+    public void testWindowBound() throws WriteFailedException {
+        final JvppWriteBatch batch = new JvppWriteBatch(2, 1);
+        for (int i = 0; i < 10; i++) {
+            batch.write(JvppWriteBatchTest::succeeded, ID);
+            assertTrue(batch.getPendingCount() <= 2);
+        }
+        batch.awaitAll();
+    }
+
+    @Test
+    public void testCreateFailed() {
+        final JvppWriteBatch batch = new JvppWriteBatch();
+        try {
+            batch.create(JvppWriteBatchTest::succeeded, ID, DATA);
+            batch.create(JvppWriteBatchTest::failed, ID, DATA);
+            batch.awaitAll();
+        } catch (WriteFailedException e) {
+            assertTrue(e instanceof WriteFailedException.CreateFailedException);
+            assertEquals(ID, e.getFailedId());
+            assertSame(DATA, ((WriteFailedException.CreateFailedException) e).getData());
+            assertTrue(e.getCause() instanceof VppCallbackException);
+            return;
+        }
+        fail("CreateFailedException was expected");
+    }
+
+    @Test
+    public void testUpdateFailed() {
+        final JvppWriteBatch batch = new JvppWriteBatch();
+        try {
+            batch.update(JvppWriteBatchTest::failed, ID, DATA, DATA);
+            batch.awaitAll();
+        } catch (WriteFailedException e) {
+            assertTrue(e instanceof WriteFailedException.UpdateFailedException);
+            return;
+        }
+        fail("UpdateFailedException was expected");
+    }
+
+    @Test
+    public void testDeleteFailed() {
+        final JvppWriteBatch batch = new JvppWriteBatch();
+        try {
+            batch.delete(JvppWriteBatchTest::failed, ID);
+            batch.awaitAll();
+        } catch (WriteFailedException e) {
+            assertTrue(e instanceof WriteFailedException.DeleteFailedException);
+            return;
+        }
+        fail("DeleteFailedException was expected");
+    }
+
+    @Test
+    public void testTimeout() {
+        final JvppWriteBatch batch = new JvppWriteBatch(4, 1);
+        try {
+            batch.write(this::send, ID);
+            batch.awaitAll();
+        } catch (WriteFailedException e) {
+            assertTrue(e instanceof WriteTimeoutException);
+            return;
+        }
+        fail("WriteTimeoutException was expected");
+    }
+
+    @Test
+    public void testFailuresSuppressed() {
+        final JvppWriteBatch batch = new JvppWriteBatch();
+        try {
+            batch.create(JvppWriteBatchTest::failed, ID, DATA);
+            batch.write(JvppWriteBatchTest::succeeded, ID);
+            batch.delete(JvppWriteBatchTest::failed, ID);
+            batch.awaitAll();
+        } catch (WriteFailedException e) {
+            assertTrue(e instanceof WriteFailedException.CreateFailedException);
+            assertEquals(1, e.getSuppressed().length);
+            assertTrue(e.getSuppressed()[0] instanceof WriteFailedException.DeleteFailedException);
+            return;
+        }
+        fail("CreateFailedException was expected");
+    }
+
+    @Test
+    public void testSuccessCallback() {
+        final List<Integer> applied = new ArrayList<>();
+        final JvppWriteBatch batch = new JvppWriteBatch();
+        try {
+            batch.write(JvppWriteBatchTest::succeeded, ID, () -> applied.add(0));
+            batch.write(JvppWriteBatchTest::failed, ID, () -> applied.add(1));
+            batch.write(JvppWriteBatchTest::succeeded, ID, () -> applied.add(2));
+            batch.awaitAll();
+        } catch (WriteFailedException e) {
+            assertEquals(Arrays.asList(0, 2), applied);
+            return;
+        }
+        fail("WriteFailedException was expected");
+    }
+
+    @Test
+    public void testNoRequestsSentAfterFailure() {
+        final JvppWriteBatch batch = new JvppWriteBatch(1, 1);
+        try {
+            batch.delete(JvppWriteBatchTest::failed, ID);
+            batch.write(this::send, ID);
+        } catch (WriteFailedException e) {
+            assertTrue(e instanceof WriteFailedException.DeleteFailedException);
+            assertTrue(sent.isEmpty());
+            return;
+        }
+        fail("DeleteFailedException was expected");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWindow() {
+        new JvppWriteBatch(0);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.Test;
+
+public class MXBeanRegistrationTest {
+
+    private static final String TYPE = "MXBeanRegistrationTest";
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    @Test
+    public void testRegister() throws JMException {
+        try (MXBeanRegistration ignored = MXBeanRegistration.register(() -> 1, CounterMXBean.class, TYPE)) {
+            assertEquals(1L, server.getAttribute(name(), "Count"));
+        }
+        assertFalse(server.isRegistered(name()));
+    }
+
+    @Test
+    public void testRegisterReplacesPrevious() throws JMException {
+        final MXBeanRegistration previous = MXBeanRegistration.register(() -> 1, CounterMXBean.class, TYPE);
+        try (MXBeanRegistration ignored = MXBeanRegistration.register(() -> 2, CounterMXBean.class, TYPE)) {
+            assertEquals(2L, server.getAttribute(name(), "Count"));
+        }
+        // closing already replaced registration is no-op
+        previous.close();
+        assertFalse(server.isRegistered(name()));
+    }
+
+    private static ObjectName name() throws JMException {
+        return new ObjectName(MXBeanRegistration.DOMAIN, "type", TYPE);
+    }
+
+    public interface CounterMXBean {
+        long getCount();
+    }
+}
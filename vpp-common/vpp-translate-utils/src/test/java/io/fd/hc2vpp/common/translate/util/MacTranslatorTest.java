@@ -87,4 +87,21 @@ public class MacTranslatorTest implements MacTranslator {
     public void testByteArrayToMacSeparatedIllegal() {
         byteArrayToMacSeparated(new byte[]{54, 26, 87, 32, 14});
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testMacToLong() {
+        assertEquals(0x00ff7f155ea9L, macToLong("00:fF:7f:15:5e:A9"));
+        assertEquals(0x00ff7f155ea9L, macToLong(parseMac("00:fF:7f:15:5e:A9")));
+        assertEquals(0xffffffffffffL, macToLong(new byte[] {-1, -1, -1, -1, -1, -1, 1, 2}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMacToLongInvalidSeparator() {
+        macToLong("00-fF-7f-15-5e-A9");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMacToLongInvalidDigit() {
+        macToLong("00:XX:7f:15:5e:77");
+    }
+}
@@ -17,14 +17,19 @@
 package io.fd.hc2vpp.common.translate.util;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import io.fd.honeycomb.test.tools.HoneycombTestRunner;
 import io.fd.honeycomb.test.tools.annotations.InjectTestData;
 import io.fd.honeycomb.test.tools.annotations.InjectablesProcessor;
@@ -33,6 +38,7 @@ import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.util.RWUtils;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -49,6 +55,7 @@ import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.MultiNamingKey;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.Mappings;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.Mapping;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.MappingBuilder;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.MappingKey;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.mapping.Value;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.mapping.ValueBuilder;
@@ -160,6 +167,61 @@ public class MultiNamingContextTest implements InjectablesProcessor {
         assertEquals(4, child.getIndex().intValue());
     }
 
+    @Test
+    public void addChildNextAvailableIndexFromParentMapping() {
+        namingContext.addChild(PARENT_1, CHILD_1, mappingContext);
+
+        verify(mappingContext, times(1))
+                .merge(instanceIdentifierArgumentCaptor.capture(), mappingArgumentCaptor.capture());
+        assertEquals(4, mappingArgumentCaptor.getValue().getValue().get(0).getIndex().intValue());
+
+        // only the parent mapping is read
+        verify(mappingContext, times(1)).read(parentKey(PARENT_1));
+        verify(mappingContext, never()).read(multiNamingContextIid.child(Mappings.class));
+    }
+
+    @Test
+    public void addChildNextAvailableIndexCounted() {
+        namingContext.addChild(PARENT_1, "child-4", mappingContext);
+        namingContext.addChild(PARENT_1, "child-5", mappingContext);
+        namingContext.addChildren(PARENT_1, ImmutableMap.of(8, "child-8"), mappingContext);
+        namingContext.addChild(PARENT_1, "child-9", mappingContext);
+
+        verify(mappingContext, times(4))
+                .merge(instanceIdentifierArgumentCaptor.capture(), mappingArgumentCaptor.capture());
+        assertThat(mappingArgumentCaptor.getAllValues().stream()
+                        .map(mapping -> mapping.getValue().get(0))
+                        .collect(Collectors.toList()),
+                contains(valueFor("child-4", 4), valueFor("child-5", 5), valueFor("child-8", 8),
+                        valueFor("child-9", 9)));
+        // children of the parent are read only for the first allocation
+        verify(mappingContext, times(1)).read(parentKey(PARENT_1));
+    }
+
+    @Test
+    public void addChildNextAvailableIndexNonExistingParent() {
+        namingContext.addChild(NON_EXISTING_PARENT, CHILD_1, mappingContext);
+
+        verify(mappingContext, times(1))
+                .merge(instanceIdentifierArgumentCaptor.capture(), mappingArgumentCaptor.capture());
+        assertEquals(3, mappingArgumentCaptor.getValue().getValue().get(0).getIndex().intValue());
+    }
+
+    @Test
+    public void getChildNameAfterRemove() {
+        assertEquals(CHILD_2, namingContext.getChildName(PARENT_1, 2, mappingContext));
+        namingContext.removeChild(PARENT_1, CHILD_2, mappingContext);
+        when(mappingContext.read(parentKey(PARENT_1)))
+                .thenReturn(Optional.of(new MappingBuilder().setName(PARENT_1).setValue(Collections.emptyList()).build()));
+
+        try {
+            namingContext.getChildName(PARENT_1, 2, mappingContext);
+        } catch (IllegalStateException e) {
+            return;
+        }
+        fail("IllegalStateException expected");
+    }
+
     @Test
     public void getChildName() throws Exception {
         assertEquals(CHILD_1, namingContext.getChildName(PARENT_1, 1, mappingContext));
@@ -186,6 +248,34 @@ public class MultiNamingContextTest implements InjectablesProcessor {
         assertThat(values, containsInAnyOrder(valueFor(CHILD_2, 2), valueFor(CHILD_3, 3)));
     }
 
+    @Test
+    public void addChildren() {
+        namingContext.addChildren(PARENT_2, ImmutableMap.of(4, CHILD_1, 5, CHILD_2), mappingContext);
+
+        // all children are written by single merge
+        verify(mappingContext, times(1))
+                .merge(instanceIdentifierArgumentCaptor.capture(), mappingArgumentCaptor.capture());
+        assertEquals(instanceIdentifierArgumentCaptor.getValue(), parentKey(PARENT_2));
+        final Mapping mapping = mappingArgumentCaptor.getValue();
+        assertEquals(PARENT_2, mapping.getName());
+        assertThat(mapping.getValue(), containsInAnyOrder(valueFor(CHILD_1, 4), valueFor(CHILD_2, 5)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addChildrenInvalidIndex() {
+        namingContext.addChildren(PARENT_2, ImmutableMap.of(4, CHILD_1, 2, CHILD_2), mappingContext);
+    }
+
+    @Test
+    public void removeChildren() {
+        namingContext.removeChildren(PARENT_1, ImmutableList.of(CHILD_1, CHILD_3), mappingContext);
+
+        verify(mappingContext, times(1))
+                .put(instanceIdentifierArgumentCaptor.capture(), mappingArgumentCaptor.capture());
+        assertEquals(instanceIdentifierArgumentCaptor.getValue(), parentKey(PARENT_1));
+        assertThat(mappingArgumentCaptor.getValue().getValue(), containsInAnyOrder(valueFor(CHILD_2, 2)));
+    }
+
     @Test
     public void removeChildNonExistingParent() {
         namingContext.removeChild(NON_EXISTING_PARENT, CHILD_1, mappingContext);
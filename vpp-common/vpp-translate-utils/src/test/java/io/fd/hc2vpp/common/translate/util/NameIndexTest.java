@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class NameIndexTest {
+
+    @Test
+    public void testNextAvailableIndexEmpty() {
+        assertEquals(3, new NameIndex(3).getNextAvailableIndex());
+    }
+
+    @Test
+    public void testPutAndGet() {
+        final NameIndex index = new NameIndex(0);
+        index.put(1, "a");
+        index.put(5, "b");
+
+        assertEquals("a", index.getName(1));
+        assertEquals(5, index.getIndex("b").intValue());
+        assertEquals(6, index.getNextAvailableIndex());
+    }
+
+    @Test
+    public void testPutReplacesName() {
+        final NameIndex index = new NameIndex(0);
+        index.put(1, "a");
+        index.put(2, "a");
+
+        assertNull(index.getName(1));
+        assertEquals("a", index.getName(2));
+    }
+
+    @Test
+    public void testRemoveHighest() {
+        final NameIndex index = new NameIndex(0);
+        index.put(1, "a");
+        index.put(2, "b");
+        index.remove("b");
+
+        assertNull(index.getIndex("b"));
+        assertEquals(2, index.getNextAvailableIndex());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDuplicateIndex() {
+        final NameIndex index = new NameIndex(0);
+        index.load(1, "a");
+        index.load(1, "b");
+        index.getName(1);
+    }
+
+    @Test
+    public void testRemoveDuplicate() {
+        final NameIndex index = new NameIndex(0);
+        index.load(1, "a");
+        index.load(1, "b");
+        index.remove("a");
+
+        assertEquals("b", index.getName(1));
+    }
+}
@@ -17,6 +17,8 @@
 package io.fd.hc2vpp.common.translate.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -158,6 +160,99 @@ public class NamingContextTest implements InjectablesProcessor {
         assertEquals(Optional.of(NAME_1), namingContext.getNameIfPresent(1, mappingContext));
     }
 
+    @Test
+    public void getNameReadsMappingsOnce() {
+        assertEquals(NAME_1, namingContext.getName(1, mappingContext));
+        assertEquals(NAME_2, namingContext.getName(2, mappingContext));
+        assertEquals(NAME_1, namingContext.getName(1, mappingContext));
+
+        verify(mappingContext, times(1)).read(namingContextIid.child(Mappings.class));
+    }
+
+    @Test
+    public void removeNameUpdatesIndex() {
+        assertTrue(namingContext.containsName(2, mappingContext));
+
+        namingContext.removeName(NAME_2, mappingContext);
+        when(mappingContext.read(namingContextIid.child(Mappings.class))).thenReturn(Optional.of(
+                new MappingsBuilder().setMapping(Lists.newArrayList(filterForParent(NAME_1))).build()));
+        when(mappingContext.read(parentKey(NAME_2))).thenReturn(Optional.absent());
+        assertFalse(namingContext.containsName(2, mappingContext));
+
+        // index 2 is free again after removal of the highest mapping
+        namingContext.addName("name-3", mappingContext);
+        verify(mappingContext).put(parentKey("name-3"), new MappingBuilder().setIndex(2).setName("name-3").build());
+    }
+
+    @Test
+    public void addNameUsesIndex() {
+        assertTrue(namingContext.containsName(1, mappingContext));
+
+        namingContext.addName("name-3", mappingContext);
+        namingContext.addName("name-4", mappingContext);
+        verify(mappingContext).put(parentKey("name-3"), new MappingBuilder().setIndex(3).setName("name-3").build());
+        verify(mappingContext).put(parentKey("name-4"), new MappingBuilder().setIndex(4).setName("name-4").build());
+        verify(mappingContext, times(1)).read(namingContextIid.child(Mappings.class));
+    }
+
+    @Test
+    public void unmappedNamesReadMappingsOnce() {
+        when(mappingContext.read(namingContextIid.child(Mappings.class))).thenReturn(Optional.absent());
+
+        // e.g. first read of interfaces after restart, each interface is looked up and then mapped
+        final int count = 100;
+        for (int index = 0; index < count; index++) {
+            assertFalse(namingContext.containsName(index, mappingContext));
+            namingContext.addName(index, "name-" + index, mappingContext);
+        }
+        // and allocation of learned names does not read the mappings either
+        namingContext.addName("learned", mappingContext);
+
+        verify(mappingContext, times(1)).read(namingContextIid.child(Mappings.class));
+        verify(mappingContext).put(parentKey("learned"),
+                new MappingBuilder().setIndex(count).setName("learned").build());
+    }
+
+    @Test
+    public void invalidateIndex() {
+        assertFalse(namingContext.containsName(5, mappingContext));
+
+        // mapping added bypassing naming context (e.g. in long-lived mapping context)
+        final Mapping mapping5 = new MappingBuilder().setIndex(5).setName("name-5").build();
+        when(mappingContext.read(namingContextIid.child(Mappings.class)))
+                .thenReturn(Optional.of(new MappingsBuilder().setMapping(Lists.newArrayList(mapping5)).build()));
+        when(mappingContext.read(parentKey("name-5"))).thenReturn(Optional.of(mapping5));
+        // index is authoritative until invalidated
+        assertFalse(namingContext.containsName(5, mappingContext));
+
+        namingContext.invalidateIndex(mappingContext);
+        assertEquals(Optional.of("name-5"), namingContext.getNameIfPresent(5, mappingContext));
+        verify(mappingContext, times(2)).read(namingContextIid.child(Mappings.class));
+    }
+
+    @Test
+    public void indexRebuiltWhenMappingModifiedExternally() {
+        assertEquals(Optional.of(NAME_1), namingContext.getNameIfPresent(1, mappingContext));
+
+        // name-1 removed bypassing naming context
+        final Mapping mapping2 = new MappingBuilder().setIndex(2).setName(NAME_2).build();
+        when(mappingContext.read(namingContextIid.child(Mappings.class)))
+                .thenReturn(Optional.of(new MappingsBuilder().setMapping(Lists.newArrayList(mapping2)).build()));
+        when(mappingContext.read(parentKey(NAME_1))).thenReturn(Optional.absent());
+
+        assertEquals(Optional.absent(), namingContext.getNameIfPresent(1, mappingContext));
+        verify(mappingContext, times(2)).read(namingContextIid.child(Mappings.class));
+    }
+
+    @Test
+    public void indexIsScopedToMappingContext() {
+        final MappingContext otherContext = mock(MappingContext.class);
+        when(otherContext.read(namingContextIid.child(Mappings.class))).thenReturn(Optional.absent());
+
+        assertTrue(namingContext.containsName(1, mappingContext));
+        assertFalse(namingContext.containsName(1, otherContext));
+    }
+
     private Mapping filterForParent(final String parent) {
         return mappings.getMapping().stream()
                 .filter(mapping -> mapping.getName().equals(parent))